@@ -23,6 +23,7 @@
  */
 package org.jeasy.random.validation;
 
+import org.jeasy.random.api.RandomSourceFactory;
 import org.jeasy.random.api.Randomizer;
 import org.jeasy.random.randomizers.range.*;
 import org.jeasy.random.randomizers.text.StringDelegatingRandomizer;
@@ -37,9 +38,11 @@ import java.util.Random;
  */
 public abstract class AbstractNumberBaseAnnotationHandler implements BeanValidationAnnotationHandler {
     private final Random random;
+    private final RandomSourceFactory randomSourceFactory;
 
-    AbstractNumberBaseAnnotationHandler(long seed) {
+    AbstractNumberBaseAnnotationHandler(long seed, RandomSourceFactory randomSourceFactory) {
         random = new Random(seed);
+        this.randomSourceFactory = randomSourceFactory;
     }
 
     protected Randomizer<?> getRandomizer(Class<?> fieldType, BigDecimal minValue, BigDecimal maxValue) {
@@ -47,49 +50,56 @@ public abstract class AbstractNumberBaseAnnotationHandler implements BeanValidat
             return new ByteRangeRandomizer(
                     minValue == null ? null : minValue.byteValue(),
                     maxValue == null ? null : maxValue.byteValue(),
-                    random.nextLong()
+                    random.nextLong(),
+                    randomSourceFactory
             );
         }
         if (fieldType.equals(Short.TYPE) || fieldType.equals(Short.class)) {
             return new ShortRangeRandomizer(
                     minValue == null ? null : minValue.shortValue(),
                     maxValue == null ? null : maxValue.shortValue(),
-                    random.nextLong()
+                    random.nextLong(),
+                    randomSourceFactory
             );
         }
         if (fieldType.equals(Integer.TYPE) || fieldType.equals(Integer.class)) {
             return new IntegerRangeRandomizer(
                     minValue == null ? null : minValue.intValue(),
                     maxValue == null ? null : maxValue.intValue(),
-                    random.nextLong()
+                    random.nextLong(),
+                    randomSourceFactory
             );
         }
         if (fieldType.equals(Long.TYPE) || fieldType.equals(Long.class)) {
             return new LongRangeRandomizer(
                     minValue == null ? null : minValue.longValue(),
                     maxValue == null ? null : maxValue.longValue(),
-                    random.nextLong()
+                    random.nextLong(),
+                    randomSourceFactory
             );
         }
         if (fieldType.equals(BigInteger.class)) {
             return new BigIntegerRangeRandomizer(
                     minValue == null ? null : minValue.intValue(),
                     maxValue == null ? null : maxValue.intValue(),
-                    random.nextLong()
+                    random.nextLong(),
+                    randomSourceFactory
             );
         }
         if (fieldType.equals(BigDecimal.class)) {
             return new BigDecimalRangeRandomizer(
                     minValue == null ? null : minValue.doubleValue(),
                     maxValue == null ? null : maxValue.doubleValue(),
-                    random.nextLong()
+                    random.nextLong(),
+                    randomSourceFactory
             );
         }
         if (fieldType.equals(String.class)) {
             BigDecimalRangeRandomizer delegate = new BigDecimalRangeRandomizer(
                     minValue == null ? null : minValue.doubleValue(),
                     maxValue == null ? null : maxValue.doubleValue(),
-                    random.nextLong()
+                    random.nextLong(),
+                    randomSourceFactory
             );
             return new StringDelegatingRandomizer(delegate);
         }
@@ -25,9 +25,11 @@ package org.jeasy.random.validation;
 
 import org.jeasy.random.annotation.Priority;
 import org.jeasy.random.EasyRandomParameters;
+import org.jeasy.random.api.RandomSourceFactory;
 import org.jeasy.random.api.Randomizer;
 import org.jeasy.random.api.RandomizerRegistry;
 import org.jeasy.random.util.ReflectionUtils;
+import org.jeasy.random.util.SourceRandom;
 
 import javax.validation.constraints.*;
 import java.lang.annotation.Annotation;
@@ -48,6 +50,7 @@ public class BeanValidationRandomizerRegistry implements RandomizerRegistry {
     @Override
     public void init(EasyRandomParameters parameters) {
         long seed = parameters.getSeed();
+        RandomSourceFactory randomSourceFactory = SourceRandom.getRandomSourceFactory(parameters);
         annotationHandlers.put(AssertFalse.class, new AssertFalseAnnotationHandler());
         annotationHandlers.put(AssertTrue.class, new AssertTrueAnnotationHandler());
         annotationHandlers.put(Null.class, new NullAnnotationHandler());
@@ -55,17 +58,17 @@ public class BeanValidationRandomizerRegistry implements RandomizerRegistry {
         annotationHandlers.put(FutureOrPresent.class, new FutureOrPresentAnnotationHandler(parameters));
         annotationHandlers.put(Past.class, new PastAnnotationHandler(parameters));
         annotationHandlers.put(PastOrPresent.class, new PastOrPresentAnnotationHandler(parameters));
-        annotationHandlers.put(Min.class, new MinMaxAnnotationHandler(seed));
-        annotationHandlers.put(Max.class, new MinMaxAnnotationHandler(seed));
-        annotationHandlers.put(DecimalMin.class, new DecimalMinMaxAnnotationHandler(seed));
-        annotationHandlers.put(DecimalMax.class, new DecimalMinMaxAnnotationHandler(seed));
+        annotationHandlers.put(Min.class, new MinMaxAnnotationHandler(seed, randomSourceFactory));
+        annotationHandlers.put(Max.class, new MinMaxAnnotationHandler(seed, randomSourceFactory));
+        annotationHandlers.put(DecimalMin.class, new DecimalMinMaxAnnotationHandler(seed, randomSourceFactory));
+        annotationHandlers.put(DecimalMax.class, new DecimalMinMaxAnnotationHandler(seed, randomSourceFactory));
         annotationHandlers.put(Pattern.class, new PatternAnnotationHandler(seed));
         annotationHandlers.put(Size.class, new SizeAnnotationHandler(parameters));
-        annotationHandlers.put(Positive.class, new PositiveAnnotationHandler(seed));
-        annotationHandlers.put(PositiveOrZero.class, new PositiveOrZeroAnnotationHandler(seed));
-        annotationHandlers.put(Negative.class, new NegativeAnnotationHandler(seed));
-        annotationHandlers.put(NegativeOrZero.class, new NegativeOrZeroAnnotationHandler(seed));
-        annotationHandlers.put(NotBlank.class, new NotBlankAnnotationHandler(seed));
+        annotationHandlers.put(Positive.class, new PositiveAnnotationHandler(seed, randomSourceFactory));
+        annotationHandlers.put(PositiveOrZero.class, new PositiveOrZeroAnnotationHandler(seed, randomSourceFactory));
+        annotationHandlers.put(Negative.class, new NegativeAnnotationHandler(seed, randomSourceFactory));
+        annotationHandlers.put(NegativeOrZero.class, new NegativeOrZeroAnnotationHandler(seed, randomSourceFactory));
+        annotationHandlers.put(NotBlank.class, new NotBlankAnnotationHandler(seed, randomSourceFactory));
         annotationHandlers.put(Email.class, new EmailAnnotationHandler(seed));
     }
 
@@ -23,6 +23,7 @@
  */
 package org.jeasy.random.validation;
 
+import org.jeasy.random.api.RandomSourceFactory;
 import org.jeasy.random.api.Randomizer;
 import org.jeasy.random.util.ReflectionUtils;
 
@@ -33,8 +34,8 @@ import java.math.BigDecimal;
 
 class MinMaxAnnotationHandler extends AbstractNumberBaseAnnotationHandler {
 
-    MinMaxAnnotationHandler(long seed) {
-        super(seed);
+    MinMaxAnnotationHandler(long seed, final RandomSourceFactory randomSourceFactory) {
+        super(seed, randomSourceFactory);
     }
 
     @Override
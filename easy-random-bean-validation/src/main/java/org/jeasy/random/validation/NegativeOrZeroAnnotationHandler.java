@@ -23,14 +23,15 @@
  */
 package org.jeasy.random.validation;
 
+import org.jeasy.random.api.RandomSourceFactory;
 import org.jeasy.random.api.Randomizer;
 
 import java.lang.reflect.Field;
 import java.math.BigDecimal;
 
 class NegativeOrZeroAnnotationHandler extends AbstractNumberBaseAnnotationHandler {
-    NegativeOrZeroAnnotationHandler(final long seed) {
-        super(seed);
+    NegativeOrZeroAnnotationHandler(final long seed, final RandomSourceFactory randomSourceFactory) {
+        super(seed, randomSourceFactory);
     }
 
     @Override
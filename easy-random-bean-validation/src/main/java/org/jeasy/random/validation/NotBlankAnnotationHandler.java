@@ -23,22 +23,28 @@
  */
 package org.jeasy.random.validation;
 
+import org.jeasy.random.EasyRandomParameters;
+import org.jeasy.random.api.RandomSourceFactory;
 import org.jeasy.random.api.Randomizer;
 import org.jeasy.random.randomizers.text.StringRandomizer;
 
 import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
 import java.util.Random;
 
 class NotBlankAnnotationHandler implements BeanValidationAnnotationHandler {
 
     private final Random random;
+    private final RandomSourceFactory randomSourceFactory;
 
-    NotBlankAnnotationHandler(final long seed) {
+    NotBlankAnnotationHandler(final long seed, final RandomSourceFactory randomSourceFactory) {
         random = new Random(seed);
+        this.randomSourceFactory = randomSourceFactory;
     }
 
     @Override
     public Randomizer<?> getRandomizer(Field field) {
-        return new StringRandomizer(random.nextLong());
+        EasyRandomParameters.Range<Integer> lengthRange = EasyRandomParameters.DEFAULT_STRING_LENGTH_RANGE;
+        return new StringRandomizer(StandardCharsets.US_ASCII, lengthRange.getMin(), lengthRange.getMax(), random.nextLong(), randomSourceFactory);
     }
 }
@@ -23,6 +23,7 @@
  */
 package org.jeasy.random.validation;
 
+import org.jeasy.random.api.RandomSourceFactory;
 import org.jeasy.random.api.Randomizer;
 
 import java.lang.reflect.Field;
@@ -30,8 +31,8 @@ import java.math.BigDecimal;
 
 class PositiveAnnotationHandler extends AbstractNumberBaseAnnotationHandler {
 
-    PositiveAnnotationHandler(final long seed) {
-        super(seed);
+    PositiveAnnotationHandler(final long seed, final RandomSourceFactory randomSourceFactory) {
+        super(seed, randomSourceFactory);
     }
 
     @Override
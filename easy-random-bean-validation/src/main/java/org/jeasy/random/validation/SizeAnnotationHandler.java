@@ -29,6 +29,7 @@ import org.jeasy.random.api.Randomizer;
 import org.jeasy.random.randomizers.range.IntegerRangeRandomizer;
 import org.jeasy.random.randomizers.text.StringRandomizer;
 import org.jeasy.random.util.ReflectionUtils;
+import org.jeasy.random.util.SourceRandom;
 import org.objenesis.ObjenesisStd;
 
 import javax.validation.constraints.Size;
@@ -68,14 +69,15 @@ class SizeAnnotationHandler implements BeanValidationAnnotationHandler {
         }
 
         if (fieldType.equals(String.class)) {
-            return new StringRandomizer(parameters.getCharset(), min, max, easyRandom.nextLong());
+            return new StringRandomizer(parameters.getCharset(), min, max, easyRandom.nextLong(),
+                    SourceRandom.getRandomSourceFactory(parameters));
         }
 
         // FIXME: There should be away to reuse code from ArrayPopulator/CollectionPopulator/MapPopulator *without* making them public
 
         if (isArrayType(fieldType)) {
             return (Randomizer<Object>) () -> {
-                int randomSize = new IntegerRangeRandomizer(min, max, parameters.getSeed()).getRandomValue();
+                int randomSize = new IntegerRangeRandomizer(min, max, parameters.getSeed(), parameters.getRandomSourceFactory()).getRandomValue();
                 Object result = Array.newInstance(field.getType().getComponentType(), randomSize);
                 for (int i = 0; i < randomSize; i++) {
                     Object randomElement = easyRandom.nextObject(fieldType.getComponentType());
@@ -87,7 +89,7 @@ class SizeAnnotationHandler implements BeanValidationAnnotationHandler {
 
         if (isCollectionType(fieldType)) {
             return (Randomizer<Object>) () -> {
-                int randomSize = new IntegerRangeRandomizer(min, max, parameters.getSeed()).getRandomValue();
+                int randomSize = new IntegerRangeRandomizer(min, max, parameters.getSeed(), parameters.getRandomSourceFactory()).getRandomValue();
                 Type fieldGenericType = field.getGenericType();
                 Collection collection;
 
@@ -112,7 +114,7 @@ class SizeAnnotationHandler implements BeanValidationAnnotationHandler {
         }
         if (isMapType(fieldType)) {
             return (Randomizer<Object>) () -> {
-                int randomSize = new IntegerRangeRandomizer(min, max, parameters.getSeed()).getRandomValue();
+                int randomSize = new IntegerRangeRandomizer(min, max, parameters.getSeed(), parameters.getRandomSourceFactory()).getRandomValue();
                 Type fieldGenericType = field.getGenericType();
                 Map<Object, Object> map;
 
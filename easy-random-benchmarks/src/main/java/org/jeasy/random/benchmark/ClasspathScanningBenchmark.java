@@ -0,0 +1,110 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.benchmark;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.jeasy.random.EasyRandom;
+import org.jeasy.random.EasyRandomParameters;
+import org.jeasy.random.benchmark.beans.AbstractTypesBean;
+import org.jeasy.random.benchmark.beans.FlatBean;
+import org.jeasy.random.util.ReflectionUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of {@link EasyRandomParameters#scanClasspathForConcreteTypes(boolean)} on beans
+ * with and without abstract field types. Without scanning, abstract fields are left null.
+ *
+ * The classpath is scanned once per scan scope, so {@link #concreteTypes()} and {@link #abstractTypes()}
+ * measure the generation of objects once the subtypes are known. {@link #scan(EmptySubTypeIndexes)}
+ * measures the scan itself: the cached scan results are cleared before each invocation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClasspathScanningBenchmark {
+
+    @Param({"false", "true"})
+    private boolean scanClasspathForConcreteTypes;
+
+    private EasyRandom easyRandom;
+
+    @Setup
+    public void setUp() {
+        easyRandom = new EasyRandom(new EasyRandomParameters()
+                .scanClasspathForConcreteTypes(scanClasspathForConcreteTypes)
+                .ignoreRandomizationErrors(true));
+    }
+
+    @Benchmark
+    public FlatBean concreteTypes() {
+        return easyRandom.nextObject(FlatBean.class);
+    }
+
+    @Benchmark
+    public AbstractTypesBean abstractTypes() {
+        return easyRandom.nextObject(AbstractTypesBean.class);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    public List<Class<?>> scan(EmptySubTypeIndexes emptySubTypeIndexes) {
+        return ReflectionUtils.getPublicConcreteSubTypesOf(AbstractTypesBean.Shape.class);
+    }
+
+    @State(Scope.Benchmark)
+    public static class EmptySubTypeIndexes {
+
+        private Map<?, ?> subTypeIndexes;
+
+        @Setup
+        public void setUp() throws ReflectiveOperationException {
+            Field field = Class.forName("org.jeasy.random.util.ClassGraphFacade").getDeclaredField("subTypeIndexes");
+            field.setAccessible(true);
+            subTypeIndexes = (Map<?, ?>) field.get(null);
+        }
+
+        @Setup(Level.Invocation)
+        public void clear() {
+            subTypeIndexes.clear();
+        }
+    }
+}
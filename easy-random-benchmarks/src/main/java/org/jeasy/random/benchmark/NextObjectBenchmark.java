@@ -0,0 +1,108 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jeasy.random.EasyRandom;
+import org.jeasy.random.EasyRandomParameters;
+import org.jeasy.random.benchmark.beans.CollectionBean;
+import org.jeasy.random.benchmark.beans.CyclicBean;
+import org.jeasy.random.benchmark.beans.DeepBean;
+import org.jeasy.random.benchmark.beans.FlatBean;
+import org.jeasy.random.benchmark.beans.GenericBean;
+import org.jeasy.random.benchmark.beans.WideBean;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link EasyRandom#nextObject(Class)} on beans of different shapes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NextObjectBenchmark {
+
+    // bounds the field value store, which would otherwise grow with each generated object
+    private static final int REUSE_FIELD_VALUES_WINDOW = 1024;
+
+    @Param({"false", "true"})
+    private boolean reuseFieldValues;
+
+    @Param({"false", "true"})
+    private boolean bypassSetters;
+
+    private EasyRandom easyRandom;
+
+    @Setup
+    public void setUp() {
+        EasyRandomParameters parameters = new EasyRandomParameters()
+                .bypassSetters(bypassSetters)
+                .reuseFieldValuesWindow(REUSE_FIELD_VALUES_WINDOW);
+        parameters.setReuseFieldValues(reuseFieldValues);
+        easyRandom = new EasyRandom(parameters);
+    }
+
+    @Benchmark
+    public FlatBean flatBean() {
+        return easyRandom.nextObject(FlatBean.class);
+    }
+
+    @Benchmark
+    public WideBean wideBean() {
+        return easyRandom.nextObject(WideBean.class);
+    }
+
+    @Benchmark
+    public DeepBean deepBean() {
+        return easyRandom.nextObject(DeepBean.class);
+    }
+
+    @Benchmark
+    public CyclicBean cyclicBean() {
+        return easyRandom.nextObject(CyclicBean.class);
+    }
+
+    @Benchmark
+    public GenericBean.StringIntegerBean genericBean() {
+        return easyRandom.nextObject(GenericBean.StringIntegerBean.class);
+    }
+
+    @Benchmark
+    public CollectionBean collectionBean() {
+        return easyRandom.nextObject(CollectionBean.class);
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.jeasy.random.EasyRandom;
+import org.jeasy.random.EasyRandomParameters;
+import org.jeasy.random.api.RandomSourceFactory;
+import org.jeasy.random.benchmark.beans.FlatBean;
+import org.jeasy.random.benchmark.beans.WideBean;
+import org.jeasy.random.source.JdkRandomSource;
+import org.jeasy.random.source.SplitMix64RandomSource;
+import org.jeasy.random.source.Xoshiro256StarStarRandomSource;
+import org.jeasy.random.util.ScopedRandom;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the sources of random bits, both on raw draws and on {@link EasyRandom#nextObject(Class)}.
+ * The {@code random} source is the synchronized state of {@link java.util.Random}, used before sources were pluggable:
+ * it only applies to raw draws, as {@link EasyRandom} falls back to the default ({@code jdk}) source with it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RandomSourceBenchmark {
+
+    private static final long SEED = 123L;
+
+    @Param({"random", "jdk", "splitmix64", "xoshiro256**"})
+    private String source;
+
+    private Random random;
+
+    private EasyRandom easyRandom;
+
+    @Setup
+    public void setUp() {
+        RandomSourceFactory randomSourceFactory = getRandomSourceFactory(source);
+        random = new ScopedRandom(SEED, randomSourceFactory);
+        EasyRandomParameters parameters = new EasyRandomParameters().seed(SEED);
+        if (randomSourceFactory != null) {
+            parameters.randomSourceFactory(randomSourceFactory);
+        }
+        easyRandom = new EasyRandom(parameters);
+    }
+
+    @Benchmark
+    public long nextLong() {
+        return random.nextLong();
+    }
+
+    @Benchmark
+    public int nextIntWithBound() {
+        return random.nextInt(1000);
+    }
+
+    @Benchmark
+    public double nextDouble() {
+        return random.nextDouble();
+    }
+
+    @Benchmark
+    public FlatBean flatBean() {
+        return easyRandom.nextObject(FlatBean.class);
+    }
+
+    @Benchmark
+    public WideBean wideBean() {
+        return easyRandom.nextObject(WideBean.class);
+    }
+
+    private static RandomSourceFactory getRandomSourceFactory(final String source) {
+        switch (source) {
+            case "random":
+                return null;
+            case "jdk":
+                return JdkRandomSource::new;
+            case "splitmix64":
+                return SplitMix64RandomSource::new;
+            case "xoshiro256**":
+                return Xoshiro256StarStarRandomSource::new;
+            default:
+                throw new IllegalArgumentException("Unknown random source: " + source);
+        }
+    }
+}
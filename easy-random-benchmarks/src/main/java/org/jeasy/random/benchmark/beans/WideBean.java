@@ -0,0 +1,68 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.benchmark.beans;
+
+public class WideBean {
+
+    private String field0;
+    private int field1;
+    private long field2;
+    private double field3;
+    private boolean field4;
+    private Integer field5;
+    private Long field6;
+    private java.math.BigDecimal field7;
+    private java.time.Instant field8;
+    private java.util.UUID field9;
+    private String field10;
+    private int field11;
+    private long field12;
+    private double field13;
+    private boolean field14;
+    private Integer field15;
+    private Long field16;
+    private java.math.BigDecimal field17;
+    private java.time.Instant field18;
+    private java.util.UUID field19;
+    private String field20;
+    private int field21;
+    private long field22;
+    private double field23;
+    private boolean field24;
+    private Integer field25;
+    private Long field26;
+    private java.math.BigDecimal field27;
+    private java.time.Instant field28;
+    private java.util.UUID field29;
+    private String field30;
+    private int field31;
+    private long field32;
+    private double field33;
+    private boolean field34;
+    private Integer field35;
+    private Long field36;
+    private java.math.BigDecimal field37;
+    private java.time.Instant field38;
+    private java.util.UUID field39;
+}
@@ -23,6 +23,7 @@
  */
 package org.jeasy.random;
 
+import org.jeasy.random.randomizers.PrimitiveArrayFiller;
 import org.jeasy.random.randomizers.range.IntegerRangeRandomizer;
 
 import java.lang.reflect.Array;
@@ -44,6 +45,14 @@ class ArrayPopulator {
         Class<?> componentType = fieldType.getComponentType();
         int randomSize = getRandomArraySize(context.getParameters());
         Object result = Array.newInstance(componentType, randomSize);
+        if (componentType.isPrimitive()) {
+            // built-in randomizers fill primitive arrays without boxing and storing each element reflectively
+            PrimitiveArrayFiller arrayFiller = easyRandom.getPrimitiveArrayFiller(componentType, context);
+            if (arrayFiller != null) {
+                arrayFiller.fill(result);
+                return result;
+            }
+        }
         for (int i = 0; i < randomSize; i++) {
             Object randomElement = easyRandom.doPopulateBean(componentType, context);
             Array.set(result, i, randomElement);
@@ -53,6 +62,7 @@ class ArrayPopulator {
 
     private int getRandomArraySize(EasyRandomParameters parameters) {
         EasyRandomParameters.Range<Integer> collectionSizeRange = parameters.getCollectionSizeRange();
-        return new IntegerRangeRandomizer(collectionSizeRange.getMin(), collectionSizeRange.getMax(), easyRandom.nextLong()).getRandomValue();
+        return new IntegerRangeRandomizer(collectionSizeRange.getMin(), collectionSizeRange.getMax(), easyRandom.nextLong(),
+                parameters.getRandomSourceFactory()).getRandomValue();
     }
 }
@@ -0,0 +1,217 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random;
+
+import static java.util.Arrays.asList;
+import static org.jeasy.random.util.ReflectionUtils.getEmptyImplementationForCollectionInterface;
+import static org.jeasy.random.util.ReflectionUtils.getEmptyImplementationForMapInterface;
+import static org.jeasy.random.util.ReflectionUtils.isAbstract;
+import static org.jeasy.random.util.ReflectionUtils.isCollectionType;
+import static org.jeasy.random.util.ReflectionUtils.isMapType;
+import static org.jeasy.random.util.ReflectionUtils.isStatic;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Describes how to create instances of a type through its builder, as generated by
+ * <a href="https://immutables.github.io">Immutables</a>: a final class with a static
+ * {@code builder()} method returning a nested {@code Builder} class, which creates instances with {@code build()}.
+ * Only generated builders are used: the class has a static {@code copyOf} method taking its abstract value type,
+ * from which its builder can be initialized with {@code from}.
+ *
+ * The attributes of the type are its instance fields for which the builder has a setter
+ * ({@code setFoo(value)} or {@code foo(value)}). Other fields (derived or lazy attributes for example)
+ * are computed by the builder. Builder methods are resolved once into {@link MethodHandle}s.
+ */
+class BuilderPlan implements InstantiationPlan {
+
+    private static final MethodType BUILDER_TYPE = MethodType.methodType(Object.class);
+
+    private static final MethodType BUILD_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final Class<?> type;
+
+    private final MethodHandle builder;
+
+    private final MethodHandle build;
+
+    private final List<Field> attributes;
+
+    private final MethodHandle[] setters;
+
+    private BuilderPlan(final Class<?> type, final MethodHandle builder, final MethodHandle build,
+                        final List<Field> attributes, final MethodHandle[] setters) {
+        this.type = type;
+        this.builder = builder;
+        this.build = build;
+        this.attributes = Collections.unmodifiableList(attributes);
+        this.setters = setters;
+    }
+
+    /**
+     * Create the builder plan of the given type.
+     *
+     * @param type to create through its builder
+     * @return the builder plan of the type, or null if the type is not created through a builder
+     */
+    static BuilderPlan of(final Class<?> type) {
+        if (!Modifier.isFinal(type.getModifiers()) || !Modifier.isPublic(type.getModifiers())
+                || (type.getInterfaces().length == 0 && !isAbstract(type.getSuperclass()))) {
+            // builder generated implementations extend or implement an abstract value type
+            return null;
+        }
+        try {
+            Method builderMethod = type.getMethod("builder");
+            Class<?> builderType = builderMethod.getReturnType();
+            if (!Modifier.isStatic(builderMethod.getModifiers()) || builderType.getDeclaringClass() != type) {
+                return null;
+            }
+            Method buildMethod = builderType.getMethod("build");
+            if (buildMethod.getReturnType() != type || !isGenerated(type, builderType)) {
+                return null;
+            }
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            List<Field> attributes = new ArrayList<>();
+            List<MethodHandle> setters = new ArrayList<>();
+            for (Field field : type.getDeclaredFields()) {
+                if (isStatic(field)) {
+                    continue;
+                }
+                Method setter = getSetter(builderType, field);
+                if (setter != null) {
+                    attributes.add(field);
+                    setters.add(lookup.unreflect(setter).asType(SETTER_TYPE));
+                }
+            }
+            return new BuilderPlan(type,
+                    lookup.unreflect(builderMethod).asType(BUILDER_TYPE),
+                    lookup.unreflect(buildMethod).asType(BUILD_TYPE),
+                    attributes, setters.toArray(new MethodHandle[0]));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    // the generated annotation of Immutables is not retained at runtime, but the copy methods always are generated
+    private static boolean isGenerated(final Class<?> type, final Class<?> builderType) {
+        for (Method method : type.getMethods()) {
+            if (method.getName().equals("copyOf") && Modifier.isStatic(method.getModifiers())
+                    && method.getReturnType() == type && method.getParameterCount() == 1) {
+                Class<?> abstractValueType = method.getParameterTypes()[0];
+                if (abstractValueType != type && isAbstract(abstractValueType) && abstractValueType.isAssignableFrom(type)) {
+                    try {
+                        return builderType.getMethod("from", abstractValueType).getReturnType() == builderType;
+                    } catch (NoSuchMethodException e) {
+                        return false;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    private static Method getSetter(final Class<?> builderType, final Field field) {
+        String name = field.getName();
+        String setterName = "set" + name.substring(0, 1).toUpperCase(Locale.ENGLISH) + name.substring(1);
+        Class<?> valueType = getValueType(field.getType());
+        for (Method method : builderType.getMethods()) {
+            if ((method.getName().equals(setterName) || method.getName().equals(name))
+                    && !Modifier.isStatic(method.getModifiers())
+                    && method.getParameterCount() == 1
+                    && wrap(method.getParameterTypes()[0]).isAssignableFrom(wrap(valueType))) {
+                return method;
+            }
+        }
+        return null;
+    }
+
+    // the type of the values generated for a field, see CollectionPopulator and MapPopulator
+    static Class<?> getValueType(final Class<?> fieldType) {
+        if (isCollectionType(fieldType) && isAbstract(fieldType)) {
+            return getEmptyImplementationForCollectionInterface(fieldType).getClass();
+        }
+        if (isMapType(fieldType) && isAbstract(fieldType)) {
+            return getEmptyImplementationForMapInterface(fieldType).getClass();
+        }
+        return fieldType;
+    }
+
+    static Class<?> wrap(final Class<?> type) {
+        return type.isPrimitive() ? MethodType.methodType(type).wrap().returnType() : type;
+    }
+
+    @Override
+    public Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * @return the fields of the attributes that are set through the builder
+     */
+    @Override
+    public List<Field> getAttributes() {
+        return attributes;
+    }
+
+    /**
+     * Create an instance through the builder. Null values are not set, so that the builder applies its defaults.
+     *
+     * @param values of the attributes, in the order of {@link #getAttributes()}
+     * @return the built instance
+     * @throws Throwable if the builder fails to create the instance
+     */
+    @Override
+    public Object build(final Object[] values) throws Throwable {
+        Object instance = (Object) builder.invokeExact();
+        for (int i = 0; i < setters.length; i++) {
+            if (values[i] != null) {
+                setters[i].invokeExact(instance, values[i]);
+            }
+        }
+        return (Object) build.invokeExact(instance);
+    }
+
+    /**
+     * Generated builders check that mandatory attributes are set when building the instance.
+     *
+     * @param values of the attributes, in the order of {@link #getAttributes()}
+     * @param error thrown by {@link #build(Object[])}
+     * @return true if the builder failed because some values are null
+     */
+    @Override
+    public boolean isMissingValue(final Object[] values, final Throwable error) {
+        return error instanceof IllegalStateException && asList(values).contains(null);
+    }
+}
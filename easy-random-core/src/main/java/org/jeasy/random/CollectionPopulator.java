@@ -52,7 +52,8 @@ class CollectionPopulator {
         Type fieldGenericType = field.getGenericType();
         Collection collection;
 
-        if (isInterface(fieldType)) {
+        // abstract types (like immutable collections collected for a builder) get the default implementation of their interface
+        if (isAbstract(fieldType)) {
             collection = getEmptyImplementationForCollectionInterface(fieldType);
         } else {
             collection = createEmptyCollectionForType(fieldType, randomSize);
@@ -75,6 +76,7 @@ class CollectionPopulator {
 
     private int getRandomCollectionSize(EasyRandomParameters parameters) {
         EasyRandomParameters.Range<Integer> collectionSizeRange = parameters.getCollectionSizeRange();
-        return new IntegerRangeRandomizer(collectionSizeRange.getMin(), collectionSizeRange.getMax(), easyRandom.nextLong()).getRandomValue();
+        return new IntegerRangeRandomizer(collectionSizeRange.getMin(), collectionSizeRange.getMax(), easyRandom.nextLong(),
+                parameters.getRandomSourceFactory()).getRandomValue();
     }
 }
@@ -0,0 +1,193 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random;
+
+import static java.util.Arrays.asList;
+import static org.jeasy.random.util.ReflectionUtils.getInheritedFields;
+import static org.jeasy.random.util.ReflectionUtils.isAbstract;
+import static org.jeasy.random.util.ReflectionUtils.isStatic;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Describes how to create instances of a type with its widest public constructor.
+ * Types with several public constructors of the greatest number of parameters are not created with a constructor.
+ *
+ * Each parameter of the constructor is bound to a field of the type: the field with the same name when parameter
+ * names are available (classes compiled with {@code -parameters}), otherwise the only field of the same type.
+ * Without names, parameters of a type shared by several fields can not be told apart, so they are not bound.
+ * The constructor is resolved once into a {@link MethodHandle}.
+ */
+class ConstructorPlan implements InstantiationPlan {
+
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class, Object[].class);
+
+    private final Class<?> type;
+
+    private final MethodHandle constructor;
+
+    private final List<Field> attributes;
+
+    // values of primitive parameters whose field is not populated (excluded for example)
+    private final Object[] defaultValues;
+
+    private ConstructorPlan(final Class<?> type, final MethodHandle constructor,
+                            final List<Field> attributes, final Object[] defaultValues) {
+        this.type = type;
+        this.constructor = constructor;
+        this.attributes = Collections.unmodifiableList(attributes);
+        this.defaultValues = defaultValues;
+    }
+
+    /**
+     * Create the constructor plan of the given type.
+     *
+     * @param type to create with its widest public constructor
+     * @return the constructor plan of the type, or null if it has no single widest public constructor with parameters
+     * or if some of the parameters can not be bound to a field
+     */
+    static ConstructorPlan of(final Class<?> type) {
+        if (!Modifier.isPublic(type.getModifiers()) || isAbstract(type) || type.isEnum()
+                || (type.isMemberClass() && !Modifier.isStatic(type.getModifiers()))) {
+            return null;
+        }
+        // constructors are returned in no particular order, so none is picked among several of the widest
+        Constructor<?> widestConstructor = null;
+        boolean ambiguous = false;
+        for (Constructor<?> constructor : type.getConstructors()) {
+            if (widestConstructor == null || constructor.getParameterCount() > widestConstructor.getParameterCount()) {
+                widestConstructor = constructor;
+                ambiguous = false;
+            } else if (constructor.getParameterCount() == widestConstructor.getParameterCount()) {
+                ambiguous = true;
+            }
+        }
+        if (widestConstructor == null || widestConstructor.getParameterCount() == 0 || ambiguous) {
+            return null;
+        }
+        List<Field> fields = new ArrayList<>(asList(type.getDeclaredFields()));
+        fields.addAll(getInheritedFields(type));
+        fields.removeIf(field -> isStatic(field) || field.isSynthetic());
+        Parameter[] parameters = widestConstructor.getParameters();
+        List<Field> attributes = new ArrayList<>(parameters.length);
+        Object[] defaultValues = new Object[parameters.length];
+        for (int i = 0; i < parameters.length; i++) {
+            Field field = getBoundField(parameters[i], fields, attributes);
+            if (field == null) {
+                return null;
+            }
+            attributes.add(field);
+            if (parameters[i].getType().isPrimitive()) {
+                defaultValues[i] = Array.get(Array.newInstance(parameters[i].getType(), 1), 0);
+            }
+        }
+        try {
+            MethodHandle constructor = MethodHandles.publicLookup().unreflectConstructor(widestConstructor)
+                    .asType(MethodType.genericMethodType(parameters.length))
+                    .asSpreader(Object[].class, parameters.length)
+                    .asType(CONSTRUCTOR_TYPE);
+            return new ConstructorPlan(type, constructor, attributes, defaultValues);
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    private static Field getBoundField(final Parameter parameter, final List<Field> fields, final List<Field> boundFields) {
+        Field boundField = null;
+        for (Field field : fields) {
+            if (!accepts(parameter, field)) {
+                continue;
+            }
+            if (parameter.isNamePresent()) {
+                if (parameter.getName().equals(field.getName()) && !boundFields.contains(field)) {
+                    return field;
+                }
+            } else if (parameter.getParameterizedType().equals(field.getGenericType())) {
+                if (boundField != null) {
+                    return null;
+                }
+                boundField = field;
+            }
+        }
+        // without names, a field of the type can not be bound to two parameters either
+        return boundField == null || boundFields.contains(boundField) ? null : boundField;
+    }
+
+    private static boolean accepts(final Parameter parameter, final Field field) {
+        return BuilderPlan.wrap(parameter.getType()).isAssignableFrom(BuilderPlan.wrap(BuilderPlan.getValueType(field.getType())));
+    }
+
+    @Override
+    public Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * @return the fields bound to the parameters of the constructor, in the order of the parameters
+     */
+    @Override
+    public List<Field> getAttributes() {
+        return attributes;
+    }
+
+    /**
+     * Create an instance with the constructor. Null values of primitive parameters are replaced with their default value.
+     *
+     * @param values of the parameters, in the order of {@link #getAttributes()}
+     * @return the created instance
+     * @throws Throwable if the constructor fails
+     */
+    @Override
+    public Object build(final Object[] values) throws Throwable {
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] == null) {
+                values[i] = defaultValues[i];
+            }
+        }
+        return (Object) constructor.invokeExact(values);
+    }
+
+    /**
+     * Constructors usually reject null values of their parameters with a {@link NullPointerException}
+     * or an {@link IllegalArgumentException}.
+     *
+     * @param values of the parameters, in the order of {@link #getAttributes()}
+     * @param error thrown by {@link #build(Object[])}
+     * @return true if the constructor failed because some values are null
+     */
+    @Override
+    public boolean isMissingValue(final Object[] values, final Throwable error) {
+        return (error instanceof NullPointerException || error instanceof IllegalArgumentException) && asList(values).contains(null);
+    }
+}
@@ -23,15 +23,14 @@
  */
 package org.jeasy.random;
 
-import static org.jeasy.random.util.ReflectionUtils.getDeclaredFields;
-import static org.jeasy.random.util.ReflectionUtils.getFieldValue;
+import static java.util.Arrays.asList;
 import static org.jeasy.random.util.ReflectionUtils.getInheritedFields;
 import static org.jeasy.random.util.ReflectionUtils.isArrayType;
 import static org.jeasy.random.util.ReflectionUtils.isCollectionType;
 import static org.jeasy.random.util.ReflectionUtils.isEnumType;
 import static org.jeasy.random.util.ReflectionUtils.isIntrospectable;
 import static org.jeasy.random.util.ReflectionUtils.isMapType;
-import static org.jeasy.random.util.ReflectionUtils.isPrimitiveFieldWithDefaultValue;
+import static org.jeasy.random.util.ReflectionUtils.isPrimitiveDefaultValue;
 
 import java.lang.reflect.Field;
 import java.util.ArrayList;
@@ -40,30 +39,58 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Random;
 import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.WeakHashMap;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
+import org.jeasy.random.PopulationPlan.FieldPlan;
 import org.jeasy.random.api.ContextAwareRandomizer;
+import org.jeasy.random.api.ContextualRandomizer;
 import org.jeasy.random.api.ExclusionPolicy;
+import org.jeasy.random.api.GenerationListener;
 import org.jeasy.random.api.ObjectFactory;
+import org.jeasy.random.api.RandomSource;
+import org.jeasy.random.api.RandomSourceFactory;
 import org.jeasy.random.api.Randomizer;
 import org.jeasy.random.api.RandomizerProvider;
 import org.jeasy.random.api.RandomizerRegistry;
+import org.jeasy.random.randomizers.GeneratedRandomizer;
+import org.jeasy.random.randomizers.PrimitiveArrayFiller;
 import org.jeasy.random.randomizers.misc.EnumRandomizer;
+import org.jeasy.random.randomizers.misc.SkipRandomizer;
+import org.jeasy.random.util.CompactFieldValueStore;
+import org.jeasy.random.util.FieldAccessor;
+import org.jeasy.random.util.FieldValueStore;
 import org.jeasy.random.util.ReflectionUtils;
+import org.jeasy.random.util.ScopedRandom;
+import org.jeasy.random.util.SourceRandom;
 
 /**
  * Extension of {@link java.util.Random} that is able to generate random Java objects.
  *
+ * An instance can be shared across threads when created with
+ * {@link EasyRandomParameters#threadSafe(boolean)} enabled, in which case
+ * {@link #objects(Class, int)} can be consumed as a parallel stream.
+ *
  * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
  */
 @SuppressWarnings({ "rawtypes", "unchecked" })
 public class EasyRandom extends Random {
 
-    private int currentIndex;
+    private static final Object CONTEXT_AWARE_RANDOMIZERS_LOCK = new Object();
+
+    // the context of each instance in each thread: with a thread local per instance, every thread would keep
+    // an entry for each instance it used until the thread local is expunged
+    private static final ThreadLocal<Map<EasyRandom, RandomizationContext>> CONTEXTS = ThreadLocal.withInitial(WeakHashMap::new);
+
+    private final AtomicInteger currentIndex;
 
     private final EasyRandomParameters parameters;
 
@@ -77,8 +104,29 @@ public class EasyRandom extends Random {
 
     private final ObjectFactory objectFactory;
 
+    private final boolean defaultObjectFactory;
+
+    private final boolean constructorBinding;
+
     private final ExclusionPolicy exclusionPolicy;
 
+    private final Map<Class<?>, PopulationPlan> populationPlans;
+
+    private final Map<Class<?>, Optional<InstantiationPlan>> instantiationPlans;
+
+    // plans collecting the values of instantiation plans, recursive types can also be populated field by field
+    private final Map<Class<?>, PopulationPlan> instantiationPopulationPlans;
+
+    private final Set<Class<?>> nonInstantiableTypes;
+
+    private final GenerationListener generationListener;
+
+    private final RandomSourceFactory randomSourceFactory;
+
+    private final boolean threadConfined;
+
+    private RandomSource randomSource;
+
     /**
      * Create a new {@link EasyRandom} instance with default parameters.
      */
@@ -93,23 +141,32 @@ public class EasyRandom extends Random {
      */
     public EasyRandom(final EasyRandomParameters easyRandomParameters) {
         Objects.requireNonNull(easyRandomParameters, "Parameters must not be null");
-        super.setSeed(easyRandomParameters.getSeed());
+        threadConfined = easyRandomParameters.isThreadSafe() && easyRandomParameters.isThreadConfined();
+        randomSourceFactory = SourceRandom.getRandomSourceFactory(easyRandomParameters);
+        setSeed(easyRandomParameters.getSeed());
         LinkedHashSet<RandomizerRegistry> registries = setupRandomizerRegistries(easyRandomParameters);
         RandomizerProvider customRandomizerProvider = easyRandomParameters.getRandomizerProvider();
         randomizerProvider = customRandomizerProvider == null ? new RegistriesRandomizerProvider() : customRandomizerProvider;
         randomizerProvider.setRandomizerRegistries(registries);
         objectFactory = easyRandomParameters.getObjectFactory();
+        constructorBinding = easyRandomParameters.isConstructorBinding();
+        defaultObjectFactory = objectFactory.getClass() == ObjenesisObjectFactory.class;
         arrayPopulator = new ArrayPopulator(this);
         CollectionPopulator collectionPopulator = new CollectionPopulator(this);
         MapPopulator mapPopulator = new MapPopulator(this, objectFactory);
         OptionalPopulator optionalPopulator = new OptionalPopulator(this);
         enumRandomizersByType = new ConcurrentHashMap<>();
+        populationPlans = new ConcurrentHashMap<>();
+        instantiationPlans = new ConcurrentHashMap<>();
+        instantiationPopulationPlans = new ConcurrentHashMap<>();
+        nonInstantiableTypes = ConcurrentHashMap.newKeySet();
         fieldPopulator = setupFieldPopulator(easyRandomParameters, this,
                 this.randomizerProvider, arrayPopulator,
                 collectionPopulator, mapPopulator, optionalPopulator);
         exclusionPolicy = easyRandomParameters.getExclusionPolicy();
         parameters = easyRandomParameters;
-        currentIndex = 0;
+        generationListener = easyRandomParameters.getGenerationListener();
+        currentIndex = new AtomicInteger();
     }
 
     /**
@@ -121,9 +178,7 @@ public class EasyRandom extends Random {
      * @throws ObjectCreationException when unable to create a new instance of the given type
      */
     public <T> T nextObject(final Class<T> type) {
-        T t = nextOrGetObject(currentIndex, type);
-        currentIndex += 1;
-        return t;
+        return nextOrGetObject(currentIndex.getAndIncrement(), type);
     }
 
     /**
@@ -136,12 +191,23 @@ public class EasyRandom extends Random {
      * @throws ObjectCreationException when unable to create a new instance of the given type
      */
     public <T> T nextOrGetObject(final int index, final Class<T> type) {
-        return doPopulateBean(type, new RandomizationContext(index, type, parameters));
+        if (!parameters.isIndexedSeeding()) {
+            return populateRootObject(index, type);
+        }
+        SplittableRandom previousScope = ScopedRandom.openScope(parameters.getSeed(), type, index);
+        try {
+            return populateRootObject(index, type);
+        } finally {
+            ScopedRandom.closeScope(previousScope);
+        }
     }
 
     /**
      * Generate a stream of random instances of the given type.
      *
+     * The stream is sized and splits evenly, so it can be consumed in parallel
+     * by an instance created in {@link EasyRandomParameters#threadSafe(boolean) thread safe} mode.
+     *
      * @param type           the type for which instances will be generated
      * @param streamSize         the number of instances to generate
      * @param <T>            the actual type of the target objects
@@ -156,20 +222,88 @@ public class EasyRandom extends Random {
             .mapToObj(index -> nextOrGetObject(index, type));
     }
 
+    private <T> T populateRootObject(final int index, final Class<T> type) {
+        RandomizationContext context = getThreadContext();
+        if (context.isInUse()) {
+            // nested call (from a custom randomizer for example) while the context of this thread is in use
+            RandomizationContext nestedContext = new RandomizationContext(index, type, parameters);
+            nestedContext.setRandomizerForks(context.getRandomizerForks());
+            return doPopulateBean(type, nestedContext);
+        }
+        context.reset(index, type);
+        try {
+            return doPopulateBean(type, context);
+        } finally {
+            context.release();
+        }
+    }
+
+    @Override
+    public synchronized void setSeed(final long seed) {
+        super.setSeed(seed);
+        // the factory is not set yet when called from the constructor of Random
+        if (randomSourceFactory != null) {
+            randomSource = randomSourceFactory.create(seed);
+        }
+    }
+
+    @Override
+    protected int next(final int bits) {
+        SplittableRandom scope = parameters.isIndexedSeeding() ? ScopedRandom.currentScope() : null;
+        if (scope != null) {
+            return ScopedRandom.nextBits(scope, bits);
+        }
+        if (threadConfined) {
+            return getThreadContext().getRandomizerForks().nextBits(bits);
+        }
+        return randomSource != null ? randomSource.next(bits) : super.next(bits);
+    }
+
+    private RandomizationContext getThreadContext() {
+        Map<EasyRandom, RandomizationContext> contexts = CONTEXTS.get();
+        RandomizationContext context = contexts.get(this);
+        if (context == null) {
+            context = createThreadContext();
+            contexts.put(this, context);
+        }
+        return context;
+    }
+
+    private RandomizationContext createThreadContext() {
+        RandomizationContext context = new RandomizationContext(parameters);
+        if (parameters.isThreadSafe()) {
+            context.setRandomizerForks(new RandomizerForks(parameters, Thread.currentThread().getName()));
+        }
+        return context;
+    }
+
     <T> T doPopulateBean(final Class<T> type, final RandomizationContext context) {
         if (exclusionPolicy.shouldBeExcluded(type, context)) {
             return null;
         }
+        if (generationListener == null) {
+            return populateBean(type, context);
+        }
+        long start = System.nanoTime();
+        T result = populateBean(type, context);
+        generationListener.objectGenerated(type, System.nanoTime() - start, context);
+        return result;
+    }
 
+    private <T> T populateBean(final Class<T> type, final RandomizationContext context) {
         T result;
         try {
 
             Randomizer<?> randomizer = randomizerProvider.getRandomizerByType(type, context);
-            if (randomizer != null) {
-                if (randomizer instanceof ContextAwareRandomizer) {
-                    ((ContextAwareRandomizer<?>) randomizer).setRandomizerContext(context);
-                }
-                return (T) randomizer.getRandomValue();
+            if (generationListener != null) {
+                generationListener.randomizerLookedUp(type, randomizer != null, context);
+            }
+            GeneratedRandomizer<T> generatedRandomizer = null;
+            if (randomizer instanceof GeneratedRandomizer) {
+                // generated randomizers replace reflection, but the object is still populated in the current context
+                generatedRandomizer = (GeneratedRandomizer<T>) randomizer;
+            } else if (randomizer != null) {
+                return getRandomValue(randomizer, context);
             }
 
             // Collection types are randomized without introspection for internal fields
@@ -179,33 +313,67 @@ public class EasyRandom extends Random {
 
             // If the type has been already randomized, return one cached instance to avoid recursion.
             if (context.hasAlreadyRandomizedType(type)) {
+                if (generationListener != null) {
+                    generationListener.pooledObjectReused(type, context);
+                }
                 return (T) context.getPopulatedBean(type);
             }
 
-            // create a new instance of the target type
-            result = objectFactory.createInstance(type, context);
+            // types with a builder (or a bound constructor) are created once all of their values are known, unless they are recursive
+            InstantiationPlan instantiationPlan = generatedRandomizer == null && (defaultObjectFactory || constructorBinding)
+                    ? getInstantiationPlan(type) : null;
+            Object[] attributeValues = null;
+            if (instantiationPlan != null && !context.isBuilding(type)) {
+                PopulationPlan attributesPlan = getPopulationPlan(type, null, instantiationPlan, context);
+                // randomizers looking at the (not yet existing) current object need it to be created first
+                if (attributesPlan.isContextFree()) {
+                    attributeValues = populateAttributes(type, attributesPlan, instantiationPlan, context);
+                    T built = build(type, instantiationPlan, attributeValues);
+                    if (built != null) {
+                        context.setRandomizedObject(built);
+                        context.addPopulatedBean(type, built);
+                        return built;
+                    }
+                }
+            }
+
+            // create a new instance of the target type, unless it failed before
+            if (parameters.isIgnoreRandomizationErrors() && nonInstantiableTypes.contains(type)) {
+                return null;
+            }
+            try {
+                result = generatedRandomizer != null && defaultObjectFactory
+                        ? generatedRandomizer.newInstance()
+                        : objectFactory.createInstance(type, context);
+            } catch (Throwable e) {
+                rememberIfNotInstantiable(type, e, context);
+                throw e;
+            }
             context.setRandomizedObject(result);
 
             // cache instance in the population context
             context.addPopulatedBean(type, result);
 
-            // retrieve declared and inherited fields
-            List<Field> fields = getDeclaredFields(result);
             // we cannot use type here, because with classpath scanning enabled the result can be a subtype
-            fields.addAll(getInheritedFields(result.getClass()));
-
-            // inner classes (and static nested classes) have a field named "this$0" that references the enclosing class.
-            // This field should be excluded
-            if (type.getEnclosingClass() != null) {
-                fields.removeIf(field -> field.getName().equals("this$0"));
-            }
+            PopulationPlan populationPlan = generatedRandomizer != null
+                    ? getPopulationPlan(type, generatedRandomizer, null, context)
+                    : getPopulationPlan(result.getClass(), context);
 
             // populate fields with random data
-            populateFields(fields, result, context);
+            if (attributeValues != null) {
+                // values generated for the instantiation plan are reused, only the other fields are populated
+                setAttributeValues(instantiationPlan, attributeValues, result);
+                populateFields(populationPlan, result, instantiationPlan.getAttributes(), context);
+            } else {
+                populateFields(populationPlan, result, context);
+            }
 
             return result;
         } catch (Throwable e) {
             if (parameters.isIgnoreRandomizationErrors()) {
+                if (generationListener != null) {
+                    generationListener.errorIgnored(type, e, context);
+                }
                 return null;
             } else {
                 throw new ObjectCreationException("Unable to create a random instance of type " + type, e);
@@ -213,12 +381,92 @@ public class EasyRandom extends Random {
         }
     }
 
+    /*
+     * Errors are ignored for each object of a type that can not be instantiated, which is slow because of
+     * the creation of exceptions. Only failures that would happen again are remembered: those of the default
+     * object factory, unless it picks a random subtype of the type.
+     */
+    private void rememberIfNotInstantiable(final Class<?> type, final Throwable error, final RandomizationContext context) {
+        if (!parameters.isIgnoreRandomizationErrors() || !defaultObjectFactory) {
+            return;
+        }
+        if (parameters.isScanClasspathForConcreteTypes() && ReflectionUtils.isAbstract(type)
+                && !ReflectionUtils.getPublicConcreteSubTypesOf(type, parameters).isEmpty()) {
+            return;
+        }
+        if (nonInstantiableTypes.add(type) && generationListener != null) {
+            generationListener.typeNotInstantiable(type, error, context);
+        }
+    }
+
+    /*
+     * The randomizer of the given primitive type, if it can fill arrays at once and values of the type are not excluded.
+     */
+    PrimitiveArrayFiller getPrimitiveArrayFiller(final Class<?> type, final RandomizationContext context) {
+        if (exclusionPolicy.shouldBeExcluded(type, context)) {
+            return null;
+        }
+        Randomizer<?> randomizer = getFork(randomizerProvider.getRandomizerByType(type, context), context);
+        return randomizer instanceof PrimitiveArrayFiller ? (PrimitiveArrayFiller) randomizer : null;
+    }
+
+    private Object[] populateAttributes(final Class<?> type, final PopulationPlan attributesPlan,
+                                        final InstantiationPlan instantiationPlan, final RandomizationContext context) throws IllegalAccessException {
+        Object[] values = new Object[instantiationPlan.getAttributes().size()];
+        context.startBuilding(type);
+        try {
+            populateFields(attributesPlan, values, context);
+        } finally {
+            context.endBuilding();
+        }
+        return values;
+    }
+
+    /*
+     * Returns null when the values are rejected because some attributes have none (a mandatory attribute which
+     * is excluded or beyond the randomization depth for example), in which case the object is rather created by
+     * the object factory and populated field by field. Other failures are errors of the builder or the constructor.
+     */
+    private static <T> T build(final Class<T> type, final InstantiationPlan instantiationPlan, final Object[] values) throws Throwable {
+        try {
+            return type.cast(instantiationPlan.build(values));
+        } catch (Throwable e) {
+            if (instantiationPlan.isMissingValue(values, e)) {
+                return null;
+            }
+            throw e;
+        }
+    }
+
+    private static void setAttributeValues(final InstantiationPlan instantiationPlan, final Object[] values, final Object result) throws IllegalAccessException {
+        List<Field> attributes = instantiationPlan.getAttributes();
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                ReflectionUtils.setFieldValue(result, attributes.get(i), values[i]);
+            }
+        }
+    }
+
+    private InstantiationPlan getInstantiationPlan(final Class<?> type) {
+        Optional<InstantiationPlan> instantiationPlan = instantiationPlans.get(type);
+        if (instantiationPlan == null) {
+            instantiationPlan = instantiationPlans.computeIfAbsent(type, this::createInstantiationPlan);
+        }
+        return instantiationPlan.orElse(null);
+    }
+
+    private Optional<InstantiationPlan> createInstantiationPlan(final Class<?> type) {
+        InstantiationPlan instantiationPlan = BuilderPlan.of(type);
+        if (instantiationPlan == null && constructorBinding) {
+            instantiationPlan = ConstructorPlan.of(type);
+        }
+        return Optional.ofNullable(instantiationPlan);
+    }
+
     private <T> T randomize(final Class<T> type, final RandomizationContext context) {
         if (isEnumType(type)) {
-            if (!enumRandomizersByType.containsKey(type)) {
-                enumRandomizersByType.put(type, new EnumRandomizer(type, parameters.getSeed()));
-            }
-            return (T) enumRandomizersByType.get(type).getRandomValue();
+            return getRandomValue(enumRandomizersByType
+                    .computeIfAbsent(type, enumType -> new EnumRandomizer(enumType, parameters.getSeed(), randomSourceFactory)), context);
         }
         if (isArrayType(type)) {
             return (T) arrayPopulator.getRandomArray(type, context);
@@ -232,20 +480,149 @@ public class EasyRandom extends Random {
         return null;
     }
 
-    private <T> void populateFields(final List<Field> fields, final T result, final RandomizationContext context) throws IllegalAccessException {
-        for (final Field field : fields) {
-            populateField(field, result, context);
+    /*
+     * Context aware randomizers are shared, so in thread safe mode the context must not change between setting it and
+     * generating the value. They are forked for each thread when they can be, and otherwise invoked while holding a lock
+     * shared by all of them: randomizers generating values with nested calls to EasyRandom can not lock each other out.
+     * Contextual randomizers receive the context as an argument, so they are invoked without locking.
+     */
+    static <T> T getRandomValue(final Randomizer<?> sharedRandomizer, final RandomizationContext context) {
+        Randomizer<?> randomizer = getFork(sharedRandomizer, context);
+        if (randomizer instanceof ContextualRandomizer) {
+            return (T) ((ContextualRandomizer<?>) randomizer).getRandomValue(context);
+        }
+        if (randomizer instanceof ContextAwareRandomizer) {
+            ContextAwareRandomizer<?> contextAwareRandomizer = (ContextAwareRandomizer<?>) randomizer;
+            if (context.getParameters().isThreadSafe() && randomizer == sharedRandomizer) {
+                synchronized (CONTEXT_AWARE_RANDOMIZERS_LOCK) {
+                    contextAwareRandomizer.setRandomizerContext(context);
+                    return (T) contextAwareRandomizer.getRandomValue();
+                }
+            }
+            contextAwareRandomizer.setRandomizerContext(context);
         }
+        return (T) randomizer.getRandomValue();
     }
 
-    private <T> void populateField(final Field field, final T result, final RandomizationContext context) throws IllegalAccessException {
-        if (exclusionPolicy.shouldBeExcluded(field, context)) {
+    // in thread safe mode, only context aware randomizers are forked unless the randomizers are thread confined
+    private static Randomizer<?> getFork(final Randomizer<?> randomizer, final RandomizationContext context) {
+        RandomizerForks randomizerForks = context.getRandomizerForks();
+        if (randomizerForks == null || randomizer == null
+                || (!context.getParameters().isThreadConfined() && !(randomizer instanceof ContextAwareRandomizer))) {
+            return randomizer;
+        }
+        return randomizerForks.getFork(randomizer);
+    }
+
+    private <T> void populateFields(final PopulationPlan populationPlan, final T result, final RandomizationContext context) throws IllegalAccessException {
+        boolean exclusionResolved = populationPlan.isExclusionResolved();
+        for (final FieldPlan fieldPlan : populationPlan.getFieldPlans()) {
+            populateField(fieldPlan, exclusionResolved, result, context);
+        }
+    }
+
+    private <T> void populateFields(final PopulationPlan populationPlan, final T result, final List<Field> populatedFields,
+                                    final RandomizationContext context) throws IllegalAccessException {
+        boolean exclusionResolved = populationPlan.isExclusionResolved();
+        for (final FieldPlan fieldPlan : populationPlan.getFieldPlans()) {
+            if (!populatedFields.contains(fieldPlan.getField())) {
+                populateField(fieldPlan, exclusionResolved, result, context);
+            }
+        }
+    }
+
+    private <T> void populateField(final FieldPlan fieldPlan, final boolean exclusionResolved, final T result, final RandomizationContext context) throws IllegalAccessException {
+        Field field = fieldPlan.getField();
+        if (!exclusionResolved && exclusionPolicy.shouldBeExcluded(field, context)) {
             return;
         }
-        if (!parameters.isOverrideDefaultInitialization() && getFieldValue(result, field) != null && !isPrimitiveFieldWithDefaultValue(result, field)) {
-          return;
+        if (!parameters.isOverrideDefaultInitialization()) {
+            Object fieldValue = fieldPlan.getAccessor().getFieldValue(result);
+            if (fieldValue != null && !isPrimitiveDefaultValue(field.getType(), fieldValue)) {
+                return;
+            }
+        }
+        fieldPopulator.populateField(result, fieldPlan, context);
+    }
+
+    EasyRandomParameters getParameters() {
+        return parameters;
+    }
+
+    PopulationPlan getPopulationPlan(final Class<?> type, final RandomizationContext context) {
+        return getPopulationPlan(type, null, null, context);
+    }
+
+    private PopulationPlan getPopulationPlan(final Class<?> type, final GeneratedRandomizer<?> generatedRandomizer,
+                                             final InstantiationPlan instantiationPlan, final RandomizationContext context) {
+        Map<Class<?>, PopulationPlan> plans = instantiationPlan != null ? instantiationPopulationPlans : populationPlans;
+        PopulationPlan populationPlan = plans.get(type);
+        if (populationPlan == null) {
+            populationPlan = plans.computeIfAbsent(type, t -> createPopulationPlan(t, generatedRandomizer, instantiationPlan, context));
         }
-        fieldPopulator.populateField(result, field, context);
+        return populationPlan;
+    }
+
+    private PopulationPlan createPopulationPlan(final Class<?> type, final GeneratedRandomizer<?> generatedRandomizer,
+                                                final InstantiationPlan instantiationPlan, final RandomizationContext context) {
+        List<Field> fields;
+        if (generatedRandomizer != null) {
+            fields = generatedRandomizer.getFields();
+        } else if (instantiationPlan != null) {
+            fields = instantiationPlan.getAttributes();
+        } else {
+            fields = getFields(type);
+        }
+
+        // the default exclusion policy does not depend on the randomization context,
+        // so excluded fields can be filtered out once for all
+        boolean exclusionResolved = exclusionPolicy.getClass() == DefaultExclusionPolicy.class;
+        List<FieldPlan> fieldPlans = new ArrayList<>(fields.size());
+        for (int i = 0; i < fields.size(); i++) {
+            Field field = fields.get(i);
+            if (exclusionResolved && exclusionPolicy.shouldBeExcluded(field, context)) {
+                continue;
+            }
+            FieldAccessor accessor;
+            if (generatedRandomizer != null) {
+                accessor = FieldAccessor.of(generatedRandomizer, i);
+            } else if (instantiationPlan != null) {
+                // values are collected in an array, then passed to the builder or the constructor
+                accessor = FieldAccessor.ofArrayElement(field, i);
+            } else {
+                accessor = FieldAccessor.of(field);
+            }
+            FieldPlan fieldPlan = fieldPopulator.createFieldPlan(field, accessor, context);
+            if (fieldPlan.isRandomizerResolved() && fieldPlan.getRandomizer() instanceof SkipRandomizer) {
+                continue;
+            }
+            fieldPlans.add(fieldPlan);
+        }
+        return new PopulationPlan(type, fieldPlans, exclusionResolved);
+    }
+
+    /*
+     * Fields of the given type which are populated, without planning their population
+     * (the population plan of a type depends on how it is instantiated).
+     */
+    List<Field> getPopulatedFields(final Class<?> type, final RandomizationContext context) {
+        List<Field> fields = getFields(type);
+        fields.removeIf(field -> exclusionPolicy.shouldBeExcluded(field, context)
+                || randomizerProvider.getRandomizerByField(field, context) instanceof SkipRandomizer);
+        return fields;
+    }
+
+    private static List<Field> getFields(final Class<?> type) {
+        // retrieve declared and inherited fields
+        List<Field> fields = new ArrayList<>(asList(type.getDeclaredFields()));
+        fields.addAll(getInheritedFields(type));
+
+        // inner classes (and static nested classes) have a field named "this$0" that references the enclosing class.
+        // This field should be excluded
+        if (type.getEnclosingClass() != null) {
+            fields.removeIf(field -> field.getName().equals("this$0"));
+        }
+        return fields;
     }
 
     private LinkedHashSet<RandomizerRegistry> setupRandomizerRegistries(EasyRandomParameters parameters) {
@@ -272,13 +649,19 @@ public class EasyRandom extends Random {
                                                       final MapPopulator mapPopulator,
                                                       final OptionalPopulator optionalPopulator) {
         if (parameters.isReuseFieldValues()) {
+            FieldValueStore fieldValueStore = parameters.getFieldValueStore();
+            if (fieldValueStore == null) {
+                int concurrencyLevel = parameters.isThreadSafe() ? Runtime.getRuntime().availableProcessors() : 1;
+                fieldValueStore = new CompactFieldValueStore(parameters.getReuseFieldValuesWindow(), concurrencyLevel);
+            }
             return new FieldPopulatorWithFieldValueStore(
                 easyRandom,
                 randomizerProvider,
                 arrayPopulator,
                 collectionPopulator,
                 mapPopulator,
-                optionalPopulator);
+                optionalPopulator,
+                fieldValueStore);
         }
         return new FieldPopulator(
             easyRandom,
@@ -0,0 +1,463 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random;
+
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import org.jeasy.random.util.FieldAccessor;
+
+/**
+ * Writes random objects to a channel as they are generated, without keeping them in memory.
+ * Objects are encoded in a direct buffer which is written to the channel each time it is full.
+ *
+ * Objects are written with the fields that are populated, so excluded fields are not written.
+ * Java types (strings, dates, etc) and enumerations are written as strings, collections and arrays
+ * as JSON arrays, maps and other types as JSON objects. References to an object which is being written
+ * (when objects are reused from the object pool) are written as null.
+ *
+ * An exporter holds a buffer and is not thread safe.
+ */
+public class EasyRandomExporter {
+
+    /**
+     * Format of exported objects.
+     */
+    public enum Format {
+        /**
+         * One JSON object per line.
+         */
+        JSON_LINES,
+        /**
+         * A header with the names of the fields of the exported type, then one record per object.
+         * Fields which are not strings, numbers or booleans are written in JSON.
+         */
+        CSV
+    }
+
+    /**
+     * Default size of the buffer.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 1024 * 1024;
+
+    private static final int MIN_BUFFER_SIZE = 64;
+
+    private static final byte QUOTE = '"';
+
+    private static final byte[] NULL = {'n', 'u', 'l', 'l'};
+
+    private static final byte[] TRUE = {'t', 'r', 'u', 'e'};
+
+    private static final byte[] FALSE = {'f', 'a', 'l', 's', 'e'};
+
+    private static final byte[] HEX_DIGITS = {'0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'a', 'b', 'c', 'd', 'e', 'f'};
+
+    private final EasyRandom easyRandom;
+
+    private final ByteBuffer buffer;
+
+    private final Map<Class<?>, List<FieldAccessor>> fields = new HashMap<>();
+
+    private final Set<Object> objectsBeingWritten = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    private WritableByteChannel channel;
+
+    private long bytesWritten;
+
+    // inside a quoted CSV field, where quotes are escaped by doubling them
+    private boolean quoting;
+
+    /**
+     * Create a new {@link EasyRandomExporter} with a buffer of {@link #DEFAULT_BUFFER_SIZE} bytes.
+     *
+     * @param easyRandom generating the objects to export
+     */
+    public EasyRandomExporter(final EasyRandom easyRandom) {
+        this(easyRandom, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Create a new {@link EasyRandomExporter}.
+     *
+     * @param easyRandom generating the objects to export
+     * @param bufferSize size of the buffer in bytes
+     */
+    public EasyRandomExporter(final EasyRandom easyRandom, final int bufferSize) {
+        Objects.requireNonNull(easyRandom, "EasyRandom must not be null");
+        if (bufferSize < MIN_BUFFER_SIZE) {
+            throw new IllegalArgumentException("bufferSize must be >= " + MIN_BUFFER_SIZE);
+        }
+        this.easyRandom = easyRandom;
+        this.buffer = ByteBuffer.allocateDirect(bufferSize);
+    }
+
+    /**
+     * Generate random instances of the given type and write them to the given channel.
+     * The channel is not closed.
+     *
+     * @param type the type for which instances will be generated
+     * @param count the number of instances to generate
+     * @param channel to write instances to
+     * @param format of instances
+     * @return the number of bytes written
+     * @throws IOException if instances can not be written
+     * @throws ObjectCreationException when unable to create a new instance of the given type
+     */
+    public long write(final Class<?> type, final long count, final WritableByteChannel channel, final Format format) throws IOException {
+        Objects.requireNonNull(type, "Type must not be null");
+        Objects.requireNonNull(channel, "Channel must not be null");
+        Objects.requireNonNull(format, "Format must not be null");
+        if (count < 0) {
+            throw new IllegalArgumentException("count must be >= 0");
+        }
+        this.channel = channel;
+        this.bytesWritten = 0;
+        buffer.clear();
+        try {
+            if (format == Format.CSV) {
+                writeCsvHeader(type);
+            }
+            for (long i = 0; i < count; i++) {
+                Object object = easyRandom.nextObject(type);
+                if (format == Format.CSV) {
+                    writeCsvRecord(object, type);
+                } else {
+                    writeJson(object);
+                    put((byte) '\n');
+                }
+            }
+            flush();
+            return bytesWritten;
+        } finally {
+            this.channel = null;
+            this.quoting = false;
+            objectsBeingWritten.clear();
+        }
+    }
+
+    private void writeCsvHeader(final Class<?> type) throws IOException {
+        List<FieldAccessor> accessors = getFields(type);
+        for (int i = 0; i < accessors.size(); i++) {
+            if (i > 0) {
+                put((byte) ',');
+            }
+            writeCsvString(accessors.get(i).getField().getName());
+        }
+        put((byte) '\r');
+        put((byte) '\n');
+    }
+
+    private void writeCsvRecord(final Object object, final Class<?> type) throws IOException {
+        // records match the header, even for objects of a subtype of the given type
+        List<FieldAccessor> accessors = getFields(type);
+        objectsBeingWritten.add(object);
+        for (int i = 0; i < accessors.size(); i++) {
+            if (i > 0) {
+                put((byte) ',');
+            }
+            if (object != null) {
+                writeCsvValue(getFieldValue(accessors.get(i), object));
+            }
+        }
+        objectsBeingWritten.remove(object);
+        put((byte) '\r');
+        put((byte) '\n');
+    }
+
+    private void writeCsvValue(final Object value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        if (isScalar(value)) {
+            writeScalar(value);
+        } else if (isText(value)) {
+            writeCsvString(toText(value));
+        } else {
+            put(QUOTE);
+            quoting = true;
+            writeJson(value);
+            quoting = false;
+            put(QUOTE);
+        }
+    }
+
+    private void writeCsvString(final String value) throws IOException {
+        put(QUOTE);
+        quoting = true;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                putQuote();
+            } else {
+                i = putChar(value, i);
+            }
+        }
+        quoting = false;
+        put(QUOTE);
+    }
+
+    private void writeJson(final Object value) throws IOException {
+        if (value == null) {
+            put(NULL);
+        } else if (isScalar(value)) {
+            writeScalar(value);
+        } else if (isText(value)) {
+            writeJsonString(toText(value));
+        } else if (value instanceof Optional) {
+            writeJson(((Optional<?>) value).orElse(null));
+        } else if (!objectsBeingWritten.add(value)) {
+            put(NULL);
+        } else {
+            if (value.getClass().isArray()) {
+                put((byte) '[');
+                for (int i = 0; i < Array.getLength(value); i++) {
+                    if (i > 0) {
+                        put((byte) ',');
+                    }
+                    writeJson(Array.get(value, i));
+                }
+                put((byte) ']');
+            } else if (value instanceof Iterable) {
+                put((byte) '[');
+                boolean first = true;
+                for (Object element : (Iterable<?>) value) {
+                    if (!first) {
+                        put((byte) ',');
+                    }
+                    writeJson(element);
+                    first = false;
+                }
+                put((byte) ']');
+            } else if (value instanceof Map) {
+                put((byte) '{');
+                boolean first = true;
+                for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                    if (!first) {
+                        put((byte) ',');
+                    }
+                    writeJsonString(String.valueOf(entry.getKey()));
+                    put((byte) ':');
+                    writeJson(entry.getValue());
+                    first = false;
+                }
+                put((byte) '}');
+            } else {
+                put((byte) '{');
+                List<FieldAccessor> accessors = getFields(value.getClass());
+                for (int i = 0; i < accessors.size(); i++) {
+                    if (i > 0) {
+                        put((byte) ',');
+                    }
+                    FieldAccessor accessor = accessors.get(i);
+                    writeJsonString(accessor.getField().getName());
+                    put((byte) ':');
+                    writeJson(getFieldValue(accessor, value));
+                }
+                put((byte) '}');
+            }
+            objectsBeingWritten.remove(value);
+        }
+    }
+
+    private void writeJsonString(final String value) throws IOException {
+        putQuote();
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                put((byte) '\\');
+                putQuote();
+            } else if (c == '\\') {
+                put((byte) '\\');
+                put((byte) '\\');
+            } else if (c < 0x20) {
+                writeEscapedControlCharacter(c);
+            } else {
+                i = putChar(value, i);
+            }
+        }
+        putQuote();
+    }
+
+    private void writeEscapedControlCharacter(final char c) throws IOException {
+        ensureRemaining(6);
+        buffer.put((byte) '\\');
+        switch (c) {
+            case '\n':
+                buffer.put((byte) 'n');
+                break;
+            case '\r':
+                buffer.put((byte) 'r');
+                break;
+            case '\t':
+                buffer.put((byte) 't');
+                break;
+            case '\b':
+                buffer.put((byte) 'b');
+                break;
+            case '\f':
+                buffer.put((byte) 'f');
+                break;
+            default:
+                buffer.put((byte) 'u').put((byte) '0').put((byte) '0')
+                        .put(HEX_DIGITS[c >> 4]).put(HEX_DIGITS[c & 0xF]);
+        }
+    }
+
+    private void writeScalar(final Object value) throws IOException {
+        if (value instanceof Boolean) {
+            put((Boolean) value ? TRUE : FALSE);
+        } else if (value instanceof Double || value instanceof Float) {
+            double number = ((Number) value).doubleValue();
+            if (Double.isFinite(number)) {
+                putAscii(value.toString());
+            } else {
+                put(NULL);
+            }
+        } else if (value instanceof BigInteger || value instanceof BigDecimal) {
+            putAscii(value.toString());
+        } else {
+            putAscii(Long.toString(((Number) value).longValue()));
+        }
+    }
+
+    // values written as JSON numbers and booleans
+    private static boolean isScalar(final Object value) {
+        return value instanceof Boolean || value instanceof Integer || value instanceof Long
+                || value instanceof Short || value instanceof Byte || value instanceof Double
+                || value instanceof Float || value instanceof BigInteger || value instanceof BigDecimal;
+    }
+
+    // values written as JSON strings: java types which are not containers, and enumerations
+    private static boolean isText(final Object value) {
+        if (value instanceof CharSequence || value instanceof Character || value instanceof Enum) {
+            return true;
+        }
+        Class<?> type = value.getClass();
+        return (type.getName().startsWith("java.") || type.getName().startsWith("javax."))
+                && !type.isArray() && !(value instanceof Iterable) && !(value instanceof Map) && !(value instanceof Optional);
+    }
+
+    private static String toText(final Object value) {
+        return value instanceof Enum ? ((Enum<?>) value).name() : value.toString();
+    }
+
+    private List<FieldAccessor> getFields(final Class<?> type) {
+        List<FieldAccessor> accessors = fields.get(type);
+        if (accessors == null) {
+            List<Field> populatedFields = easyRandom.getPopulatedFields(type, new RandomizationContext(type, easyRandom.getParameters()));
+            accessors = new ArrayList<>(populatedFields.size());
+            for (Field field : populatedFields) {
+                accessors.add(FieldAccessor.of(field));
+            }
+            fields.put(type, accessors);
+        }
+        return accessors;
+    }
+
+    private static Object getFieldValue(final FieldAccessor accessor, final Object object) {
+        try {
+            return accessor.getFieldValue(object);
+        } catch (IllegalAccessException e) {
+            throw new ObjectCreationException("Unable to read field " + accessor.getField().getName() + " of " + object.getClass().getName(), e);
+        }
+    }
+
+    // returns the index of the last char written
+    private int putChar(final String value, final int index) throws IOException {
+        char c = value.charAt(index);
+        ensureRemaining(4);
+        if (c < 0x80) {
+            buffer.put((byte) c);
+        } else if (c < 0x800) {
+            buffer.put((byte) (0xC0 | (c >> 6)));
+            buffer.put((byte) (0x80 | (c & 0x3F)));
+        } else if (Character.isHighSurrogate(c) && index + 1 < value.length() && Character.isLowSurrogate(value.charAt(index + 1))) {
+            int codePoint = Character.toCodePoint(c, value.charAt(index + 1));
+            buffer.put((byte) (0xF0 | (codePoint >> 18)));
+            buffer.put((byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+            buffer.put((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+            buffer.put((byte) (0x80 | (codePoint & 0x3F)));
+            return index + 1;
+        } else if (Character.isSurrogate(c)) {
+            buffer.put((byte) '?');
+        } else {
+            buffer.put((byte) (0xE0 | (c >> 12)));
+            buffer.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+            buffer.put((byte) (0x80 | (c & 0x3F)));
+        }
+        return index;
+    }
+
+    private void putAscii(final String value) throws IOException {
+        for (int i = 0; i < value.length(); i++) {
+            put((byte) value.charAt(i));
+        }
+    }
+
+    private void putQuote() throws IOException {
+        ensureRemaining(2);
+        buffer.put(QUOTE);
+        if (quoting) {
+            buffer.put(QUOTE);
+        }
+    }
+
+    private void put(final byte value) throws IOException {
+        ensureRemaining(1);
+        buffer.put(value);
+    }
+
+    private void put(final byte[] value) throws IOException {
+        ensureRemaining(value.length);
+        buffer.put(value);
+    }
+
+    private void ensureRemaining(final int length) throws IOException {
+        if (buffer.remaining() < length) {
+            flush();
+        }
+    }
+
+    private void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            bytesWritten += channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
@@ -33,6 +33,7 @@ import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.Objects;
@@ -40,12 +41,17 @@ import java.util.Set;
 import java.util.function.Predicate;
 
 import org.jeasy.random.api.ExclusionPolicy;
+import org.jeasy.random.api.GenerationListener;
 import org.jeasy.random.api.ObjectFactory;
+import org.jeasy.random.api.RandomSourceFactory;
 import org.jeasy.random.api.Randomizer;
 import org.jeasy.random.api.RandomizerProvider;
 import org.jeasy.random.api.RandomizerRegistry;
 import org.jeasy.random.randomizers.registry.CustomRandomizerRegistry;
 import org.jeasy.random.randomizers.registry.ExclusionRandomizerRegistry;
+import org.jeasy.random.source.JdkRandomSource;
+import org.jeasy.random.util.CompactFieldValueStore;
+import org.jeasy.random.util.FieldValueStore;
 
 /**
  * Parameters of an {@link EasyRandom} instance.
@@ -105,17 +111,27 @@ public class EasyRandomParameters {
     private int randomizationDepth;
     private Charset charset;
     private boolean scanClasspathForConcreteTypes;
+    private Set<String> scanPackages;
+    private boolean scanSystemModules;
     private boolean overrideDefaultInitialization;
     private boolean ignoreRandomizationErrors;
     private boolean bypassSetters;
     private boolean reuseFieldValues;
+    private int reuseFieldValuesWindow;
+    private FieldValueStore fieldValueStore;
+    private boolean threadSafe;
+    private boolean indexedSeeding;
+    private boolean threadConfined;
+    private boolean constructorBinding;
     private Range<Integer> collectionSizeRange;
     private Range<Integer> stringLengthRange;
     private Range<LocalDate> dateRange;
     private Range<LocalTime> timeRange;
     private ExclusionPolicy exclusionPolicy;
     private ObjectFactory objectFactory;
+    private RandomSourceFactory randomSourceFactory;
     private RandomizerProvider randomizerProvider;
+    private GenerationListener generationListener;
 
     // internal params
     private CustomRandomizerRegistry customRandomizerRegistry;
@@ -131,10 +147,17 @@ public class EasyRandomParameters {
         seed = DEFAULT_SEED;
         charset = DEFAULT_CHARSET;
         scanClasspathForConcreteTypes = false;
+        scanPackages = new LinkedHashSet<>();
+        scanSystemModules = false;
         overrideDefaultInitialization = false;
         ignoreRandomizationErrors = false;
         bypassSetters = false;
         reuseFieldValues = false;
+        reuseFieldValuesWindow = CompactFieldValueStore.UNBOUNDED;
+        threadSafe = false;
+        indexedSeeding = false;
+        threadConfined = false;
+        constructorBinding = false;
         objectPoolSize = DEFAULT_OBJECT_POOL_SIZE;
         randomizationDepth = DEFAULT_RANDOMIZATION_DEPTH;
         dateRange = new Range<>(DEFAULT_DATES_RANGE.getMin().toLocalDate(), DEFAULT_DATES_RANGE.getMax().toLocalDate());
@@ -148,6 +171,7 @@ public class EasyRandomParameters {
         typeExclusionPredicates = new HashSet<>();
         exclusionPolicy = new DefaultExclusionPolicy();
         objectFactory = new ObjenesisObjectFactory();
+        randomSourceFactory = JdkRandomSource::new;
     }
 
     public Range<Integer> getCollectionSizeRange() {
@@ -220,6 +244,21 @@ public class EasyRandomParameters {
         this.scanClasspathForConcreteTypes = scanClasspathForConcreteTypes;
     }
 
+    public Set<String> getScanPackages() {
+        return scanPackages;
+    }
+    public void setScanPackages(Set<String> scanPackages) {
+        Objects.requireNonNull(scanPackages, "Scan packages must not be null");
+        this.scanPackages = scanPackages;
+    }
+
+    public boolean isScanSystemModules() {
+        return scanSystemModules;
+    }
+    public void setScanSystemModules(boolean scanSystemModules) {
+        this.scanSystemModules = scanSystemModules;
+    }
+
     public boolean isOverrideDefaultInitialization() {
         return overrideDefaultInitialization;
     }
@@ -250,6 +289,64 @@ public class EasyRandomParameters {
         this.reuseFieldValues = reuseFieldValues;
     }
 
+    public FieldValueStore getFieldValueStore() {
+        return fieldValueStore;
+    }
+
+    public void setFieldValueStore(FieldValueStore fieldValueStore) {
+        this.fieldValueStore = fieldValueStore;
+    }
+
+    public int getReuseFieldValuesWindow() {
+        return reuseFieldValuesWindow;
+    }
+
+    public void setReuseFieldValuesWindow(int reuseFieldValuesWindow) {
+        if (reuseFieldValuesWindow < 0) {
+            throw new IllegalArgumentException("reuseFieldValuesWindow must be >= 0");
+        }
+        this.reuseFieldValuesWindow = reuseFieldValuesWindow;
+    }
+
+    public boolean isThreadSafe() {
+        return threadSafe;
+    }
+
+    public void setThreadSafe(boolean threadSafe) {
+        this.threadSafe = threadSafe;
+    }
+
+    public boolean isIndexedSeeding() {
+        return indexedSeeding;
+    }
+
+    public void setIndexedSeeding(boolean indexedSeeding) {
+        this.indexedSeeding = indexedSeeding;
+    }
+
+    public boolean isThreadConfined() {
+        return threadConfined;
+    }
+
+    public void setThreadConfined(boolean threadConfined) {
+        this.threadConfined = threadConfined;
+    }
+
+    public boolean isConstructorBinding() {
+        return constructorBinding;
+    }
+
+    public void setConstructorBinding(boolean constructorBinding) {
+        this.constructorBinding = constructorBinding;
+    }
+
+    public GenerationListener getGenerationListener() {
+        return generationListener;
+    }
+    public void setGenerationListener(GenerationListener generationListener) {
+        this.generationListener = generationListener;
+    }
+
     public ExclusionPolicy getExclusionPolicy() {
         return exclusionPolicy;
     }
@@ -266,6 +363,14 @@ public class EasyRandomParameters {
         this.objectFactory = objectFactory;
     }
 
+    public RandomSourceFactory getRandomSourceFactory() {
+        return randomSourceFactory;
+    }
+    public void setRandomSourceFactory(RandomSourceFactory randomSourceFactory) {
+        Objects.requireNonNull(randomSourceFactory, "Random source factory must not be null");
+        this.randomSourceFactory = randomSourceFactory;
+    }
+
     public RandomizerProvider getRandomizerProvider() {
         return randomizerProvider;
     }
@@ -529,6 +634,36 @@ public class EasyRandomParameters {
         return this;
     }
 
+    /**
+     * Restrict the classpath scanning for concrete types to the given packages (and their sub packages).
+     * Scanning only the packages of the types to randomize is much faster and uses less memory
+     * than scanning the whole classpath. When subtype indexes are found on the classpath, the given packages
+     * are scanned in the classpath entries without index.
+     *
+     * The whole classpath is scanned by default.
+     *
+     * @param packages the packages to scan for concrete types
+     * @return the current {@link EasyRandomParameters} instance for method chaining
+     */
+    public EasyRandomParameters scanPackages(final String... packages) {
+        Objects.requireNonNull(packages, "Packages must not be null");
+        scanPackages.addAll(Arrays.asList(packages));
+        return this;
+    }
+
+    /**
+     * Should the JDK modules and system jars be scanned for concrete types as well?
+     *
+     * Deactivated by default.
+     *
+     * @param scanSystemModules whether to scan system modules or not
+     * @return the current {@link EasyRandomParameters} instance for method chaining
+     */
+    public EasyRandomParameters scanSystemModules(boolean scanSystemModules) {
+        setScanSystemModules(scanSystemModules);
+        return this;
+    }
+
     /**
      * With this parameter, any randomization error will be silently ignored and the corresponding field will be set to null.
      *
@@ -580,6 +715,133 @@ public class EasyRandomParameters {
         return this;
     }
 
+    /**
+     * Number of consecutive indexes for which field values are kept when {@link #isReuseFieldValues()}
+     * is activated. When a value is stored for index {@code i}, values of indexes lower than or equal to
+     * {@code i - window} are discarded. Zero (the default) keeps values for all indexes.
+     *
+     * @param reuseFieldValuesWindow the number of indexes to keep field values for, or 0 for no limit
+     * @return the current {@link EasyRandomParameters} instance for method chaining
+     */
+    public EasyRandomParameters reuseFieldValuesWindow(int reuseFieldValuesWindow) {
+        setReuseFieldValuesWindow(reuseFieldValuesWindow);
+        return this;
+    }
+
+    /**
+     * Store of field values to use when {@link #isReuseFieldValues()} is activated, for example a
+     * {@link org.jeasy.random.util.MappedFieldValueStore} to share values between processes.
+     * If not set, an in memory {@link CompactFieldValueStore} bounded by {@link #getReuseFieldValuesWindow()}
+     * is used. The store must be thread safe if {@link #isThreadSafe()} is activated.
+     *
+     * @param fieldValueStore the store of field values
+     * @return the current {@link EasyRandomParameters} instance for method chaining
+     */
+    public EasyRandomParameters fieldValueStore(FieldValueStore fieldValueStore) {
+        setFieldValueStore(fieldValueStore);
+        return this;
+    }
+
+    /**
+     * Register a listener to observe the generation of objects, for example to collect metrics.
+     * No listener is registered by default.
+     *
+     * @param generationListener the listener to notify, or null to remove the current one
+     * @return the current {@link EasyRandomParameters} instance for method chaining
+     */
+    public EasyRandomParameters generationListener(GenerationListener generationListener) {
+        setGenerationListener(generationListener);
+        return this;
+    }
+
+    /**
+     * Set the factory of the sources of random bits used by {@link EasyRandom} and by built-in randomizers.
+     * Defaults to {@link JdkRandomSource}, which generates the same values as {@link java.util.Random}.
+     * {@link org.jeasy.random.source.SplitMix64RandomSource} and
+     * {@link org.jeasy.random.source.Xoshiro256StarStarRandomSource} are faster and have a better
+     * statistical quality, but generate different objects for a given seed.
+     *
+     * Sources are synchronized when the {@link #threadSafe(boolean) thread safe} mode is activated.
+     *
+     * @param randomSourceFactory the factory of random sources, for example {@code SplitMix64RandomSource::new}
+     * @return the current {@link EasyRandomParameters} instance for method chaining
+     */
+    public EasyRandomParameters randomSourceFactory(RandomSourceFactory randomSourceFactory) {
+        setRandomSourceFactory(randomSourceFactory);
+        return this;
+    }
+
+    /**
+     * Flag to allow an {@link EasyRandom} instance to be shared across threads, for example
+     * to consume {@link EasyRandom#objects(Class, int)} as a parallel stream. False by default.
+     *
+     * In this mode, {@link org.jeasy.random.api.ContextAwareRandomizer}s are forked for each thread, or used
+     * by one thread at a time (unlike {@link org.jeasy.random.api.ContextualRandomizer}s) and field values are
+     * reused through a concurrent store. Custom randomizers, registries and object factories must
+     * themselves be thread safe. Objects generated concurrently from the same seed are not
+     * guaranteed to be identical between runs.
+     *
+     * @param threadSafe true if the {@link EasyRandom} instance will be shared across threads
+     * @return the current {@link EasyRandomParameters} instance for method chaining
+     */
+    public EasyRandomParameters threadSafe(boolean threadSafe) {
+        setThreadSafe(threadSafe);
+        return this;
+    }
+
+    /**
+     * Flag to derive the randomness of each generated object from the seed, its type and its index only.
+     * False by default.
+     *
+     * When activated, the object returned by {@link EasyRandom#nextOrGetObject(int, Class)} for a given
+     * index does not depend on the objects generated before it, so any range of indexes can be generated
+     * on any thread or JVM and still be reproducible. This applies to randomizers extending
+     * {@link org.jeasy.random.randomizers.AbstractRandomizer}; other custom randomizers keep their own
+     * random state.
+     *
+     * @param indexedSeeding true if objects should be seeded from their index
+     * @return the current {@link EasyRandomParameters} instance for method chaining
+     */
+    public EasyRandomParameters indexedSeeding(boolean indexedSeeding) {
+        setIndexedSeeding(indexedSeeding);
+        return this;
+    }
+
+    /**
+     * Flag to give each thread its own {@link org.jeasy.random.api.Randomizer#fork(long) forks} of the randomizers,
+     * in {@link #threadSafe(boolean) thread safe} mode. False by default.
+     *
+     * Threads then do not contend on shared random states, and the values generated by each thread only depend
+     * on the seed and on the name of the thread, so threads should be named (with a {@link java.util.concurrent.ThreadFactory}
+     * for example) to generate reproducible objects. Randomizers which are their own fork (like most custom randomizers)
+     * are still shared between threads.
+     *
+     * @param threadConfined true if each thread should use its own forks of the randomizers
+     * @return the current {@link EasyRandomParameters} instance for method chaining
+     */
+    public EasyRandomParameters threadConfined(boolean threadConfined) {
+        setThreadConfined(threadConfined);
+        return this;
+    }
+
+    /**
+     * Flag to create instances of classes with their widest public constructor, invoked with random values.
+     * False by default.
+     *
+     * Each parameter of the constructor is bound to a field of the class, and its value is generated like the value
+     * of the field. Parameters are bound to the fields with the same name when classes are compiled with
+     * {@code -parameters}, otherwise to the only field of the same type. Classes without a single widest public
+     * constructor, with a parameter that can not be bound to a field, or whose constructor rejects a missing value,
+     * are created by the {@link #objectFactory(ObjectFactory) object factory} and populated field by field.
+     *
+     * @param constructorBinding true if classes should be created with their widest public constructor
+     * @return the current {@link EasyRandomParameters} instance for method chaining
+     */
+    public EasyRandomParameters constructorBinding(boolean constructorBinding) {
+        setConstructorBinding(constructorBinding);
+        return this;
+    }
+
     /**
      * Utility class to hold a range of values.
      *
@@ -623,17 +885,27 @@ public class EasyRandomParameters {
         copy.setRandomizationDepth(this.getRandomizationDepth());
         copy.setCharset(this.getCharset());
         copy.setScanClasspathForConcreteTypes(this.isScanClasspathForConcreteTypes());
+        copy.setScanPackages(this.getScanPackages());
+        copy.setScanSystemModules(this.isScanSystemModules());
         copy.setOverrideDefaultInitialization(this.isOverrideDefaultInitialization());
         copy.setIgnoreRandomizationErrors(this.isIgnoreRandomizationErrors());
         copy.setBypassSetters(this.isBypassSetters());
         copy.setReuseFieldValues(this.isReuseFieldValues());
+        copy.setReuseFieldValuesWindow(this.getReuseFieldValuesWindow());
+        copy.setFieldValueStore(this.getFieldValueStore());
+        copy.setThreadSafe(this.isThreadSafe());
+        copy.setIndexedSeeding(this.isIndexedSeeding());
+        copy.setThreadConfined(this.isThreadConfined());
+        copy.setConstructorBinding(this.isConstructorBinding());
         copy.setCollectionSizeRange(this.getCollectionSizeRange());
         copy.setStringLengthRange(this.getStringLengthRange());
         copy.setDateRange(this.getDateRange());
         copy.setTimeRange(this.getTimeRange());
         copy.setExclusionPolicy(this.getExclusionPolicy());
         copy.setObjectFactory(this.getObjectFactory());
+        copy.setRandomSourceFactory(this.getRandomSourceFactory());
         copy.setRandomizerProvider(this.getRandomizerProvider());
+        copy.setGenerationListener(this.getGenerationListener());
         copy.customRandomizerRegistry = this.getCustomRandomizerRegistry();
         copy.exclusionRandomizerRegistry = this.getExclusionRandomizerRegistry();
         copy.userRegistries = this.getUserRegistries();
@@ -25,15 +25,7 @@ package org.jeasy.random;
 
 import static org.jeasy.random.util.ReflectionUtils.filterSameParameterizedTypes;
 import static org.jeasy.random.util.ReflectionUtils.getPublicConcreteSubTypesOf;
-import static org.jeasy.random.util.ReflectionUtils.isAbstract;
-import static org.jeasy.random.util.ReflectionUtils.isArrayType;
-import static org.jeasy.random.util.ReflectionUtils.isCollectionType;
-import static org.jeasy.random.util.ReflectionUtils.isEnumType;
-import static org.jeasy.random.util.ReflectionUtils.isMapType;
-import static org.jeasy.random.util.ReflectionUtils.isOptionalType;
 import static org.jeasy.random.util.ReflectionUtils.isTypeVariable;
-import static org.jeasy.random.util.ReflectionUtils.setFieldValue;
-import static org.jeasy.random.util.ReflectionUtils.setProperty;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
@@ -41,11 +33,16 @@ import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
-import org.jeasy.random.api.ContextAwareRandomizer;
+import org.jeasy.random.PopulationPlan.FieldPlan;
+import org.jeasy.random.api.GenerationListener;
 import org.jeasy.random.api.Randomizer;
 import org.jeasy.random.api.RandomizerProvider;
+import org.jeasy.random.randomizers.GeneratedRandomizer;
 import org.jeasy.random.randomizers.misc.SkipRandomizer;
+import org.jeasy.random.util.FieldAccessor;
 
 /**
  * Component that encapsulates the logic of generating a random value for a given field.
@@ -73,6 +70,9 @@ class FieldPopulator {
 
     private final RandomizerProvider randomizerProvider;
 
+    // actual types of generic fields (or why they can not be loaded), by target type
+    private final Map<Class<?>, Map<Field, ParametrizedType>> parametrizedTypes = new ConcurrentHashMap<>();
+
     FieldPopulator(final EasyRandom easyRandom, final RandomizerProvider randomizerProvider,
                    final ArrayPopulator arrayPopulator, final CollectionPopulator collectionPopulator,
                    final MapPopulator mapPopulator, OptionalPopulator optionalPopulator) {
@@ -85,21 +85,28 @@ class FieldPopulator {
     }
 
     void populateField(final Object target, final Field field, final RandomizationContext context) throws IllegalAccessException {
-        Randomizer<?> randomizer = getRandomizer(field, context);
+        populateField(target, new FieldPlan(field), context);
+    }
+
+    void populateField(final Object target, final FieldPlan fieldPlan, final RandomizationContext context) throws IllegalAccessException {
+        Field field = fieldPlan.getField();
+        Randomizer<?> randomizer = fieldPlan.isRandomizerResolved() ? fieldPlan.getRandomizer() : getRandomizer(field, context);
         if (randomizer instanceof SkipRandomizer) {
             return;
         }
-        context.pushStackItem(new RandomizationContextStackItem(target, field));
-        if (randomizer instanceof ContextAwareRandomizer) {
-            ((ContextAwareRandomizer<?>) randomizer).setRandomizerContext(context);
+        GenerationListener generationListener = context.getGenerationListener();
+        long start = generationListener != null ? System.nanoTime() : 0L;
+        context.pushStackItem(target, field);
+        if (generationListener != null) {
+            generationListener.randomizerLookedUp(field.getType(), randomizer != null, context);
         }
         if(!context.hasExceededRandomizationDepth()) {
             Object value;
             if (randomizer != null) {
-                value = randomizer.getRandomValue();
+                value = EasyRandom.getRandomValue(randomizer, context);
             } else {
                 try {
-                    value = generateRandomValue(field, context);
+                    value = generateRandomValue(fieldPlan, context);
                 } catch (ObjectCreationException e) {
                     String exceptionMessage = String.format("Unable to create type: %s for field: %s of class: %s",
                           field.getType().getName(), field.getName(), target.getClass().getName());
@@ -107,25 +114,65 @@ class FieldPopulator {
                     throw new ObjectCreationException(exceptionMessage, e);
                 }
             }
-            populateField(target, field, value, context);
+            populateField(target, fieldPlan, value, context);
+            if (generationListener != null) {
+                generationListener.fieldPopulated(field, System.nanoTime() - start, context);
+            }
         }
         context.popStackItem();
     }
 
     void populateField(final Object target, final Field field, final Object value, final RandomizationContext context) throws IllegalAccessException {
+        populateField(target, new FieldPlan(field), value, context);
+    }
+
+    void populateField(final Object target, final FieldPlan fieldPlan, final Object value, final RandomizationContext context) throws IllegalAccessException {
+        FieldAccessor accessor = fieldPlan.getAccessor();
         if (context.getParameters().isBypassSetters()) {
-            setFieldValue(target, field, value);
+            accessor.setFieldValue(target, value);
         } else {
             try {
-                setProperty(target, field, value);
+                accessor.setPropertyValue(target, value);
             } catch (InvocationTargetException e) {
                 String exceptionMessage = String.format("Unable to invoke setter for field %s of class %s",
-                    field.getName(), target.getClass().getName());
+                    fieldPlan.getField().getName(), target.getClass().getName());
                 throw new ObjectCreationException(exceptionMessage,  e.getCause());
             }
         }
     }
 
+    /**
+     * Create the population plan of the given field. The randomizer of the field is resolved upfront
+     * only when the randomizer provider does not depend on the randomization context,
+     * and when all of its registries are cacheable.
+     *
+     * @param field to plan
+     * @param accessor of the field
+     * @param context current randomization context
+     * @return the population plan of the field
+     */
+    FieldPlan createFieldPlan(final Field field, final FieldAccessor accessor, final RandomizationContext context) {
+        if (!(randomizerProvider instanceof RegistriesRandomizerProvider)
+                || !((RegistriesRandomizerProvider) randomizerProvider).isCacheable()) {
+            return new FieldPlan(field, accessor);
+        }
+        Randomizer<?> randomizer;
+        try {
+            randomizer = randomizerProvider.getRandomizerByField(field, context);
+        } catch (RuntimeException e) {
+            // errors are reported when (and if) the field is actually populated
+            return new FieldPlan(field, accessor);
+        }
+        if (randomizer == null && isTypeVariable(field.getGenericType())) {
+            // the actual type of a generic field depends on the target type of the context
+            return new FieldPlan(field, accessor);
+        }
+        if (randomizer == null) {
+            randomizer = withoutGeneratedRandomizer(randomizerProvider.getRandomizerByType(field.getType(), context));
+        }
+        return new FieldPlan(field, accessor, randomizer);
+    }
+
     private Randomizer<?> getRandomizer(Field field, RandomizationContext context) {
         // issue 241: if there is no custom randomizer by field, then check by type
         Randomizer<?> randomizer = randomizerProvider.getRandomizerByField(field, context);
@@ -139,46 +186,65 @@ class FieldPopulator {
                 randomizer = randomizerProvider.getRandomizerByType(field.getType(), context);
             }
         }
-        return randomizer;
+        return withoutGeneratedRandomizer(randomizer);
+    }
+
+    // objects of generated types are populated by easy random in the current context, like any other bean
+    private static Randomizer<?> withoutGeneratedRandomizer(final Randomizer<?> randomizer) {
+        return randomizer instanceof GeneratedRandomizer ? null : randomizer;
     }
 
-    private Object generateRandomValue(final Field field, final RandomizationContext context) {
+    private Object generateRandomValue(final FieldPlan fieldPlan, final RandomizationContext context) {
+        Field field = fieldPlan.getField();
         Class<?> fieldType = field.getType();
         Type fieldGenericType = field.getGenericType();
 
-        if (isArrayType(fieldType)) {
-            return arrayPopulator.getRandomArray(fieldType, context);
-        } else if (isCollectionType(fieldType)) {
-            return collectionPopulator.getRandomCollection(field, context);
-        } else if (isMapType(fieldType)) {
-            return mapPopulator.getRandomMap(field, context);
-        } else if (isOptionalType(fieldType)) {
-            return optionalPopulator.getRandomOptional(field, context);
-        } else {
-            if (context.getParameters().isScanClasspathForConcreteTypes() && isAbstract(fieldType) && !isEnumType(fieldType) /*enums can be abstract, but cannot inherit*/) {
-                List<Class<?>> parameterizedTypes = filterSameParameterizedTypes(getPublicConcreteSubTypesOf(fieldType), fieldGenericType);
-                if (parameterizedTypes.isEmpty()) {
-                    throw new ObjectCreationException("Unable to find a matching concrete subtype of type: " + fieldType);
+        switch (fieldPlan.getPopulatorKind()) {
+            case ARRAY:
+                return arrayPopulator.getRandomArray(fieldType, context);
+            case COLLECTION:
+                return collectionPopulator.getRandomCollection(field, context);
+            case MAP:
+                return mapPopulator.getRandomMap(field, context);
+            case OPTIONAL:
+                return optionalPopulator.getRandomOptional(field, context);
+            default:
+                if (context.getParameters().isScanClasspathForConcreteTypes() && fieldPlan.isAbstractType()) {
+                    List<Class<?>> parameterizedTypes = filterSameParameterizedTypes(getPublicConcreteSubTypesOf(fieldType, context.getParameters()), fieldGenericType);
+                    if (parameterizedTypes.isEmpty()) {
+                        throw new ObjectCreationException("Unable to find a matching concrete subtype of type: " + fieldType);
+                    } else {
+                        Class<?> randomConcreteSubType = parameterizedTypes.get(easyRandom.nextInt(parameterizedTypes.size()));
+                        return easyRandom.doPopulateBean(randomConcreteSubType, context);
+                    }
                 } else {
-                    Class<?> randomConcreteSubType = parameterizedTypes.get(easyRandom.nextInt(parameterizedTypes.size()));
-                    return easyRandom.doPopulateBean(randomConcreteSubType, context);
+                    if (fieldPlan.isTypeVariable()) {
+                        // if generic type, try to retrieve actual type from hierarchy
+                        Class<?> type = getParametrizedType(field, context);
+                        return easyRandom.doPopulateBean(type, context);
+                    }
+                    return easyRandom.doPopulateBean(fieldType, context);
                 }
-            } else {
-                Type genericType = field.getGenericType();
-                if (isTypeVariable(genericType)) {
-                    // if generic type, try to retrieve actual type from hierarchy
-                    Class<?> type = getParametrizedType(field, context);
-                    return easyRandom.doPopulateBean(type, context);
-                }
-                return easyRandom.doPopulateBean(fieldType, context);
-            }
         }
     }
 
     private Class<?> getParametrizedType(Field field, RandomizationContext context) {
+        Class<?> targetType = context.getTargetType();
+        Map<Field, ParametrizedType> fieldTypes = parametrizedTypes.get(targetType);
+        if (fieldTypes == null) {
+            fieldTypes = parametrizedTypes.computeIfAbsent(targetType, type -> new ConcurrentHashMap<>());
+        }
+        ParametrizedType parametrizedType = fieldTypes.get(field);
+        if (parametrizedType == null) {
+            parametrizedType = fieldTypes.computeIfAbsent(field, genericField -> resolveParametrizedType(genericField, targetType));
+        }
+        return parametrizedType.get();
+    }
+
+    private static ParametrizedType resolveParametrizedType(Field field, Class<?> targetType) {
         Class<?> declaringClass = field.getDeclaringClass();
         TypeVariable<? extends Class<?>>[] typeParameters = declaringClass.getTypeParameters();
-        Type genericSuperclass = getGenericSuperClass(context);
+        Type genericSuperclass = getGenericSuperClass(targetType);
         ParameterizedType parameterizedGenericSuperType = (ParameterizedType) genericSuperclass;
         Type[] actualTypeArguments = parameterizedGenericSuperType.getActualTypeArguments();
         Type actualTypeArgument = null;
@@ -188,25 +254,23 @@ class FieldPopulator {
             }
         }
         if (actualTypeArgument == null) {
-            return field.getClass();
+            return new ParametrizedType(field.getClass());
         }
-        Class<?> aClass;
-        String typeName = null;
-        try {
-            typeName = actualTypeArgument.getTypeName();
-            aClass = Class.forName(typeName);
-        } catch (ClassNotFoundException e) {
-            String message = String.format("Unable to load class %s of generic field %s in class %s. " +
-                            "Please refer to the documentation as this generic type may not be supported for randomization.",
-                    typeName, field.getName(), field.getDeclaringClass().getName());
-            throw new ObjectCreationException(message, e);
-        }
-        return aClass;
+        if (actualTypeArgument instanceof Class) {
+            return new ParametrizedType((Class<?>) actualTypeArgument);
+        }
+        if (actualTypeArgument instanceof ParameterizedType) {
+            return new ParametrizedType((Class<?>) ((ParameterizedType) actualTypeArgument).getRawType());
+        }
+        // type variables, wildcards and generic arrays do not designate a class to populate
+        String message = String.format("Unable to resolve class %s of generic field %s in class %s. " +
+                        "Please refer to the documentation as this generic type may not be supported for randomization.",
+                actualTypeArgument.getTypeName(), field.getName(), field.getDeclaringClass().getName());
+        return new ParametrizedType(message);
     }
 
     // find the generic base class in the hierarchy (which might not be the first super type)
-    private Type getGenericSuperClass(RandomizationContext context) {
-        Class<?> targetType = context.getTargetType();
+    private static Type getGenericSuperClass(Class<?> targetType) {
         Type genericSuperclass = targetType.getGenericSuperclass();
         while (targetType != null && !(genericSuperclass instanceof ParameterizedType)) {
             targetType = targetType.getSuperclass();
@@ -216,4 +280,30 @@ class FieldPopulator {
         }
         return genericSuperclass;
     }
+
+    /*
+     * Actual type of a generic field, or the reason why it can not be resolved: failures are resolved once as well.
+     */
+    private static final class ParametrizedType {
+
+        private final Class<?> type;
+        private final String failureMessage;
+
+        private ParametrizedType(final Class<?> type) {
+            this.type = type;
+            this.failureMessage = null;
+        }
+
+        private ParametrizedType(final String failureMessage) {
+            this.type = null;
+            this.failureMessage = failureMessage;
+        }
+
+        private Class<?> get() {
+            if (type == null) {
+                throw new ObjectCreationException(failureMessage);
+            }
+            return type;
+        }
+    }
 }
@@ -1,11 +1,11 @@
 package org.jeasy.random;
 
 import java.lang.reflect.Field;
-import java.util.Optional;
 
+import org.jeasy.random.PopulationPlan.FieldPlan;
 import org.jeasy.random.api.RandomizerProvider;
+import org.jeasy.random.util.CompactFieldValueStore;
 import org.jeasy.random.util.FieldValueStore;
-import org.jeasy.random.util.ReflectionUtils;
 
 public class FieldPopulatorWithFieldValueStore extends FieldPopulator {
 
@@ -17,7 +17,7 @@ public class FieldPopulatorWithFieldValueStore extends FieldPopulator {
                                     final CollectionPopulator collectionPopulator,
                                     final MapPopulator mapPopulator,
                                     final OptionalPopulator optionalPopulator) {
-    this(easyRandom, randomizerProvider, arrayPopulator, collectionPopulator, mapPopulator, optionalPopulator, new FieldValueStore());
+    this(easyRandom, randomizerProvider, arrayPopulator, collectionPopulator, mapPopulator, optionalPopulator, new CompactFieldValueStore());
   }
 
   FieldPopulatorWithFieldValueStore(final EasyRandom easyRandom,
@@ -32,13 +32,14 @@ public class FieldPopulatorWithFieldValueStore extends FieldPopulator {
   }
 
   @Override
-  void populateField(final Object target, final Field field, final RandomizationContext context) throws IllegalAccessException {
-    Optional<Object> maybeStoredFieldValue = fieldValueStore.get(context.getIndex(), field);
-    if (maybeStoredFieldValue.isPresent()) {
-      super.populateField(target, field, maybeStoredFieldValue.get(), context);
+  void populateField(final Object target, final FieldPlan fieldPlan, final RandomizationContext context) throws IllegalAccessException {
+    Field field = fieldPlan.getField();
+    Object storedFieldValue = fieldValueStore.getValue(context.getIndex(), field);
+    if (storedFieldValue != null) {
+      super.populateField(target, fieldPlan, storedFieldValue, context);
       return;
     }
-    super.populateField(target, field, context);
-    fieldValueStore.put(context.getIndex(), field, ReflectionUtils.getFieldValue(target, field));
+    super.populateField(target, fieldPlan, context);
+    fieldValueStore.put(context.getIndex(), field, fieldPlan.getAccessor().getFieldValue(target));
   }
 }
@@ -0,0 +1,67 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random;
+
+import java.lang.reflect.Field;
+import java.util.List;
+
+/**
+ * Describes how to create instances of a type from the values of some of its fields, once all of them are known.
+ * The values are generated like those of any other field, but they are collected in an array instead of being
+ * set on an existing instance.
+ *
+ * @see BuilderPlan
+ * @see ConstructorPlan
+ */
+interface InstantiationPlan {
+
+    /**
+     * @return the type created by this plan
+     */
+    Class<?> getType();
+
+    /**
+     * @return the fields whose values are needed to create an instance
+     */
+    List<Field> getAttributes();
+
+    /**
+     * Create an instance of the type.
+     *
+     * @param values of the attributes, in the order of {@link #getAttributes()}
+     * @return the created instance
+     * @throws Throwable if the instance can not be created
+     */
+    Object build(Object[] values) throws Throwable;
+
+    /**
+     * Whether the given failure of {@link #build(Object[])} is caused by attributes without value
+     * (a mandatory attribute which is excluded for example), rather than by the values themselves.
+     *
+     * @param values of the attributes, in the order of {@link #getAttributes()}
+     * @param error thrown by {@link #build(Object[])}
+     * @return true if the instance can not be created because some values are missing
+     */
+    boolean isMissingValue(Object[] values, Throwable error);
+}
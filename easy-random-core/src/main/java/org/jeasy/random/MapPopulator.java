@@ -58,7 +58,8 @@ class MapPopulator {
         Type fieldGenericType = field.getGenericType();
         Map<Object, Object> map;
 
-        if (isInterface(fieldType)) {
+        // abstract types (like immutable collections collected for a builder) get the default implementation of their interface
+        if (isAbstract(fieldType)) {
             map = (Map<Object, Object>) getEmptyImplementationForMapInterface(fieldType);
         } else {
             try {
@@ -97,7 +98,8 @@ class MapPopulator {
 
     private int getRandomMapSize(EasyRandomParameters parameters) {
         EasyRandomParameters.Range<Integer> collectionSizeRange = parameters.getCollectionSizeRange();
-        return new IntegerRangeRandomizer(collectionSizeRange.getMin(), collectionSizeRange.getMax(), parameters.getSeed()).getRandomValue();
+        return new IntegerRangeRandomizer(collectionSizeRange.getMin(), collectionSizeRange.getMax(), parameters.getSeed(),
+                parameters.getRandomSourceFactory()).getRandomValue();
     }
 
 }
@@ -23,12 +23,21 @@
  */
 package org.jeasy.random;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import org.jeasy.random.api.ObjectFactory;
 import org.jeasy.random.api.RandomizerContext;
+import org.jeasy.random.util.ScopedRandom;
+import org.jeasy.random.util.SourceRandom;
 import org.objenesis.Objenesis;
 import org.objenesis.ObjenesisStd;
+import org.objenesis.instantiator.ObjectInstantiator;
 
 import java.lang.reflect.Constructor;
 
@@ -38,22 +47,30 @@ import static org.jeasy.random.util.ReflectionUtils.isAbstract;
 /**
  * Objenesis based factory to create "fancy" objects: immutable java beans, generic types, abstract and interface types.
  *
+ * The way each class is instantiated is decided once: with its no-arg constructor if it has an accessible one,
+ * with Objenesis otherwise. Once the no-arg constructor of a class throws an exception, its objects are created
+ * with Objenesis instead. The concrete subtypes of abstract types are looked up once as well.
+ *
  * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
  */
 @SuppressWarnings({"unchecked"})
 public class ObjenesisObjectFactory implements ObjectFactory {
 
+    private static final MethodType NO_ARG_CONSTRUCTOR_TYPE = MethodType.methodType(Object.class);
+
     private final Objenesis objenesis = new ObjenesisStd();
 
-    private Random random;
+    private final Map<Class<?>, ObjectInstantiator<?>> instantiators = new ConcurrentHashMap<>();
+
+    private final Map<Class<?>, ConcreteSubTypes> concreteSubTypes = new ConcurrentHashMap<>();
+
+    private volatile Random random;
 
     @Override
     public <T> T createInstance(Class<T> type, RandomizerContext context) {
-        if (random == null) {
-            random = new Random(context.getParameters().getSeed());
-        }
         if (context.getParameters().isScanClasspathForConcreteTypes() && isAbstract(type)) {
-            List<Class<?>> publicConcreteSubTypes = getPublicConcreteSubTypesOf(type);
+            Random random = getRandom(context);
+            List<Class<?>> publicConcreteSubTypes = getPublicConcreteSubTypes(type, context.getParameters());
             if (publicConcreteSubTypes.isEmpty()) {
                 throw new InstantiationError("Unable to find a matching concrete subtype of type: " + type + " in the classpath");
             } else {
@@ -69,13 +86,97 @@ public class ObjenesisObjectFactory implements ObjectFactory {
         }
     }
 
+    private Random getRandom(final RandomizerContext context) {
+        Random result = random;
+        if (result == null) {
+            synchronized (this) {
+                result = random;
+                if (result == null) {
+                    random = result = ScopedRandom.create(context.getParameters(), context.getParameters().getSeed(),
+                            SourceRandom.getRandomSourceFactory(context.getParameters()));
+                }
+            }
+        }
+        return result;
+    }
+
+    private List<Class<?>> getPublicConcreteSubTypes(final Class<?> type, final EasyRandomParameters parameters) {
+        ConcreteSubTypes subTypes = concreteSubTypes.get(type);
+        if (subTypes == null || !subTypes.isScannedWith(parameters)) {
+            subTypes = new ConcreteSubTypes(parameters, getPublicConcreteSubTypesOf(type, parameters));
+            concreteSubTypes.put(type, subTypes);
+        }
+        return subTypes.types;
+    }
+
     private <T> T createNewInstance(final Class<T> type) {
+        ObjectInstantiator<?> instantiator = instantiators.get(type);
+        if (instantiator == null) {
+            instantiator = instantiators.computeIfAbsent(type, this::createInstantiator);
+        }
+        return (T) instantiator.newInstance();
+    }
+
+    private ObjectInstantiator<?> createInstantiator(final Class<?> type) {
+        MethodHandle noArgConstructor = getNoArgConstructor(type);
+        if (noArgConstructor == null) {
+            return objenesis.getInstantiatorOf(type);
+        }
+        return new ConstructorInstantiator(type, noArgConstructor);
+    }
+
+    private static MethodHandle getNoArgConstructor(final Class<?> type) {
         try {
-            Constructor<T> noArgConstructor = type.getDeclaredConstructor();
+            Constructor<?> noArgConstructor = type.getDeclaredConstructor();
             noArgConstructor.trySetAccessible();
-            return noArgConstructor.newInstance();
-        } catch (Exception exception) {
-            return objenesis.newInstance(type);
+            return MethodHandles.lookup().unreflectConstructor(noArgConstructor).asType(NO_ARG_CONSTRUCTOR_TYPE);
+        } catch (NoSuchMethodException | IllegalAccessException | SecurityException | LinkageError e) {
+            return null;
+        }
+    }
+
+    /*
+     * Instantiates a class with its no-arg constructor until it throws an exception. The class is then instantiated
+     * with Objenesis, which replaces this instantiator, so that a failing constructor is not invoked for each instance.
+     */
+    private final class ConstructorInstantiator implements ObjectInstantiator<Object> {
+
+        private final Class<?> type;
+        private final MethodHandle noArgConstructor;
+
+        private ConstructorInstantiator(final Class<?> type, final MethodHandle noArgConstructor) {
+            this.type = type;
+            this.noArgConstructor = noArgConstructor;
+        }
+
+        @Override
+        public Object newInstance() {
+            try {
+                return (Object) noArgConstructor.invokeExact();
+            } catch (Error e) {
+                throw e;
+            } catch (Throwable throwable) {
+                ObjectInstantiator<?> instantiator = objenesis.getInstantiatorOf(type);
+                instantiators.put(type, instantiator);
+                return instantiator.newInstance();
+            }
+        }
+    }
+
+    private static final class ConcreteSubTypes {
+
+        private final Set<String> scanPackages;
+        private final boolean scanSystemModules;
+        private final List<Class<?>> types;
+
+        private ConcreteSubTypes(final EasyRandomParameters parameters, final List<Class<?>> types) {
+            this.scanPackages = parameters.getScanPackages();
+            this.scanSystemModules = parameters.isScanSystemModules();
+            this.types = types;
+        }
+
+        private boolean isScannedWith(final EasyRandomParameters parameters) {
+            return scanSystemModules == parameters.isScanSystemModules() && scanPackages.equals(parameters.getScanPackages());
         }
     }
 
@@ -0,0 +1,222 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random;
+
+import static org.jeasy.random.util.ReflectionUtils.isAbstract;
+import static org.jeasy.random.util.ReflectionUtils.isArrayType;
+import static org.jeasy.random.util.ReflectionUtils.isCollectionType;
+import static org.jeasy.random.util.ReflectionUtils.isEnumType;
+import static org.jeasy.random.util.ReflectionUtils.isMapType;
+import static org.jeasy.random.util.ReflectionUtils.isOptionalType;
+
+import java.lang.reflect.Field;
+import java.util.Collections;
+import java.util.List;
+
+import org.jeasy.random.api.ContextAwareRandomizer;
+import org.jeasy.random.api.ContextualRandomizer;
+import org.jeasy.random.api.Randomizer;
+import org.jeasy.random.util.FieldAccessor;
+import org.jeasy.random.util.ReflectionUtils;
+
+/**
+ * Immutable description of how to populate instances of a given type: the ordered
+ * list of fields to populate along with everything that can be resolved once per type
+ * (exclusion decision, randomizer, populator kind and field accessor).
+ *
+ * Plans are built once per {@link EasyRandom} instance and reused for every object of the same type.
+ */
+class PopulationPlan {
+
+    private final Class<?> type;
+
+    private final List<FieldPlan> fieldPlans;
+
+    private final boolean exclusionResolved;
+
+    private final boolean contextFree;
+
+    PopulationPlan(final Class<?> type, final List<FieldPlan> fieldPlans, final boolean exclusionResolved) {
+        this.type = type;
+        this.fieldPlans = Collections.unmodifiableList(fieldPlans);
+        this.exclusionResolved = exclusionResolved;
+        this.contextFree = fieldPlans.stream().allMatch(fieldPlan -> fieldPlan.isRandomizerResolved()
+                && !(fieldPlan.getRandomizer() instanceof ContextAwareRandomizer)
+                && !(fieldPlan.getRandomizer() instanceof ContextualRandomizer));
+    }
+
+    Class<?> getType() {
+        return type;
+    }
+
+    List<FieldPlan> getFieldPlans() {
+        return fieldPlans;
+    }
+
+    /**
+     * Whether excluded fields have already been filtered out of this plan, in which case
+     * the exclusion policy does not need to be checked again for each object.
+     *
+     * @return true if the exclusion decision has been resolved when building the plan
+     */
+    boolean isExclusionResolved() {
+        return exclusionResolved;
+    }
+
+    /**
+     * Whether the randomizers of all fields are known and do not depend on the randomization context,
+     * in which case values can be generated before the object they belong to exists.
+     *
+     * @return true if no randomizer of the fields looks at the randomization context
+     */
+    boolean isContextFree() {
+        return contextFree;
+    }
+
+    /**
+     * Kind of populator to use for a field when no randomizer is registered for it.
+     */
+    enum PopulatorKind {
+        ARRAY, COLLECTION, MAP, OPTIONAL, BEAN
+    }
+
+    /**
+     * Population plan of a single field.
+     */
+    static class FieldPlan {
+
+        private final Field field;
+
+        private final PopulatorKind populatorKind;
+
+        private final boolean abstractType;
+
+        private final boolean typeVariable;
+
+        private final FieldAccessor accessor;
+
+        private final Randomizer<?> randomizer;
+
+        private final boolean randomizerResolved;
+
+        /**
+         * Create a plan for the given field where the randomizer is not resolved,
+         * ie it will be looked up each time the field is populated.
+         *
+         * @param field to populate
+         */
+        FieldPlan(final Field field) {
+            this(field, FieldAccessor.of(field), null, false);
+        }
+
+        /**
+         * Create a plan for the given field where the randomizer is not resolved,
+         * and the field is accessed with the given accessor.
+         *
+         * @param field to populate
+         * @param accessor of the field
+         */
+        FieldPlan(final Field field, final FieldAccessor accessor) {
+            this(field, accessor, null, false);
+        }
+
+        /**
+         * Create a plan for the given field with an already resolved randomizer (which may be null
+         * if no randomizer is registered for the field).
+         *
+         * @param field to populate
+         * @param randomizer resolved for the field
+         */
+        FieldPlan(final Field field, final Randomizer<?> randomizer) {
+            this(field, FieldAccessor.of(field), randomizer, true);
+        }
+
+        /**
+         * Create a plan for the given field with an already resolved randomizer (which may be null
+         * if no randomizer is registered for the field), where the field is accessed with the given accessor.
+         *
+         * @param field to populate
+         * @param accessor of the field
+         * @param randomizer resolved for the field
+         */
+        FieldPlan(final Field field, final FieldAccessor accessor, final Randomizer<?> randomizer) {
+            this(field, accessor, randomizer, true);
+        }
+
+        private FieldPlan(final Field field, final FieldAccessor accessor, final Randomizer<?> randomizer, final boolean randomizerResolved) {
+            this.field = field;
+            this.randomizer = randomizer;
+            this.randomizerResolved = randomizerResolved;
+            Class<?> fieldType = field.getType();
+            this.populatorKind = populatorKindOf(fieldType);
+            this.abstractType = isAbstract(fieldType) && !isEnumType(fieldType); // enums can be abstract, but cannot inherit
+            this.typeVariable = ReflectionUtils.isTypeVariable(field.getGenericType());
+            this.accessor = accessor;
+        }
+
+        Field getField() {
+            return field;
+        }
+
+        PopulatorKind getPopulatorKind() {
+            return populatorKind;
+        }
+
+        boolean isAbstractType() {
+            return abstractType;
+        }
+
+        boolean isTypeVariable() {
+            return typeVariable;
+        }
+
+        FieldAccessor getAccessor() {
+            return accessor;
+        }
+
+        Randomizer<?> getRandomizer() {
+            return randomizer;
+        }
+
+        boolean isRandomizerResolved() {
+            return randomizerResolved;
+        }
+
+        private static PopulatorKind populatorKindOf(final Class<?> fieldType) {
+            if (isArrayType(fieldType)) {
+                return PopulatorKind.ARRAY;
+            }
+            if (isCollectionType(fieldType)) {
+                return PopulatorKind.COLLECTION;
+            }
+            if (isMapType(fieldType)) {
+                return PopulatorKind.MAP;
+            }
+            if (isOptionalType(fieldType)) {
+                return PopulatorKind.OPTIONAL;
+            }
+            return PopulatorKind.BEAN;
+        }
+    }
+}
@@ -34,6 +34,14 @@ import java.util.Comparator;
  */
 class PriorityComparator implements Comparator<Object> {
 
+    private static final ClassValue<Integer> PRIORITIES = new ClassValue<Integer>() {
+        @Override
+        protected Integer computeValue(final Class<?> type) {
+            Priority annotation = type.getAnnotation(Priority.class);
+            return annotation != null ? annotation.value() : 0;
+        }
+    };
+
     @Override
     public int compare(final Object o1, final Object o2) {
         int o1Priority = getPriority(o1);
@@ -42,12 +50,15 @@ class PriorityComparator implements Comparator<Object> {
         return o2Priority - o1Priority;
     }
 
-    private int getPriority(final Object object) {
+    /**
+     * Get the priority of the given object. Priorities are read once per type.
+     *
+     * @param object to get the priority of
+     * @return the priority of the object, or 0 if the object has no priority
+     */
+    static int getPriority(final Object object) {
         if (object != null) {
-            Priority annotation = object.getClass().getAnnotation(Priority.class);
-            if (annotation != null) {
-                return annotation.value();
-            }
+            return PRIORITIES.get(object.getClass());
         }
         return 0;
     }
@@ -23,40 +23,69 @@
  */
 package org.jeasy.random;
 
-import static java.util.stream.Collectors.toList;
-
 import java.lang.reflect.Field;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
-import java.util.Stack;
 
+import org.jeasy.random.api.GenerationListener;
 import org.jeasy.random.api.RandomizerContext;
+import org.jeasy.random.util.ScopedRandom;
 
 /**
  * Context object for a single call on {@link EasyRandom#nextObject(Class)}.
  * It contains a map acting as a cache of populated beans to avoid infinite recursion.
  *
+ * A context can be reused for successive calls with {@link #reset(int, Class)} and {@link #release()}:
+ * stack frames, object pools and the random generator are kept between calls, so that only
+ * the generated object graph is allocated.
+ *
  * @author Rémi Alvergnat (toilal.dev@gmail.com)
  */
 class RandomizationContext implements RandomizerContext {
 
+    private static final int INITIAL_STACK_CAPACITY = 16;
+
     private final EasyRandomParameters parameters;
 
     private final Map<Class<?>, List<Object>> populatedBeans;
 
-    private final Stack<RandomizationContextStackItem> stack;
+    private final List<List<Object>> usedObjectPools;
+
+    private final List<Class<?>> typesBeingBuilt;
+
+    private RandomizationContextStackItem[] stack;
+
+    // paths of the fields of the stack, interned in a tree of field paths
+    private FieldPath[] paths;
+
+    private final FieldPath rootPath = new FieldPath(null, null);
+
+    private int stackSize;
 
-    private final Class<?> type;
+    private Class<?> type;
 
-    private final Random random;
+    private Random random;
 
-    private final int index;
+    private int index;
 
     private Object rootObject;
 
+    // the root object is being built, objects generated for its values are not the root object
+    private boolean buildingRoot;
+
+    private boolean inUse;
+
+    private RandomizerForks randomizerForks;
+
+    RandomizationContext(final EasyRandomParameters parameters) {
+        this(0, null, parameters);
+    }
+
     RandomizationContext(final Class<?> type, final EasyRandomParameters parameters) {
         this(0, type, parameters);
     }
@@ -64,9 +93,11 @@ class RandomizationContext implements RandomizerContext {
     RandomizationContext(final int index, final Class<?> type, final EasyRandomParameters parameters) {
         this.type = type;
         populatedBeans = new IdentityHashMap<>();
-        stack = new Stack<>();
+        usedObjectPools = new ArrayList<>();
+        typesBeingBuilt = new ArrayList<>();
+        stack = new RandomizationContextStackItem[INITIAL_STACK_CAPACITY];
+        paths = new FieldPath[INITIAL_STACK_CAPACITY];
         this.parameters = parameters;
-        this.random = new Random(parameters.getSeed());
         this.index = index;
     }
 
@@ -74,57 +105,133 @@ class RandomizationContext implements RandomizerContext {
         return index;
     }
 
+    /**
+     * Prepare this context for the randomization of a new root object.
+     */
+    void reset(final int index, final Class<?> type) {
+        this.index = index;
+        this.type = type;
+        if (random != null) {
+            random.setSeed(parameters.getSeed());
+        }
+        inUse = true;
+    }
+
+    /**
+     * Release the references held on the last randomized object graph.
+     */
+    void release() {
+        for (List<Object> objectPool : usedObjectPools) {
+            objectPool.clear();
+        }
+        usedObjectPools.clear();
+        typesBeingBuilt.clear();
+        buildingRoot = false;
+        Arrays.fill(stack, 0, stackSize, null);
+        stackSize = 0;
+        rootObject = null;
+        inUse = false;
+    }
+
+    boolean isInUse() {
+        return inUse;
+    }
+
     void addPopulatedBean(final Class<?> type, Object object) {
         int objectPoolSize = parameters.getObjectPoolSize();
         List<Object> objects = populatedBeans.get(type);
         if (objects == null) {
             objects = new ArrayList<>(objectPoolSize);
+            populatedBeans.put(type, objects);
+        }
+        if (objects.isEmpty()) {
+            usedObjectPools.add(objects);
         }
         if (objects.size() < objectPoolSize) {
             objects.add(object);
         }
-        populatedBeans.put(type, objects);
     }
 
     Object getPopulatedBean(final Class<?> type) {
-        int actualPoolSize = populatedBeans.get(type).size();
-        int randomIndex = actualPoolSize > 1 ? random.nextInt(actualPoolSize) : 0;
-        return populatedBeans.get(type).get(randomIndex);
+        List<Object> objects = populatedBeans.get(type);
+        int actualPoolSize = objects.size();
+        int randomIndex = actualPoolSize > 1 ? getRandom().nextInt(actualPoolSize) : 0;
+        return objects.get(randomIndex);
+    }
+
+    /*
+     * Objects created by a builder only exist once all of their values have been generated,
+     * so they can not be pooled (and reused to stop recursion) while they are being populated.
+     */
+    void startBuilding(final Class<?> type) {
+        if (rootObject == null && typesBeingBuilt.isEmpty()) {
+            buildingRoot = true;
+        }
+        typesBeingBuilt.add(type);
+    }
+
+    void endBuilding() {
+        typesBeingBuilt.remove(typesBeingBuilt.size() - 1);
+        if (typesBeingBuilt.isEmpty()) {
+            buildingRoot = false;
+        }
+    }
+
+    boolean isBuilding(final Class<?> type) {
+        return typesBeingBuilt.contains(type);
     }
 
     boolean hasAlreadyRandomizedType(final Class<?> type) {
-        return populatedBeans.containsKey(type) && populatedBeans.get(type).size() == parameters.getObjectPoolSize();
+        List<Object> objects = populatedBeans.get(type);
+        return objects != null && objects.size() == parameters.getObjectPoolSize();
     }
 
     void pushStackItem(final RandomizationContextStackItem field) {
-        stack.push(field);
+        pushStackItem(field.getObject(), field.getField());
+    }
+
+    void pushStackItem(final Object object, final Field field) {
+        if (stackSize == stack.length) {
+            stack = Arrays.copyOf(stack, stackSize * 2);
+            paths = Arrays.copyOf(paths, stackSize * 2);
+        }
+        paths[stackSize] = getCurrentPath().child(field);
+        RandomizationContextStackItem item = stack[stackSize];
+        if (item == null) {
+            stack[stackSize] = new RandomizationContextStackItem(object, field);
+        } else {
+            item.setObject(object);
+            item.setField(field);
+        }
+        stackSize++;
     }
 
     void popStackItem() {
-        stack.pop();
+        stack[--stackSize].setObject(null);
     }
 
     String getFieldFullName(final Field field) {
-        List<String> pathToField = getStackedFieldNames();
-        pathToField.add(field.getName());
-        return String.join(".", toLowerCase(pathToField));
+        return getCurrentPath().child(field).getLowerCaseName();
     }
 
-    boolean hasExceededRandomizationDepth() {
-        int currentRandomizationDepth = stack.size();
-        return currentRandomizationDepth > parameters.getRandomizationDepth();
+    private FieldPath getCurrentPath() {
+        return stackSize == 0 ? rootPath : paths[stackSize - 1];
     }
 
-    private List<String> getStackedFieldNames() {
-        return stack.stream().map(i -> i.getField().getName()).collect(toList());
+    boolean hasExceededRandomizationDepth() {
+        return stackSize > parameters.getRandomizationDepth();
     }
 
-    private List<String> toLowerCase(final List<String> strings) {
-        return strings.stream().map(String::toLowerCase).collect(toList());
+    private Random getRandom() {
+        if (random == null) {
+            // the random of a context is only used by one thread at a time
+            random = ScopedRandom.create(parameters, parameters.getSeed(), parameters.getRandomSourceFactory());
+        }
+        return random;
     }
 
     void setRandomizedObject(Object randomizedObject) {
-        if (this.rootObject == null) {
+        if (this.rootObject == null && !buildingRoot) {
             this.rootObject = randomizedObject;
         }
     }
@@ -136,22 +243,22 @@ class RandomizationContext implements RandomizerContext {
 
     @Override
     public Object getCurrentObject() {
-        if (stack.empty()) {
+        if (stackSize == 0) {
             return rootObject;
         }
         else {
-            return stack.lastElement().getObject();
+            return stack[stackSize - 1].getObject();
         }
     }
 
     @Override
     public String getCurrentField() {
-        return String.join(".", getStackedFieldNames());
+        return getCurrentPath().getName();
     }
 
     @Override
     public int getCurrentRandomizationDepth() {
-        return stack.size();
+        return stackSize;
     }
 
     @Override
@@ -163,4 +270,65 @@ class RandomizationContext implements RandomizerContext {
     public EasyRandomParameters getParameters() {
         return parameters;
     }
+
+    GenerationListener getGenerationListener() {
+        return parameters.getGenerationListener();
+    }
+
+    /**
+     * Get the forks of the randomizers used by the thread of this context.
+     *
+     * @return the forks of the randomizers, or null if the generation is not thread confined
+     */
+    RandomizerForks getRandomizerForks() {
+        return randomizerForks;
+    }
+
+    void setRandomizerForks(final RandomizerForks randomizerForks) {
+        this.randomizerForks = randomizerForks;
+    }
+
+    /*
+     * Node of the tree of the field paths seen by a context. The dotted name of a path is built once,
+     * then reused for all the objects populated through the same fields.
+     */
+    private static final class FieldPath {
+
+        private final FieldPath parent;
+        private final Field field;
+        private Map<Field, FieldPath> children;
+        private String name;
+        private String lowerCaseName;
+
+        private FieldPath(final FieldPath parent, final Field field) {
+            this.parent = parent;
+            this.field = field;
+        }
+
+        private FieldPath child(final Field field) {
+            if (children == null) {
+                children = new HashMap<>();
+            }
+            FieldPath child = children.get(field);
+            if (child == null) {
+                child = new FieldPath(this, field);
+                children.put(field, child);
+            }
+            return child;
+        }
+
+        private String getName() {
+            if (name == null) {
+                name = parent == null ? "" : parent.parent == null ? field.getName() : parent.getName() + '.' + field.getName();
+            }
+            return name;
+        }
+
+        private String getLowerCaseName() {
+            if (lowerCaseName == null) {
+                lowerCaseName = getName().toLowerCase();
+            }
+            return lowerCaseName;
+        }
+    }
 }
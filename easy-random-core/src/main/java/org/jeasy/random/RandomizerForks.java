@@ -0,0 +1,78 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.SplittableRandom;
+
+import org.jeasy.random.api.Randomizer;
+import org.jeasy.random.util.ScopedRandom;
+
+/**
+ * The forks of the randomizers used by one thread in {@link EasyRandomParameters#threadConfined(boolean) thread confined}
+ * mode, and the random from which the thread draws the values of {@link EasyRandom} itself. In
+ * {@link EasyRandomParameters#threadSafe(boolean) thread safe} mode, only context aware randomizers are forked.
+ *
+ * The seed of each thread is derived from the seed of the parameters and the name of the thread, so threads with the
+ * same names generate the same objects whatever the order in which they start. Randomizers are forked on first use,
+ * with seeds drawn in sequence from the seed of the thread.
+ */
+class RandomizerForks {
+
+    // randomizers created for each value (by a custom provider for example) would otherwise be kept forever
+    private static final int MAX_FORKS = 1024;
+
+    // the least recently used forks are evicted first, so that the forks of the shared randomizers are kept
+    private final Map<Randomizer<?>, Randomizer<?>> forks = new LinkedHashMap<Randomizer<?>, Randomizer<?>>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<Randomizer<?>, Randomizer<?>> eldest) {
+            return size() > MAX_FORKS;
+        }
+    };
+
+    private final SplittableRandom seeds;
+
+    private final Random random;
+
+    RandomizerForks(final EasyRandomParameters parameters, final String threadName) {
+        seeds = new SplittableRandom(31 * parameters.getSeed() + threadName.hashCode());
+        random = ScopedRandom.create(parameters, seeds.nextLong(), parameters.getRandomSourceFactory());
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> Randomizer<T> getFork(final Randomizer<T> randomizer) {
+        Randomizer<?> fork = forks.get(randomizer);
+        if (fork == null) {
+            fork = randomizer.fork(seeds.nextLong());
+            forks.put(randomizer, fork);
+        }
+        return (Randomizer<T>) fork;
+    }
+
+    int nextBits(final int bits) {
+        return random.nextInt() >>> (32 - bits);
+    }
+}
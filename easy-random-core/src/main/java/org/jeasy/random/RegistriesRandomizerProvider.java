@@ -30,10 +30,14 @@ import org.jeasy.random.api.RandomizerRegistry;
 
 import java.lang.reflect.Field;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Central class to get registered randomizers by Field or by Type.
  *
+ * Resolved randomizers are cached by field and by type. Registries that are not
+ * {@link RandomizerRegistry#isCacheable() cacheable} are queried on each lookup.
+ *
  * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
  */
 class RegistriesRandomizerProvider implements RandomizerProvider {
@@ -42,28 +46,100 @@ class RegistriesRandomizerProvider implements RandomizerProvider {
 
     private final Comparator<Object> priorityComparator = new PriorityComparator();
 
+    private final Map<Field, Candidate> randomizersByField = new ConcurrentHashMap<>();
+
+    private final Map<Class<?>, Candidate> randomizersByType = new ConcurrentHashMap<>();
+
+    private int[] cacheableRegistries = new int[0];
+
+    private int[] nonCacheableRegistries = new int[0];
+
     @Override
     public Randomizer<?> getRandomizerByField(Field field, RandomizerContext context) {
-        return getRandomizer(new ByFieldProvider(field));
+        return getRandomizer(field, randomizersByField, new ByFieldProvider(field));
     }
 
     @Override
     public <T> Randomizer<T> getRandomizerByType(Class<T> type, RandomizerContext context) {
-        return (Randomizer<T>) getRandomizer(new ByTypeProvider(type));
+        return (Randomizer<T>) getRandomizer(type, randomizersByType, new ByTypeProvider(type));
     }
 
     @Override
     public void setRandomizerRegistries(Set<RandomizerRegistry> randomizerRegistries) {
         this.registries.addAll(randomizerRegistries);
         this.registries.sort(priorityComparator);
+        int[] cacheable = new int[registries.size()];
+        int[] nonCacheable = new int[registries.size()];
+        int cacheableCount = 0;
+        int nonCacheableCount = 0;
+        for (int i = 0; i < registries.size(); i++) {
+            if (registries.get(i).isCacheable()) {
+                cacheable[cacheableCount++] = i;
+            } else {
+                nonCacheable[nonCacheableCount++] = i;
+            }
+        }
+        this.cacheableRegistries = Arrays.copyOf(cacheable, cacheableCount);
+        this.nonCacheableRegistries = Arrays.copyOf(nonCacheable, nonCacheableCount);
+        this.randomizersByField.clear();
+        this.randomizersByType.clear();
     }
 
-    private Randomizer<?> getRandomizer(final Provider provider) {
-        return registries.stream()
-                .map(provider::getRandomizer)
-                .filter(Objects::nonNull)
-                .sorted(priorityComparator)
-                .findFirst().orElse(null);
+    /**
+     * @return true if all registries are cacheable, in which case randomizers can be resolved once for all
+     */
+    boolean isCacheable() {
+        return nonCacheableRegistries.length == 0;
+    }
+
+    private <K> Randomizer<?> getRandomizer(final K key, final Map<K, Candidate> cache, final Provider provider) {
+        Candidate candidate = key == null ? null : cache.get(key);
+        if (candidate == null) {
+            candidate = select(Candidate.NONE, cacheableRegistries, provider);
+            if (key != null) {
+                cache.putIfAbsent(key, candidate);
+            }
+        }
+        if (nonCacheableRegistries.length > 0) {
+            candidate = select(candidate, nonCacheableRegistries, provider);
+        }
+        return candidate.randomizer;
+    }
+
+    /*
+     * Randomizers are ordered by decreasing priority. For randomizers having the same priority,
+     * the one returned by the registry with the highest priority wins.
+     */
+    private Candidate select(final Candidate initial, final int[] positions, final Provider provider) {
+        Candidate best = initial;
+        for (int position : positions) {
+            Randomizer<?> randomizer = provider.getRandomizer(registries.get(position));
+            if (randomizer != null) {
+                int priority = PriorityComparator.getPriority(randomizer);
+                if (best.randomizer == null || priority > best.priority
+                        || (priority == best.priority && position < best.position)) {
+                    best = new Candidate(randomizer, priority, position);
+                }
+            }
+        }
+        return best;
+    }
+
+    private static class Candidate {
+
+        private static final Candidate NONE = new Candidate(null, Integer.MIN_VALUE, Integer.MAX_VALUE);
+
+        private final Randomizer<?> randomizer;
+
+        private final int priority;
+
+        private final int position;
+
+        private Candidate(final Randomizer<?> randomizer, final int priority, final int position) {
+            this.randomizer = randomizer;
+            this.priority = priority;
+            this.position = position;
+        }
     }
 
     @FunctionalInterface
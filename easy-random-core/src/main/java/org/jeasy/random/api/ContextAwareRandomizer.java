@@ -26,6 +26,12 @@ package org.jeasy.random.api;
 /**
  * Interface for a {@link Randomizer} that is aware of the {@link RandomizerContext randomization context} it is invoked in.
  *
+ * The context is set on the randomizer before each value is generated, so in
+ * {@link org.jeasy.random.EasyRandomParameters#threadSafe(boolean) thread safe} mode the randomizer is
+ * {@link #fork(long) forked} for each thread, or used by one thread at a time if it is its own fork. In the latter case,
+ * the randomizer must not wait for other threads generating values. Prefer a {@link ContextualRandomizer}, which
+ * receives the context as an argument instead.
+ *
  * @param <T> the type generated by the randomizer
  * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
  */
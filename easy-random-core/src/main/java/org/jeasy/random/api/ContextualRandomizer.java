@@ -0,0 +1,57 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.api;
+
+/**
+ * Interface for a {@link Randomizer} that receives the {@link RandomizerContext randomization context}
+ * it is invoked in as an argument.
+ *
+ * Unlike a {@link ContextAwareRandomizer}, a contextual randomizer does not hold the context, so it can
+ * be shared across threads and cached without synchronization. Randomizers implementing both interfaces
+ * are invoked as contextual randomizers by {@link org.jeasy.random.EasyRandom}.
+ *
+ * @param <T> the type generated by the randomizer
+ */
+@FunctionalInterface
+public interface ContextualRandomizer<T> extends Randomizer<T> {
+
+    /**
+     * Generate a random value for the given type in the given context.
+     *
+     * @param context the context of the randomization, or null when invoked outside of a randomization
+     * @return a random value for the given type
+     */
+    T getRandomValue(RandomizerContext context);
+
+    /**
+     * Generate a random value outside of a randomization, with a null context.
+     *
+     * @return a random value for the given type
+     */
+    @Override
+    default T getRandomValue() {
+        return getRandomValue(null);
+    }
+
+}
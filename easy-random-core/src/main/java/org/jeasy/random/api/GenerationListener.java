@@ -0,0 +1,101 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.api;
+
+import java.lang.reflect.Field;
+
+/**
+ * Callback interface to observe the generation of random objects, for example to collect metrics.
+ *
+ * Listeners are called synchronously on the generating thread, so implementations should be fast
+ * (and thread safe if the {@link org.jeasy.random.EasyRandom} instance is shared across threads).
+ * When no listener is registered, no callback is made and no time is measured.
+ */
+public interface GenerationListener {
+
+    /**
+     * Called after an object of the given type has been generated, whether by a randomizer or by
+     * populating its fields. The duration includes the generation of nested objects.
+     *
+     * @param type the requested type
+     * @param durationNanos the duration of the generation in nanoseconds
+     * @param context the current randomization context
+     */
+    default void objectGenerated(Class<?> type, long durationNanos, RandomizerContext context) {
+    }
+
+    /**
+     * Called after a field has been populated. The path of the field is available through
+     * {@link RandomizerContext#getCurrentField()}.
+     *
+     * @param field the populated field
+     * @param durationNanos the duration of the population in nanoseconds
+     * @param context the current randomization context
+     */
+    default void fieldPopulated(Field field, long durationNanos, RandomizerContext context) {
+    }
+
+    /**
+     * Called after looking up a randomizer for a type or a field.
+     *
+     * @param type the type of the object or of the field
+     * @param found true if a randomizer has been found, false if the object is populated by introspection
+     * @param context the current randomization context
+     */
+    default void randomizerLookedUp(Class<?> type, boolean found, RandomizerContext context) {
+    }
+
+    /**
+     * Called when an object is taken from the object pool of the context instead of being generated,
+     * because the object pool of its type is full.
+     *
+     * @param type the type of the object
+     * @param context the current randomization context
+     */
+    default void pooledObjectReused(Class<?> type, RandomizerContext context) {
+    }
+
+    /**
+     * Called when an error is ignored because of {@link org.jeasy.random.EasyRandomParameters#ignoreRandomizationErrors(boolean)}.
+     *
+     * @param type the type that could not be generated
+     * @param error the ignored error
+     * @param context the current randomization context
+     */
+    default void errorIgnored(Class<?> type, Throwable error, RandomizerContext context) {
+    }
+
+    /**
+     * Called once per type when a type can not be instantiated while
+     * {@link org.jeasy.random.EasyRandomParameters#ignoreRandomizationErrors(boolean)} is activated.
+     * The type is remembered, and objects of this type are then generated as null without trying
+     * to instantiate the type (and without calling {@link #errorIgnored(Class, Throwable, RandomizerContext)}).
+     *
+     * @param type the type that can not be instantiated
+     * @param error the error thrown when instantiating the type
+     * @param context the current randomization context
+     */
+    default void typeNotInstantiable(Class<?> type, Throwable error, RandomizerContext context) {
+    }
+}
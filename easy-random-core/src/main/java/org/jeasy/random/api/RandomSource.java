@@ -0,0 +1,62 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.api;
+
+/**
+ * A seeded source of random bits, from which the {@link java.util.Random} instances of
+ * {@link org.jeasy.random.EasyRandom} and of built-in randomizers draw their values.
+ *
+ * Sources are not required to be thread safe: they are synchronized by Easy Random
+ * when the {@link org.jeasy.random.EasyRandomParameters#threadSafe(boolean) thread safe} mode is activated.
+ *
+ * @see RandomSourceFactory
+ */
+public interface RandomSource {
+
+    /**
+     * Generate the next 64 random bits.
+     *
+     * @return the next random long
+     */
+    long nextLong();
+
+    /**
+     * Generate the next random bits, as specified by {@link java.util.Random#next(int)}.
+     *
+     * @param bits the number of random bits, between 1 and 32
+     * @return an int holding the given number of random bits
+     */
+    default int next(int bits) {
+        return (int) (nextLong() >>> (64 - bits));
+    }
+
+    /**
+     * Generate the next random double, uniformly distributed between 0 (inclusive) and 1 (exclusive).
+     *
+     * @return the next random double
+     */
+    default double nextDouble() {
+        return (nextLong() >>> 11) * 0x1.0p-53;
+    }
+}
@@ -39,4 +39,21 @@ public interface Randomizer<T> {
      */
     T getRandomValue();
 
+    /**
+     * Create a fork of this randomizer: an independent randomizer generating values like this one,
+     * but from its own random state seeded with the given seed. Forks are used by
+     * {@link org.jeasy.random.EasyRandomParameters#threadConfined(boolean) thread confined} generation,
+     * so that each thread draws its values from its own randomizers.
+     *
+     * Randomizers without random state, or which can be shared across threads, can be their own fork,
+     * which is the default. Built-in randomizers create their forks with their constructors; subclasses
+     * of built-in randomizers are their own fork unless they override this method.
+     *
+     * @param seed the seed of the fork
+     * @return a fork of this randomizer
+     */
+    default Randomizer<T> fork(long seed) {
+        return this;
+    }
+
 }
@@ -57,4 +57,16 @@ public interface RandomizerRegistry {
      * @return the randomizer registered for the given type.
      */
     Randomizer<?> getRandomizer(final Class<?> type);
+
+    /**
+     * Whether randomizers returned by this registry can be cached by field and by type.
+     * Registries that may return a different randomizer for the same field or type
+     * during the lifetime of an {@link EasyRandom} instance should return false, in which
+     * case they will be queried each time a randomizer is needed.
+     *
+     * @return true if randomizers returned by this registry can be cached, true by default
+     */
+    default boolean isCacheable() {
+        return true;
+    }
 }
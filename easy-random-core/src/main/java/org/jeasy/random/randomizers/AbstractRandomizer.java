@@ -23,7 +23,10 @@
  */
 package org.jeasy.random.randomizers;
 
+import org.jeasy.random.api.RandomSourceFactory;
 import org.jeasy.random.api.Randomizer;
+import org.jeasy.random.util.ScopedRandom;
+import org.jeasy.random.util.SourceRandom;
 
 import java.util.Random;
 
@@ -39,11 +42,24 @@ public abstract class AbstractRandomizer<T> implements Randomizer<T>  {
     protected final Random random;
 
     protected AbstractRandomizer() {
-        random = new Random();
+        random = new ScopedRandom();
     }
 
     protected AbstractRandomizer(final long seed) {
-        random = new Random(seed);
+        this(seed, null);
+    }
+
+    protected AbstractRandomizer(final long seed, final RandomSourceFactory randomSourceFactory) {
+        random = new ScopedRandom(seed, randomSourceFactory);
+    }
+
+    /**
+     * Get the factory of the random sources of the forks of this randomizer, to create them like this randomizer.
+     *
+     * @return the factory of the random sources of the forks, or null if they should use {@link java.util.Random}
+     */
+    protected RandomSourceFactory getForkSourceFactory() {
+        return ((SourceRandom) random).getForkSourceFactory();
     }
 
     protected String[] getPredefinedValuesOf(final String key) {
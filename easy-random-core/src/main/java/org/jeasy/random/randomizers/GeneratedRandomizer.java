@@ -0,0 +1,208 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.randomizers;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.jeasy.random.EasyRandom;
+import org.jeasy.random.EasyRandomParameters;
+import org.jeasy.random.ObjectCreationException;
+import org.jeasy.random.api.Randomizer;
+import org.jeasy.random.util.FieldAccessor;
+
+/**
+ * Base class of the randomizers generated at compile time for types annotated with
+ * {@link org.jeasy.random.annotation.Randomizable}.
+ *
+ * A generated randomizer creates instances of its type and accesses their fields directly. The value of each
+ * field is still generated by {@link EasyRandom}, so exclusions, custom randomizers and parameter ranges are
+ * honored as for any other type. Fields that can not be accessed from generated code (private fields for example)
+ * are accessed by reflection, through the default implementation of the accessor methods.
+ *
+ * @param <T> the generated type
+ */
+public abstract class GeneratedRandomizer<T> implements Randomizer<T> {
+
+    /**
+     * Suffix of the name of generated randomizers. The randomizer of a type {@code Foo} (or of a nested type
+     * {@code Outer.Foo}) is {@code Foo_Randomizer} (respectively {@code Outer$Foo_Randomizer}) in the same package.
+     */
+    public static final String NAME_SUFFIX = "_Randomizer";
+
+    private final Class<T> type;
+
+    private final List<Field> fields;
+
+    private final FieldAccessor[] accessors;
+
+    private EasyRandomParameters parameters = new EasyRandomParameters();
+
+    private volatile EasyRandom easyRandom;
+
+    /**
+     * Create a new generated randomizer.
+     *
+     * @param type generated by this randomizer
+     * @param fields to populate, in population order
+     */
+    protected GeneratedRandomizer(final Class<T> type, final Field... fields) {
+        this.type = type;
+        this.fields = Collections.unmodifiableList(Arrays.asList(fields));
+        this.accessors = new FieldAccessor[fields.length];
+    }
+
+    /**
+     * Get the name of the randomizer generated for the given type.
+     *
+     * @param type annotated with {@link org.jeasy.random.annotation.Randomizable}
+     * @return the fully qualified name of the generated randomizer
+     */
+    public static String getGeneratedName(final Class<?> type) {
+        return type.getName() + NAME_SUFFIX;
+    }
+
+    /**
+     * Look up a field of the generated type. This method is intended to be called by generated constructors.
+     *
+     * @param declaringClass class declaring the field
+     * @param name of the field
+     * @return the field
+     */
+    protected static Field field(final Class<?> declaringClass, final String name) {
+        try {
+            return declaringClass.getDeclaredField(name);
+        } catch (NoSuchFieldException e) {
+            throw new ObjectCreationException(String.format("Unable to find field %s in class %s, the generated randomizer should be regenerated",
+                    name, declaringClass.getName()), e);
+        }
+    }
+
+    /**
+     * Set the parameters used when this randomizer is called directly (see {@link #getRandomValue()}).
+     *
+     * @param parameters of the {@link EasyRandom} instance this randomizer is registered in
+     */
+    public void init(final EasyRandomParameters parameters) {
+        this.parameters = parameters;
+    }
+
+    /**
+     * @return the type generated by this randomizer
+     */
+    public Class<T> getType() {
+        return type;
+    }
+
+    /**
+     * @return the fields to populate, in population order
+     */
+    public List<Field> getFields() {
+        return fields;
+    }
+
+    /**
+     * Create a new instance of the generated type.
+     *
+     * @return a new instance
+     */
+    public abstract T newInstance();
+
+    /**
+     * Get the value of a field in the target object.
+     *
+     * @param target object to get the field value of
+     * @param index of the field in {@link #getFields()}
+     * @return the value of the field
+     * @throws IllegalAccessException if the field cannot be accessed
+     */
+    public Object getFieldValue(final T target, final int index) throws IllegalAccessException {
+        return getAccessor(index).getFieldValue(target);
+    }
+
+    /**
+     * Set the value of a field in the target object, bypassing its setter if any.
+     *
+     * @param target object to set the field value on
+     * @param index of the field in {@link #getFields()}
+     * @param value to set
+     * @throws IllegalAccessException if the field cannot be set
+     */
+    public void setFieldValue(final T target, final int index, final Object value) throws IllegalAccessException {
+        getAccessor(index).setFieldValue(target, value);
+    }
+
+    /**
+     * Set the value of a field in the target object using its setter if any, or directly otherwise.
+     *
+     * @param target object to set the property on
+     * @param index of the field in {@link #getFields()}
+     * @param value to set
+     * @throws IllegalAccessException if the field cannot be set
+     * @throws InvocationTargetException if the setter throws an exception
+     */
+    public void setPropertyValue(final T target, final int index, final Object value) throws IllegalAccessException, InvocationTargetException {
+        getAccessor(index).setPropertyValue(target, value);
+    }
+
+    /**
+     * Generate a random instance of the generated type. {@link EasyRandom} does not call this method but uses
+     * {@link #newInstance()} and the accessor methods, so that generated types are populated in the randomization
+     * context of the object graph they belong to.
+     *
+     * @return a random instance of the generated type
+     */
+    @Override
+    public T getRandomValue() {
+        EasyRandom random = easyRandom;
+        if (random == null) {
+            synchronized (this) {
+                random = easyRandom;
+                if (random == null) {
+                    random = new EasyRandom(parameters);
+                    easyRandom = random;
+                }
+            }
+        }
+        return random.nextObject(type);
+    }
+
+    private FieldAccessor getAccessor(final int index) {
+        // accessors are immutable, so racing threads may at worst create the same accessor twice
+        FieldAccessor accessor = accessors[index];
+        if (accessor == null) {
+            accessor = FieldAccessor.of(fields.get(index));
+            accessors[index] = accessor;
+        }
+        return accessor;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName();
+    }
+}
@@ -64,5 +64,4 @@ abstract class CollectionRandomizer<T> implements Randomizer<Collection<T>> {
     T getRandomElement() {
         return delegate.getRandomValue();
     }
-
 }
@@ -73,4 +73,9 @@ public class EnumSetRandomizer<E extends Enum<E>> extends CollectionRandomizer<E
     public String toString() {
         return "EnumSetRandomizer [delegate=" + delegate + ", nbElements=" + nbElements + "]";
     }
+
+    @Override
+    public EnumSetRandomizer<E> fork(final long seed) {
+        return getClass() == EnumSetRandomizer.class ? new EnumSetRandomizer<>(((EnumRandomizer<E>) delegate).fork(seed), nbElements) : this;
+    }
 }
@@ -70,4 +70,9 @@ public class ListRandomizer<T> extends CollectionRandomizer<T> {
     public String toString() {
         return "ListRandomizer [delegate=" + delegate + ", nbElements=" + nbElements + "]";
     }
+
+    @Override
+    public ListRandomizer<T> fork(final long seed) {
+        return getClass() == ListRandomizer.class ? new ListRandomizer<>(delegate.fork(seed), nbElements) : this;
+    }
 }
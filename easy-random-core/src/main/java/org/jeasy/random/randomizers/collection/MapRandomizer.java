@@ -28,6 +28,7 @@ import org.jeasy.random.randomizers.number.ByteRandomizer;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.SplittableRandom;
 
 import static java.lang.Math.abs;
 
@@ -94,4 +95,14 @@ public class MapRandomizer<K, V> implements Randomizer<Map<K, V>> {
     private static int getRandomSize() {
         return abs(new ByteRandomizer().getRandomValue()) + 1;
     }
+
+    @Override
+    public MapRandomizer<K, V> fork(final long seed) {
+        if (getClass() != MapRandomizer.class) {
+            return this;
+        }
+        // keys and values may be generated by the same kind of randomizer, so they are not seeded alike
+        SplittableRandom seeds = new SplittableRandom(seed);
+        return new MapRandomizer<>(keyRandomizer.fork(seeds.nextLong()), valueRandomizer.fork(seeds.nextLong()), nbElements);
+    }
 }
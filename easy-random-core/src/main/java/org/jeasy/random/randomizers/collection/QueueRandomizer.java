@@ -68,4 +68,9 @@ public class QueueRandomizer<T> extends CollectionRandomizer<T> {
     public String toString() {
         return "QueueRandomizer [delegate=" + delegate + ", nbElements=" + nbElements + "]";
     }
+
+    @Override
+    public QueueRandomizer<T> fork(final long seed) {
+        return getClass() == QueueRandomizer.class ? new QueueRandomizer<>(delegate.fork(seed), nbElements) : this;
+    }
 }
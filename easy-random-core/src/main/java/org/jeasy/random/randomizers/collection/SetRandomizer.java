@@ -68,4 +68,9 @@ public class SetRandomizer<T> extends CollectionRandomizer<T> {
     public String toString() {
         return "SetRandomizer [delegate=" + delegate + ", nbElements=" + nbElements + "]";
     }
+
+    @Override
+    public SetRandomizer<T> fork(final long seed) {
+        return getClass() == SetRandomizer.class ? new SetRandomizer<>(delegate.fork(seed), nbElements) : this;
+    }
 }
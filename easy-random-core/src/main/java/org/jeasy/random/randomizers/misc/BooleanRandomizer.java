@@ -23,14 +23,16 @@
  */
 package org.jeasy.random.randomizers.misc;
 
+import org.jeasy.random.api.RandomSourceFactory;
 import org.jeasy.random.randomizers.AbstractRandomizer;
+import org.jeasy.random.randomizers.PrimitiveArrayFiller;
 
 /**
  * Generate a random {@link Boolean}.
  *
  * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
  */
-public class BooleanRandomizer extends AbstractRandomizer<Boolean> {
+public class BooleanRandomizer extends AbstractRandomizer<Boolean> implements PrimitiveArrayFiller {
 
     /**
      * Create a new {@link BooleanRandomizer}.
@@ -44,11 +46,34 @@ public class BooleanRandomizer extends AbstractRandomizer<Boolean> {
      * @param seed initial seed
      */
     public BooleanRandomizer(final long seed) {
-        super(seed);
+        this(seed, null);
+    }
+
+    /**
+     * Create a new {@link BooleanRandomizer}.
+     *
+     * @param seed initial seed
+     * @param randomSourceFactory factory of the random source, or null to use {@link java.util.Random}
+     */
+    public BooleanRandomizer(final long seed, final RandomSourceFactory randomSourceFactory) {
+        super(seed, randomSourceFactory);
     }
 
     @Override
     public Boolean getRandomValue() {
         return random.nextBoolean();
     }
+
+    @Override
+    public void fill(final Object array) {
+        boolean[] values = (boolean[]) array;
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextBoolean();
+        }
+    }
+
+    @Override
+    public BooleanRandomizer fork(final long seed) {
+        return getClass() == BooleanRandomizer.class ? new BooleanRandomizer(seed, getForkSourceFactory()) : this;
+    }
 }
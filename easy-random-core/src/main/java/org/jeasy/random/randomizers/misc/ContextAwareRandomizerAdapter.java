@@ -0,0 +1,76 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.randomizers.misc;
+
+import java.util.Objects;
+
+import org.jeasy.random.api.ContextAwareRandomizer;
+import org.jeasy.random.api.ContextualRandomizer;
+import org.jeasy.random.api.Randomizer;
+import org.jeasy.random.api.RandomizerContext;
+
+/**
+ * A {@link ContextualRandomizer} adapting a {@link ContextAwareRandomizer}. The context is set on the adapted
+ * randomizer right before generating each value, while holding its lock, so the adapter can be shared across
+ * threads (but threads generating values concurrently wait for each other). The adapted randomizer must not generate
+ * its values with other adapters used by other threads, as they could wait for each other forever.
+ *
+ * @param <T> the type generated by the randomizer
+ */
+public class ContextAwareRandomizerAdapter<T> implements ContextualRandomizer<T> {
+
+    private final ContextAwareRandomizer<T> delegate;
+
+    /**
+     * Create a new {@link ContextAwareRandomizerAdapter}.
+     *
+     * @param delegate the context aware randomizer to adapt
+     */
+    public ContextAwareRandomizerAdapter(final ContextAwareRandomizer<T> delegate) {
+        this.delegate = Objects.requireNonNull(delegate, "Randomizer must not be null");
+    }
+
+    @Override
+    public T getRandomValue(final RandomizerContext context) {
+        synchronized (delegate) {
+            delegate.setRandomizerContext(context);
+            return delegate.getRandomValue();
+        }
+    }
+
+    @Override
+    public T getRandomValue() {
+        return delegate.getRandomValue();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Randomizer<T> fork(final long seed) {
+        Randomizer<T> fork = delegate.fork(seed);
+        if (fork != delegate && fork instanceof ContextAwareRandomizer) {
+            return new ContextAwareRandomizerAdapter<>((ContextAwareRandomizer<T>) fork);
+        }
+        return this;
+    }
+}
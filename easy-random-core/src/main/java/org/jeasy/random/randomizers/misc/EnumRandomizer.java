@@ -23,6 +23,7 @@
  */
 package org.jeasy.random.randomizers.misc;
 
+import org.jeasy.random.api.RandomSourceFactory;
 import org.jeasy.random.api.Randomizer;
 import org.jeasy.random.randomizers.AbstractRandomizer;
 
@@ -58,7 +59,18 @@ public class EnumRandomizer<E extends Enum<E>> extends AbstractRandomizer<E> {
      * @param seed        the initial seed
      */
     public EnumRandomizer(final Class<E> enumeration, final long seed) {
-        super(seed);
+        this(enumeration, seed, null);
+    }
+
+    /**
+     * Create a new {@link EnumRandomizer}.
+     *
+     * @param enumeration the enumeration from which this randomizer will generate random values
+     * @param seed        the initial seed
+     * @param randomSourceFactory factory of the random source, or null to use {@link java.util.Random}
+     */
+    public EnumRandomizer(final Class<E> enumeration, final long seed, final RandomSourceFactory randomSourceFactory) {
+        super(seed, randomSourceFactory);
         this.enumConstants = Arrays.asList(enumeration.getEnumConstants());
     }
 
@@ -75,6 +87,11 @@ public class EnumRandomizer<E extends Enum<E>> extends AbstractRandomizer<E> {
         this.enumConstants = getFilteredList(enumeration, excludedValues);
     }
 
+    private EnumRandomizer(final List<E> enumConstants, final long seed, final RandomSourceFactory randomSourceFactory) {
+        super(seed, randomSourceFactory);
+        this.enumConstants = enumConstants;
+    }
+
     /**
      * Get a random value within an enumeration or an enumeration subset (when values are excluded)
      *
@@ -111,4 +128,9 @@ public class EnumRandomizer<E extends Enum<E>> extends AbstractRandomizer<E> {
         }
         return filteredValues;
     }
+
+    @Override
+    public EnumRandomizer<E> fork(final long seed) {
+        return getClass() == EnumRandomizer.class ? new EnumRandomizer<>(enumConstants, seed, getForkSourceFactory()) : this;
+    }
 }
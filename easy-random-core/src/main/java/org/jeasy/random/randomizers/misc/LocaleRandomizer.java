@@ -25,6 +25,7 @@ package org.jeasy.random.randomizers.misc;
 
 import java.util.Locale;
 
+import org.jeasy.random.api.RandomSourceFactory;
 import org.jeasy.random.randomizers.AbstractRandomizer;
 
 /**
@@ -46,7 +47,17 @@ public class LocaleRandomizer extends AbstractRandomizer<Locale> {
      * @param seed initial seed
      */
     public LocaleRandomizer(final long seed) {
-        super(seed);
+        this(seed, null);
+    }
+
+    /**
+     * Create a new {@link LocaleRandomizer}.
+     *
+     * @param seed initial seed
+     * @param randomSourceFactory factory of the random source, or null to use {@link java.util.Random}
+     */
+    public LocaleRandomizer(final long seed, final RandomSourceFactory randomSourceFactory) {
+        super(seed, randomSourceFactory);
     }
 
     @Override
@@ -54,4 +65,9 @@ public class LocaleRandomizer extends AbstractRandomizer<Locale> {
         Locale[] availableLocales = Locale.getAvailableLocales();
         return availableLocales[random.nextInt(availableLocales.length)];
     }
+
+    @Override
+    public LocaleRandomizer fork(final long seed) {
+        return getClass() == LocaleRandomizer.class ? new LocaleRandomizer(seed, getForkSourceFactory()) : this;
+    }
 }
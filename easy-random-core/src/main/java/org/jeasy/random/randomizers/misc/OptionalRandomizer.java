@@ -23,9 +23,12 @@
  */
 package org.jeasy.random.randomizers.misc;
 
+import org.jeasy.random.api.RandomSourceFactory;
 import org.jeasy.random.api.Randomizer;
 import org.jeasy.random.randomizers.AbstractRandomizer;
 
+import java.util.SplittableRandom;
+
 /**
  * A {@link Randomizer} which, according to the optional percent, returns the random value from a delegate.
  *
@@ -56,6 +59,12 @@ public class OptionalRandomizer<T> extends AbstractRandomizer<T> {
         }
     }
 
+    private OptionalRandomizer(final Randomizer<T> delegate, final int optionalPercent, final long seed, final RandomSourceFactory randomSourceFactory) {
+        super(seed, randomSourceFactory);
+        this.delegate = delegate;
+        this.optionalPercent = optionalPercent;
+    }
+
     @Override
     public T getRandomValue() {
         int randomPercent = random.nextInt(MAX_PERCENT);
@@ -65,4 +74,13 @@ public class OptionalRandomizer<T> extends AbstractRandomizer<T> {
         return null;
     }
 
+    @Override
+    public OptionalRandomizer<T> fork(final long seed) {
+        if (getClass() != OptionalRandomizer.class) {
+            return this;
+        }
+        // the delegate may draw from the same kind of source, so it is not seeded like this randomizer
+        SplittableRandom seeds = new SplittableRandom(seed);
+        return new OptionalRandomizer<>(delegate.fork(seeds.nextLong()), optionalPercent, seeds.nextLong(), getForkSourceFactory());
+    }
 }
@@ -25,6 +25,7 @@ package org.jeasy.random.randomizers.misc;
 
 import java.util.UUID;
 
+import org.jeasy.random.api.RandomSourceFactory;
 import org.jeasy.random.randomizers.AbstractRandomizer;
 
 /**
@@ -46,11 +47,26 @@ public class UUIDRandomizer extends AbstractRandomizer<UUID> {
      * @param seed initial seed
      */
     public UUIDRandomizer(final long seed) {
-        super(seed);
+        this(seed, null);
+    }
+
+    /**
+     * Create a new {@link UUIDRandomizer}.
+     *
+     * @param seed initial seed
+     * @param randomSourceFactory factory of the random source, or null to use {@link java.util.Random}
+     */
+    public UUIDRandomizer(final long seed, final RandomSourceFactory randomSourceFactory) {
+        super(seed, randomSourceFactory);
     }
 
     @Override
     public UUID getRandomValue() {
         return new UUID(random.nextLong(), random.nextLong());
     }
+
+    @Override
+    public UUIDRandomizer fork(final long seed) {
+        return getClass() == UUIDRandomizer.class ? new UUIDRandomizer(seed, getForkSourceFactory()) : this;
+    }
 }
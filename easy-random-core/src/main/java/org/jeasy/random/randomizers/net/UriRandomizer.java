@@ -23,6 +23,7 @@
  */
 package org.jeasy.random.randomizers.net;
 
+import org.jeasy.random.api.RandomSourceFactory;
 import org.jeasy.random.randomizers.AbstractRandomizer;
 
 import java.net.URI;
@@ -49,7 +50,17 @@ public class UriRandomizer extends AbstractRandomizer<URI> {
      * @param seed initial seed
      */
     public UriRandomizer(long seed) {
-        super(seed);
+        this(seed, null);
+    }
+
+    /**
+     * Create a new {@link UriRandomizer}.
+     *
+     * @param seed initial seed
+     * @param randomSourceFactory factory of the random source, or null to use {@link java.util.Random}
+     */
+    public UriRandomizer(final long seed, final RandomSourceFactory randomSourceFactory) {
+        super(seed, randomSourceFactory);
     }
 
     @Override
@@ -62,4 +73,9 @@ public class UriRandomizer extends AbstractRandomizer<URI> {
             return null;
         }
     }
+
+    @Override
+    public UriRandomizer fork(final long seed) {
+        return getClass() == UriRandomizer.class ? new UriRandomizer(seed, getForkSourceFactory()) : this;
+    }
 }
@@ -23,6 +23,7 @@
  */
 package org.jeasy.random.randomizers.net;
 
+import org.jeasy.random.api.RandomSourceFactory;
 import org.jeasy.random.randomizers.AbstractRandomizer;
 
 import java.net.MalformedURLException;
@@ -49,7 +50,17 @@ public class UrlRandomizer extends AbstractRandomizer<URL> {
      * @param seed initial seed
      */
     public UrlRandomizer(long seed) {
-        super(seed);
+        this(seed, null);
+    }
+
+    /**
+     * Create a new {@link UrlRandomizer}.
+     *
+     * @param seed initial seed
+     * @param randomSourceFactory factory of the random source, or null to use {@link java.util.Random}
+     */
+    public UrlRandomizer(final long seed, final RandomSourceFactory randomSourceFactory) {
+        super(seed, randomSourceFactory);
     }
 
     @Override
@@ -62,4 +73,9 @@ public class UrlRandomizer extends AbstractRandomizer<URL> {
             return null;
         }
     }
+
+    @Override
+    public UrlRandomizer fork(final long seed) {
+        return getClass() == UrlRandomizer.class ? new UrlRandomizer(seed, getForkSourceFactory()) : this;
+    }
 }
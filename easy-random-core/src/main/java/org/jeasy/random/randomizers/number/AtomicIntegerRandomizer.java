@@ -23,6 +23,7 @@
  */
 package org.jeasy.random.randomizers.number;
 
+import org.jeasy.random.api.RandomSourceFactory;
 import org.jeasy.random.api.Randomizer;
 
 import java.util.concurrent.atomic.AtomicInteger;
@@ -49,11 +50,30 @@ public class AtomicIntegerRandomizer implements Randomizer<AtomicInteger> {
      * @param seed initial seed
      */
     public AtomicIntegerRandomizer(final long seed) {
-        delegate = new IntegerRandomizer(seed);
+        this(seed, null);
+    }
+
+    /**
+     * Create a new {@link AtomicIntegerRandomizer}.
+     *
+     * @param seed initial seed
+     * @param randomSourceFactory factory of the random source, or null to use {@link java.util.Random}
+     */
+    public AtomicIntegerRandomizer(final long seed, final RandomSourceFactory randomSourceFactory) {
+        delegate = new IntegerRandomizer(seed, randomSourceFactory);
+    }
+
+    private AtomicIntegerRandomizer(final IntegerRandomizer delegate) {
+        this.delegate = delegate;
     }
 
     @Override
     public AtomicInteger getRandomValue() {
         return new AtomicInteger(delegate.getRandomValue());
     }
+
+    @Override
+    public AtomicIntegerRandomizer fork(final long seed) {
+        return getClass() == AtomicIntegerRandomizer.class ? new AtomicIntegerRandomizer(delegate.fork(seed)) : this;
+    }
 }
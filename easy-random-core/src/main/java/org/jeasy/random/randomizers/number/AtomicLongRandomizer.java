@@ -23,6 +23,7 @@
  */
 package org.jeasy.random.randomizers.number;
 
+import org.jeasy.random.api.RandomSourceFactory;
 import org.jeasy.random.api.Randomizer;
 
 import java.util.concurrent.atomic.AtomicLong;
@@ -49,11 +50,30 @@ public class AtomicLongRandomizer implements Randomizer<AtomicLong> {
      * @param seed initial seed
      */
     public AtomicLongRandomizer(final long seed) {
-        delegate = new LongRandomizer(seed);
+        this(seed, null);
+    }
+
+    /**
+     * Create a new {@link AtomicLongRandomizer}.
+     *
+     * @param seed initial seed
+     * @param randomSourceFactory factory of the random source, or null to use {@link java.util.Random}
+     */
+    public AtomicLongRandomizer(final long seed, final RandomSourceFactory randomSourceFactory) {
+        delegate = new LongRandomizer(seed, randomSourceFactory);
+    }
+
+    private AtomicLongRandomizer(final LongRandomizer delegate) {
+        this.delegate = delegate;
     }
 
     @Override
     public AtomicLong getRandomValue() {
         return new AtomicLong(delegate.getRandomValue());
     }
+
+    @Override
+    public AtomicLongRandomizer fork(final long seed) {
+        return getClass() == AtomicLongRandomizer.class ? new AtomicLongRandomizer(delegate.fork(seed)) : this;
+    }
 }
@@ -23,6 +23,7 @@
  */
 package org.jeasy.random.randomizers.number;
 
+import org.jeasy.random.api.RandomSourceFactory;
 import org.jeasy.random.api.Randomizer;
 
 import java.math.BigDecimal;
@@ -52,7 +53,17 @@ public class BigDecimalRandomizer implements Randomizer<BigDecimal> {
      * @param seed initial seed
      */
     public BigDecimalRandomizer(final long seed) {
-        delegate = new DoubleRandomizer(seed);
+        this(seed, null);
+    }
+
+    /**
+     * Create a new {@link BigDecimalRandomizer}.
+     *
+     * @param seed initial seed
+     * @param randomSourceFactory factory of the random source, or null to use {@link java.util.Random}
+     */
+    public BigDecimalRandomizer(final long seed, final RandomSourceFactory randomSourceFactory) {
+        delegate = new DoubleRandomizer(seed, randomSourceFactory);
     }
 
     /**
@@ -83,7 +94,25 @@ public class BigDecimalRandomizer implements Randomizer<BigDecimal> {
      * @param roundingMode of the {@code BigDecimal} value to be returned.
      */
     public BigDecimalRandomizer(final long seed, final Integer scale, final RoundingMode roundingMode) {
-        this(seed);
+        this(seed, scale, roundingMode, null);
+    }
+
+    /**
+     * Create a new {@link BigDecimalRandomizer}.
+     *
+     * @param seed initial seed
+     * @param scale of the {@code BigDecimal} value to be returned.
+     * @param roundingMode of the {@code BigDecimal} value to be returned.
+     * @param randomSourceFactory factory of the random source, or null to use {@link java.util.Random}
+     */
+    public BigDecimalRandomizer(final long seed, final Integer scale, final RoundingMode roundingMode, final RandomSourceFactory randomSourceFactory) {
+        this(seed, randomSourceFactory);
+        this.scale = scale;
+        this.roundingMode = roundingMode;
+    }
+
+    private BigDecimalRandomizer(final DoubleRandomizer delegate, final Integer scale, final RoundingMode roundingMode) {
+        this.delegate = delegate;
         this.scale = scale;
         this.roundingMode = roundingMode;
     }
@@ -96,4 +125,9 @@ public class BigDecimalRandomizer implements Randomizer<BigDecimal> {
         }
         return randomValue;
     }
+
+    @Override
+    public BigDecimalRandomizer fork(final long seed) {
+        return getClass() == BigDecimalRandomizer.class ? new BigDecimalRandomizer(delegate.fork(seed), scale, roundingMode) : this;
+    }
 }
@@ -23,6 +23,7 @@
  */
 package org.jeasy.random.randomizers.number;
 
+import org.jeasy.random.api.RandomSourceFactory;
 import org.jeasy.random.randomizers.AbstractRandomizer;
 
 import java.math.BigInteger;
@@ -49,11 +50,26 @@ public class BigIntegerRandomizer extends AbstractRandomizer<BigInteger> {
      * @param seed initial seed
      */
     public BigIntegerRandomizer(final long seed) {
-        super(seed);
+        this(seed, null);
+    }
+
+    /**
+     * Create a new {@link BigIntegerRandomizer}.
+     *
+     * @param seed initial seed
+     * @param randomSourceFactory factory of the random source, or null to use {@link java.util.Random}
+     */
+    public BigIntegerRandomizer(final long seed, final RandomSourceFactory randomSourceFactory) {
+        super(seed, randomSourceFactory);
     }
 
     @Override
     public BigInteger getRandomValue() {
         return new BigInteger(NUM_BITS, random);
     }
+
+    @Override
+    public BigIntegerRandomizer fork(final long seed) {
+        return getClass() == BigIntegerRandomizer.class ? new BigIntegerRandomizer(seed, getForkSourceFactory()) : this;
+    }
 }
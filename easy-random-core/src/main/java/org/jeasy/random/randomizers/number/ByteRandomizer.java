@@ -23,14 +23,16 @@
  */
 package org.jeasy.random.randomizers.number;
 
+import org.jeasy.random.api.RandomSourceFactory;
 import org.jeasy.random.api.Randomizer;
+import org.jeasy.random.randomizers.PrimitiveArrayFiller;
 
 /**
  * Generate a random {@link Byte}.
  *
  * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
  */
-public class ByteRandomizer implements Randomizer<Byte> {
+public class ByteRandomizer implements Randomizer<Byte>, PrimitiveArrayFiller {
 
     private final IntegerRandomizer delegate;
 
@@ -47,11 +49,39 @@ public class ByteRandomizer implements Randomizer<Byte> {
      * @param seed initial seed
      */
     public ByteRandomizer(final long seed) {
-        delegate = new IntegerRandomizer(seed);
+        this(seed, null);
+    }
+
+    /**
+     * Create a new {@link ByteRandomizer}.
+     *
+     * @param seed initial seed
+     * @param randomSourceFactory factory of the random source, or null to use {@link java.util.Random}
+     */
+    public ByteRandomizer(final long seed, final RandomSourceFactory randomSourceFactory) {
+        delegate = new IntegerRandomizer(seed, randomSourceFactory);
+    }
+
+    private ByteRandomizer(final IntegerRandomizer delegate) {
+        this.delegate = delegate;
     }
 
     @Override
     public Byte getRandomValue() {
         return delegate.getRandomValue().byteValue();
     }
+
+    @Override
+    public void fill(final Object array) {
+        byte[] values = (byte[]) array;
+        // same draws as the delegate, without boxing nor an intermediate int array
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (byte) delegate.nextInt();
+        }
+    }
+
+    @Override
+    public ByteRandomizer fork(final long seed) {
+        return getClass() == ByteRandomizer.class ? new ByteRandomizer(delegate.fork(seed)) : this;
+    }
 }
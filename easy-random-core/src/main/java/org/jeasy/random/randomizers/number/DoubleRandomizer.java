@@ -23,14 +23,16 @@
  */
 package org.jeasy.random.randomizers.number;
 
+import org.jeasy.random.api.RandomSourceFactory;
 import org.jeasy.random.randomizers.AbstractRandomizer;
+import org.jeasy.random.randomizers.PrimitiveArrayFiller;
 
 /**
  * Generate a random {@link Double}.
  *
  * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
  */
-public class DoubleRandomizer extends AbstractRandomizer<Double> {
+public class DoubleRandomizer extends AbstractRandomizer<Double> implements PrimitiveArrayFiller {
 
     /**
      * Create a new {@link DoubleRandomizer}.
@@ -44,11 +46,34 @@ public class DoubleRandomizer extends AbstractRandomizer<Double> {
      * @param seed initial seed
      */
     public DoubleRandomizer(final long seed) {
-        super(seed);
+        this(seed, null);
+    }
+
+    /**
+     * Create a new {@link DoubleRandomizer}.
+     *
+     * @param seed initial seed
+     * @param randomSourceFactory factory of the random source, or null to use {@link java.util.Random}
+     */
+    public DoubleRandomizer(final long seed, final RandomSourceFactory randomSourceFactory) {
+        super(seed, randomSourceFactory);
     }
 
     @Override
     public Double getRandomValue() {
         return random.nextDouble();
     }
+
+    @Override
+    public void fill(final Object array) {
+        double[] values = (double[]) array;
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextDouble();
+        }
+    }
+
+    @Override
+    public DoubleRandomizer fork(final long seed) {
+        return getClass() == DoubleRandomizer.class ? new DoubleRandomizer(seed, getForkSourceFactory()) : this;
+    }
 }
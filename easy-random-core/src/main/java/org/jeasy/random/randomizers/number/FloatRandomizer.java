@@ -23,14 +23,16 @@
  */
 package org.jeasy.random.randomizers.number;
 
+import org.jeasy.random.api.RandomSourceFactory;
 import org.jeasy.random.randomizers.AbstractRandomizer;
+import org.jeasy.random.randomizers.PrimitiveArrayFiller;
 
 /**
  * Generate a random {@link Float}.
  *
  * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
  */
-public class FloatRandomizer extends AbstractRandomizer<Float> {
+public class FloatRandomizer extends AbstractRandomizer<Float> implements PrimitiveArrayFiller {
 
     /**
      * Create a new {@link FloatRandomizer}.
@@ -44,11 +46,34 @@ public class FloatRandomizer extends AbstractRandomizer<Float> {
      * @param seed initial seed
      */
     public FloatRandomizer(final long seed) {
-        super(seed);
+        this(seed, null);
+    }
+
+    /**
+     * Create a new {@link FloatRandomizer}.
+     *
+     * @param seed initial seed
+     * @param randomSourceFactory factory of the random source, or null to use {@link java.util.Random}
+     */
+    public FloatRandomizer(final long seed, final RandomSourceFactory randomSourceFactory) {
+        super(seed, randomSourceFactory);
     }
 
     @Override
     public Float getRandomValue() {
         return random.nextFloat();
     }
+
+    @Override
+    public void fill(final Object array) {
+        float[] values = (float[]) array;
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextFloat();
+        }
+    }
+
+    @Override
+    public FloatRandomizer fork(final long seed) {
+        return getClass() == FloatRandomizer.class ? new FloatRandomizer(seed, getForkSourceFactory()) : this;
+    }
 }
@@ -23,14 +23,16 @@
  */
 package org.jeasy.random.randomizers.number;
 
+import org.jeasy.random.api.RandomSourceFactory;
 import org.jeasy.random.randomizers.AbstractRandomizer;
+import org.jeasy.random.randomizers.PrimitiveArrayFiller;
 
 /**
  * Generate a random {@link Integer}.
  *
  * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
  */
-public class IntegerRandomizer extends AbstractRandomizer<Integer> {
+public class IntegerRandomizer extends AbstractRandomizer<Integer> implements PrimitiveArrayFiller {
 
     /**
      * Create a new {@link IntegerRandomizer}.
@@ -44,11 +46,39 @@ public class IntegerRandomizer extends AbstractRandomizer<Integer> {
      * @param seed initial seed
      */
     public IntegerRandomizer(final long seed) {
-        super(seed);
+        this(seed, null);
+    }
+
+    /**
+     * Create a new {@link IntegerRandomizer}.
+     *
+     * @param seed initial seed
+     * @param randomSourceFactory factory of the random source, or null to use {@link java.util.Random}
+     */
+    public IntegerRandomizer(final long seed, final RandomSourceFactory randomSourceFactory) {
+        super(seed, randomSourceFactory);
     }
 
     @Override
     public Integer getRandomValue() {
         return random.nextInt();
     }
+
+    // the value of getRandomValue, without boxing
+    int nextInt() {
+        return random.nextInt();
+    }
+
+    @Override
+    public void fill(final Object array) {
+        int[] values = (int[]) array;
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextInt();
+        }
+    }
+
+    @Override
+    public IntegerRandomizer fork(final long seed) {
+        return getClass() == IntegerRandomizer.class ? new IntegerRandomizer(seed, getForkSourceFactory()) : this;
+    }
 }
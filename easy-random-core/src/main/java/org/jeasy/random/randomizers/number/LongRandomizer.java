@@ -23,14 +23,16 @@
  */
 package org.jeasy.random.randomizers.number;
 
+import org.jeasy.random.api.RandomSourceFactory;
 import org.jeasy.random.randomizers.AbstractRandomizer;
+import org.jeasy.random.randomizers.PrimitiveArrayFiller;
 
 /**
  * Generate a random {@link Long}.
  *
  * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
  */
-public class LongRandomizer extends AbstractRandomizer<Long> {
+public class LongRandomizer extends AbstractRandomizer<Long> implements PrimitiveArrayFiller {
 
     /**
      * Create a new {@link LongRandomizer}.
@@ -44,11 +46,34 @@ public class LongRandomizer extends AbstractRandomizer<Long> {
      * @param seed initial seed
      */
     public LongRandomizer(final long seed) {
-        super(seed);
+        this(seed, null);
+    }
+
+    /**
+     * Create a new {@link LongRandomizer}.
+     *
+     * @param seed initial seed
+     * @param randomSourceFactory factory of the random source, or null to use {@link java.util.Random}
+     */
+    public LongRandomizer(final long seed, final RandomSourceFactory randomSourceFactory) {
+        super(seed, randomSourceFactory);
     }
 
     @Override
     public Long getRandomValue() {
         return random.nextLong();
     }
+
+    @Override
+    public void fill(final Object array) {
+        long[] values = (long[]) array;
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextLong();
+        }
+    }
+
+    @Override
+    public LongRandomizer fork(final long seed) {
+        return getClass() == LongRandomizer.class ? new LongRandomizer(seed, getForkSourceFactory()) : this;
+    }
 }
@@ -23,6 +23,7 @@
  */
 package org.jeasy.random.randomizers.number;
 
+import org.jeasy.random.api.RandomSourceFactory;
 import org.jeasy.random.randomizers.AbstractRandomizer;
 
 /**
@@ -44,11 +45,26 @@ public class NumberRandomizer extends AbstractRandomizer<Number> {
      * @param seed initial seed
      */
     public NumberRandomizer(final long seed) {
-        super(seed);
+        this(seed, null);
+    }
+
+    /**
+     * Create a new {@link NumberRandomizer}.
+     *
+     * @param seed initial seed
+     * @param randomSourceFactory factory of the random source, or null to use {@link java.util.Random}
+     */
+    public NumberRandomizer(final long seed, final RandomSourceFactory randomSourceFactory) {
+        super(seed, randomSourceFactory);
     }
 
     @Override
     public Integer getRandomValue() {
         return random.nextInt();
     }
+
+    @Override
+    public NumberRandomizer fork(final long seed) {
+        return getClass() == NumberRandomizer.class ? new NumberRandomizer(seed, getForkSourceFactory()) : this;
+    }
 }
@@ -23,14 +23,16 @@
  */
 package org.jeasy.random.randomizers.number;
 
+import org.jeasy.random.api.RandomSourceFactory;
 import org.jeasy.random.randomizers.AbstractRandomizer;
+import org.jeasy.random.randomizers.PrimitiveArrayFiller;
 
 /**
  * Generate a random {@link Short}.
  *
  * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
  */
-public class ShortRandomizer extends AbstractRandomizer<Short> {
+public class ShortRandomizer extends AbstractRandomizer<Short> implements PrimitiveArrayFiller {
 
     /**
      * Create a new {@link ShortRandomizer}.
@@ -44,11 +46,34 @@ public class ShortRandomizer extends AbstractRandomizer<Short> {
      * @param seed initial seed
      */
     public ShortRandomizer(long seed) {
-        super(seed);
+        this(seed, null);
+    }
+
+    /**
+     * Create a new {@link ShortRandomizer}.
+     *
+     * @param seed initial seed
+     * @param randomSourceFactory factory of the random source, or null to use {@link java.util.Random}
+     */
+    public ShortRandomizer(final long seed, final RandomSourceFactory randomSourceFactory) {
+        super(seed, randomSourceFactory);
     }
 
     @Override
     public Short getRandomValue() {
         return (short) random.nextInt();
     }
+
+    @Override
+    public void fill(final Object array) {
+        short[] values = (short[]) array;
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (short) random.nextInt();
+        }
+    }
+
+    @Override
+    public ShortRandomizer fork(final long seed) {
+        return getClass() == ShortRandomizer.class ? new ShortRandomizer(seed, getForkSourceFactory()) : this;
+    }
 }
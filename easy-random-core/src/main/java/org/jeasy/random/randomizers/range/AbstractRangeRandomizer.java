@@ -23,6 +23,7 @@
  */
 package org.jeasy.random.randomizers.range;
 
+import org.jeasy.random.api.RandomSourceFactory;
 import org.jeasy.random.randomizers.AbstractRandomizer;
 
 /**
@@ -44,7 +45,11 @@ public abstract class AbstractRangeRandomizer<T> extends AbstractRandomizer<T> {
     }
 
     protected AbstractRangeRandomizer(final T min, final T max, final long seed) {
-        super(seed);
+        this(min, max, seed, null);
+    }
+
+    protected AbstractRangeRandomizer(final T min, final T max, final long seed, final RandomSourceFactory randomSourceFactory) {
+        super(seed, randomSourceFactory);
         this.min = min != null ? min : getDefaultMinValue();
         this.max = max != null ? max : getDefaultMaxValue();
         checkValues();
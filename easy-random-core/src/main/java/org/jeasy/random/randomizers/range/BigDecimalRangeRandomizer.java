@@ -23,6 +23,7 @@
  */
 package org.jeasy.random.randomizers.range;
 
+import org.jeasy.random.api.RandomSourceFactory;
 import org.jeasy.random.api.Randomizer;
 
 import java.math.BigDecimal;
@@ -60,6 +61,18 @@ public class BigDecimalRangeRandomizer implements Randomizer<BigDecimal> {
         delegate = new DoubleRangeRandomizer(min, max, seed);
     }
 
+    /**
+     * Create a new {@link BigDecimalRangeRandomizer}.
+     *
+     * @param min  min value (inclusive)
+     * @param max  max value (exclusive)
+     * @param seed initial seed
+     * @param randomSourceFactory factory of the random source, or null to use {@link java.util.Random}
+     */
+    public BigDecimalRangeRandomizer(final Double min, final Double max, final long seed, final RandomSourceFactory randomSourceFactory) {
+        delegate = new DoubleRangeRandomizer(min, max, seed, randomSourceFactory);
+    }
+
     /**
      * Create a new {@link BigDecimalRangeRandomizer}. The default rounding mode is {@link RoundingMode#HALF_UP}.
      *
@@ -108,7 +121,27 @@ public class BigDecimalRangeRandomizer implements Randomizer<BigDecimal> {
      * @param roundingMode of the {@code BigDecimal} value to be returned.
      */
     public BigDecimalRangeRandomizer(final Double min, final Double max, final long seed, final Integer scale, final RoundingMode roundingMode) {
-        delegate = new DoubleRangeRandomizer(min, max, seed);
+        this(min, max, seed, scale, roundingMode, null);
+    }
+
+    /**
+     * Create a new {@link BigDecimalRangeRandomizer}.
+     *
+     * @param min   min value (inclusive)
+     * @param max   max value (exclusive)
+     * @param seed initial seed
+     * @param scale of the {@code BigDecimal} value to be returned.
+     * @param roundingMode of the {@code BigDecimal} value to be returned.
+     * @param randomSourceFactory factory of the random source, or null to use {@link java.util.Random}
+     */
+    public BigDecimalRangeRandomizer(final Double min, final Double max, final long seed, final Integer scale, final RoundingMode roundingMode, final RandomSourceFactory randomSourceFactory) {
+        delegate = new DoubleRangeRandomizer(min, max, seed, randomSourceFactory);
+        this.scale = scale;
+        this.roundingMode = roundingMode;
+    }
+
+    private BigDecimalRangeRandomizer(final DoubleRangeRandomizer delegate, final Integer scale, final RoundingMode roundingMode) {
+        this.delegate = delegate;
         this.scale = scale;
         this.roundingMode = roundingMode;
     }
@@ -122,4 +155,9 @@ public class BigDecimalRangeRandomizer implements Randomizer<BigDecimal> {
         }
         return randomValue;
     }
+
+    @Override
+    public BigDecimalRangeRandomizer fork(final long seed) {
+        return getClass() == BigDecimalRangeRandomizer.class ? new BigDecimalRangeRandomizer(delegate.fork(seed), scale, roundingMode) : this;
+    }
 }
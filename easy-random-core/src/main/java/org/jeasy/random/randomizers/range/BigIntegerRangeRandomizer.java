@@ -23,6 +23,7 @@
  */
 package org.jeasy.random.randomizers.range;
 
+import org.jeasy.random.api.RandomSourceFactory;
 import org.jeasy.random.api.Randomizer;
 
 import java.math.BigInteger;
@@ -54,11 +55,32 @@ public class BigIntegerRangeRandomizer implements Randomizer<BigInteger> {
      * @param seed initial seed
      */
     public BigIntegerRangeRandomizer(final Integer min, final Integer max, final long seed) {
-        delegate = new IntegerRangeRandomizer(min, max, seed);
+        this(min, max, seed, null);
+    }
+
+    /**
+     * Create a new {@link BigIntegerRangeRandomizer}.
+     *
+     * @param min  min value (inclusive)
+     * @param max  max value (exclusive)
+     * @param seed initial seed
+     * @param randomSourceFactory factory of the random source, or null to use {@link java.util.Random}
+     */
+    public BigIntegerRangeRandomizer(final Integer min, final Integer max, final long seed, final RandomSourceFactory randomSourceFactory) {
+        delegate = new IntegerRangeRandomizer(min, max, seed, randomSourceFactory);
+    }
+
+    private BigIntegerRangeRandomizer(final IntegerRangeRandomizer delegate) {
+        this.delegate = delegate;
     }
 
     @Override
     public BigInteger getRandomValue() {
         return new BigInteger(String.valueOf(delegate.getRandomValue()));
     }
+
+    @Override
+    public BigIntegerRangeRandomizer fork(final long seed) {
+        return getClass() == BigIntegerRangeRandomizer.class ? new BigIntegerRangeRandomizer(delegate.fork(seed)) : this;
+    }
 }
@@ -23,12 +23,15 @@
  */
 package org.jeasy.random.randomizers.range;
 
+import org.jeasy.random.api.RandomSourceFactory;
+import org.jeasy.random.randomizers.PrimitiveArrayFiller;
+
 /**
  * Generate a random {@link Byte} in the given range.
  *
  * @author Rémi Alvergnat (toilal.dev@gmail.com)
  */
-public class ByteRangeRandomizer extends AbstractRangeRandomizer<Byte> {
+public class ByteRangeRandomizer extends AbstractRangeRandomizer<Byte> implements PrimitiveArrayFiller {
 
     /**
      * Create a new {@link ByteRangeRandomizer}.
@@ -48,7 +51,19 @@ public class ByteRangeRandomizer extends AbstractRangeRandomizer<Byte> {
      * @param seed initial seed
      */
     public ByteRangeRandomizer(final Byte min, final Byte max, final long seed) {
-        super(min, max, seed);
+        this(min, max, seed, null);
+    }
+
+    /**
+     * Create a new {@link ByteRangeRandomizer}.
+     *
+     * @param min  min value (inclusive)
+     * @param max  max value (exclusive)
+     * @param seed initial seed
+     * @param randomSourceFactory factory of the random source, or null to use {@link java.util.Random}
+     */
+    public ByteRangeRandomizer(final Byte min, final Byte max, final long seed, final RandomSourceFactory randomSourceFactory) {
+        super(min, max, seed, randomSourceFactory);
     }
 
     @Override
@@ -72,4 +87,19 @@ public class ByteRangeRandomizer extends AbstractRangeRandomizer<Byte> {
     protected Byte getDefaultMinValue() {
         return Byte.MIN_VALUE;
     }
+
+    @Override
+    public void fill(final Object array) {
+        byte[] values = (byte[]) array;
+        double lower = min;
+        double upper = max;
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (byte) nextDouble(lower, upper);
+        }
+    }
+
+    @Override
+    public ByteRangeRandomizer fork(final long seed) {
+        return getClass() == ByteRangeRandomizer.class ? new ByteRangeRandomizer(min, max, seed, getForkSourceFactory()) : this;
+    }
 }
@@ -23,6 +23,8 @@
  */
 package org.jeasy.random.randomizers.range;
 
+import org.jeasy.random.api.RandomSourceFactory;
+
 import java.util.Date;
 
 /**
@@ -50,7 +52,19 @@ public class DateRangeRandomizer extends AbstractRangeRandomizer<Date> {
      * @param seed initial seed
      */
     public DateRangeRandomizer(final Date min, final Date max, final long seed) {
-        super(min, max, seed);
+        this(min, max, seed, null);
+    }
+
+    /**
+     * Create a new {@link DateRangeRandomizer}.
+     *
+     * @param min  min value (inclusive)
+     * @param max  max value (exclusive)
+     * @param seed initial seed
+     * @param randomSourceFactory factory of the random source, or null to use {@link java.util.Random}
+     */
+    public DateRangeRandomizer(final Date min, final Date max, final long seed, final RandomSourceFactory randomSourceFactory) {
+        super(min, max, seed, randomSourceFactory);
     }
 
     @Override
@@ -78,4 +92,8 @@ public class DateRangeRandomizer extends AbstractRangeRandomizer<Date> {
         return new Date(randomDateTime);
     }
 
+    @Override
+    public DateRangeRandomizer fork(final long seed) {
+        return getClass() == DateRangeRandomizer.class ? new DateRangeRandomizer(min, max, seed, getForkSourceFactory()) : this;
+    }
 }
@@ -23,12 +23,15 @@
  */
 package org.jeasy.random.randomizers.range;
 
+import org.jeasy.random.api.RandomSourceFactory;
+import org.jeasy.random.randomizers.PrimitiveArrayFiller;
+
 /**
  * Generate a random {@link Double} in the given range.
  *
  * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
  */
-public class DoubleRangeRandomizer extends AbstractRangeRandomizer<Double> {
+public class DoubleRangeRandomizer extends AbstractRangeRandomizer<Double> implements PrimitiveArrayFiller {
 
     /**
      * Create a new {@link DoubleRangeRandomizer}.
@@ -48,7 +51,19 @@ public class DoubleRangeRandomizer extends AbstractRangeRandomizer<Double> {
      * @param seed initial seed
      */
     public DoubleRangeRandomizer(final Double min, final Double max, final long seed) {
-        super(min, max, seed);
+        this(min, max, seed, null);
+    }
+
+    /**
+     * Create a new {@link DoubleRangeRandomizer}.
+     *
+     * @param min  min value (inclusive)
+     * @param max  max value (exclusive)
+     * @param seed initial seed
+     * @param randomSourceFactory factory of the random source, or null to use {@link java.util.Random}
+     */
+    public DoubleRangeRandomizer(final Double min, final Double max, final long seed, final RandomSourceFactory randomSourceFactory) {
+        super(min, max, seed, randomSourceFactory);
     }
 
     @Override
@@ -72,4 +87,19 @@ public class DoubleRangeRandomizer extends AbstractRangeRandomizer<Double> {
     public Double getRandomValue() {
         return nextDouble(min, max);
     }
+
+    @Override
+    public void fill(final Object array) {
+        double[] values = (double[]) array;
+        double lower = min;
+        double upper = max;
+        for (int i = 0; i < values.length; i++) {
+            values[i] = nextDouble(lower, upper);
+        }
+    }
+
+    @Override
+    public DoubleRangeRandomizer fork(final long seed) {
+        return getClass() == DoubleRangeRandomizer.class ? new DoubleRangeRandomizer(min, max, seed, getForkSourceFactory()) : this;
+    }
 }
@@ -23,12 +23,15 @@
  */
 package org.jeasy.random.randomizers.range;
 
+import org.jeasy.random.api.RandomSourceFactory;
+import org.jeasy.random.randomizers.PrimitiveArrayFiller;
+
 /**
  * Generate a random {@link Float} in the given range.
  *
  * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
  */
-public class FloatRangeRandomizer extends AbstractRangeRandomizer<Float> {
+public class FloatRangeRandomizer extends AbstractRangeRandomizer<Float> implements PrimitiveArrayFiller {
 
     /**
      * Create a new {@link FloatRangeRandomizer}.
@@ -48,7 +51,19 @@ public class FloatRangeRandomizer extends AbstractRangeRandomizer<Float> {
      * @param seed initial seed
      */
     public FloatRangeRandomizer(final Float min, final Float max, final long seed) {
-        super(min, max, seed);
+        this(min, max, seed, null);
+    }
+
+    /**
+     * Create a new {@link FloatRangeRandomizer}.
+     *
+     * @param min  min value (inclusive)
+     * @param max  max value (exclusive)
+     * @param seed initial seed
+     * @param randomSourceFactory factory of the random source, or null to use {@link java.util.Random}
+     */
+    public FloatRangeRandomizer(final Float min, final Float max, final long seed, final RandomSourceFactory randomSourceFactory) {
+        super(min, max, seed, randomSourceFactory);
     }
 
     @Override
@@ -72,4 +87,19 @@ public class FloatRangeRandomizer extends AbstractRangeRandomizer<Float> {
     public Float getRandomValue() {
         return (float) nextDouble(min, max);
     }
+
+    @Override
+    public void fill(final Object array) {
+        float[] values = (float[]) array;
+        double lower = min;
+        double upper = max;
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (float) nextDouble(lower, upper);
+        }
+    }
+
+    @Override
+    public FloatRangeRandomizer fork(final long seed) {
+        return getClass() == FloatRangeRandomizer.class ? new FloatRangeRandomizer(min, max, seed, getForkSourceFactory()) : this;
+    }
 }
@@ -23,6 +23,8 @@
  */
 package org.jeasy.random.randomizers.range;
 
+import org.jeasy.random.api.RandomSourceFactory;
+
 import java.time.Instant;
 
 public class InstantRangeRandomizer extends AbstractRangeRandomizer<Instant> {
@@ -45,7 +47,19 @@ public class InstantRangeRandomizer extends AbstractRangeRandomizer<Instant> {
 	 * @param seed initial seed
 	 */
     public InstantRangeRandomizer(final Instant min, final Instant max, long seed) {
-        super(min, max, seed);
+        this(min, max, seed, null);
+    }
+
+	/**
+	 * Create a new {@link InstantRangeRandomizer}.
+	 *
+	 * @param min min value (inclusive)
+	 * @param max max value (exclusive)
+	 * @param seed initial seed
+	 * @param randomSourceFactory factory of the random source, or null to use {@link java.util.Random}
+	 */
+    public InstantRangeRandomizer(final Instant min, final Instant max, final long seed, final RandomSourceFactory randomSourceFactory) {
+        super(min, max, seed, randomSourceFactory);
     }
 
     @Override
@@ -73,4 +87,8 @@ public class InstantRangeRandomizer extends AbstractRangeRandomizer<Instant> {
 		return Instant.ofEpochMilli(randomEpochMillis);
     }
 
+    @Override
+    public InstantRangeRandomizer fork(final long seed) {
+        return getClass() == InstantRangeRandomizer.class ? new InstantRangeRandomizer(min, max, seed, getForkSourceFactory()) : this;
+    }
 }
@@ -23,12 +23,15 @@
  */
 package org.jeasy.random.randomizers.range;
 
+import org.jeasy.random.api.RandomSourceFactory;
+import org.jeasy.random.randomizers.PrimitiveArrayFiller;
+
 /**
  * Generate a random {@link Integer} in the given range.
  *
  * @author Rémi Alvergnat (toilal.dev@gmail.com)
  */
-public class IntegerRangeRandomizer extends AbstractRangeRandomizer<Integer> {
+public class IntegerRangeRandomizer extends AbstractRangeRandomizer<Integer> implements PrimitiveArrayFiller {
 
     /**
      * Create a new {@link IntegerRangeRandomizer}.
@@ -48,7 +51,19 @@ public class IntegerRangeRandomizer extends AbstractRangeRandomizer<Integer> {
      * @param seed initial seed
      */
     public IntegerRangeRandomizer(final Integer min, final Integer max, final long seed) {
-        super(min, max, seed);
+        this(min, max, seed, null);
+    }
+
+    /**
+     * Create a new {@link IntegerRangeRandomizer}.
+     *
+     * @param min  min value (inclusive)
+     * @param max  max value (exclusive)
+     * @param seed initial seed
+     * @param randomSourceFactory factory of the random source, or null to use {@link java.util.Random}
+     */
+    public IntegerRangeRandomizer(final Integer min, final Integer max, final long seed, final RandomSourceFactory randomSourceFactory) {
+        super(min, max, seed, randomSourceFactory);
     }
 
     @Override
@@ -72,4 +87,19 @@ public class IntegerRangeRandomizer extends AbstractRangeRandomizer<Integer> {
     protected Integer getDefaultMinValue() {
         return Integer.MIN_VALUE;
     }
+
+    @Override
+    public void fill(final Object array) {
+        int[] values = (int[]) array;
+        double lower = min;
+        double upper = max;
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (int) nextDouble(lower, upper);
+        }
+    }
+
+    @Override
+    public IntegerRangeRandomizer fork(final long seed) {
+        return getClass() == IntegerRangeRandomizer.class ? new IntegerRangeRandomizer(min, max, seed, getForkSourceFactory()) : this;
+    }
 }
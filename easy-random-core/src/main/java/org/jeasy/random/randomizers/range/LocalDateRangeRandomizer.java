@@ -23,6 +23,8 @@
  */
 package org.jeasy.random.randomizers.range;
 
+import org.jeasy.random.api.RandomSourceFactory;
+
 import java.time.LocalDate;
 import java.time.temporal.ChronoField;
 
@@ -51,7 +53,19 @@ public class LocalDateRangeRandomizer extends AbstractRangeRandomizer<LocalDate>
      * @param seed initial seed
      */
     public LocalDateRangeRandomizer(final LocalDate min, final LocalDate max, final long seed) {
-        super(min, max, seed);
+        this(min, max, seed, null);
+    }
+
+    /**
+     * Create a new {@link LocalDateRangeRandomizer}.
+     *
+     * @param min  min value (inclusive)
+     * @param max  max value (exclusive)
+     * @param seed initial seed
+     * @param randomSourceFactory factory of the random source, or null to use {@link java.util.Random}
+     */
+    public LocalDateRangeRandomizer(final LocalDate min, final LocalDate max, final long seed, final RandomSourceFactory randomSourceFactory) {
+        super(min, max, seed, randomSourceFactory);
     }
 
     @Override
@@ -79,4 +93,8 @@ public class LocalDateRangeRandomizer extends AbstractRangeRandomizer<LocalDate>
         return LocalDate.ofEpochDay(randomEpochDay);
     }
 
+    @Override
+    public LocalDateRangeRandomizer fork(final long seed) {
+        return getClass() == LocalDateRangeRandomizer.class ? new LocalDateRangeRandomizer(min, max, seed, getForkSourceFactory()) : this;
+    }
 }
@@ -23,6 +23,8 @@
  */
 package org.jeasy.random.randomizers.range;
 
+import org.jeasy.random.api.RandomSourceFactory;
+
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
@@ -52,7 +54,19 @@ public class LocalDateTimeRangeRandomizer extends AbstractRangeRandomizer<LocalD
      * @param seed initial seed
      */
     public LocalDateTimeRangeRandomizer(final LocalDateTime min, final LocalDateTime max, final long seed) {
-        super(min, max, seed);
+        this(min, max, seed, null);
+    }
+
+    /**
+     * Create a new {@link LocalDateTimeRangeRandomizer}.
+     *
+     * @param min  min value (inclusive)
+     * @param max  max value (exclusive)
+     * @param seed initial seed
+     * @param randomSourceFactory factory of the random source, or null to use {@link java.util.Random}
+     */
+    public LocalDateTimeRangeRandomizer(final LocalDateTime min, final LocalDateTime max, final long seed, final RandomSourceFactory randomSourceFactory) {
+        super(min, max, seed, randomSourceFactory);
     }
 
     @Override
@@ -86,4 +100,8 @@ public class LocalDateTimeRangeRandomizer extends AbstractRangeRandomizer<LocalD
         return LocalDateTime.ofInstant(instant, ZoneOffset.UTC);
     }
 
+    @Override
+    public LocalDateTimeRangeRandomizer fork(final long seed) {
+        return getClass() == LocalDateTimeRangeRandomizer.class ? new LocalDateTimeRangeRandomizer(min, max, seed, getForkSourceFactory()) : this;
+    }
 }
@@ -23,6 +23,8 @@
  */
 package org.jeasy.random.randomizers.range;
 
+import org.jeasy.random.api.RandomSourceFactory;
+
 import java.time.LocalTime;
 
 /**
@@ -50,7 +52,19 @@ public class LocalTimeRangeRandomizer extends AbstractRangeRandomizer<LocalTime>
      * @param seed initial seed
      */
     public LocalTimeRangeRandomizer(final LocalTime min, final LocalTime max, final long seed) {
-        super(min, max, seed);
+        this(min, max, seed, null);
+    }
+
+    /**
+     * Create a new {@link LocalTimeRangeRandomizer}.
+     *
+     * @param min  min value (inclusive)
+     * @param max  max value (exclusive)
+     * @param seed initial seed
+     * @param randomSourceFactory factory of the random source, or null to use {@link java.util.Random}
+     */
+    public LocalTimeRangeRandomizer(final LocalTime min, final LocalTime max, final long seed, final RandomSourceFactory randomSourceFactory) {
+        super(min, max, seed, randomSourceFactory);
     }
 
     @Override
@@ -89,4 +103,8 @@ public class LocalTimeRangeRandomizer extends AbstractRangeRandomizer<LocalTime>
         return LocalTime.of(randomHour, randomMinute, randomSecond, randomNanoSecond);
     }
 
+    @Override
+    public LocalTimeRangeRandomizer fork(final long seed) {
+        return getClass() == LocalTimeRangeRandomizer.class ? new LocalTimeRangeRandomizer(min, max, seed, getForkSourceFactory()) : this;
+    }
 }
@@ -23,12 +23,15 @@
  */
 package org.jeasy.random.randomizers.range;
 
+import org.jeasy.random.api.RandomSourceFactory;
+import org.jeasy.random.randomizers.PrimitiveArrayFiller;
+
 /**
  * Generate a random {@link Long} in the given range.
  *
  * @author Rémi Alvergnat (toilal.dev@gmail.com)
  */
-public class LongRangeRandomizer extends AbstractRangeRandomizer<Long> {
+public class LongRangeRandomizer extends AbstractRangeRandomizer<Long> implements PrimitiveArrayFiller {
 
     /**
      * Create a new {@link LongRangeRandomizer}.
@@ -48,7 +51,19 @@ public class LongRangeRandomizer extends AbstractRangeRandomizer<Long> {
      * @param seed initial seed
      */
     public LongRangeRandomizer(final Long min, final Long max, final long seed) {
-        super(min, max, seed);
+        this(min, max, seed, null);
+    }
+
+    /**
+     * Create a new {@link LongRangeRandomizer}.
+     *
+     * @param min  min value (inclusive)
+     * @param max  max value (exclusive)
+     * @param seed initial seed
+     * @param randomSourceFactory factory of the random source, or null to use {@link java.util.Random}
+     */
+    public LongRangeRandomizer(final Long min, final Long max, final long seed, final RandomSourceFactory randomSourceFactory) {
+        super(min, max, seed, randomSourceFactory);
     }
 
     @Override
@@ -72,4 +87,19 @@ public class LongRangeRandomizer extends AbstractRangeRandomizer<Long> {
     protected Long getDefaultMinValue() {
         return Long.MIN_VALUE;
     }
+
+    @Override
+    public void fill(final Object array) {
+        long[] values = (long[]) array;
+        double lower = min;
+        double upper = max;
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (long) nextDouble(lower, upper);
+        }
+    }
+
+    @Override
+    public LongRangeRandomizer fork(final long seed) {
+        return getClass() == LongRangeRandomizer.class ? new LongRangeRandomizer(min, max, seed, getForkSourceFactory()) : this;
+    }
 }
@@ -27,6 +27,7 @@ import java.time.Instant;
 import java.time.OffsetDateTime;
 
 import org.jeasy.random.EasyRandomParameters;
+import org.jeasy.random.api.RandomSourceFactory;
 
 /**
  * Generate a random {@link OffsetDateTime} in the given range.
@@ -51,7 +52,19 @@ public class OffsetDateTimeRangeRandomizer extends AbstractRangeRandomizer<Offse
      * @param seed initial seed
      */
     public OffsetDateTimeRangeRandomizer(final OffsetDateTime min, final OffsetDateTime max, final long seed) {
-        super(min, max, seed);
+        this(min, max, seed, null);
+    }
+
+    /**
+     * Create a new {@link OffsetDateTimeRangeRandomizer}.
+     *
+     * @param min  min value (inclusive)
+     * @param max  max value (exclusive)
+     * @param seed initial seed
+     * @param randomSourceFactory factory of the random source, or null to use {@link java.util.Random}
+     */
+    public OffsetDateTimeRangeRandomizer(final OffsetDateTime min, final OffsetDateTime max, final long seed, final RandomSourceFactory randomSourceFactory) {
+        super(min, max, seed, randomSourceFactory);
     }
 
     @Override
@@ -82,4 +95,9 @@ public class OffsetDateTimeRangeRandomizer extends AbstractRangeRandomizer<Offse
         return OffsetDateTime.ofInstant(Instant.ofEpochSecond(seconds, nanoSeconds),
                 EasyRandomParameters.DEFAULT_DATES_RANGE.getMin().getZone());
     }
+
+    @Override
+    public OffsetDateTimeRangeRandomizer fork(final long seed) {
+        return getClass() == OffsetDateTimeRangeRandomizer.class ? new OffsetDateTimeRangeRandomizer(min, max, seed, getForkSourceFactory()) : this;
+    }
 }
@@ -28,6 +28,7 @@ import java.time.OffsetTime;
 import java.time.temporal.ChronoField;
 
 import org.jeasy.random.EasyRandomParameters;
+import org.jeasy.random.api.RandomSourceFactory;
 
 /**
  * Generate a random {@link OffsetTime} in the given range.
@@ -52,7 +53,19 @@ public class OffsetTimeRangeRandomizer extends AbstractRangeRandomizer<OffsetTim
      * @param seed initial seed
      */
     public OffsetTimeRangeRandomizer(final OffsetTime min, final OffsetTime max, final long seed) {
-        super(min, max, seed);
+        this(min, max, seed, null);
+    }
+
+    /**
+     * Create a new {@link OffsetTimeRangeRandomizer}.
+     *
+     * @param min  min value (inclusive)
+     * @param max  max value (exclusive)
+     * @param seed initial seed
+     * @param randomSourceFactory factory of the random source, or null to use {@link java.util.Random}
+     */
+    public OffsetTimeRangeRandomizer(final OffsetTime min, final OffsetTime max, final long seed, final RandomSourceFactory randomSourceFactory) {
+        super(min, max, seed, randomSourceFactory);
     }
 
     @Override
@@ -80,4 +93,8 @@ public class OffsetTimeRangeRandomizer extends AbstractRangeRandomizer<OffsetTim
         return OffsetTime.of(LocalTime.ofSecondOfDay(randomSecondOfDay), EasyRandomParameters.DEFAULT_DATES_RANGE.getMin().getOffset());
     }
 
+    @Override
+    public OffsetTimeRangeRandomizer fork(final long seed) {
+        return getClass() == OffsetTimeRangeRandomizer.class ? new OffsetTimeRangeRandomizer(min, max, seed, getForkSourceFactory()) : this;
+    }
 }
@@ -23,12 +23,15 @@
  */
 package org.jeasy.random.randomizers.range;
 
+import org.jeasy.random.api.RandomSourceFactory;
+import org.jeasy.random.randomizers.PrimitiveArrayFiller;
+
 /**
  * Generate a random {@link Short} in the given range.
  *
  * @author Rémi Alvergnat (toilal.dev@gmail.com)
  */
-public class ShortRangeRandomizer extends AbstractRangeRandomizer<Short> {
+public class ShortRangeRandomizer extends AbstractRangeRandomizer<Short> implements PrimitiveArrayFiller {
 
     /**
      * Create a new {@link ShortRangeRandomizer}.
@@ -48,7 +51,19 @@ public class ShortRangeRandomizer extends AbstractRangeRandomizer<Short> {
      * @param seed initial seed
      */
     public ShortRangeRandomizer(final Short min, final Short max, final long seed) {
-        super(min, max, seed);
+        this(min, max, seed, null);
+    }
+
+    /**
+     * Create a new {@link ShortRangeRandomizer}.
+     *
+     * @param min  min value (inclusive)
+     * @param max  max value (exclusive)
+     * @param seed initial seed
+     * @param randomSourceFactory factory of the random source, or null to use {@link java.util.Random}
+     */
+    public ShortRangeRandomizer(final Short min, final Short max, final long seed, final RandomSourceFactory randomSourceFactory) {
+        super(min, max, seed, randomSourceFactory);
     }
 
     @Override
@@ -72,4 +87,19 @@ public class ShortRangeRandomizer extends AbstractRangeRandomizer<Short> {
     protected Short getDefaultMinValue() {
         return Short.MIN_VALUE;
     }
+
+    @Override
+    public void fill(final Object array) {
+        short[] values = (short[]) array;
+        double lower = min;
+        double upper = max;
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (short) nextDouble(lower, upper);
+        }
+    }
+
+    @Override
+    public ShortRangeRandomizer fork(final long seed) {
+        return getClass() == ShortRangeRandomizer.class ? new ShortRangeRandomizer(min, max, seed, getForkSourceFactory()) : this;
+    }
 }
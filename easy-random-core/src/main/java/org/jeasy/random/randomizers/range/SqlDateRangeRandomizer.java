@@ -23,6 +23,8 @@
  */
 package org.jeasy.random.randomizers.range;
 
+import org.jeasy.random.api.RandomSourceFactory;
+
 import java.sql.Date;
 
 /**
@@ -50,7 +52,19 @@ public class SqlDateRangeRandomizer extends AbstractRangeRandomizer<Date> {
      * @param seed initial seed
      */
     public SqlDateRangeRandomizer(final Date min, final Date max, final long seed) {
-        super(min, max, seed);
+        this(min, max, seed, null);
+    }
+
+    /**
+     * Create a new {@link SqlDateRangeRandomizer}.
+     *
+     * @param min  min value (inclusive)
+     * @param max  max value (exclusive)
+     * @param seed initial seed
+     * @param randomSourceFactory factory of the random source, or null to use {@link java.util.Random}
+     */
+    public SqlDateRangeRandomizer(final Date min, final Date max, final long seed, final RandomSourceFactory randomSourceFactory) {
+        super(min, max, seed, randomSourceFactory);
     }
 
     @Override
@@ -78,4 +92,8 @@ public class SqlDateRangeRandomizer extends AbstractRangeRandomizer<Date> {
         return new Date(randomDateTime);
     }
 
+    @Override
+    public SqlDateRangeRandomizer fork(final long seed) {
+        return getClass() == SqlDateRangeRandomizer.class ? new SqlDateRangeRandomizer(min, max, seed, getForkSourceFactory()) : this;
+    }
 }
@@ -28,6 +28,7 @@ import java.time.ZonedDateTime;
 import java.time.temporal.ChronoField;
 
 import org.jeasy.random.EasyRandomParameters;
+import org.jeasy.random.api.RandomSourceFactory;
 
 /**
  * Generate a random {@link YearMonth} in the given range.
@@ -52,7 +53,19 @@ public class YearMonthRangeRandomizer extends AbstractRangeRandomizer<YearMonth>
      * @param seed initial seed
      */
     public YearMonthRangeRandomizer(final YearMonth min, final YearMonth max, final long seed) {
-        super(min, max, seed);
+        this(min, max, seed, null);
+    }
+
+    /**
+     * Create a new {@link YearMonthRangeRandomizer}.
+     *
+     * @param min  min value (inclusive)
+     * @param max  max value (exclusive)
+     * @param seed initial seed
+     * @param randomSourceFactory factory of the random source, or null to use {@link java.util.Random}
+     */
+    public YearMonthRangeRandomizer(final YearMonth min, final YearMonth max, final long seed, final RandomSourceFactory randomSourceFactory) {
+        super(min, max, seed, randomSourceFactory);
     }
 
     @Override
@@ -84,4 +97,9 @@ public class YearMonthRangeRandomizer extends AbstractRangeRandomizer<YearMonth>
         long randomMonth = (long) nextDouble(minMonth, maxMonth);
         return YearMonth.of(Math.toIntExact(randomYear), Math.toIntExact(randomMonth));
     }
+
+    @Override
+    public YearMonthRangeRandomizer fork(final long seed) {
+        return getClass() == YearMonthRangeRandomizer.class ? new YearMonthRangeRandomizer(min, max, seed, getForkSourceFactory()) : this;
+    }
 }
@@ -27,6 +27,7 @@ import java.time.Year;
 import java.time.temporal.ChronoField;
 
 import org.jeasy.random.EasyRandomParameters;
+import org.jeasy.random.api.RandomSourceFactory;
 
 /**
  * Generate a random {@link Year} in the given range.
@@ -51,7 +52,19 @@ public class YearRangeRandomizer extends AbstractRangeRandomizer<Year> {
      * @param seed initial seed
      */
     public YearRangeRandomizer(final Year min, final Year max, final long seed) {
-        super(min, max, seed);
+        this(min, max, seed, null);
+    }
+
+    /**
+     * Create a new {@link YearRangeRandomizer}.
+     *
+     * @param min  min value (inclusive)
+     * @param max  max value (exclusive)
+     * @param seed initial seed
+     * @param randomSourceFactory factory of the random source, or null to use {@link java.util.Random}
+     */
+    public YearRangeRandomizer(final Year min, final Year max, final long seed, final RandomSourceFactory randomSourceFactory) {
+        super(min, max, seed, randomSourceFactory);
     }
 
     @Override
@@ -78,4 +91,9 @@ public class YearRangeRandomizer extends AbstractRangeRandomizer<Year> {
         long randomYear = (long) nextDouble(minYear, maxYear);
         return Year.of(Math.toIntExact(randomYear));
     }
+
+    @Override
+    public YearRangeRandomizer fork(final long seed) {
+        return getClass() == YearRangeRandomizer.class ? new YearRangeRandomizer(min, max, seed, getForkSourceFactory()) : this;
+    }
 }
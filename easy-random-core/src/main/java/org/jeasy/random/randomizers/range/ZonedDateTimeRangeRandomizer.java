@@ -27,6 +27,7 @@ import java.time.Instant;
 import java.time.ZonedDateTime;
 
 import org.jeasy.random.EasyRandomParameters;
+import org.jeasy.random.api.RandomSourceFactory;
 
 /**
  * Generate a random {@link ZonedDateTime} in the given range.
@@ -51,7 +52,19 @@ public class ZonedDateTimeRangeRandomizer extends AbstractRangeRandomizer<ZonedD
      * @param seed initial seed
      */
     public ZonedDateTimeRangeRandomizer(final ZonedDateTime min, final ZonedDateTime max, final long seed) {
-        super(min, max, seed);
+        this(min, max, seed, null);
+    }
+
+    /**
+     * Create a new {@link ZonedDateTimeRangeRandomizer}.
+     *
+     * @param min  min value (inclusive)
+     * @param max  max value (exclusive)
+     * @param seed initial seed
+     * @param randomSourceFactory factory of the random source, or null to use {@link java.util.Random}
+     */
+    public ZonedDateTimeRangeRandomizer(final ZonedDateTime min, final ZonedDateTime max, final long seed, final RandomSourceFactory randomSourceFactory) {
+        super(min, max, seed, randomSourceFactory);
     }
 
     @Override
@@ -82,4 +95,8 @@ public class ZonedDateTimeRangeRandomizer extends AbstractRangeRandomizer<ZonedD
         return ZonedDateTime.ofInstant(Instant.ofEpochSecond(seconds, nanoSeconds), min.getZone());
     }
 
+    @Override
+    public ZonedDateTimeRangeRandomizer fork(final long seed) {
+        return getClass() == ZonedDateTimeRangeRandomizer.class ? new ZonedDateTimeRangeRandomizer(min, max, seed, getForkSourceFactory()) : this;
+    }
 }
@@ -0,0 +1,91 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.randomizers.registry;
+
+import java.lang.reflect.Field;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jeasy.random.EasyRandomParameters;
+import org.jeasy.random.ObjectCreationException;
+import org.jeasy.random.annotation.Priority;
+import org.jeasy.random.annotation.Randomizable;
+import org.jeasy.random.api.Randomizer;
+import org.jeasy.random.api.RandomizerRegistry;
+import org.jeasy.random.randomizers.GeneratedRandomizer;
+
+/**
+ * A {@link RandomizerRegistry} for types annotated with {@link Randomizable}. It provides the
+ * {@link GeneratedRandomizer} generated at compile time for these types, if any.
+ */
+@Priority(-3)
+public class GeneratedRandomizerRegistry implements RandomizerRegistry {
+
+    private final Map<Class<?>, Optional<GeneratedRandomizer<?>>> generatedRandomizers = new ConcurrentHashMap<>();
+
+    private EasyRandomParameters parameters;
+
+    @Override
+    public void init(EasyRandomParameters parameters) {
+        this.parameters = parameters;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Randomizer<?> getRandomizer(Field field) {
+        return null;
+    }
+
+    /**
+     * Retrieves the generated randomizer of the given type.
+     *
+     * @param type the type annotated with {@link Randomizable}
+     * @return the generated randomizer of the given type, or null if there is none
+     */
+    @Override
+    public Randomizer<?> getRandomizer(Class<?> type) {
+        if (!type.isAnnotationPresent(Randomizable.class)) {
+            return null;
+        }
+        return generatedRandomizers.computeIfAbsent(type, this::loadGeneratedRandomizer).orElse(null);
+    }
+
+    private Optional<GeneratedRandomizer<?>> loadGeneratedRandomizer(Class<?> type) {
+        String name = GeneratedRandomizer.getGeneratedName(type);
+        try {
+            Class<?> randomizerClass = Class.forName(name, true, type.getClassLoader());
+            GeneratedRandomizer<?> randomizer = (GeneratedRandomizer<?>) randomizerClass.getDeclaredConstructor().newInstance();
+            randomizer.init(parameters);
+            return Optional.of(randomizer);
+        } catch (ClassNotFoundException e) {
+            // the annotation processor has not been run on this type
+            return Optional.empty();
+        } catch (ReflectiveOperationException | ClassCastException e) {
+            throw new ObjectCreationException("Unable to create generated randomizer " + name, e);
+        }
+    }
+}
@@ -25,6 +25,7 @@ package org.jeasy.random.randomizers.registry;
 
 import org.jeasy.random.annotation.Priority;
 import org.jeasy.random.EasyRandomParameters;
+import org.jeasy.random.api.RandomSourceFactory;
 import org.jeasy.random.api.Randomizer;
 import org.jeasy.random.api.RandomizerRegistry;
 import org.jeasy.random.randomizers.misc.BooleanRandomizer;
@@ -39,6 +40,7 @@ import org.jeasy.random.randomizers.range.SqlDateRangeRandomizer;
 import org.jeasy.random.randomizers.text.CharacterRandomizer;
 import org.jeasy.random.randomizers.text.StringRandomizer;
 import org.jeasy.random.randomizers.time.*;
+import org.jeasy.random.util.SourceRandom;
 
 import java.lang.reflect.Field;
 import java.math.BigDecimal;
@@ -70,40 +72,41 @@ public class InternalRandomizerRegistry implements RandomizerRegistry {
     @Override
     public void init(EasyRandomParameters parameters) {
         long seed = parameters.getSeed();
+        RandomSourceFactory randomSourceFactory = SourceRandom.getRandomSourceFactory(parameters);
         Charset charset = parameters.getCharset();
-        randomizers.put(String.class, new StringRandomizer(charset, parameters.getStringLengthRange().getMin(), parameters.getStringLengthRange().getMax(), seed));
-        CharacterRandomizer characterRandomizer = new CharacterRandomizer(charset, seed);
+        randomizers.put(String.class, new StringRandomizer(charset, parameters.getStringLengthRange().getMin(), parameters.getStringLengthRange().getMax(), seed, randomSourceFactory));
+        CharacterRandomizer characterRandomizer = new CharacterRandomizer(charset, seed, randomSourceFactory);
         randomizers.put(Character.class, characterRandomizer);
         randomizers.put(char.class, characterRandomizer);
-        randomizers.put(Boolean.class, new BooleanRandomizer(seed));
-        randomizers.put(boolean.class, new BooleanRandomizer(seed));
-        randomizers.put(Byte.class, new ByteRandomizer(seed));
-        randomizers.put(byte.class, new ByteRandomizer(seed));
-        randomizers.put(Short.class, new ShortRandomizer(seed));
-        randomizers.put(short.class, new ShortRandomizer(seed));
-        randomizers.put(Integer.class, new IntegerRandomizer(seed));
-        randomizers.put(int.class, new IntegerRandomizer(seed));
-        randomizers.put(Long.class, new LongRandomizer(seed));
-        randomizers.put(long.class, new LongRandomizer(seed));
-        randomizers.put(Double.class, new DoubleRandomizer(seed));
-        randomizers.put(double.class, new DoubleRandomizer(seed));
-        randomizers.put(Float.class, new FloatRandomizer(seed));
-        randomizers.put(float.class, new FloatRandomizer(seed));
-        randomizers.put(BigInteger.class, new BigIntegerRandomizer(seed));
-        randomizers.put(BigDecimal.class, new BigDecimalRandomizer(seed));
-        randomizers.put(AtomicLong.class, new AtomicLongRandomizer(seed));
-        randomizers.put(AtomicInteger.class, new AtomicIntegerRandomizer(seed));
+        randomizers.put(Boolean.class, new BooleanRandomizer(seed, randomSourceFactory));
+        randomizers.put(boolean.class, new BooleanRandomizer(seed, randomSourceFactory));
+        randomizers.put(Byte.class, new ByteRandomizer(seed, randomSourceFactory));
+        randomizers.put(byte.class, new ByteRandomizer(seed, randomSourceFactory));
+        randomizers.put(Short.class, new ShortRandomizer(seed, randomSourceFactory));
+        randomizers.put(short.class, new ShortRandomizer(seed, randomSourceFactory));
+        randomizers.put(Integer.class, new IntegerRandomizer(seed, randomSourceFactory));
+        randomizers.put(int.class, new IntegerRandomizer(seed, randomSourceFactory));
+        randomizers.put(Long.class, new LongRandomizer(seed, randomSourceFactory));
+        randomizers.put(long.class, new LongRandomizer(seed, randomSourceFactory));
+        randomizers.put(Double.class, new DoubleRandomizer(seed, randomSourceFactory));
+        randomizers.put(double.class, new DoubleRandomizer(seed, randomSourceFactory));
+        randomizers.put(Float.class, new FloatRandomizer(seed, randomSourceFactory));
+        randomizers.put(float.class, new FloatRandomizer(seed, randomSourceFactory));
+        randomizers.put(BigInteger.class, new BigIntegerRandomizer(seed, randomSourceFactory));
+        randomizers.put(BigDecimal.class, new BigDecimalRandomizer(seed, randomSourceFactory));
+        randomizers.put(AtomicLong.class, new AtomicLongRandomizer(seed, randomSourceFactory));
+        randomizers.put(AtomicInteger.class, new AtomicIntegerRandomizer(seed, randomSourceFactory));
         Date minDate = valueOf(parameters.getDateRange().getMin());
         Date maxDate = valueOf(parameters.getDateRange().getMax());
-        randomizers.put(Date.class, new DateRangeRandomizer(minDate, maxDate, seed));
-        randomizers.put(java.sql.Date.class, new SqlDateRangeRandomizer(new java.sql.Date(minDate.getTime()), new java.sql.Date(maxDate.getTime()), seed));
-        randomizers.put(java.sql.Time.class, new SqlTimeRandomizer(seed));
-        randomizers.put(java.sql.Timestamp.class, new SqlTimestampRandomizer(seed));
-        randomizers.put(Calendar.class, new CalendarRandomizer(seed));
-        randomizers.put(URL.class, new UrlRandomizer(seed));
-        randomizers.put(URI.class, new UriRandomizer(seed));
-        randomizers.put(Locale.class, new LocaleRandomizer(seed));
-        randomizers.put(UUID.class, new UUIDRandomizer(seed));
+        randomizers.put(Date.class, new DateRangeRandomizer(minDate, maxDate, seed, randomSourceFactory));
+        randomizers.put(java.sql.Date.class, new SqlDateRangeRandomizer(new java.sql.Date(minDate.getTime()), new java.sql.Date(maxDate.getTime()), seed, randomSourceFactory));
+        randomizers.put(java.sql.Time.class, new SqlTimeRandomizer(seed, randomSourceFactory));
+        randomizers.put(java.sql.Timestamp.class, new SqlTimestampRandomizer(seed, randomSourceFactory));
+        randomizers.put(Calendar.class, new CalendarRandomizer(seed, randomSourceFactory));
+        randomizers.put(URL.class, new UrlRandomizer(seed, randomSourceFactory));
+        randomizers.put(URI.class, new UriRandomizer(seed, randomSourceFactory));
+        randomizers.put(Locale.class, new LocaleRandomizer(seed, randomSourceFactory));
+        randomizers.put(UUID.class, new UUIDRandomizer(seed, randomSourceFactory));
         // issue #280: skip fields of type Class
         randomizers.put(Class.class, new SkipRandomizer());
     }
@@ -8,6 +8,7 @@ import java.util.Map;
 
 import org.jeasy.random.EasyRandomParameters;
 import org.jeasy.random.annotation.Priority;
+import org.jeasy.random.api.RandomSourceFactory;
 import org.jeasy.random.api.Randomizer;
 import org.jeasy.random.api.RandomizerRegistry;
 import org.jeasy.random.randomizers.range.BigDecimalRangeRandomizer;
@@ -18,6 +19,7 @@ import org.jeasy.random.randomizers.range.FloatRangeRandomizer;
 import org.jeasy.random.randomizers.range.IntegerRangeRandomizer;
 import org.jeasy.random.randomizers.range.LongRangeRandomizer;
 import org.jeasy.random.randomizers.range.ShortRangeRandomizer;
+import org.jeasy.random.util.SourceRandom;
 
 @Priority(-2)
 public class PositiveValueRandomizerRegistry implements RandomizerRegistry {
@@ -26,10 +28,12 @@ public class PositiveValueRandomizerRegistry implements RandomizerRegistry {
   @Override
   public void init(EasyRandomParameters parameters) {
     long seed = parameters.getSeed();
+    RandomSourceFactory randomSourceFactory = SourceRandom.getRandomSourceFactory(parameters);
     ByteRangeRandomizer byteRangeRandomizer = new ByteRangeRandomizer(
         (byte) 1,
         Byte.MAX_VALUE,
-        seed
+        seed,
+        randomSourceFactory
     );
     randomizers.put(Byte.class, byteRangeRandomizer);
     randomizers.put(byte.class, byteRangeRandomizer);
@@ -37,7 +41,8 @@ public class PositiveValueRandomizerRegistry implements RandomizerRegistry {
     ShortRangeRandomizer shortRangeRandomizer = new ShortRangeRandomizer(
         (short) 1,
         Short.MAX_VALUE,
-        seed
+        seed,
+        randomSourceFactory
     );
     randomizers.put(Short.class, shortRangeRandomizer);
     randomizers.put(short.class, shortRangeRandomizer);
@@ -45,7 +50,8 @@ public class PositiveValueRandomizerRegistry implements RandomizerRegistry {
     IntegerRangeRandomizer integerRangeRandomizer = new IntegerRangeRandomizer(
         1,
         Integer.MAX_VALUE,
-        seed
+        seed,
+        randomSourceFactory
     );
     randomizers.put(Integer.class, integerRangeRandomizer);
     randomizers.put(int.class, integerRangeRandomizer);
@@ -53,7 +59,8 @@ public class PositiveValueRandomizerRegistry implements RandomizerRegistry {
     LongRangeRandomizer longRangeRandomizer = new LongRangeRandomizer(
         1L,
         Long.MAX_VALUE,
-        seed
+        seed,
+        randomSourceFactory
     );
     randomizers.put(Long.class, longRangeRandomizer);
     randomizers.put(long.class, longRangeRandomizer);
@@ -61,7 +68,8 @@ public class PositiveValueRandomizerRegistry implements RandomizerRegistry {
     DoubleRangeRandomizer doubleRangeRandomizer = new DoubleRangeRandomizer(
         1D,
         Double.MAX_VALUE,
-        seed
+        seed,
+        randomSourceFactory
     );
     randomizers.put(Double.class, doubleRangeRandomizer);
     randomizers.put(double.class, doubleRangeRandomizer);
@@ -69,7 +77,8 @@ public class PositiveValueRandomizerRegistry implements RandomizerRegistry {
     FloatRangeRandomizer floatRangeRandomizer = new FloatRangeRandomizer(
         1f,
         Float.MAX_VALUE,
-        seed
+        seed,
+        randomSourceFactory
     );
     randomizers.put(Float.class, floatRangeRandomizer);
     randomizers.put(float.class, floatRangeRandomizer);
@@ -77,14 +86,16 @@ public class PositiveValueRandomizerRegistry implements RandomizerRegistry {
     BigIntegerRangeRandomizer bigIntegerRangeRandomizer = new BigIntegerRangeRandomizer(
         1,
         Integer.MAX_VALUE,
-        seed
+        seed,
+        randomSourceFactory
     );
     randomizers.put(BigInteger.class, bigIntegerRangeRandomizer);
 
     BigDecimalRangeRandomizer bigDecimalRangeRandomizer = new BigDecimalRangeRandomizer(
         1D,
         Double.MAX_VALUE,
-        seed
+        seed,
+        randomSourceFactory
     );
     randomizers.put(BigDecimal.class, bigDecimalRangeRandomizer);
   }
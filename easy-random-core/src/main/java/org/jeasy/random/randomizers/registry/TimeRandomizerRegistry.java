@@ -25,6 +25,7 @@ package org.jeasy.random.randomizers.registry;
 
 import org.jeasy.random.annotation.Priority;
 import org.jeasy.random.EasyRandomParameters;
+import org.jeasy.random.api.RandomSourceFactory;
 import org.jeasy.random.api.Randomizer;
 import org.jeasy.random.api.RandomizerRegistry;
 import org.jeasy.random.randomizers.range.InstantRangeRandomizer;
@@ -37,9 +38,11 @@ import org.jeasy.random.randomizers.range.OffsetTimeRangeRandomizer;
 import org.jeasy.random.randomizers.range.YearMonthRangeRandomizer;
 import org.jeasy.random.randomizers.range.YearRangeRandomizer;
 import org.jeasy.random.randomizers.time.*;
+import org.jeasy.random.util.SourceRandom;
 
 import java.lang.reflect.Field;
 import java.time.*;
+import java.time.temporal.ChronoUnit;
 import java.util.GregorianCalendar;
 import java.util.HashMap;
 import java.util.Map;
@@ -60,30 +63,31 @@ public class TimeRandomizerRegistry implements RandomizerRegistry {
     @Override
     public void init(EasyRandomParameters parameters) {
         long seed = parameters.getSeed();
+        RandomSourceFactory randomSourceFactory = SourceRandom.getRandomSourceFactory(parameters);
         LocalDate minDate = parameters.getDateRange().getMin();
         LocalDate maxDate = parameters.getDateRange().getMax();
         LocalTime minTime = parameters.getTimeRange().getMin();
         LocalTime maxTime = parameters.getTimeRange().getMax();
-        randomizers.put(Duration.class, new DurationRandomizer(seed));
-        randomizers.put(GregorianCalendar.class, new GregorianCalendarRandomizer(seed));
-        randomizers.put(Instant.class, new InstantRangeRandomizer(minDate.atStartOfDay(ZoneId.systemDefault()).toInstant(), maxDate.atStartOfDay(ZoneId.systemDefault()).toInstant(), seed));
-        randomizers.put(LocalDate.class, new LocalDateRangeRandomizer(minDate, maxDate, seed));
-        randomizers.put(LocalDateTime.class, new LocalDateTimeRangeRandomizer(of(minDate, minTime), of(maxDate, maxTime), seed));
-        randomizers.put(LocalTime.class, new LocalTimeRangeRandomizer(minTime, maxTime, seed));
-        randomizers.put(MonthDay.class, new MonthDayRandomizer(seed));
+        randomizers.put(Duration.class, new DurationRandomizer(seed, ChronoUnit.HOURS, randomSourceFactory));
+        randomizers.put(GregorianCalendar.class, new GregorianCalendarRandomizer(seed, randomSourceFactory));
+        randomizers.put(Instant.class, new InstantRangeRandomizer(minDate.atStartOfDay(ZoneId.systemDefault()).toInstant(), maxDate.atStartOfDay(ZoneId.systemDefault()).toInstant(), seed, randomSourceFactory));
+        randomizers.put(LocalDate.class, new LocalDateRangeRandomizer(minDate, maxDate, seed, randomSourceFactory));
+        randomizers.put(LocalDateTime.class, new LocalDateTimeRangeRandomizer(of(minDate, minTime), of(maxDate, maxTime), seed, randomSourceFactory));
+        randomizers.put(LocalTime.class, new LocalTimeRangeRandomizer(minTime, maxTime, seed, randomSourceFactory));
+        randomizers.put(MonthDay.class, new MonthDayRandomizer(seed, randomSourceFactory));
         randomizers.put(OffsetDateTime.class,
-                new OffsetDateTimeRangeRandomizer(toOffsetDateTime(minDate, minTime), toOffsetDateTime(maxDate, maxTime), seed));
+                new OffsetDateTimeRangeRandomizer(toOffsetDateTime(minDate, minTime), toOffsetDateTime(maxDate, maxTime), seed, randomSourceFactory));
         randomizers.put(OffsetTime.class, new OffsetTimeRangeRandomizer(minTime.atOffset(OffsetDateTime.now().getOffset()),
-                maxTime.atOffset(OffsetDateTime.now().getOffset()), seed));
-        randomizers.put(Period.class, new PeriodRandomizer(seed));
-        randomizers.put(TimeZone.class, new TimeZoneRandomizer(seed));
+                maxTime.atOffset(OffsetDateTime.now().getOffset()), seed, randomSourceFactory));
+        randomizers.put(Period.class, new PeriodRandomizer(seed, randomSourceFactory));
+        randomizers.put(TimeZone.class, new TimeZoneRandomizer(seed, randomSourceFactory));
         randomizers.put(YearMonth.class, new YearMonthRangeRandomizer(YearMonth.of(minDate.getYear(), minDate.getMonth()),
-                YearMonth.of(maxDate.getYear(), maxDate.getMonth()), seed));
-        randomizers.put(Year.class, new YearRangeRandomizer(Year.of(minDate.getYear()), Year.of(maxDate.getYear()), seed));
+                YearMonth.of(maxDate.getYear(), maxDate.getMonth()), seed, randomSourceFactory));
+        randomizers.put(Year.class, new YearRangeRandomizer(Year.of(minDate.getYear()), Year.of(maxDate.getYear()), seed, randomSourceFactory));
         randomizers.put(ZonedDateTime.class,
-                new ZonedDateTimeRangeRandomizer(toZonedDateTime(minDate, minTime), toZonedDateTime(maxDate, maxTime), seed));
-        randomizers.put(ZoneOffset.class, new ZoneOffsetRandomizer(seed));
-        randomizers.put(ZoneId.class, new ZoneIdRandomizer(seed));
+                new ZonedDateTimeRangeRandomizer(toZonedDateTime(minDate, minTime), toZonedDateTime(maxDate, maxTime), seed, randomSourceFactory));
+        randomizers.put(ZoneOffset.class, new ZoneOffsetRandomizer(seed, randomSourceFactory));
+        randomizers.put(ZoneId.class, new ZoneIdRandomizer(seed, randomSourceFactory));
     }
 
     private static ZonedDateTime toZonedDateTime(LocalDate localDate, LocalTime localTime) {
@@ -23,32 +23,35 @@
  */
 package org.jeasy.random.randomizers.text;
 
+import org.jeasy.random.api.RandomSourceFactory;
 import org.jeasy.random.randomizers.AbstractRandomizer;
+import org.jeasy.random.randomizers.PrimitiveArrayFiller;
 
+import java.nio.CharBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
-import java.util.List;
 
-import static org.jeasy.random.util.CharacterUtils.collectPrintableCharactersOf;
-import static org.jeasy.random.util.CharacterUtils.filterLetters;
+import static org.jeasy.random.util.CharacterUtils.getLettersOf;
 
 /**
  * Generate a random {@link Character}.
  *
  * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
  */
-public class CharacterRandomizer extends AbstractRandomizer<Character> {
+public class CharacterRandomizer extends AbstractRandomizer<Character> implements PrimitiveArrayFiller {
 
-    private Charset charset = StandardCharsets.US_ASCII;
+    private final CharBuffer characters;
 
-    private List<Character> characters = collectPrintableCharactersOf(charset);
+    // characters are sorted, so they all fit in a byte when the last one does
+    private final boolean latin1;
 
     /**
      * Create a new {@link CharacterRandomizer}.
      */
     public CharacterRandomizer() {
         super();
-        characters = filterLetters(characters);
+        characters = getLettersOf(StandardCharsets.US_ASCII);
+        latin1 = isLatin1(characters);
     }
 
     /**
@@ -58,8 +61,8 @@ public class CharacterRandomizer extends AbstractRandomizer<Character> {
      */
     public CharacterRandomizer(final Charset charset) {
         super();
-        this.charset = charset;
-        characters = filterLetters(characters);
+        characters = getLettersOf(charset);
+        latin1 = isLatin1(characters);
     }
 
     /**
@@ -69,7 +72,8 @@ public class CharacterRandomizer extends AbstractRandomizer<Character> {
      */
     public CharacterRandomizer(final long seed) {
         super(seed);
-        characters = filterLetters(characters);
+        characters = getLettersOf(StandardCharsets.US_ASCII);
+        latin1 = isLatin1(characters);
     }
 
     /**
@@ -79,13 +83,63 @@ public class CharacterRandomizer extends AbstractRandomizer<Character> {
      * @param seed    initial seed
      */
     public CharacterRandomizer(final Charset charset, final long seed) {
-        super(seed);
-        this.charset = charset;
-        characters = filterLetters(characters);
+        this(charset, seed, null);
+    }
+
+    /**
+     * Create a new {@link CharacterRandomizer}.
+     *
+     * @param charset to use
+     * @param seed    initial seed
+     * @param randomSourceFactory factory of the random source, or null to use {@link java.util.Random}
+     */
+    public CharacterRandomizer(final Charset charset, final long seed, final RandomSourceFactory randomSourceFactory) {
+        super(seed, randomSourceFactory);
+        characters = getLettersOf(charset);
+        latin1 = isLatin1(characters);
+    }
+
+    private CharacterRandomizer(final CharacterRandomizer randomizer, final long seed, final RandomSourceFactory randomSourceFactory) {
+        super(seed, randomSourceFactory);
+        characters = randomizer.characters;
+        latin1 = randomizer.latin1;
     }
 
     @Override
     public Character getRandomValue() {
-        return characters.get(random.nextInt(characters.size()));
+        return characters.get(random.nextInt(characters.limit()));
+    }
+
+    @Override
+    public void fill(final Object array) {
+        char[] values = (char[]) array;
+        for (int i = 0; i < values.length; i++) {
+            values[i] = characters.get(random.nextInt(characters.limit()));
+        }
+    }
+
+    /*
+     * Whether all the generated characters are ISO-8859-1 characters, which can be generated with fillLatin1.
+     */
+    boolean isLatin1() {
+        return latin1;
+    }
+
+    /*
+     * Fill the given array with the ISO-8859-1 encoding of the characters that fill would generate.
+     */
+    void fillLatin1(final byte[] values) {
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (byte) characters.get(random.nextInt(characters.limit()));
+        }
+    }
+
+    private static boolean isLatin1(final CharBuffer characters) {
+        return characters.limit() == 0 || characters.get(characters.limit() - 1) <= 0xFF;
+    }
+
+    @Override
+    public CharacterRandomizer fork(final long seed) {
+        return getClass() == CharacterRandomizer.class ? new CharacterRandomizer(this, seed, getForkSourceFactory()) : this;
     }
 }
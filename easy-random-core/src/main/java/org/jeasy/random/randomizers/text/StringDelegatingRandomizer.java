@@ -49,4 +49,9 @@ public class StringDelegatingRandomizer implements Randomizer<String> {
     public String getRandomValue() {
         return valueOf(delegate.getRandomValue());
     }
+
+    @Override
+    public StringDelegatingRandomizer fork(final long seed) {
+        return getClass() == StringDelegatingRandomizer.class ? new StringDelegatingRandomizer(delegate.fork(seed)) : this;
+    }
 }
@@ -24,9 +24,11 @@
 package org.jeasy.random.randomizers.text;
 
 import org.jeasy.random.EasyRandomParameters;
+import org.jeasy.random.api.RandomSourceFactory;
 import org.jeasy.random.randomizers.AbstractRandomizer;
 
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 
 /**
  * Generate a random {@link String}.
@@ -137,22 +139,51 @@ public class StringRandomizer extends AbstractRandomizer<String> {
      * @param seed      initial seed
      */
     public StringRandomizer(final Charset charset, final int minLength, final int maxLength, final long seed) {
-        super(seed);
+        this(charset, minLength, maxLength, seed, null);
+    }
+
+    /**
+     * Create a new {@link StringRandomizer}.
+     *
+     * @param charset   to use
+     * @param maxLength of the String to generate
+     * @param minLength of the String to generate
+     * @param seed      initial seed
+     * @param randomSourceFactory factory of the random source, or null to use {@link java.util.Random}
+     */
+    public StringRandomizer(final Charset charset, final int minLength, final int maxLength, final long seed, final RandomSourceFactory randomSourceFactory) {
+        super(seed, randomSourceFactory);
         if (minLength > maxLength) {
             throw new IllegalArgumentException("minLength should be less than or equal to maxLength");
         }
         this.maxLength = maxLength;
         this.minLength = minLength;
-        characterRandomizer = new CharacterRandomizer(charset, seed);
+        characterRandomizer = new CharacterRandomizer(charset, seed, randomSourceFactory);
+    }
+
+    private StringRandomizer(final StringRandomizer randomizer, final long seed, final RandomSourceFactory randomSourceFactory) {
+        super(seed, randomSourceFactory);
+        maxLength = randomizer.maxLength;
+        minLength = randomizer.minLength;
+        characterRandomizer = randomizer.characterRandomizer.fork(seed);
     }
 
     @Override
     public String getRandomValue() {
         int length = (int) nextDouble(minLength, maxLength);
-        char[] chars = new char[length];
-        for (int i = 0; i < length; i++) {
-            chars[i] = characterRandomizer.getRandomValue();
+        if (characterRandomizer.isLatin1()) {
+            // compact strings copy ISO-8859-1 bytes as is, instead of compressing chars
+            byte[] bytes = new byte[length];
+            characterRandomizer.fillLatin1(bytes);
+            return new String(bytes, StandardCharsets.ISO_8859_1);
         }
+        char[] chars = new char[length];
+        characterRandomizer.fill(chars);
         return new String(chars);
     }
+
+    @Override
+    public StringRandomizer fork(final long seed) {
+        return getClass() == StringRandomizer.class ? new StringRandomizer(this, seed, getForkSourceFactory()) : this;
+    }
 }
@@ -23,6 +23,7 @@
  */
 package org.jeasy.random.randomizers.time;
 
+import org.jeasy.random.api.RandomSourceFactory;
 import org.jeasy.random.api.Randomizer;
 
 import java.util.Calendar;
@@ -49,7 +50,21 @@ public class CalendarRandomizer implements Randomizer<Calendar> {
      * @param seed initial seed
      */
     public CalendarRandomizer(final long seed) {
-        delegate = new DateRandomizer(seed);
+        this(seed, null);
+    }
+
+    /**
+     * Create a new {@link CalendarRandomizer}.
+     *
+     * @param seed initial seed
+     * @param randomSourceFactory factory of the random source, or null to use {@link java.util.Random}
+     */
+    public CalendarRandomizer(final long seed, final RandomSourceFactory randomSourceFactory) {
+        delegate = new DateRandomizer(seed, randomSourceFactory);
+    }
+
+    private CalendarRandomizer(final DateRandomizer delegate) {
+        this.delegate = delegate;
     }
 
     @Override
@@ -58,4 +73,9 @@ public class CalendarRandomizer implements Randomizer<Calendar> {
         calendar.setTime(delegate.getRandomValue());
         return calendar;
     }
+
+    @Override
+    public CalendarRandomizer fork(final long seed) {
+        return getClass() == CalendarRandomizer.class ? new CalendarRandomizer(delegate.fork(seed)) : this;
+    }
 }
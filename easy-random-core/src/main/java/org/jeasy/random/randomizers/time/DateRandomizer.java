@@ -24,6 +24,7 @@
 package org.jeasy.random.randomizers.time;
 
 import org.jeasy.random.EasyRandomParameters;
+import org.jeasy.random.api.RandomSourceFactory;
 import org.jeasy.random.api.Randomizer;
 import org.jeasy.random.randomizers.range.DateRangeRandomizer;
 
@@ -54,7 +55,21 @@ public class DateRandomizer implements Randomizer<Date> {
      * @param seed initial seed
      */
     public DateRandomizer(final long seed) {
-        delegate = new DateRangeRandomizer(toDate(EasyRandomParameters.DEFAULT_DATES_RANGE.getMin()), toDate(EasyRandomParameters.DEFAULT_DATES_RANGE.getMax()), seed);
+        this(seed, null);
+    }
+
+    /**
+     * Create a new {@link DateRandomizer}.
+     *
+     * @param seed initial seed
+     * @param randomSourceFactory factory of the random source, or null to use {@link java.util.Random}
+     */
+    public DateRandomizer(final long seed, final RandomSourceFactory randomSourceFactory) {
+        delegate = new DateRangeRandomizer(toDate(EasyRandomParameters.DEFAULT_DATES_RANGE.getMin()), toDate(EasyRandomParameters.DEFAULT_DATES_RANGE.getMax()), seed, randomSourceFactory);
+    }
+
+    private DateRandomizer(final DateRangeRandomizer delegate) {
+        this.delegate = delegate;
     }
 
     @Override
@@ -65,4 +80,9 @@ public class DateRandomizer implements Randomizer<Date> {
     private Date toDate(ZonedDateTime zonedDateTime) {
         return from(zonedDateTime.toInstant());
     }
+
+    @Override
+    public DateRandomizer fork(final long seed) {
+        return getClass() == DateRandomizer.class ? new DateRandomizer(delegate.fork(seed)) : this;
+    }
 }
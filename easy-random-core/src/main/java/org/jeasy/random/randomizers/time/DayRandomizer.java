@@ -23,6 +23,7 @@
  */
 package org.jeasy.random.randomizers.time;
 
+import org.jeasy.random.api.RandomSourceFactory;
 import org.jeasy.random.api.Randomizer;
 import org.jeasy.random.randomizers.range.IntegerRangeRandomizer;
 
@@ -43,11 +44,24 @@ public class DayRandomizer implements Randomizer<Integer> {
     }
 
     public DayRandomizer(final long seed) {
-        dayRandomizer = new IntegerRangeRandomizer(MIN_DAY, MAX_DAY, seed);
+        this(seed, null);
+    }
+
+    public DayRandomizer(final long seed, final RandomSourceFactory randomSourceFactory) {
+        dayRandomizer = new IntegerRangeRandomizer(MIN_DAY, MAX_DAY, seed, randomSourceFactory);
+    }
+
+    private DayRandomizer(final IntegerRangeRandomizer dayRandomizer) {
+        this.dayRandomizer = dayRandomizer;
     }
 
     @Override
     public Integer getRandomValue() {
         return dayRandomizer.getRandomValue();
     }
+
+    @Override
+    public DayRandomizer fork(final long seed) {
+        return getClass() == DayRandomizer.class ? new DayRandomizer(dayRandomizer.fork(seed)) : this;
+    }
 }
@@ -23,6 +23,7 @@
  */
 package org.jeasy.random.randomizers.time;
 
+import org.jeasy.random.api.RandomSourceFactory;
 import org.jeasy.random.api.Randomizer;
 import org.jeasy.random.randomizers.range.IntegerRangeRandomizer;
 
@@ -77,7 +78,18 @@ public class DurationRandomizer implements Randomizer<Duration> {
      * @param unit the temporal unit for created durations
      */
     public DurationRandomizer(final long seed, final TemporalUnit unit) {
-        this(new IntegerRangeRandomizer(MIN_AMOUNT, MAX_AMOUNT, seed), unit);
+        this(seed, unit, null);
+    }
+
+    /**
+     * Create a new {@link DurationRandomizer}.
+     *
+     * @param seed initial seed
+     * @param unit the temporal unit for created durations
+     * @param randomSourceFactory factory of the random source, or null to use {@link java.util.Random}
+     */
+    public DurationRandomizer(final long seed, final TemporalUnit unit, final RandomSourceFactory randomSourceFactory) {
+        this(new IntegerRangeRandomizer(MIN_AMOUNT, MAX_AMOUNT, seed, randomSourceFactory), unit);
     }
 
     private DurationRandomizer(final IntegerRangeRandomizer amountRandomizer, final TemporalUnit unit) {
@@ -97,4 +109,9 @@ public class DurationRandomizer implements Randomizer<Duration> {
         }
         return unit;
     }
+
+    @Override
+    public DurationRandomizer fork(final long seed) {
+        return getClass() == DurationRandomizer.class ? new DurationRandomizer(amountRandomizer.fork(seed), unit) : this;
+    }
 }
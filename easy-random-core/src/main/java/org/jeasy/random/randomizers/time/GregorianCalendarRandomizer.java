@@ -23,6 +23,7 @@
  */
 package org.jeasy.random.randomizers.time;
 
+import org.jeasy.random.api.RandomSourceFactory;
 import org.jeasy.random.api.Randomizer;
 import org.jeasy.random.randomizers.number.LongRandomizer;
 
@@ -48,7 +49,21 @@ public class GregorianCalendarRandomizer implements Randomizer<GregorianCalendar
      * @param seed initial seed
      */
     public GregorianCalendarRandomizer(final long seed) {
-        delegate = new LongRandomizer(seed);
+        this(seed, null);
+    }
+
+    /**
+     * Create a new {@link GregorianCalendarRandomizer}.
+     *
+     * @param seed initial seed
+     * @param randomSourceFactory factory of the random source, or null to use {@link java.util.Random}
+     */
+    public GregorianCalendarRandomizer(final long seed, final RandomSourceFactory randomSourceFactory) {
+        delegate = new LongRandomizer(seed, randomSourceFactory);
+    }
+
+    private GregorianCalendarRandomizer(final LongRandomizer delegate) {
+        this.delegate = delegate;
     }
 
     @Override
@@ -57,4 +72,9 @@ public class GregorianCalendarRandomizer implements Randomizer<GregorianCalendar
         gregorianCalendar.setTimeInMillis(Math.abs(delegate.getRandomValue()));
         return gregorianCalendar;
     }
+
+    @Override
+    public GregorianCalendarRandomizer fork(final long seed) {
+        return getClass() == GregorianCalendarRandomizer.class ? new GregorianCalendarRandomizer(delegate.fork(seed)) : this;
+    }
 }
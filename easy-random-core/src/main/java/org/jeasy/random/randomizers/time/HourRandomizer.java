@@ -23,6 +23,7 @@
  */
 package org.jeasy.random.randomizers.time;
 
+import org.jeasy.random.api.RandomSourceFactory;
 import org.jeasy.random.api.Randomizer;
 import org.jeasy.random.randomizers.range.IntegerRangeRandomizer;
 
@@ -43,11 +44,24 @@ public class HourRandomizer implements Randomizer<Integer> {
     }
 
     public HourRandomizer(final long seed) {
-        hourRandomizer = new IntegerRangeRandomizer(MIN_HOUR, MAX_HOUR, seed);
+        this(seed, null);
+    }
+
+    public HourRandomizer(final long seed, final RandomSourceFactory randomSourceFactory) {
+        hourRandomizer = new IntegerRangeRandomizer(MIN_HOUR, MAX_HOUR, seed, randomSourceFactory);
+    }
+
+    private HourRandomizer(final IntegerRangeRandomizer hourRandomizer) {
+        this.hourRandomizer = hourRandomizer;
     }
 
     @Override
     public Integer getRandomValue() {
         return hourRandomizer.getRandomValue();
     }
+
+    @Override
+    public HourRandomizer fork(final long seed) {
+        return getClass() == HourRandomizer.class ? new HourRandomizer(hourRandomizer.fork(seed)) : this;
+    }
 }
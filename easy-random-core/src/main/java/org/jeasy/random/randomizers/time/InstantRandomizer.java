@@ -23,6 +23,7 @@
  */
 package org.jeasy.random.randomizers.time;
 
+import org.jeasy.random.api.RandomSourceFactory;
 import org.jeasy.random.api.Randomizer;
 
 import java.time.Instant;
@@ -50,7 +51,21 @@ public class InstantRandomizer implements Randomizer<Instant> {
      * @param seed initial seed
      */
     public InstantRandomizer(final long seed) {
-        dateRandomizer = new DateRandomizer(seed);
+        this(seed, null);
+    }
+
+    /**
+     * Create a new {@link InstantRandomizer}.
+     *
+     * @param seed initial seed
+     * @param randomSourceFactory factory of the random source, or null to use {@link java.util.Random}
+     */
+    public InstantRandomizer(final long seed, final RandomSourceFactory randomSourceFactory) {
+        dateRandomizer = new DateRandomizer(seed, randomSourceFactory);
+    }
+
+    private InstantRandomizer(final DateRandomizer dateRandomizer) {
+        this.dateRandomizer = dateRandomizer;
     }
 
     @Override
@@ -58,4 +73,9 @@ public class InstantRandomizer implements Randomizer<Instant> {
         Date randomDate = dateRandomizer.getRandomValue();
         return Instant.ofEpochMilli(randomDate.getTime());
     }
+
+    @Override
+    public InstantRandomizer fork(final long seed) {
+        return getClass() == InstantRandomizer.class ? new InstantRandomizer(dateRandomizer.fork(seed)) : this;
+    }
 }
@@ -23,6 +23,7 @@
  */
 package org.jeasy.random.randomizers.time;
 
+import org.jeasy.random.api.RandomSourceFactory;
 import org.jeasy.random.api.Randomizer;
 import org.jeasy.random.randomizers.misc.EnumRandomizer;
 
@@ -56,9 +57,25 @@ public class LocalDateRandomizer implements Randomizer<LocalDate> {
      * @param seed initial seed
      */
     public LocalDateRandomizer(final long seed) {
-        yearRandomizer = new YearRandomizer(seed);
-        monthRandomizer = new EnumRandomizer<>(Month.class, seed);
-        dayRandomizer = new DayRandomizer(seed);
+        this(seed, null);
+    }
+
+    /**
+     * Create a new {@link LocalDateRandomizer}.
+     *
+     * @param seed initial seed
+     * @param randomSourceFactory factory of the random source, or null to use {@link java.util.Random}
+     */
+    public LocalDateRandomizer(final long seed, final RandomSourceFactory randomSourceFactory) {
+        yearRandomizer = new YearRandomizer(seed, randomSourceFactory);
+        monthRandomizer = new EnumRandomizer<>(Month.class, seed, randomSourceFactory);
+        dayRandomizer = new DayRandomizer(seed, randomSourceFactory);
+    }
+
+    private LocalDateRandomizer(final YearRandomizer yearRandomizer, final EnumRandomizer<Month> monthRandomizer, final DayRandomizer dayRandomizer) {
+        this.yearRandomizer = yearRandomizer;
+        this.monthRandomizer = monthRandomizer;
+        this.dayRandomizer = dayRandomizer;
     }
 
     @Override
@@ -68,4 +85,9 @@ public class LocalDateRandomizer implements Randomizer<LocalDate> {
         int randomDay = dayRandomizer.getRandomValue();
         return LocalDate.of(randomYear.getValue(), randomMonth.getValue(), randomDay);
     }
+
+    @Override
+    public LocalDateRandomizer fork(final long seed) {
+        return getClass() == LocalDateRandomizer.class ? new LocalDateRandomizer(yearRandomizer.fork(seed), monthRandomizer.fork(seed), dayRandomizer.fork(seed)) : this;
+    }
 }
@@ -23,6 +23,7 @@
  */
 package org.jeasy.random.randomizers.time;
 
+import org.jeasy.random.api.RandomSourceFactory;
 import org.jeasy.random.api.Randomizer;
 
 import java.time.LocalDate;
@@ -53,8 +54,23 @@ public class LocalDateTimeRandomizer implements Randomizer<LocalDateTime> {
      * @param seed initial seed
      */
     public LocalDateTimeRandomizer(final long seed) {
-        localDateRandomizer = new LocalDateRandomizer(seed);
-        localTimeRandomizer = new LocalTimeRandomizer(seed);
+        this(seed, null);
+    }
+
+    /**
+     * Create a new {@link LocalDateTimeRandomizer}.
+     *
+     * @param seed initial seed
+     * @param randomSourceFactory factory of the random source, or null to use {@link java.util.Random}
+     */
+    public LocalDateTimeRandomizer(final long seed, final RandomSourceFactory randomSourceFactory) {
+        localDateRandomizer = new LocalDateRandomizer(seed, randomSourceFactory);
+        localTimeRandomizer = new LocalTimeRandomizer(seed, randomSourceFactory);
+    }
+
+    private LocalDateTimeRandomizer(final LocalDateRandomizer localDateRandomizer, final LocalTimeRandomizer localTimeRandomizer) {
+        this.localDateRandomizer = localDateRandomizer;
+        this.localTimeRandomizer = localTimeRandomizer;
     }
 
     @Override
@@ -71,4 +87,9 @@ public class LocalDateTimeRandomizer implements Randomizer<LocalDateTime> {
     public void setLocalTimeRandomizer(final LocalTimeRandomizer localTimeRandomizer) {
         this.localTimeRandomizer = localTimeRandomizer;
     }
+
+    @Override
+    public LocalDateTimeRandomizer fork(final long seed) {
+        return getClass() == LocalDateTimeRandomizer.class ? new LocalDateTimeRandomizer(localDateRandomizer.fork(seed), localTimeRandomizer.fork(seed)) : this;
+    }
 }
@@ -23,6 +23,7 @@
  */
 package org.jeasy.random.randomizers.time;
 
+import org.jeasy.random.api.RandomSourceFactory;
 import org.jeasy.random.api.Randomizer;
 
 import java.time.LocalTime;
@@ -53,9 +54,25 @@ public class LocalTimeRandomizer implements Randomizer<LocalTime> {
      * @param seed initial seed
      */
     public LocalTimeRandomizer(final long seed) {
-        hourRandomizer = new HourRandomizer(seed);
-        minuteRandomizer = new MinuteRandomizer(seed);
-        nanoSecondRandomizer = new NanoSecondRandomizer(seed);
+        this(seed, null);
+    }
+
+    /**
+     * Create a new {@link LocalTimeRandomizer}.
+     *
+     * @param seed initial seed
+     * @param randomSourceFactory factory of the random source, or null to use {@link java.util.Random}
+     */
+    public LocalTimeRandomizer(final long seed, final RandomSourceFactory randomSourceFactory) {
+        hourRandomizer = new HourRandomizer(seed, randomSourceFactory);
+        minuteRandomizer = new MinuteRandomizer(seed, randomSourceFactory);
+        nanoSecondRandomizer = new NanoSecondRandomizer(seed, randomSourceFactory);
+    }
+
+    private LocalTimeRandomizer(final HourRandomizer hourRandomizer, final MinuteRandomizer minuteRandomizer, final NanoSecondRandomizer nanoSecondRandomizer) {
+        this.hourRandomizer = hourRandomizer;
+        this.minuteRandomizer = minuteRandomizer;
+        this.nanoSecondRandomizer = nanoSecondRandomizer;
     }
 
     @Override
@@ -66,4 +83,9 @@ public class LocalTimeRandomizer implements Randomizer<LocalTime> {
         int randomNanoSecond = nanoSecondRandomizer.getRandomValue();
         return LocalTime.of(randomHour, randomMinute, randomSecond, randomNanoSecond);
     }
+
+    @Override
+    public LocalTimeRandomizer fork(final long seed) {
+        return getClass() == LocalTimeRandomizer.class ? new LocalTimeRandomizer(hourRandomizer.fork(seed), minuteRandomizer.fork(seed), nanoSecondRandomizer.fork(seed)) : this;
+    }
 }
@@ -23,6 +23,7 @@
  */
 package org.jeasy.random.randomizers.time;
 
+import org.jeasy.random.api.RandomSourceFactory;
 import org.jeasy.random.api.Randomizer;
 import org.jeasy.random.randomizers.range.IntegerRangeRandomizer;
 
@@ -43,11 +44,24 @@ public class MinuteRandomizer implements Randomizer<Integer> {
     }
 
     public MinuteRandomizer(final long seed) {
-        minuteRandomizer = new IntegerRangeRandomizer(MIN_MINUTE, MAX_MINUTE, seed);
+        this(seed, null);
+    }
+
+    public MinuteRandomizer(final long seed, final RandomSourceFactory randomSourceFactory) {
+        minuteRandomizer = new IntegerRangeRandomizer(MIN_MINUTE, MAX_MINUTE, seed, randomSourceFactory);
+    }
+
+    private MinuteRandomizer(final IntegerRangeRandomizer minuteRandomizer) {
+        this.minuteRandomizer = minuteRandomizer;
     }
 
     @Override
     public Integer getRandomValue() {
         return minuteRandomizer.getRandomValue();
     }
+
+    @Override
+    public MinuteRandomizer fork(final long seed) {
+        return getClass() == MinuteRandomizer.class ? new MinuteRandomizer(minuteRandomizer.fork(seed)) : this;
+    }
 }
@@ -23,6 +23,7 @@
  */
 package org.jeasy.random.randomizers.time;
 
+import org.jeasy.random.api.RandomSourceFactory;
 import org.jeasy.random.api.Randomizer;
 import org.jeasy.random.randomizers.misc.EnumRandomizer;
 
@@ -53,8 +54,23 @@ public class MonthDayRandomizer implements Randomizer<MonthDay> {
      * @param seed initial seed
      */
     public MonthDayRandomizer(final long seed) {
-        monthRandomizer = new EnumRandomizer<>(Month.class, seed);
-        dayRandomizer = new DayRandomizer(seed);
+        this(seed, null);
+    }
+
+    /**
+     * Create a new {@link MonthDayRandomizer}.
+     *
+     * @param seed initial seed
+     * @param randomSourceFactory factory of the random source, or null to use {@link java.util.Random}
+     */
+    public MonthDayRandomizer(final long seed, final RandomSourceFactory randomSourceFactory) {
+        monthRandomizer = new EnumRandomizer<>(Month.class, seed, randomSourceFactory);
+        dayRandomizer = new DayRandomizer(seed, randomSourceFactory);
+    }
+
+    private MonthDayRandomizer(final EnumRandomizer<Month> monthRandomizer, final DayRandomizer dayRandomizer) {
+        this.monthRandomizer = monthRandomizer;
+        this.dayRandomizer = dayRandomizer;
     }
 
     @Override
@@ -63,4 +79,9 @@ public class MonthDayRandomizer implements Randomizer<MonthDay> {
         int randomDay = dayRandomizer.getRandomValue();
         return MonthDay.of(randomMonth, randomDay);
     }
+
+    @Override
+    public MonthDayRandomizer fork(final long seed) {
+        return getClass() == MonthDayRandomizer.class ? new MonthDayRandomizer(monthRandomizer.fork(seed), dayRandomizer.fork(seed)) : this;
+    }
 }
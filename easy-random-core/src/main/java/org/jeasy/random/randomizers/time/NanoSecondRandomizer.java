@@ -23,6 +23,7 @@
  */
 package org.jeasy.random.randomizers.time;
 
+import org.jeasy.random.api.RandomSourceFactory;
 import org.jeasy.random.api.Randomizer;
 import org.jeasy.random.randomizers.range.IntegerRangeRandomizer;
 
@@ -44,11 +45,24 @@ public class NanoSecondRandomizer implements Randomizer<Integer> {
     }
 
     public NanoSecondRandomizer(final long seed) {
-        nanoSecondRandomizer = new IntegerRangeRandomizer(MIN_NANO_SECOND, MAX_NANO_SECOND, seed);
+        this(seed, null);
+    }
+
+    public NanoSecondRandomizer(final long seed, final RandomSourceFactory randomSourceFactory) {
+        nanoSecondRandomizer = new IntegerRangeRandomizer(MIN_NANO_SECOND, MAX_NANO_SECOND, seed, randomSourceFactory);
+    }
+
+    private NanoSecondRandomizer(final IntegerRangeRandomizer nanoSecondRandomizer) {
+        this.nanoSecondRandomizer = nanoSecondRandomizer;
     }
 
     @Override
     public Integer getRandomValue() {
         return nanoSecondRandomizer.getRandomValue();
     }
+
+    @Override
+    public NanoSecondRandomizer fork(final long seed) {
+        return getClass() == NanoSecondRandomizer.class ? new NanoSecondRandomizer(nanoSecondRandomizer.fork(seed)) : this;
+    }
 }
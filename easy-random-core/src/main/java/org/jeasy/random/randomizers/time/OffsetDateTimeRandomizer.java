@@ -23,6 +23,7 @@
  */
 package org.jeasy.random.randomizers.time;
 
+import org.jeasy.random.api.RandomSourceFactory;
 import org.jeasy.random.api.Randomizer;
 
 import java.time.LocalDate;
@@ -56,9 +57,25 @@ public class OffsetDateTimeRandomizer implements Randomizer<OffsetDateTime> {
      * @param seed initial seed
      */
     public OffsetDateTimeRandomizer(final long seed) {
-        localDateRandomizer = new LocalDateRandomizer(seed);
-        localTimeRandomizer = new LocalTimeRandomizer(seed);
-        zoneOffsetRandomizer = new ZoneOffsetRandomizer(seed);
+        this(seed, null);
+    }
+
+    /**
+     * Create a new {@link OffsetDateTimeRandomizer}.
+     *
+     * @param seed initial seed
+     * @param randomSourceFactory factory of the random source, or null to use {@link java.util.Random}
+     */
+    public OffsetDateTimeRandomizer(final long seed, final RandomSourceFactory randomSourceFactory) {
+        localDateRandomizer = new LocalDateRandomizer(seed, randomSourceFactory);
+        localTimeRandomizer = new LocalTimeRandomizer(seed, randomSourceFactory);
+        zoneOffsetRandomizer = new ZoneOffsetRandomizer(seed, randomSourceFactory);
+    }
+
+    private OffsetDateTimeRandomizer(final LocalDateRandomizer localDateRandomizer, final LocalTimeRandomizer localTimeRandomizer, final ZoneOffsetRandomizer zoneOffsetRandomizer) {
+        this.localDateRandomizer = localDateRandomizer;
+        this.localTimeRandomizer = localTimeRandomizer;
+        this.zoneOffsetRandomizer = zoneOffsetRandomizer;
     }
 
     @Override
@@ -80,4 +97,9 @@ public class OffsetDateTimeRandomizer implements Randomizer<OffsetDateTime> {
     public void setZoneOffsetRandomizer(final ZoneOffsetRandomizer zoneOffsetRandomizer) {
         this.zoneOffsetRandomizer = zoneOffsetRandomizer;
     }
+
+    @Override
+    public OffsetDateTimeRandomizer fork(final long seed) {
+        return getClass() == OffsetDateTimeRandomizer.class ? new OffsetDateTimeRandomizer(localDateRandomizer.fork(seed), localTimeRandomizer.fork(seed), zoneOffsetRandomizer.fork(seed)) : this;
+    }
 }
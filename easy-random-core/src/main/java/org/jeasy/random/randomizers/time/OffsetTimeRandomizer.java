@@ -23,6 +23,7 @@
  */
 package org.jeasy.random.randomizers.time;
 
+import org.jeasy.random.api.RandomSourceFactory;
 import org.jeasy.random.api.Randomizer;
 
 import java.time.LocalTime;
@@ -53,8 +54,23 @@ public class OffsetTimeRandomizer implements Randomizer<OffsetTime> {
      * @param seed initial seed
      */
     public OffsetTimeRandomizer(final long seed) {
-        localTimeRandomizer = new LocalTimeRandomizer(seed);
-        zoneOffsetRandomizer = new ZoneOffsetRandomizer(seed);
+        this(seed, null);
+    }
+
+    /**
+     * Create a new {@link OffsetTimeRandomizer}.
+     *
+     * @param seed initial seed
+     * @param randomSourceFactory factory of the random source, or null to use {@link java.util.Random}
+     */
+    public OffsetTimeRandomizer(final long seed, final RandomSourceFactory randomSourceFactory) {
+        localTimeRandomizer = new LocalTimeRandomizer(seed, randomSourceFactory);
+        zoneOffsetRandomizer = new ZoneOffsetRandomizer(seed, randomSourceFactory);
+    }
+
+    private OffsetTimeRandomizer(final LocalTimeRandomizer localTimeRandomizer, final ZoneOffsetRandomizer zoneOffsetRandomizer) {
+        this.localTimeRandomizer = localTimeRandomizer;
+        this.zoneOffsetRandomizer = zoneOffsetRandomizer;
     }
 
     @Override
@@ -71,4 +87,9 @@ public class OffsetTimeRandomizer implements Randomizer<OffsetTime> {
     public void setZoneOffsetRandomizer(final ZoneOffsetRandomizer zoneOffsetRandomizer) {
         this.zoneOffsetRandomizer = zoneOffsetRandomizer;
     }
+
+    @Override
+    public OffsetTimeRandomizer fork(final long seed) {
+        return getClass() == OffsetTimeRandomizer.class ? new OffsetTimeRandomizer(localTimeRandomizer.fork(seed), zoneOffsetRandomizer.fork(seed)) : this;
+    }
 }
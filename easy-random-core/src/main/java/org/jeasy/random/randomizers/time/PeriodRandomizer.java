@@ -23,6 +23,7 @@
  */
 package org.jeasy.random.randomizers.time;
 
+import org.jeasy.random.api.RandomSourceFactory;
 import org.jeasy.random.api.Randomizer;
 import org.jeasy.random.randomizers.misc.EnumRandomizer;
 
@@ -56,9 +57,25 @@ public class PeriodRandomizer implements Randomizer<Period> {
      * @param seed initial seed
      */
     public PeriodRandomizer(final long seed) {
-        yearRandomizer = new YearRandomizer(seed);
-        monthRandomizer = new EnumRandomizer<>(Month.class, seed);
-        dayRandomizer = new DayRandomizer(seed);
+        this(seed, null);
+    }
+
+    /**
+     * Create a new {@link PeriodRandomizer}.
+     *
+     * @param seed initial seed
+     * @param randomSourceFactory factory of the random source, or null to use {@link java.util.Random}
+     */
+    public PeriodRandomizer(final long seed, final RandomSourceFactory randomSourceFactory) {
+        yearRandomizer = new YearRandomizer(seed, randomSourceFactory);
+        monthRandomizer = new EnumRandomizer<>(Month.class, seed, randomSourceFactory);
+        dayRandomizer = new DayRandomizer(seed, randomSourceFactory);
+    }
+
+    private PeriodRandomizer(final YearRandomizer yearRandomizer, final EnumRandomizer<Month> monthRandomizer, final DayRandomizer dayRandomizer) {
+        this.yearRandomizer = yearRandomizer;
+        this.monthRandomizer = monthRandomizer;
+        this.dayRandomizer = dayRandomizer;
     }
 
     @Override
@@ -68,4 +85,9 @@ public class PeriodRandomizer implements Randomizer<Period> {
         int randomDay = dayRandomizer.getRandomValue();
         return Period.of(randomYear.getValue(), randomMonth.getValue(), randomDay);
     }
+
+    @Override
+    public PeriodRandomizer fork(final long seed) {
+        return getClass() == PeriodRandomizer.class ? new PeriodRandomizer(yearRandomizer.fork(seed), monthRandomizer.fork(seed), dayRandomizer.fork(seed)) : this;
+    }
 }
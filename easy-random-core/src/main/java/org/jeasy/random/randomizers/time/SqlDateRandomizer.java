@@ -23,6 +23,7 @@
  */
 package org.jeasy.random.randomizers.time;
 
+import org.jeasy.random.api.RandomSourceFactory;
 import org.jeasy.random.api.Randomizer;
 
 import java.sql.Date;
@@ -49,7 +50,21 @@ public class SqlDateRandomizer implements Randomizer<Date> {
      * @param seed initial seed
      */
     public SqlDateRandomizer(final long seed) {
-        delegate = new DateRandomizer(seed);
+        this(seed, null);
+    }
+
+    /**
+     * Create a new {@link SqlDateRandomizer}.
+     *
+     * @param seed initial seed
+     * @param randomSourceFactory factory of the random source, or null to use {@link java.util.Random}
+     */
+    public SqlDateRandomizer(final long seed, final RandomSourceFactory randomSourceFactory) {
+        delegate = new DateRandomizer(seed, randomSourceFactory);
+    }
+
+    private SqlDateRandomizer(final DateRandomizer delegate) {
+        this.delegate = delegate;
     }
 
     @Override
@@ -57,4 +72,8 @@ public class SqlDateRandomizer implements Randomizer<Date> {
         return new Date(delegate.getRandomValue().getTime());
     }
 
+    @Override
+    public SqlDateRandomizer fork(final long seed) {
+        return getClass() == SqlDateRandomizer.class ? new SqlDateRandomizer(delegate.fork(seed)) : this;
+    }
 }
@@ -23,6 +23,7 @@
  */
 package org.jeasy.random.randomizers.time;
 
+import org.jeasy.random.api.RandomSourceFactory;
 import org.jeasy.random.api.Randomizer;
 
 import java.sql.Time;
@@ -49,11 +50,30 @@ public class SqlTimeRandomizer implements Randomizer<Time> {
      * @param seed initial seed
      */
     public SqlTimeRandomizer(final long seed) {
-        delegate = new DateRandomizer(seed);
+        this(seed, null);
+    }
+
+    /**
+     * Create a new {@link SqlTimeRandomizer}.
+     *
+     * @param seed initial seed
+     * @param randomSourceFactory factory of the random source, or null to use {@link java.util.Random}
+     */
+    public SqlTimeRandomizer(final long seed, final RandomSourceFactory randomSourceFactory) {
+        delegate = new DateRandomizer(seed, randomSourceFactory);
+    }
+
+    private SqlTimeRandomizer(final DateRandomizer delegate) {
+        this.delegate = delegate;
     }
 
     @Override
     public Time getRandomValue() {
         return new Time(delegate.getRandomValue().getTime());
     }
+
+    @Override
+    public SqlTimeRandomizer fork(final long seed) {
+        return getClass() == SqlTimeRandomizer.class ? new SqlTimeRandomizer(delegate.fork(seed)) : this;
+    }
 }
@@ -23,6 +23,7 @@
  */
 package org.jeasy.random.randomizers.time;
 
+import org.jeasy.random.api.RandomSourceFactory;
 import org.jeasy.random.api.Randomizer;
 
 import java.sql.Timestamp;
@@ -49,11 +50,30 @@ public class SqlTimestampRandomizer implements Randomizer<Timestamp> {
      * @param seed initial seed
      */
     public SqlTimestampRandomizer(final long seed) {
-        delegate = new DateRandomizer(seed);
+        this(seed, null);
+    }
+
+    /**
+     * Create a new {@link SqlTimestampRandomizer}.
+     *
+     * @param seed initial seed
+     * @param randomSourceFactory factory of the random source, or null to use {@link java.util.Random}
+     */
+    public SqlTimestampRandomizer(final long seed, final RandomSourceFactory randomSourceFactory) {
+        delegate = new DateRandomizer(seed, randomSourceFactory);
+    }
+
+    private SqlTimestampRandomizer(final DateRandomizer delegate) {
+        this.delegate = delegate;
     }
 
     @Override
     public Timestamp getRandomValue() {
         return new Timestamp(delegate.getRandomValue().getTime());
     }
+
+    @Override
+    public SqlTimestampRandomizer fork(final long seed) {
+        return getClass() == SqlTimestampRandomizer.class ? new SqlTimestampRandomizer(delegate.fork(seed)) : this;
+    }
 }
@@ -25,6 +25,7 @@ package org.jeasy.random.randomizers.time;
 
 import java.util.TimeZone;
 
+import org.jeasy.random.api.RandomSourceFactory;
 import org.jeasy.random.randomizers.AbstractRandomizer;
 
 /**
@@ -46,7 +47,17 @@ public class TimeZoneRandomizer extends AbstractRandomizer<TimeZone> {
      * @param seed initial seed
      */
     public TimeZoneRandomizer(final long seed) {
-        super(seed);
+        this(seed, null);
+    }
+
+    /**
+     * Create a new {@link TimeZoneRandomizer}.
+     *
+     * @param seed initial seed
+     * @param randomSourceFactory factory of the random source, or null to use {@link java.util.Random}
+     */
+    public TimeZoneRandomizer(final long seed, final RandomSourceFactory randomSourceFactory) {
+        super(seed, randomSourceFactory);
     }
 
     @Override
@@ -54,4 +65,9 @@ public class TimeZoneRandomizer extends AbstractRandomizer<TimeZone> {
         String[] timeZoneIds = TimeZone.getAvailableIDs();
         return TimeZone.getTimeZone(timeZoneIds[random.nextInt(timeZoneIds.length)]);
     }
+
+    @Override
+    public TimeZoneRandomizer fork(final long seed) {
+        return getClass() == TimeZoneRandomizer.class ? new TimeZoneRandomizer(seed, getForkSourceFactory()) : this;
+    }
 }
@@ -23,6 +23,7 @@
  */
 package org.jeasy.random.randomizers.time;
 
+import org.jeasy.random.api.RandomSourceFactory;
 import org.jeasy.random.api.Randomizer;
 import org.jeasy.random.randomizers.misc.EnumRandomizer;
 
@@ -54,8 +55,23 @@ public class YearMonthRandomizer implements Randomizer<YearMonth> {
      * @param seed initial seed
      */
     public YearMonthRandomizer(final long seed) {
-        yearRandomizer = new YearRandomizer(seed);
-        monthRandomizer = new EnumRandomizer<>(Month.class, seed);
+        this(seed, null);
+    }
+
+    /**
+     * Create a new {@link YearMonthRandomizer}.
+     *
+     * @param seed initial seed
+     * @param randomSourceFactory factory of the random source, or null to use {@link java.util.Random}
+     */
+    public YearMonthRandomizer(final long seed, final RandomSourceFactory randomSourceFactory) {
+        yearRandomizer = new YearRandomizer(seed, randomSourceFactory);
+        monthRandomizer = new EnumRandomizer<>(Month.class, seed, randomSourceFactory);
+    }
+
+    private YearMonthRandomizer(final YearRandomizer yearRandomizer, final EnumRandomizer<Month> monthRandomizer) {
+        this.yearRandomizer = yearRandomizer;
+        this.monthRandomizer = monthRandomizer;
     }
 
     @Override
@@ -64,4 +80,9 @@ public class YearMonthRandomizer implements Randomizer<YearMonth> {
         Month randomMonth = monthRandomizer.getRandomValue();
         return YearMonth.of(randomYear.getValue(), randomMonth.getValue());
     }
+
+    @Override
+    public YearMonthRandomizer fork(final long seed) {
+        return getClass() == YearMonthRandomizer.class ? new YearMonthRandomizer(yearRandomizer.fork(seed), monthRandomizer.fork(seed)) : this;
+    }
 }
@@ -24,6 +24,7 @@
 package org.jeasy.random.randomizers.time;
 
 import org.jeasy.random.EasyRandomParameters;
+import org.jeasy.random.api.RandomSourceFactory;
 import org.jeasy.random.api.Randomizer;
 import org.jeasy.random.randomizers.range.IntegerRangeRandomizer;
 
@@ -51,7 +52,21 @@ public class YearRandomizer implements Randomizer<Year> {
      * @param seed initial seed
      */
     public YearRandomizer(final long seed) {
-        yearRandomizer = new IntegerRangeRandomizer(EasyRandomParameters.DEFAULT_DATES_RANGE.getMin().getYear(), EasyRandomParameters.DEFAULT_DATES_RANGE.getMax().getYear(), seed);
+        this(seed, null);
+    }
+
+    /**
+     * Create a new {@link YearRandomizer}.
+     *
+     * @param seed initial seed
+     * @param randomSourceFactory factory of the random source, or null to use {@link java.util.Random}
+     */
+    public YearRandomizer(final long seed, final RandomSourceFactory randomSourceFactory) {
+        yearRandomizer = new IntegerRangeRandomizer(EasyRandomParameters.DEFAULT_DATES_RANGE.getMin().getYear(), EasyRandomParameters.DEFAULT_DATES_RANGE.getMax().getYear(), seed, randomSourceFactory);
+    }
+
+    private YearRandomizer(final IntegerRangeRandomizer yearRandomizer) {
+        this.yearRandomizer = yearRandomizer;
     }
 
     @Override
@@ -59,4 +74,9 @@ public class YearRandomizer implements Randomizer<Year> {
         int randomYear = yearRandomizer.getRandomValue();
         return Year.of(randomYear);
     }
+
+    @Override
+    public YearRandomizer fork(final long seed) {
+        return getClass() == YearRandomizer.class ? new YearRandomizer(yearRandomizer.fork(seed)) : this;
+    }
 }
@@ -23,6 +23,7 @@
  */
 package org.jeasy.random.randomizers.time;
 
+import org.jeasy.random.api.RandomSourceFactory;
 import org.jeasy.random.api.Randomizer;
 import org.jeasy.random.randomizers.AbstractRandomizer;
 
@@ -50,7 +51,17 @@ public class ZoneIdRandomizer extends AbstractRandomizer<ZoneId> {
      * @param seed initial seed
      */
     public ZoneIdRandomizer(long seed) {
-        super(seed);
+        this(seed, null);
+    }
+
+    /**
+     * Create a new {@link ZoneIdRandomizer}.
+     *
+     * @param seed initial seed
+     * @param randomSourceFactory factory of the random source, or null to use {@link java.util.Random}
+     */
+    public ZoneIdRandomizer(final long seed, final RandomSourceFactory randomSourceFactory) {
+        super(seed, randomSourceFactory);
     }
 
     @Override
@@ -59,4 +70,9 @@ public class ZoneIdRandomizer extends AbstractRandomizer<ZoneId> {
         Map.Entry<String, String> randomZoneId = zoneIds.get(random.nextInt(zoneIds.size()));
         return ZoneId.of(randomZoneId.getValue());
     }
+
+    @Override
+    public ZoneIdRandomizer fork(final long seed) {
+        return getClass() == ZoneIdRandomizer.class ? new ZoneIdRandomizer(seed, getForkSourceFactory()) : this;
+    }
 }
@@ -23,6 +23,7 @@
  */
 package org.jeasy.random.randomizers.time;
 
+import org.jeasy.random.api.RandomSourceFactory;
 import org.jeasy.random.api.Randomizer;
 import org.jeasy.random.randomizers.range.IntegerRangeRandomizer;
 
@@ -57,7 +58,21 @@ public class ZoneOffsetRandomizer implements Randomizer<ZoneOffset> {
      * @param seed initial seed
      */
     public ZoneOffsetRandomizer(final long seed) {
-        integerRangeRandomizer = new IntegerRangeRandomizer(-MAX_SECONDS, MAX_SECONDS, seed);
+        this(seed, null);
+    }
+
+    /**
+     * Create a new {@link ZoneOffsetRandomizer}.
+     *
+     * @param seed initial seed
+     * @param randomSourceFactory factory of the random source, or null to use {@link java.util.Random}
+     */
+    public ZoneOffsetRandomizer(final long seed, final RandomSourceFactory randomSourceFactory) {
+        integerRangeRandomizer = new IntegerRangeRandomizer(-MAX_SECONDS, MAX_SECONDS, seed, randomSourceFactory);
+    }
+
+    private ZoneOffsetRandomizer(final IntegerRangeRandomizer integerRangeRandomizer) {
+        this.integerRangeRandomizer = integerRangeRandomizer;
     }
 
     @Override
@@ -66,4 +81,9 @@ public class ZoneOffsetRandomizer implements Randomizer<ZoneOffset> {
         return ZoneOffset.ofTotalSeconds(randomValue);
     }
     
+
+    @Override
+    public ZoneOffsetRandomizer fork(final long seed) {
+        return getClass() == ZoneOffsetRandomizer.class ? new ZoneOffsetRandomizer(integerRangeRandomizer.fork(seed)) : this;
+    }
 }
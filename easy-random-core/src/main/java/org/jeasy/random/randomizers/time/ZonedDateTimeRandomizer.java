@@ -23,6 +23,7 @@
  */
 package org.jeasy.random.randomizers.time;
 
+import org.jeasy.random.api.RandomSourceFactory;
 import org.jeasy.random.api.Randomizer;
 import org.jeasy.random.randomizers.AbstractRandomizer;
 
@@ -56,8 +57,23 @@ public class ZonedDateTimeRandomizer extends AbstractRandomizer<ZonedDateTime> {
      * @param seed initial seed
      */
     public ZonedDateTimeRandomizer(final long seed) {
-        super(seed);
-        localDateTimeRandomizer = new LocalDateTimeRandomizer(seed);
+        this(seed, null);
+    }
+
+    /**
+     * Create a new {@link ZonedDateTimeRandomizer}.
+     *
+     * @param seed initial seed
+     * @param randomSourceFactory factory of the random source, or null to use {@link java.util.Random}
+     */
+    public ZonedDateTimeRandomizer(final long seed, final RandomSourceFactory randomSourceFactory) {
+        super(seed, randomSourceFactory);
+        localDateTimeRandomizer = new LocalDateTimeRandomizer(seed, randomSourceFactory);
+    }
+
+    private ZonedDateTimeRandomizer(final LocalDateTimeRandomizer localDateTimeRandomizer, final long seed, final RandomSourceFactory randomSourceFactory) {
+        super(seed, randomSourceFactory);
+        this.localDateTimeRandomizer = localDateTimeRandomizer;
     }
 
     @Override
@@ -76,4 +92,9 @@ public class ZonedDateTimeRandomizer extends AbstractRandomizer<ZonedDateTime> {
     public void setLocalDateTimeRandomizer(final LocalDateTimeRandomizer localDateTimeRandomizer) {
         this.localDateTimeRandomizer = localDateTimeRandomizer;
     }
+
+    @Override
+    public ZonedDateTimeRandomizer fork(final long seed) {
+        return getClass() == ZonedDateTimeRandomizer.class ? new ZonedDateTimeRandomizer(localDateTimeRandomizer.fork(seed), seed, getForkSourceFactory()) : this;
+    }
 }
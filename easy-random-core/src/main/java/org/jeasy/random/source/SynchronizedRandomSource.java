@@ -0,0 +1,55 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.source;
+
+import java.util.Objects;
+
+import org.jeasy.random.api.RandomSource;
+
+/**
+ * A {@link RandomSource} synchronizing the access to another source, so that it can be shared across threads.
+ */
+public class SynchronizedRandomSource implements RandomSource {
+
+    private final RandomSource delegate;
+
+    public SynchronizedRandomSource(final RandomSource delegate) {
+        this.delegate = Objects.requireNonNull(delegate, "Random source must not be null");
+    }
+
+    @Override
+    public synchronized long nextLong() {
+        return delegate.nextLong();
+    }
+
+    @Override
+    public synchronized int next(final int bits) {
+        return delegate.next(bits);
+    }
+
+    @Override
+    public synchronized double nextDouble() {
+        return delegate.nextDouble();
+    }
+}
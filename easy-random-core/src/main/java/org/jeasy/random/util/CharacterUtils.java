@@ -23,9 +23,13 @@
  */
 package org.jeasy.random.util;
 
+import java.nio.CharBuffer;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static java.util.stream.Collectors.toList;
 
@@ -38,9 +42,39 @@ import static java.util.stream.Collectors.toList;
  */
 public final class CharacterUtils {
 
+    private static final Map<Charset, char[]> PRINTABLE_CHARACTERS = new ConcurrentHashMap<>();
+
+    private static final Map<Charset, char[]> LETTERS = new ConcurrentHashMap<>();
+
     private CharacterUtils() {
     }
 
+    /**
+     * Returns all printable characters of the given charset. The table is computed once per charset
+     * and shared, so a read-only view of it is returned.
+     *
+     * @param charset Charset to use
+     * @return printable characters
+     */
+    public static CharBuffer getPrintableCharactersOf(Charset charset) {
+        return CharBuffer.wrap(printableCharactersOf(charset)).asReadOnlyBuffer();
+    }
+
+    /**
+     * Returns all printable letters of the given charset. The table is computed once per charset
+     * and shared, so a read-only view of it is returned.
+     *
+     * @param charset Charset to use
+     * @return printable letters
+     */
+    public static CharBuffer getLettersOf(Charset charset) {
+        char[] letters = LETTERS.get(charset);
+        if (letters == null) {
+            letters = LETTERS.computeIfAbsent(charset, c -> filterLetters(printableCharactersOf(c)));
+        }
+        return CharBuffer.wrap(letters).asReadOnlyBuffer();
+    }
+
     /**
      * Returns a list of all printable charaters of the given charset.
      * 
@@ -49,7 +83,34 @@ public final class CharacterUtils {
      * @return list of printable characters
      */
     public static List<Character> collectPrintableCharactersOf(Charset charset) {
-        List<Character> chars = new ArrayList<>();
+        char[] characters = printableCharactersOf(charset);
+        List<Character> chars = new ArrayList<>(characters.length);
+        for (char character : characters) {
+            chars.add(character);
+        }
+        return chars;
+    }
+
+    /**
+     * Keep only letters from a list of characters.
+     * @param characters to filter
+     * @return only letters
+     */
+    public static List<Character> filterLetters(List<Character> characters) {
+        return characters.stream().filter(Character::isLetter).collect(toList());
+    }
+
+    private static char[] printableCharactersOf(Charset charset) {
+        char[] characters = PRINTABLE_CHARACTERS.get(charset);
+        if (characters == null) {
+            characters = PRINTABLE_CHARACTERS.computeIfAbsent(charset, CharacterUtils::computePrintableCharactersOf);
+        }
+        return characters;
+    }
+
+    private static char[] computePrintableCharactersOf(Charset charset) {
+        char[] chars = new char[Character.MAX_VALUE];
+        int count = 0;
         for (int i = Character.MIN_VALUE; i < Character.MAX_VALUE; i++) {
             char character = (char) i;
             if (isPrintable(character)) {
@@ -57,20 +118,22 @@ public final class CharacterUtils {
                 byte[] encoded = characterAsString.getBytes(charset);
                 String decoded = new String(encoded, charset);
                 if (characterAsString.equals(decoded)) {
-                    chars.add(character);
+                    chars[count++] = character;
                 }
             }
         }
-        return chars;
+        return Arrays.copyOf(chars, count);
     }
 
-    /**
-     * Keep only letters from a list of characters.
-     * @param characters to filter
-     * @return only letters
-     */
-    public static List<Character> filterLetters(List<Character> characters) {
-        return characters.stream().filter(Character::isLetter).collect(toList());
+    private static char[] filterLetters(char[] characters) {
+        char[] letters = new char[characters.length];
+        int count = 0;
+        for (char character : characters) {
+            if (Character.isLetter(character)) {
+                letters[count++] = character;
+            }
+        }
+        return Arrays.copyOf(letters, count);
     }
 
     private static boolean isPrintable(char character) {
@@ -23,24 +23,45 @@
  */
 package org.jeasy.random.util;
 
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
 
 import io.github.classgraph.ClassGraph;
-import io.github.classgraph.ClassInfoList;
+import io.github.classgraph.ClassInfo;
 import io.github.classgraph.ScanResult;
 
 /**
  * Facade for {@link io.github.classgraph.ClassGraph}. It is a separate class from {@link ReflectionUtils},
  * so that the classpath scanning - which can take a few seconds - is only done when necessary.
  *
+ * Each scan scope (the scanned packages and whether system modules are scanned) is scanned once, on first use,
+ * and again when the context class loader changes.
+ * Only the names of the public concrete subtypes of each type are kept from the scan result, as integer ids
+ * of a table of names. When the classpath
+ * contains {@link SubTypeIndexFile}s written at build time, they are used instead of scanning the classpath entries
+ * holding them (unless system modules should be scanned), as long as they are not stale. The configured packages
+ * of the other entries are scanned. When no package is configured, the indexes are used alone: types of
+ * entries without index can only be found by configuring their packages.
+ *
  * @author Pascal Schumacher (https://github.com/PascalSchumacher)
  */
 abstract class ClassGraphFacade {
 
-    private static final ConcurrentHashMap<Class<?>, List<Class<?>>> typeToConcreteSubTypes = new ConcurrentHashMap<>();
-    private static final ScanResult scanResult = new ClassGraph().enableSystemJarsAndModules().enableClassInfo().scan();
+    private static final ConcurrentHashMap<ScanScope, SubTypeIndex> subTypeIndexes = new ConcurrentHashMap<>();
 
     /**
      * Searches the classpath for all public concrete subtypes of the given interface or abstract class.
@@ -49,13 +70,246 @@ abstract class ClassGraphFacade {
      * @return a list of all concrete subtypes found
      */
     public static <T> List<Class<?>> getPublicConcreteSubTypesOf(final Class<T> type) {
-        return typeToConcreteSubTypes.computeIfAbsent(type, ClassGraphFacade::searchForPublicConcreteSubTypesOf);
+        return getPublicConcreteSubTypesOf(type, Collections.emptySet(), false);
+    }
+
+    /**
+     * Searches the given packages for all public concrete subtypes of the given interface or abstract class.
+     *
+     * @param type to search concrete subtypes of
+     * @param packages to scan, or an empty collection to scan the whole classpath
+     * @param scanSystemModules whether to scan the JDK modules and system jars as well
+     * @return a list of all concrete subtypes found
+     */
+    public static <T> List<Class<?>> getPublicConcreteSubTypesOf(final Class<T> type, final Collection<String> packages, final boolean scanSystemModules) {
+        ScanScope scanScope = new ScanScope(packages, scanSystemModules);
+        SubTypeIndex subTypeIndex = subTypeIndexes.get(scanScope);
+        if (subTypeIndex == null) {
+            subTypeIndex = subTypeIndexes.computeIfAbsent(scanScope, ClassGraphFacade::createSubTypeIndex);
+        } else if (subTypeIndex.classLoader != getClassLoader()) {
+            // the index files and classpath entries depend on the context class loader
+            subTypeIndex = subTypeIndexes.compute(scanScope, (scope, index) ->
+                    index != null && index.classLoader == getClassLoader() ? index : createSubTypeIndex(scope));
+        }
+        List<Class<?>> subTypes = subTypeIndex.getPublicConcreteSubTypesOf(type);
+        if (subTypes == null) {
+            // the index files reference types which do not exist anymore
+            subTypeIndexes.remove(scanScope, subTypeIndex);
+            subTypeIndex = subTypeIndexes.computeIfAbsent(scanScope, ClassGraphFacade::scan);
+            subTypes = subTypeIndex.getPublicConcreteSubTypesOf(type);
+        }
+        return subTypes;
+    }
+
+    private static SubTypeIndex createSubTypeIndex(final ScanScope scanScope) {
+        if (!scanScope.systemModules) {
+            ClassLoader classLoader = getClassLoader();
+            List<URI> indexedEntries = new ArrayList<>();
+            Map<String, List<String>> subTypeNames;
+            try {
+                subTypeNames = SubTypeIndexFile.load(classLoader, indexedEntries);
+            } catch (IOException e) {
+                subTypeNames = null;
+            }
+            if (subTypeNames != null) {
+                SubTypeIndexBuilder builder = new SubTypeIndexBuilder();
+                builder.addAll(subTypeNames, scanScope::contains);
+                // without scan packages, the indexes are not completed with a scan of the whole classpath
+                if (!scanScope.packages.isEmpty()) {
+                    List<URI> unindexedEntries = getUnindexedClasspathEntries(indexedEntries);
+                    if (!unindexedEntries.isEmpty()) {
+                        scan(scanScope, unindexedEntries, builder);
+                    }
+                }
+                return builder.build(classLoader, true);
+            }
+        }
+        return scan(scanScope);
+    }
+
+    private static SubTypeIndex scan(final ScanScope scanScope) {
+        SubTypeIndexBuilder builder = new SubTypeIndexBuilder();
+        scan(scanScope, null, builder);
+        return builder.build(getClassLoader(), false);
+    }
+
+    // scans the given classpath entries, or the whole classpath if null
+    private static void scan(final ScanScope scanScope, final List<URI> classpathEntries, final SubTypeIndexBuilder builder) {
+        ClassGraph classGraph = new ClassGraph().enableClassInfo();
+        if (classpathEntries != null) {
+            classGraph.overrideClasspath(classpathEntries);
+        }
+        if (!scanScope.packages.isEmpty()) {
+            classGraph.acceptPackages(scanScope.packages.toArray(new String[0]));
+        }
+        if (scanScope.systemModules) {
+            classGraph.enableSystemJarsAndModules();
+        }
+        try (ScanResult scanResult = classGraph.scan()) {
+            for (ClassInfo classInfo : scanResult.getAllStandardClasses()) {
+                if (!classInfo.isPublic() || classInfo.isAbstract()) {
+                    continue;
+                }
+                int id = builder.add(classInfo.getName());
+                // super classes do not include java.lang.Object
+                for (ClassInfo superType : classInfo.getSuperclasses()) {
+                    builder.add(superType.getName(), id);
+                }
+                for (ClassInfo superType : classInfo.getInterfaces()) {
+                    builder.add(superType.getName(), id);
+                }
+            }
+        }
+    }
+
+    private static List<URI> getUnindexedClasspathEntries(final List<URI> indexedEntries) {
+        Set<Object> indexed = new HashSet<>();
+        for (URI entry : indexedEntries) {
+            indexed.add(getClasspathEntryKey(entry));
+        }
+        List<URI> unindexedEntries = new ArrayList<>();
+        for (URI entry : new ClassGraph().getClasspathURIs()) {
+            if (!indexed.contains(getClasspathEntryKey(entry))) {
+                unindexedEntries.add(entry);
+            }
+        }
+        return unindexedEntries;
+    }
+
+    // directories and archives are compared by path, as their URIs may or may not end with a slash
+    private static Object getClasspathEntryKey(final URI entry) {
+        return "file".equals(entry.getScheme()) ? Paths.get(entry).normalize() : entry;
+    }
+
+    private static ClassLoader getClassLoader() {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        return classLoader != null ? classLoader : ClassGraphFacade.class.getClassLoader();
     }
 
-    private static <T> List<Class<?>> searchForPublicConcreteSubTypesOf(final Class<T> type) {
-        String typeName = type.getName();
-        ClassInfoList subTypes = type.isInterface() ? scanResult.getClassesImplementing(typeName) : scanResult.getSubclasses(typeName);
-        List<Class<?>> loadedSubTypes = subTypes.filter(subType -> subType.isPublic() && !subType.isAbstract()).loadClasses(true);
-        return Collections.unmodifiableList(loadedSubTypes);
+    private static final class ScanScope {
+
+        private final Set<String> packages;
+        private final boolean systemModules;
+
+        private ScanScope(final Collection<String> packages, final boolean systemModules) {
+            this.packages = new TreeSet<>(packages);
+            this.systemModules = systemModules;
+        }
+
+        private boolean contains(final String typeName) {
+            if (packages.isEmpty()) {
+                return true;
+            }
+            for (String packageName : packages) {
+                if (typeName.startsWith(packageName + ".")) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            ScanScope scanScope = (ScanScope) o;
+            return systemModules == scanScope.systemModules && packages.equals(scanScope.packages);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(packages, systemModules);
+        }
+    }
+
+    /*
+     * Public concrete subtypes found during a scan or in index files. Each subtype has an integer id,
+     * its position in the table of names, so that its name is only held once. The subtypes of Object
+     * are all the types of the table: they are not listed. Subtypes are only loaded (and cached) when
+     * they are asked for.
+     */
+    private static final class SubTypeIndex {
+
+        private final String[] names;
+        private final Map<String, int[]> subTypeIds;
+        private final ClassLoader classLoader;
+        private final boolean persisted;
+        private final ConcurrentHashMap<Class<?>, List<Class<?>>> typeToConcreteSubTypes = new ConcurrentHashMap<>();
+
+        private SubTypeIndex(final String[] names, final Map<String, int[]> subTypeIds,
+                             final ClassLoader classLoader, final boolean persisted) {
+            this.names = names;
+            this.subTypeIds = subTypeIds;
+            this.classLoader = classLoader;
+            this.persisted = persisted;
+        }
+
+        private List<Class<?>> getPublicConcreteSubTypesOf(final Class<?> type) {
+            return typeToConcreteSubTypes.computeIfAbsent(type, this::loadPublicConcreteSubTypesOf);
+        }
+
+        private List<Class<?>> loadPublicConcreteSubTypesOf(final Class<?> type) {
+            int[] ids = type == Object.class ? IntStream.range(0, names.length).toArray() : subTypeIds.get(type.getName());
+            if (ids == null) {
+                return Collections.emptyList();
+            }
+            List<Class<?>> subTypes = new ArrayList<>(ids.length);
+            for (int id : ids) {
+                try {
+                    Class<?> subType = Class.forName(names[id], false, classLoader);
+                    // skip homonyms from other class loaders
+                    if (type.isAssignableFrom(subType)) {
+                        subTypes.add(subType);
+                    } else if (persisted) {
+                        return null;
+                    }
+                } catch (ClassNotFoundException | LinkageError e) {
+                    if (persisted) {
+                        return null;
+                    }
+                    // ignore types that can not be loaded
+                }
+            }
+            return Collections.unmodifiableList(subTypes);
+        }
+    }
+
+    private static final class SubTypeIndexBuilder {
+
+        private final Map<String, Integer> ids = new HashMap<>();
+        private final List<String> names = new ArrayList<>();
+        private final Map<String, List<Integer>> subTypeIds = new HashMap<>();
+
+        // returns the id of the subtype
+        private int add(final String subType) {
+            Integer id = ids.get(subType);
+            if (id == null) {
+                id = names.size();
+                ids.put(subType, id);
+                names.add(subType);
+            }
+            return id;
+        }
+
+        private void add(final String superType, final int subTypeId) {
+            subTypeIds.computeIfAbsent(superType, k -> new ArrayList<>()).add(subTypeId);
+        }
+
+        private void addAll(final Map<String, ? extends Collection<String>> subTypeNames, final Predicate<String> filter) {
+            subTypeNames.forEach((superType, subTypes) -> {
+                for (String subType : subTypes) {
+                    if (filter.test(subType)) {
+                        add(superType, add(subType));
+                    }
+                }
+            });
+        }
+
+        private SubTypeIndex build(final ClassLoader classLoader, final boolean persisted) {
+            Map<String, int[]> index = new HashMap<>(subTypeIds.size() * 4 / 3 + 1);
+            subTypeIds.forEach((superType, subTypes) ->
+                    index.put(superType, subTypes.stream().mapToInt(Integer::intValue).distinct().toArray()));
+            return new SubTypeIndex(names.toArray(new String[0]), index, classLoader, persisted);
+        }
     }
 }
@@ -0,0 +1,243 @@
+package org.jeasy.random.util;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A {@link FieldValueStore} that does not allocate on lookups.
+ *
+ * Fields are interned to an int id (fields with the same name and type share the same id, like
+ * {@link FieldValueKey}), and the id is packed with the index into a {@code long} key of an open
+ * addressing table. Values can optionally be kept for a window of indexes only: when a value is
+ * stored for index {@code i}, values stored for indexes lower than or equal to {@code i - window}
+ * are evicted, so memory stays flat across long streams of objects. Eviction is done by each segment
+ * on its next write.
+ *
+ * The table is split in segments by index, each segment being guarded by its own lock.
+ */
+public class CompactFieldValueStore extends FieldValueStore {
+
+  /**
+   * Window value meaning that values are kept for all indexes.
+   */
+  public static final int UNBOUNDED = 0;
+
+  private static final long EMPTY = 0L;
+
+  private static final int INITIAL_CAPACITY = 64;
+
+  private final Map<Field, Integer> fieldIds = new ConcurrentHashMap<>();
+  private final Map<FieldValueKey, Integer> fieldIdsByNameAndType = new ConcurrentHashMap<>();
+  private final AtomicInteger fieldCount = new AtomicInteger();
+  private final AtomicInteger highestIndex = new AtomicInteger(Integer.MIN_VALUE);
+  private final int window;
+  private final Segment[] segments;
+  private final int segmentMask;
+
+  public CompactFieldValueStore() {
+    this(UNBOUNDED, 1);
+  }
+
+  /**
+   * @param window the number of consecutive indexes to keep values for, or {@link #UNBOUNDED}
+   * @param concurrencyLevel the expected number of threads using the store
+   */
+  public CompactFieldValueStore(int window, int concurrencyLevel) {
+    super(Collections.emptyMap());
+    if (window < 0) {
+      throw new IllegalArgumentException("window must be >= 0");
+    }
+    if (concurrencyLevel < 1) {
+      throw new IllegalArgumentException("concurrencyLevel must be >= 1");
+    }
+    int segmentCount = Integer.highestOneBit(concurrencyLevel);
+    if (segmentCount < concurrencyLevel) {
+      segmentCount <<= 1;
+    }
+    this.window = window;
+    this.segments = new Segment[segmentCount];
+    this.segmentMask = segmentCount - 1;
+    for (int i = 0; i < segmentCount; i++) {
+      segments[i] = new Segment(i);
+    }
+  }
+
+  @Override
+  public void put(int index, Field field, Object value) {
+    if (value != null) {
+      int lastEvictedIndex = window == UNBOUNDED ? Integer.MIN_VALUE : lastEvictedIndex(index);
+      segmentFor(index).put(index, fieldId(field), value, lastEvictedIndex);
+    }
+  }
+
+  @Override
+  public Object getValue(int index, Field field) {
+    return segmentFor(index).get(key(fieldId(field), index));
+  }
+
+  /**
+   * @return the number of values currently stored
+   */
+  public int size() {
+    int size = 0;
+    for (Segment segment : segments) {
+      size += segment.size();
+    }
+    return size;
+  }
+
+  private int lastEvictedIndex(int index) {
+    int highest = highestIndex.get();
+    while (index > highest && !highestIndex.compareAndSet(highest, index)) {
+      highest = highestIndex.get();
+    }
+    return (int) Math.max((long) Math.max(index, highest) - window, Integer.MIN_VALUE);
+  }
+
+  private Segment segmentFor(int index) {
+    return segments[index & segmentMask];
+  }
+
+  private int fieldId(Field field) {
+    Integer fieldId = fieldIds.get(field);
+    if (fieldId == null) {
+      fieldId = fieldIds.computeIfAbsent(field, f -> fieldIdsByNameAndType.computeIfAbsent(
+          new FieldValueKey(0, f), key -> fieldCount.incrementAndGet()));
+    }
+    return fieldId;
+  }
+
+  // field ids start at 1, so that a key is never EMPTY
+  private static long key(int fieldId, int index) {
+    return ((long) fieldId << 32) | (index & 0xffffffffL);
+  }
+
+  private static int hash(long key) {
+    key = (key ^ (key >>> 33)) * 0xff51afd7ed558ccdL;
+    key = (key ^ (key >>> 33)) * 0xc4ceb9fe1a85ec53L;
+    return (int) (key ^ (key >>> 33));
+  }
+
+  private final class Segment {
+    private final int segmentId;
+    private long[] keys = new long[INITIAL_CAPACITY];
+    private Object[] values = new Object[INITIAL_CAPACITY];
+    private int size;
+    private int lowestIndex = Integer.MAX_VALUE;
+    private int lastEvictedIndex = Integer.MIN_VALUE;
+
+    private Segment(int segmentId) {
+      this.segmentId = segmentId;
+    }
+
+    synchronized int size() {
+      return size;
+    }
+
+    synchronized Object get(long key) {
+      int mask = keys.length - 1;
+      for (int slot = hash(key) & mask; keys[slot] != EMPTY; slot = (slot + 1) & mask) {
+        if (keys[slot] == key) {
+          return values[slot];
+        }
+      }
+      return null;
+    }
+
+    synchronized void put(int index, int fieldId, Object value, int lastEvictedIndex) {
+      if (window != UNBOUNDED) {
+        if (lastEvictedIndex > this.lastEvictedIndex) {
+          evictUpTo(lastEvictedIndex);
+          this.lastEvictedIndex = lastEvictedIndex;
+        }
+        if (index <= lastEvictedIndex) {
+          return;
+        }
+        lowestIndex = Math.min(lowestIndex, index);
+      }
+      if (size >= keys.length >> 1) {
+        rehash(keys.length << 1, Integer.MIN_VALUE);
+      }
+      long key = key(fieldId, index);
+      int mask = keys.length - 1;
+      int slot = hash(key) & mask;
+      while (keys[slot] != EMPTY && keys[slot] != key) {
+        slot = (slot + 1) & mask;
+      }
+      if (keys[slot] == EMPTY) {
+        keys[slot] = key;
+        size++;
+      }
+      values[slot] = value;
+    }
+
+    // evicts the values of this segment's indexes that are lower than or equal to the given one
+    private void evictUpTo(int lastEvictedIndex) {
+      if (size == 0 || lowestIndex > lastEvictedIndex) {
+        return;
+      }
+      int fields = fieldCount.get();
+      long indexes = ((long) lastEvictedIndex - lowestIndex) / segments.length + 1;
+      if (indexes * fields > keys.length) {
+        rehash(keys.length, lastEvictedIndex);
+      } else {
+        int first = lowestIndex + ((segmentId - lowestIndex) & segmentMask);
+        for (long index = first; index <= lastEvictedIndex; index += segments.length) {
+          for (int fieldId = 1; fieldId <= fields; fieldId++) {
+            remove(key(fieldId, (int) index));
+          }
+        }
+      }
+      lowestIndex = lastEvictedIndex + 1;
+    }
+
+    private void remove(long key) {
+      int mask = keys.length - 1;
+      int slot = hash(key) & mask;
+      while (keys[slot] != key) {
+        if (keys[slot] == EMPTY) {
+          return;
+        }
+        slot = (slot + 1) & mask;
+      }
+      // shift back the following entries of the probe sequence
+      int free = slot;
+      for (int next = (free + 1) & mask; keys[next] != EMPTY; next = (next + 1) & mask) {
+        int home = hash(keys[next]) & mask;
+        if (((next - home) & mask) >= ((next - free) & mask)) {
+          keys[free] = keys[next];
+          values[free] = values[next];
+          free = next;
+        }
+      }
+      keys[free] = EMPTY;
+      values[free] = null;
+      size--;
+    }
+
+    // rebuilds the table with the given capacity, keeping the values of indexes above the given one
+    private void rehash(int capacity, int lastEvictedIndex) {
+      long[] oldKeys = keys;
+      Object[] oldValues = values;
+      keys = new long[capacity];
+      values = new Object[capacity];
+      size = 0;
+      int mask = capacity - 1;
+      for (int i = 0; i < oldKeys.length; i++) {
+        if (oldKeys[i] != EMPTY && (int) oldKeys[i] > lastEvictedIndex) {
+          int slot = hash(oldKeys[i]) & mask;
+          while (keys[slot] != EMPTY) {
+            slot = (slot + 1) & mask;
+          }
+          keys[slot] = oldKeys[i];
+          values[slot] = oldValues[i];
+          size++;
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,242 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.util;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Optional;
+
+import org.jeasy.random.randomizers.GeneratedRandomizer;
+
+/**
+ * Reads and writes the value of a given field through {@link MethodHandle}s that are resolved
+ * once, instead of going through {@link Field#set(Object, Object)} (and toggling the accessible
+ * flag of the field) on every access like {@link ReflectionUtils#setFieldValue(Object, Field, Object)} does.
+ *
+ * The field is made accessible once when the accessor is created. If handles can not be created
+ * for the field (static fields or classes of a module that is not open), the accessor falls back
+ * to {@link ReflectionUtils} methods.
+ *
+ * <strong>This class is intended for internal use only.</strong>
+ */
+public final class FieldAccessor {
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private static final MethodType GENERATED_GETTER_TYPE = MethodType.methodType(Object.class, Object.class, int.class);
+
+    private static final MethodType GENERATED_SETTER_TYPE = MethodType.methodType(void.class, Object.class, int.class, Object.class);
+
+    private final Field field;
+
+    private final MethodHandle fieldGetter;
+
+    private final MethodHandle fieldSetter;
+
+    private final MethodHandle propertySetter;
+
+    private FieldAccessor(final Field field, final MethodHandle fieldGetter, final MethodHandle fieldSetter, final MethodHandle propertySetter) {
+        this.field = field;
+        this.fieldGetter = fieldGetter;
+        this.fieldSetter = fieldSetter;
+        this.propertySetter = propertySetter;
+    }
+
+    /**
+     * Create an accessor for the given field.
+     *
+     * @param field to access
+     * @return an accessor for the given field
+     */
+    public static FieldAccessor of(final Field field) {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        MethodHandle fieldGetter = null;
+        MethodHandle fieldSetter = null;
+        if (!ReflectionUtils.isStatic(field) && field.trySetAccessible()) {
+            try {
+                fieldGetter = lookup.unreflectGetter(field).asType(GETTER_TYPE);
+                fieldSetter = lookup.unreflectSetter(field).asType(SETTER_TYPE);
+            } catch (IllegalAccessException e) {
+                // fall back to reflection
+            }
+        }
+        MethodHandle propertySetter = null;
+        Optional<Method> writeMethod = ReflectionUtils.getWriteMethod(field);
+        if (writeMethod.isPresent()) {
+            try {
+                propertySetter = lookup.unreflect(writeMethod.get()).asType(SETTER_TYPE);
+            } catch (IllegalAccessException e) {
+                // the setter is not accessible, the field will be set directly
+            }
+        }
+        return new FieldAccessor(field, fieldGetter, fieldSetter, propertySetter);
+    }
+
+    /**
+     * Create an accessor for a field of a type annotated with {@link org.jeasy.random.annotation.Randomizable},
+     * going through the methods of its generated randomizer.
+     *
+     * @param randomizer generated for the declaring type
+     * @param index of the field in {@link GeneratedRandomizer#getFields()}
+     * @return an accessor for the given field
+     */
+    public static FieldAccessor of(final GeneratedRandomizer<?> randomizer, final int index) {
+        MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+        try {
+            MethodHandle fieldGetter = lookup.findVirtual(GeneratedRandomizer.class, "getFieldValue", GENERATED_GETTER_TYPE);
+            MethodHandle fieldSetter = lookup.findVirtual(GeneratedRandomizer.class, "setFieldValue", GENERATED_SETTER_TYPE);
+            MethodHandle propertySetter = lookup.findVirtual(GeneratedRandomizer.class, "setPropertyValue", GENERATED_SETTER_TYPE);
+            return new FieldAccessor(randomizer.getFields().get(index),
+                    MethodHandles.insertArguments(fieldGetter.bindTo(randomizer), 1, index),
+                    MethodHandles.insertArguments(fieldSetter.bindTo(randomizer), 1, index),
+                    MethodHandles.insertArguments(propertySetter.bindTo(randomizer), 1, index));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Create an accessor that reads and writes the value of the given field in a slot of an {@code Object[]}
+     * target instead of the field itself. This is used to collect the values of objects that are created
+     * by a builder once all of their values are known.
+     *
+     * @param field whose value is stored in the slot
+     * @param index of the slot
+     * @return an accessor for the given slot
+     */
+    public static FieldAccessor ofArrayElement(final Field field, final int index) {
+        MethodHandle elementGetter = MethodHandles.insertArguments(MethodHandles.arrayElementGetter(Object[].class), 1, index);
+        MethodHandle elementSetter = MethodHandles.insertArguments(MethodHandles.arrayElementSetter(Object[].class), 1, index);
+        return new FieldAccessor(field, elementGetter.asType(GETTER_TYPE), elementSetter.asType(SETTER_TYPE), null);
+    }
+
+    /**
+     * @return the accessed field
+     */
+    public Field getField() {
+        return field;
+    }
+
+    /**
+     * @return true if the field has an accessible setter
+     */
+    public boolean hasSetter() {
+        return propertySetter != null;
+    }
+
+    /**
+     * Get the value of the field in the target object.
+     *
+     * @param target object to get the field value of
+     * @return the value of the field
+     * @throws IllegalAccessException if the field cannot be accessed
+     */
+    public Object getFieldValue(final Object target) throws IllegalAccessException {
+        if (fieldGetter == null) {
+            return ReflectionUtils.getFieldValue(target, field);
+        }
+        try {
+            return (Object) fieldGetter.invokeExact(target);
+        } catch (RuntimeException | Error | IllegalAccessException e) {
+            throw e;
+        } catch (Throwable throwable) {
+            throw new IllegalStateException(throwable);
+        }
+    }
+
+    /**
+     * Set the value of the field in the target object, bypassing its setter if any.
+     *
+     * @param target object to set the field value on
+     * @param value to set
+     * @throws IllegalAccessException if the field cannot be set
+     */
+    public void setFieldValue(final Object target, final Object value) throws IllegalAccessException {
+        if (fieldSetter == null) {
+            ReflectionUtils.setFieldValue(target, field, value);
+            return;
+        }
+        try {
+            fieldSetter.invokeExact(target, value);
+        } catch (ClassCastException e) {
+            // keep the same contract as Field#set
+            throw new IllegalArgumentException(e.getMessage(), e);
+        } catch (NullPointerException e) {
+            // unboxing a null value, Field#set rejects it with an IllegalArgumentException
+            if (target != null && !accepts(value)) {
+                throw new IllegalArgumentException(e.getMessage(), e);
+            }
+            throw e;
+        } catch (RuntimeException | Error | IllegalAccessException e) {
+            throw e;
+        } catch (Throwable throwable) {
+            throw new IllegalStateException(throwable);
+        }
+    }
+
+    /**
+     * Set the value of the field in the target object using its setter if any,
+     * or directly otherwise.
+     *
+     * @param target object to set the property on
+     * @param value to set
+     * @throws IllegalAccessException if the field cannot be set
+     * @throws InvocationTargetException if the setter throws an exception
+     */
+    public void setPropertyValue(final Object target, final Object value) throws IllegalAccessException, InvocationTargetException {
+        if (propertySetter == null) {
+            setFieldValue(target, value);
+            return;
+        }
+        try {
+            propertySetter.invokeExact(target, value);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            // thrown by the accessors of generated randomizers
+            throw e;
+        } catch (ClassCastException | NullPointerException | IllegalArgumentException e) {
+            // keep the same contract as Method#invoke: invalid arguments are rejected before invoking the setter
+            if (!field.getDeclaringClass().isInstance(target) || !accepts(value)) {
+                throw e instanceof IllegalArgumentException ? (IllegalArgumentException) e : new IllegalArgumentException(e.getMessage(), e);
+            }
+            throw new InvocationTargetException(e);
+        } catch (Throwable throwable) {
+            // keep the same contract as Method#invoke
+            throw new InvocationTargetException(throwable);
+        }
+    }
+
+    private boolean accepts(final Object value) {
+        Class<?> type = field.getType();
+        if (value == null) {
+            return !type.isPrimitive();
+        }
+        return ReflectionUtils.getWrapperType(type).isInstance(value);
+    }
+}
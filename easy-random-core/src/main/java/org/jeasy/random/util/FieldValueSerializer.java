@@ -0,0 +1,22 @@
+package org.jeasy.random.util;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Converts field values to bytes and back, for {@link FieldValueStore}s that keep values
+ * outside of the heap, like {@link MappedFieldValueStore}.
+ */
+public interface FieldValueSerializer {
+
+  /**
+   * @param value the value to serialize, never null
+   * @return the serialized value, or null if the value can not be serialized (it will not be stored)
+   */
+  byte[] serialize(Object value);
+
+  /**
+   * @param bytes a buffer whose remaining bytes are the ones returned by {@link #serialize(Object)}
+   * @return the deserialized value
+   */
+  Object deserialize(ByteBuffer bytes);
+}
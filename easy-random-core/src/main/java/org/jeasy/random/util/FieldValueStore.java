@@ -23,7 +23,16 @@ public class FieldValueStore {
   }
 
   public Optional<Object> get(int index, Field field) {
-    return Optional.ofNullable(valuesByFieldValueKey.get(new FieldValueKey(index, field)));
+    return Optional.ofNullable(getValue(index, field));
+  }
+
+  /**
+   * Same as {@link #get(int, Field)} without wrapping the stored value.
+   *
+   * @return the value stored for the given index and field, or null if none
+   */
+  public Object getValue(int index, Field field) {
+    return valuesByFieldValueKey.get(new FieldValueKey(index, field));
   }
 
   public static class FieldValueKey {
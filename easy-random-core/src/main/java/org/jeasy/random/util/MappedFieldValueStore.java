@@ -0,0 +1,247 @@
+package org.jeasy.random.util;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A {@link FieldValueStore} backed by a memory mapped file, so that field values written by one
+ * process can be read by other processes mapping the same file instead of being generated again.
+ *
+ * Values are keyed by the index, the name of the field and the name of its type (like
+ * {@link FieldValueKey}), which are stable across JVMs, and are converted to bytes with a
+ * {@link FieldValueSerializer}. The file holds a fixed size open addressing table of
+ * {@code (hash, offset)} slots followed by an append only data region of records. Writes are
+ * serialized across processes with a file lock, and across the stores of a JVM opened on the same
+ * file with a lock of the file (file locks are held by the JVM). Reads do not lock: a slot is
+ * published only once its record has been written.
+ *
+ * Records are laid out as {@code [index][field key length][field key][value length][value]}.
+ *
+ * The store is a cache with a fixed capacity: once the table or the data region is full, new
+ * values are no longer stored. Values that can not be serialized are not stored either.
+ *
+ * Values are deserialized on each read, so each {@link #getValue(int, Field)} returns a new object
+ * rather than the instance that was stored. {@link #close()} closes the file channel but does not
+ * unmap the file, as the JDK has no supported way to do so: the mapping is released when the store
+ * is garbage collected. Until then, the file can not be deleted on some platforms (Windows for
+ * example), and values can still be read but storing new ones fails with an {@link UncheckedIOException}.
+ */
+public class MappedFieldValueStore extends FieldValueStore implements Closeable {
+
+  private static final long MAGIC = 0x4552465653544f52L;
+  private static final int VERSION = 1;
+  private static final int VERSION_OFFSET = 8;
+  private static final int SLOT_COUNT_OFFSET = 12;
+  private static final int DATA_END_OFFSET = 16;
+  private static final int HEADER_SIZE = 64;
+  private static final int SLOT_SIZE = 16;
+  private static final long EMPTY = 0L;
+  private static final int DEFAULT_BYTES_PER_SLOT = 256;
+
+  private static final VarHandle LONGS = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+  // JVM wide locks of the files of stores, by real path
+  private static final Map<Path, Object> FILE_LOCKS = new ConcurrentHashMap<>();
+
+  private final FileChannel channel;
+  private final Object fileLock;
+  private final ByteBuffer buffer;
+  private final int slotCount;
+  private final FieldValueSerializer serializer;
+  private final Map<Field, byte[]> fieldKeys = new ConcurrentHashMap<>();
+
+  /**
+   * Open or create a store with Java serialization of values.
+   *
+   * @param file the file backing the store
+   * @param capacity the size of the file in bytes, if it does not exist yet
+   * @throws IOException if the file can not be opened or is not a store
+   */
+  public MappedFieldValueStore(Path file, int capacity) throws IOException {
+    this(file, capacity, Math.max(16, Integer.highestOneBit(capacity / DEFAULT_BYTES_PER_SLOT)), new SerializableFieldValueSerializer());
+  }
+
+  /**
+   * Open or create a store.
+   *
+   * @param file the file backing the store
+   * @param capacity the size of the file in bytes, if it does not exist yet
+   * @param slotCount the maximum number of stored values (a power of two), if the file does not exist yet
+   * @param serializer the serializer of values
+   * @throws IOException if the file can not be opened or is not a store
+   */
+  public MappedFieldValueStore(Path file, int capacity, int slotCount, FieldValueSerializer serializer) throws IOException {
+    super(Collections.emptyMap());
+    if (Integer.bitCount(slotCount) != 1) {
+      throw new IllegalArgumentException("slotCount must be a power of two");
+    }
+    if (HEADER_SIZE + (long) slotCount * SLOT_SIZE >= capacity) {
+      throw new IllegalArgumentException("capacity is too small for " + slotCount + " slots");
+    }
+    this.serializer = serializer;
+    this.channel = FileChannel.open(file, READ, WRITE, CREATE);
+    try {
+      this.fileLock = FILE_LOCKS.computeIfAbsent(file.toRealPath(), path -> new Object());
+    } catch (IOException | RuntimeException e) {
+      channel.close();
+      throw e;
+    }
+    synchronized (fileLock) {
+      try (FileLock lock = channel.lock()) {
+        if (channel.size() == 0) {
+          buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity).order(ByteOrder.LITTLE_ENDIAN);
+          buffer.putInt(VERSION_OFFSET, VERSION);
+          buffer.putInt(SLOT_COUNT_OFFSET, slotCount);
+          LONGS.setRelease(buffer, DATA_END_OFFSET, HEADER_SIZE + (long) slotCount * SLOT_SIZE);
+          LONGS.setRelease(buffer, 0, MAGIC);
+        } else {
+          if (channel.size() < HEADER_SIZE) {
+            throw new IOException(file + " is not a field value store");
+          }
+          buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size()).order(ByteOrder.LITTLE_ENDIAN);
+          if ((long) LONGS.getAcquire(buffer, 0) != MAGIC || buffer.getInt(VERSION_OFFSET) != VERSION) {
+            throw new IOException(file + " is not a field value store");
+          }
+        }
+        this.slotCount = buffer.getInt(SLOT_COUNT_OFFSET);
+      } catch (IOException | RuntimeException e) {
+        channel.close();
+        throw e;
+      }
+    }
+  }
+
+  @Override
+  public void put(int index, Field field, Object value) {
+    if (value == null) {
+      return;
+    }
+    byte[] bytes = serializer.serialize(value);
+    if (bytes == null) {
+      return;
+    }
+    byte[] fieldKey = fieldKey(field);
+    long hash = hash(fieldKey, index);
+    synchronized (fileLock) {
+      try (FileLock lock = channel.lock()) {
+        int slotOffset = findSlot(hash, fieldKey, index);
+        if (slotOffset < 0 || (long) LONGS.getAcquire(buffer, slotOffset) != EMPTY) {
+          // the table is full or the value has already been stored
+          return;
+        }
+        long recordOffset = (long) LONGS.getAcquire(buffer, DATA_END_OFFSET);
+        long recordEnd = recordOffset + 12 + fieldKey.length + bytes.length;
+        if (recordEnd > buffer.capacity()) {
+          return;
+        }
+        int position = (int) recordOffset;
+        buffer.putInt(position, index);
+        buffer.putInt(position + 4, fieldKey.length);
+        putBytes(position + 8, fieldKey);
+        buffer.putInt(position + 8 + fieldKey.length, bytes.length);
+        putBytes(position + 12 + fieldKey.length, bytes);
+        LONGS.setRelease(buffer, DATA_END_OFFSET, recordEnd);
+        LONGS.setRelease(buffer, slotOffset + 8, recordOffset);
+        LONGS.setRelease(buffer, slotOffset, hash);
+      } catch (IOException e) {
+        throw new UncheckedIOException("Unable to store field value", e);
+      }
+    }
+  }
+
+  @Override
+  public Object getValue(int index, Field field) {
+    byte[] fieldKey = fieldKey(field);
+    int slotOffset = findSlot(hash(fieldKey, index), fieldKey, index);
+    if (slotOffset < 0 || (long) LONGS.getAcquire(buffer, slotOffset) == EMPTY) {
+      return null;
+    }
+    int valueOffset = (int) (long) LONGS.getAcquire(buffer, slotOffset + 8) + 8 + fieldKey.length;
+    int valueLength = buffer.getInt(valueOffset);
+    ByteBuffer value = buffer.duplicate();
+    value.position(valueOffset + 4).limit(valueOffset + 4 + valueLength);
+    return serializer.deserialize(value.slice());
+  }
+
+  /**
+   * Close the file channel of this store. The file stays mapped until the store is garbage collected.
+   *
+   * @throws IOException if the channel can not be closed
+   */
+  @Override
+  public void close() throws IOException {
+    channel.close();
+  }
+
+  // returns the offset of the slot holding the given key or of the empty slot where it should be stored, -1 if the table is full
+  private int findSlot(long hash, byte[] fieldKey, int index) {
+    int mask = slotCount - 1;
+    int slot = (int) hash & mask;
+    for (int i = 0; i < slotCount; i++) {
+      int slotOffset = HEADER_SIZE + slot * SLOT_SIZE;
+      long slotHash = (long) LONGS.getAcquire(buffer, slotOffset);
+      if (slotHash == EMPTY || (slotHash == hash && matches((long) LONGS.getAcquire(buffer, slotOffset + 8), fieldKey, index))) {
+        return slotOffset;
+      }
+      slot = (slot + 1) & mask;
+    }
+    return -1;
+  }
+
+  private boolean matches(long recordOffset, byte[] fieldKey, int index) {
+    int position = (int) recordOffset;
+    if (buffer.getInt(position) != index || buffer.getInt(position + 4) != fieldKey.length) {
+      return false;
+    }
+    for (int i = 0; i < fieldKey.length; i++) {
+      if (buffer.get(position + 8 + i) != fieldKey[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private void putBytes(int position, byte[] bytes) {
+    ByteBuffer target = buffer.duplicate();
+    target.position(position);
+    target.put(bytes);
+  }
+
+  private byte[] fieldKey(Field field) {
+    byte[] fieldKey = fieldKeys.get(field);
+    if (fieldKey == null) {
+      fieldKey = fieldKeys.computeIfAbsent(field, f -> (f.getName() + ':' + f.getType().getName()).getBytes(UTF_8));
+    }
+    return fieldKey;
+  }
+
+  // FNV-1a over the field key and the index, never EMPTY
+  private static long hash(byte[] fieldKey, int index) {
+    long hash = 0xcbf29ce484222325L;
+    for (byte b : fieldKey) {
+      hash = (hash ^ (b & 0xff)) * 0x100000001b3L;
+    }
+    for (int shift = 0; shift < 32; shift += 8) {
+      hash = (hash ^ ((index >>> shift) & 0xff)) * 0x100000001b3L;
+    }
+    hash ^= hash >>> 32;
+    return hash == EMPTY ? 1L : hash;
+  }
+}
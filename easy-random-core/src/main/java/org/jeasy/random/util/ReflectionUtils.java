@@ -23,6 +23,7 @@
  */
 package org.jeasy.random.util;
 
+import org.jeasy.random.EasyRandomParameters;
 import org.jeasy.random.annotation.RandomizerArgument;
 import org.jeasy.random.ObjectCreationException;
 import org.jeasy.random.api.Randomizer;
@@ -198,32 +199,42 @@ public final class ReflectionUtils {
         if (!fieldType.isPrimitive()) {
             return false;
         }
-        Object fieldValue = getFieldValue(object, field);
-        if (fieldValue == null) {
+        return isPrimitiveDefaultValue(fieldType, getFieldValue(object, field));
+    }
+
+    /**
+     * Check if a value of the given type is the default value of a primitive type.
+     *
+     * @param type  the type of the value
+     * @param value the value to check
+     * @return true if the type is primitive and the value is its default value, false otherwise
+     */
+    public static boolean isPrimitiveDefaultValue(final Class<?> type, final Object value) {
+        if (!type.isPrimitive() || value == null) {
             return false;
         }
-        if (fieldType.equals(boolean.class) && (boolean) fieldValue == false) {
+        if (type.equals(boolean.class) && (boolean) value == false) {
             return true;
         }
-        if (fieldType.equals(byte.class) && (byte) fieldValue == (byte) 0) {
+        if (type.equals(byte.class) && (byte) value == (byte) 0) {
             return true;
         }
-        if (fieldType.equals(short.class) && (short) fieldValue == (short) 0) {
+        if (type.equals(short.class) && (short) value == (short) 0) {
           return true;
         }
-        if (fieldType.equals(int.class) && (int) fieldValue == 0) {
+        if (type.equals(int.class) && (int) value == 0) {
             return true;
         }
-        if (fieldType.equals(long.class) && (long) fieldValue == 0L) {
+        if (type.equals(long.class) && (long) value == 0L) {
             return true;
         }
-        if (fieldType.equals(float.class) && (float) fieldValue == 0.0F) {
+        if (type.equals(float.class) && (float) value == 0.0F) {
             return true;
         }
-        if (fieldType.equals(double.class) && (double) fieldValue == 0.0D) {
+        if (type.equals(double.class) && (double) value == 0.0D) {
             return true;
         }
-        if (fieldType.equals(char.class) && (char) fieldValue == '\u0000') {
+        if (type.equals(char.class) && (char) value == '\u0000') {
             return true;
         }
         return false;
@@ -405,6 +416,19 @@ public final class ReflectionUtils {
         return ClassGraphFacade.getPublicConcreteSubTypesOf(type);
     }
 
+    /**
+     * Searches the classpath for all public concrete subtypes of the given interface or abstract class,
+     * in the packages and modules configured in the given parameters.
+     *
+     * @param type to search concrete subtypes of
+     * @param parameters defining the packages to scan
+     * @param <T>  the actual type to introspect
+     * @return a list of all concrete subtypes found
+     */
+    public static <T> List<Class<?>> getPublicConcreteSubTypesOf(final Class<T> type, final EasyRandomParameters parameters) {
+        return ClassGraphFacade.getPublicConcreteSubTypesOf(type, parameters.getScanPackages(), parameters.isScanSystemModules());
+    }
+
     /**
      * Filters a list of types to keep only elements having the same parameterized types as the given type.
      *
@@ -0,0 +1,183 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.util;
+
+import java.util.Random;
+import java.util.SplittableRandom;
+
+import org.jeasy.random.EasyRandomParameters;
+import org.jeasy.random.api.RandomSourceFactory;
+
+/**
+ * A {@link Random} that draws its values from the generator of the current thread's scope when
+ * one is open, and from its own sequential state otherwise.
+ *
+ * A scope is opened for a single object with {@link #openScope(long, Class, int)}.
+ * The generator of a scope is seeded from the seed, the type and the index of the object, so
+ * that every {@link Random} of this type used while generating the object returns values that
+ * do not depend on the objects generated before it, on which thread it is generated, or on
+ * the JVM it is generated in.
+ *
+ * Outside of a scope, values are drawn from a {@link org.jeasy.random.api.RandomSource} when a
+ * {@link RandomSourceFactory} is given, and from the sequential state of {@link Random} otherwise.
+ * Until a scope has been opened in the JVM, values are drawn without looking up the scope of the thread.
+ *
+ * <strong>This class is intended for internal use only.</strong>
+ */
+public class ScopedRandom extends SourceRandom {
+
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private static final double DOUBLE_UNIT = 0x1.0p-53;
+
+    private static final ThreadLocal<SplittableRandom> SCOPE = new ThreadLocal<>();
+
+    // set once a scope has been opened, so that the scope of the thread is only looked up when there may be one
+    private static volatile boolean scoped;
+
+    public ScopedRandom() {
+        this(new Random().nextLong(), null);
+    }
+
+    public ScopedRandom(final long seed) {
+        this(seed, null);
+    }
+
+    /**
+     * Create a new {@link ScopedRandom} drawing its values from a source created by the given factory outside of a scope.
+     *
+     * @param seed the initial seed
+     * @param sourceFactory the factory of the source, or null to use the sequential state of {@link Random}
+     */
+    public ScopedRandom(final long seed, final RandomSourceFactory sourceFactory) {
+        super(seed, sourceFactory);
+    }
+
+    @Override
+    protected int next(final int bits) {
+        SplittableRandom scope = currentScope();
+        if (scope != null) {
+            return nextBits(scope, bits);
+        }
+        return super.next(bits);
+    }
+
+    @Override
+    public long nextLong() {
+        SplittableRandom scope = currentScope();
+        if (scope != null) {
+            return ((long) nextBits(scope, 32) << 32) + nextBits(scope, 32);
+        }
+        return super.nextLong();
+    }
+
+    @Override
+    public double nextDouble() {
+        SplittableRandom scope = currentScope();
+        if (scope != null) {
+            return (((long) nextBits(scope, 26) << 27) + nextBits(scope, 27)) * DOUBLE_UNIT;
+        }
+        return super.nextDouble();
+    }
+
+    /**
+     * Create the {@link Random} of an object used with the given parameters: a {@link ScopedRandom} when
+     * {@link EasyRandomParameters#indexedSeeding(boolean) indexed seeding} is activated, a {@link SourceRandom}
+     * drawing the same values without looking up scopes otherwise.
+     *
+     * @param parameters the randomization parameters
+     * @param seed the initial seed
+     * @param sourceFactory the factory of the source, or null to use the sequential state of {@link Random}
+     * @return a new random
+     */
+    public static SourceRandom create(final EasyRandomParameters parameters, final long seed, final RandomSourceFactory sourceFactory) {
+        return parameters.isIndexedSeeding() ? new ScopedRandom(seed, sourceFactory) : new SourceRandom(seed, sourceFactory);
+    }
+
+    /**
+     * Open a scope seeded from the given seed, type and index for the current thread.
+     * The returned previous scope must be restored with {@link #closeScope(SplittableRandom)}.
+     *
+     * @param seed the seed of the randomization
+     * @param type the type of the generated object
+     * @param index the index of the generated object
+     * @return the previous scope of the current thread, or null if no scope was open
+     */
+    public static SplittableRandom openScope(final long seed, final Class<?> type, final int index) {
+        if (!scoped) {
+            scoped = true;
+        }
+        SplittableRandom previous = SCOPE.get();
+        SCOPE.set(new SplittableRandom(scopeSeed(seed, type, index)));
+        return previous;
+    }
+
+    /**
+     * Close the scope of the current thread, restoring the given previous scope.
+     *
+     * @param previous the scope returned by {@link #openScope(long, Class, int)}
+     */
+    public static void closeScope(final SplittableRandom previous) {
+        if (previous == null) {
+            SCOPE.remove();
+        } else {
+            SCOPE.set(previous);
+        }
+    }
+
+    /**
+     * Get the generator of the scope opened by the current thread.
+     *
+     * @return the generator of the current scope, or null if no scope is open
+     */
+    public static SplittableRandom currentScope() {
+        return scoped ? SCOPE.get() : null;
+    }
+
+    /**
+     * Generate the next random bits from the given generator, as specified by {@link Random#next(int)}.
+     *
+     * @param scope the generator to draw from
+     * @param bits the number of random bits
+     * @return an int holding the given number of random bits
+     */
+    public static int nextBits(final SplittableRandom scope, final int bits) {
+        return scope.nextInt() >>> (32 - bits);
+    }
+
+    /*
+     * The name of the type is used rather than its hash code, which is not stable across JVMs.
+     */
+    static long scopeSeed(final long seed, final Class<?> type, final int index) {
+        long typeHash = type.getName().hashCode() & 0xffffffffL;
+        long scopeSeed = mix64(seed + GOLDEN_GAMMA * typeHash);
+        return mix64(scopeSeed + GOLDEN_GAMMA * (index + 1L));
+    }
+
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,65 @@
+package org.jeasy.random.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+
+/**
+ * A {@link FieldValueSerializer} based on Java serialization. Values that are not
+ * {@link Serializable} are not serialized.
+ */
+public class SerializableFieldValueSerializer implements FieldValueSerializer {
+
+  @Override
+  public byte[] serialize(Object value) {
+    if (!(value instanceof Serializable)) {
+      return null;
+    }
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+      output.writeObject(value);
+    } catch (IOException e) {
+      return null;
+    }
+    return bytes.toByteArray();
+  }
+
+  @Override
+  public Object deserialize(ByteBuffer bytes) {
+    try (ObjectInputStream input = new ObjectInputStream(new ByteBufferInputStream(bytes))) {
+      return input.readObject();
+    } catch (IOException e) {
+      throw new UncheckedIOException("Unable to deserialize field value", e);
+    } catch (ClassNotFoundException e) {
+      throw new IllegalStateException("Unable to deserialize field value", e);
+    }
+  }
+
+  private static class ByteBufferInputStream extends InputStream {
+    private final ByteBuffer bytes;
+
+    private ByteBufferInputStream(ByteBuffer bytes) {
+      this.bytes = bytes;
+    }
+
+    @Override
+    public int read() {
+      return bytes.hasRemaining() ? bytes.get() & 0xff : -1;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) {
+      if (!bytes.hasRemaining()) {
+        return -1;
+      }
+      int read = Math.min(length, bytes.remaining());
+      bytes.get(buffer, offset, read);
+      return read;
+    }
+  }
+}
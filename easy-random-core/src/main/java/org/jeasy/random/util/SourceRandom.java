@@ -0,0 +1,129 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.util;
+
+import java.util.Random;
+
+import org.jeasy.random.EasyRandomParameters;
+import org.jeasy.random.api.RandomSource;
+import org.jeasy.random.api.RandomSourceFactory;
+import org.jeasy.random.source.SynchronizedRandomSource;
+
+/**
+ * A {@link Random} drawing its values from a {@link RandomSource} created by a {@link RandomSourceFactory},
+ * or from the sequential state of {@link Random} when no factory is given.
+ *
+ * <strong>This class is intended for internal use only.</strong>
+ */
+public class SourceRandom extends Random {
+
+    private final RandomSourceFactory sourceFactory;
+
+    private RandomSource source;
+
+    /**
+     * Create a new {@link SourceRandom} drawing its values from a source created by the given factory.
+     *
+     * @param seed the initial seed
+     * @param sourceFactory the factory of the source, or null to use the sequential state of {@link Random}
+     */
+    public SourceRandom(final long seed, final RandomSourceFactory sourceFactory) {
+        super(seed);
+        this.sourceFactory = sourceFactory;
+        this.source = sourceFactory != null ? sourceFactory.create(seed) : null;
+    }
+
+    /**
+     * Get the factory of the source of this random.
+     *
+     * @return the factory of the source, or null if values are drawn from the sequential state of {@link Random}
+     */
+    public RandomSourceFactory getSourceFactory() {
+        return sourceFactory;
+    }
+
+    /**
+     * Get the factory of the sources of the forks of this random. Forks are confined to a thread,
+     * so their sources are not synchronized.
+     *
+     * @return the factory of the sources of the forks, or null if they should use the sequential state of {@link Random}
+     */
+    public RandomSourceFactory getForkSourceFactory() {
+        return sourceFactory instanceof SynchronizedSourceFactory ? ((SynchronizedSourceFactory) sourceFactory).delegate : sourceFactory;
+    }
+
+    @Override
+    public synchronized void setSeed(final long seed) {
+        super.setSeed(seed);
+        // the factory is not set yet when called from the constructor of Random
+        if (sourceFactory != null) {
+            source = sourceFactory.create(seed);
+        }
+    }
+
+    @Override
+    protected int next(final int bits) {
+        return source != null ? source.next(bits) : super.next(bits);
+    }
+
+    @Override
+    public long nextLong() {
+        return source != null ? source.nextLong() : super.nextLong();
+    }
+
+    @Override
+    public double nextDouble() {
+        return source != null ? source.nextDouble() : super.nextDouble();
+    }
+
+    /**
+     * Get the factory of the sources of the randomizers and other objects created for the given parameters.
+     * Sources are synchronized in {@link EasyRandomParameters#threadSafe(boolean) thread safe} mode,
+     * as these objects can be shared across threads.
+     *
+     * @param parameters the randomization parameters
+     * @return the factory of the sources of the objects shared by an {@link org.jeasy.random.EasyRandom} instance
+     */
+    public static RandomSourceFactory getRandomSourceFactory(final EasyRandomParameters parameters) {
+        RandomSourceFactory randomSourceFactory = parameters.getRandomSourceFactory();
+        if (parameters.isThreadSafe()) {
+            return new SynchronizedSourceFactory(randomSourceFactory);
+        }
+        return randomSourceFactory;
+    }
+
+    private static final class SynchronizedSourceFactory implements RandomSourceFactory {
+
+        private final RandomSourceFactory delegate;
+
+        private SynchronizedSourceFactory(final RandomSourceFactory delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public RandomSource create(final long seed) {
+            return new SynchronizedRandomSource(delegate.create(seed));
+        }
+    }
+}
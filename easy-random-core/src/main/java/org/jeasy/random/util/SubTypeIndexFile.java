@@ -0,0 +1,190 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.util;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Binary file of the public concrete subtypes of types, written at build time (by the
+ * {@code easy-random-processor} module) and read instead of scanning the classpath
+ * when looking for concrete subtypes.
+ *
+ * The file starts with a magic number and a version, followed by a table of type names
+ * and by the entries of the index. Each entry is the position of a type in the table,
+ * followed by the number and the positions of its subtypes. Index files are read in a
+ * single pass from a buffered stream: they are not memory mapped, as every entry is
+ * decoded anyway to be merged with the other indexes of the classpath.
+ */
+public final class SubTypeIndexFile {
+
+    /**
+     * Location of index files in the classpath.
+     */
+    public static final String LOCATION = "META-INF/easy-random/subtypes.idx";
+
+    private static final int MAGIC = 0x45525354;
+    private static final int VERSION = 1;
+
+    private SubTypeIndexFile() {
+    }
+
+    /**
+     * Write an index.
+     *
+     * @param subTypeNames binary names of subtypes by binary name of their super types
+     * @param outputStream to write the index to
+     * @throws IOException if the index can not be written
+     */
+    public static void write(final Map<String, ? extends Collection<String>> subTypeNames, final OutputStream outputStream) throws IOException {
+        Map<String, Integer> positions = new LinkedHashMap<>();
+        subTypeNames.forEach((superType, subTypes) -> {
+            positions.putIfAbsent(superType, positions.size());
+            subTypes.forEach(subType -> positions.putIfAbsent(subType, positions.size()));
+        });
+        DataOutputStream output = new DataOutputStream(outputStream);
+        output.writeInt(MAGIC);
+        output.writeInt(VERSION);
+        output.writeInt(positions.size());
+        for (String name : positions.keySet()) {
+            byte[] bytes = name.getBytes(UTF_8);
+            output.writeShort(bytes.length);
+            output.write(bytes);
+        }
+        output.writeInt(subTypeNames.size());
+        for (Map.Entry<String, ? extends Collection<String>> entry : subTypeNames.entrySet()) {
+            output.writeInt(positions.get(entry.getKey()));
+            output.writeInt(entry.getValue().size());
+            for (String subType : entry.getValue()) {
+                output.writeInt(positions.get(subType));
+            }
+        }
+        output.flush();
+    }
+
+    /**
+     * Read an index.
+     *
+     * @param inputStream to read the index from
+     * @return binary names of subtypes by binary name of their super types
+     * @throws IOException if the stream does not hold an index
+     */
+    public static Map<String, List<String>> read(final InputStream inputStream) throws IOException {
+        DataInputStream input = new DataInputStream(new BufferedInputStream(inputStream));
+        try {
+            if (input.readInt() != MAGIC || input.readInt() != VERSION) {
+                throw new IOException("Not a subtype index");
+            }
+            String[] names = new String[input.readInt()];
+            for (int i = 0; i < names.length; i++) {
+                byte[] bytes = new byte[input.readUnsignedShort()];
+                input.readFully(bytes);
+                names[i] = new String(bytes, UTF_8);
+            }
+            int entryCount = input.readInt();
+            Map<String, List<String>> subTypeNames = new HashMap<>(entryCount * 4 / 3 + 1);
+            for (int i = 0; i < entryCount; i++) {
+                String superType = names[input.readInt()];
+                int subTypeCount = input.readInt();
+                List<String> subTypes = new ArrayList<>(subTypeCount);
+                for (int j = 0; j < subTypeCount; j++) {
+                    subTypes.add(names[input.readInt()]);
+                }
+                subTypeNames.put(superType, subTypes);
+            }
+            return subTypeNames;
+        } catch (EOFException | RuntimeException e) {
+            throw new IOException("Corrupted subtype index", e);
+        }
+    }
+
+    /**
+     * Read and merge all the indexes found in the classpath of the given class loader.
+     *
+     * @param classLoader to look up index files with
+     * @return binary names of subtypes by binary name of their super types, or null if there is no index
+     * @throws IOException if an index can not be read
+     */
+    public static Map<String, List<String>> load(final ClassLoader classLoader) throws IOException {
+        return load(classLoader, new ArrayList<>());
+    }
+
+    /**
+     * Read and merge all the indexes found in the classpath of the given class loader.
+     *
+     * @param classLoader to look up index files with
+     * @param classpathEntries to which the classpath entries (directories or archives) holding an index are added
+     * @return binary names of subtypes by binary name of their super types, or null if there is no index
+     * @throws IOException if an index can not be read
+     */
+    public static Map<String, List<String>> load(final ClassLoader classLoader, final Collection<URI> classpathEntries) throws IOException {
+        Enumeration<URL> urls = classLoader.getResources(LOCATION);
+        if (!urls.hasMoreElements()) {
+            return null;
+        }
+        Map<String, Set<String>> merged = new HashMap<>();
+        while (urls.hasMoreElements()) {
+            URL url = urls.nextElement();
+            classpathEntries.add(getClasspathEntry(url));
+            try (InputStream inputStream = url.openStream()) {
+                read(inputStream).forEach((superType, subTypes) ->
+                        merged.computeIfAbsent(superType, k -> new LinkedHashSet<>()).addAll(subTypes));
+            }
+        }
+        Map<String, List<String>> subTypeNames = new HashMap<>(merged.size() * 4 / 3 + 1);
+        merged.forEach((superType, subTypes) -> subTypeNames.put(superType, new ArrayList<>(subTypes)));
+        return subTypeNames;
+    }
+
+    private static URI getClasspathEntry(final URL url) throws IOException {
+        String location = url.toString();
+        try {
+            if ("jar".equals(url.getProtocol())) {
+                return new URI(location.substring("jar:".length(), location.lastIndexOf("!/")));
+            }
+            return new URI(location.substring(0, location.length() - LOCATION.length()));
+        } catch (URISyntaxException | IndexOutOfBoundsException e) {
+            throw new IOException("Invalid subtype index location: " + url, e);
+        }
+    }
+}
@@ -27,6 +27,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.when;
 
 import java.lang.reflect.Array;
+import java.util.Arrays;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -36,6 +37,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import org.jeasy.random.beans.ArrayBean;
 import org.jeasy.random.beans.Person;
+import org.jeasy.random.randomizers.number.IntegerRandomizer;
+import org.jeasy.random.randomizers.registry.PositiveValueRandomizerRegistry;
 
 @ExtendWith(MockitoExtension.class)
 class ArrayPopulatorTest {
@@ -104,6 +107,46 @@ class ArrayPopulatorTest {
         assertThat(toObjectArray(bean.getBooleanArray())).hasOnlyElementsOfType(Boolean.class);
     }
 
+    @Test
+    void primitiveArraysShouldBeFilledWithTheValuesOfTheTypeRandomizer() {
+        // Given
+        EasyRandom easyRandom = new EasyRandom(new EasyRandomParameters().seed(123L).collectionSizeRange(5, 5));
+        IntegerRandomizer integerRandomizer = new IntegerRandomizer(123L);
+
+        // When
+        int[] ints = easyRandom.nextObject(int[].class);
+
+        // Then
+        assertThat(ints).containsExactly(integerRandomizer.getRandomValue(), integerRandomizer.getRandomValue(),
+                integerRandomizer.getRandomValue(), integerRandomizer.getRandomValue(), integerRandomizer.getRandomValue());
+    }
+
+    @Test
+    void primitiveArraysShouldBeFilledWithPositiveValuesWhenPositiveValueRegistryIsRegistered() {
+        // Given
+        EasyRandom easyRandom = new EasyRandom(new EasyRandomParameters().randomizerRegistry(new PositiveValueRandomizerRegistry()));
+
+        // When
+        ArrayBean bean = easyRandom.nextObject(ArrayBean.class);
+
+        // Then
+        assertThat(Arrays.stream(bean.getIntArray())).allMatch(value -> value > 0);
+        assertThat(Arrays.stream(bean.getLongArray())).allMatch(value -> value > 0);
+        assertThat(Arrays.stream(bean.getDoubleArray())).allMatch(value -> value > 0);
+    }
+
+    @Test
+    void primitiveArraysShouldBeFilledWithCustomRandomizerOfTheComponentType() {
+        // Given
+        EasyRandom easyRandom = new EasyRandom(new EasyRandomParameters().randomize(int.class, () -> 42));
+
+        // When
+        int[] ints = easyRandom.nextObject(int[].class);
+
+        // Then
+        assertThat(ints).containsOnly(42);
+    }
+
     @Test
     void wrapperTypeArraysShouldBeCorrectlyPopulated() {
         EasyRandom easyRandom = new EasyRandom();
@@ -0,0 +1,331 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import org.jeasy.random.api.GenerationListener;
+import org.jeasy.random.api.RandomizerContext;
+import org.jeasy.random.beans.Person;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ConstructorBindingTest {
+
+    private EasyRandomParameters parameters;
+
+    @BeforeEach
+    void setUp() {
+        parameters = new EasyRandomParameters().constructorBinding(true);
+    }
+
+    @Test
+    void objectsShouldBeCreatedWithTheirWidestPublicConstructor() {
+        // Given
+        EasyRandom easyRandom = new EasyRandom(parameters);
+
+        // When
+        List<Measure> measures = easyRandom.objects(Measure.class, 100).collect(Collectors.toList());
+
+        // Then
+        assertThat(measures).allSatisfy(measure -> {
+            assertThat(measure.getUnit()).isNotNull();
+            assertThat(measure.getRoundedValue()).isEqualTo(Math.round(measure.getValue()));
+        });
+    }
+
+    @Test
+    void constructorArgumentsShouldBeGeneratedWithTheRandomizersOfTheirFields() {
+        // Given
+        parameters.randomize(FieldPredicates.named("unit").and(FieldPredicates.inClass(Measure.class)), () -> "foo");
+        EasyRandom easyRandom = new EasyRandom(parameters);
+
+        // When
+        Measure measure = easyRandom.nextObject(Measure.class);
+
+        // Then
+        assertThat(measure.getUnit()).isEqualTo("foo");
+    }
+
+    @Test
+    void primitiveConstructorArgumentsOfExcludedFieldsShouldHaveTheirDefaultValue() {
+        // Given
+        parameters.excludeField(FieldPredicates.named("value").and(FieldPredicates.inClass(Measure.class)));
+        EasyRandom easyRandom = new EasyRandom(parameters);
+
+        // When
+        Measure measure = easyRandom.nextObject(Measure.class);
+
+        // Then
+        assertThat(measure.getValue()).isZero();
+        assertThat(measure.getRoundedValue()).isZero();
+    }
+
+    @Test
+    void objectsRejectedByTheirConstructorShouldBePopulatedFieldByField() {
+        // Given
+        parameters.excludeField(FieldPredicates.named("unit").and(FieldPredicates.inClass(Measure.class)));
+        EasyRandom easyRandom = new EasyRandom(parameters);
+
+        // When
+        Measure measure = easyRandom.nextObject(Measure.class);
+
+        // Then
+        assertThat(measure).isNotNull();
+        assertThat(measure.getUnit()).isNull();
+        assertThat(measure.getRoundedValue()).isNotEqualTo(Math.round(measure.getValue()));
+    }
+
+    @Test
+    void parametersOfTheSameTypeShouldNotBeBoundWithoutTheirNames() throws Exception {
+        // Given
+        EasyRandom easyRandom = new EasyRandom(parameters);
+
+        // When
+        Interval interval = easyRandom.nextObject(Interval.class);
+
+        // Then
+        assertThat(Interval.class.getConstructor(String.class, int.class, int.class).getParameters()[1].isNamePresent()).isFalse();
+        assertThat(ConstructorPlan.of(Interval.class)).isNull();
+        assertThat(interval.getWidth()).isNotEqualTo((long) interval.getMax() - interval.getMin());
+    }
+
+    @Test
+    void recursiveTypesShouldBeCreated() {
+        // Given
+        EasyRandom easyRandom = new EasyRandom(parameters);
+
+        // When
+        Link link = easyRandom.nextObject(Link.class);
+
+        // Then
+        assertThat(link.getValue()).isNotNull();
+        assertThat(link.getNext()).isNotNull();
+        assertThat(link.getNext().getValue()).isNotNull();
+    }
+
+    @Test
+    void typesWithoutConstructorParametersShouldBePopulatedFieldByField() {
+        // Given
+        EasyRandom easyRandom = new EasyRandom(parameters);
+
+        // When
+        Person person = easyRandom.nextObject(Person.class);
+
+        // Then
+        assertThat(person.getName()).isNotNull();
+        assertThat(person.getAddress()).isNotNull();
+    }
+
+    @Test
+    void constructorsShouldNotBeBoundByDefault() {
+        // Given
+        EasyRandom easyRandom = new EasyRandom();
+
+        // When
+        Measure measure = easyRandom.nextObject(Measure.class);
+
+        // Then
+        assertThat(measure.getRoundedValue()).isNotEqualTo(Math.round(measure.getValue()));
+    }
+
+    @Test
+    void constructorsShouldBeBoundWithCustomObjectFactories() {
+        // Given
+        parameters.objectFactory(new ObjenesisObjectFactory() {
+        });
+        EasyRandom easyRandom = new EasyRandom(parameters);
+
+        // When
+        Measure measure = easyRandom.nextObject(Measure.class);
+
+        // Then
+        assertThat(measure.getRoundedValue()).isEqualTo(Math.round(measure.getValue()));
+    }
+
+    @Test
+    void typesWithSeveralWidestConstructorsShouldBePopulatedFieldByField() {
+        // Given
+        EasyRandom easyRandom = new EasyRandom(parameters);
+
+        // When
+        Range range = easyRandom.nextObject(Range.class);
+
+        // Then
+        assertThat(ConstructorPlan.of(Range.class)).isNull();
+        assertThat(range.getLabel()).isNotNull();
+    }
+
+    @Test
+    void exceptionsOfConstructorsShouldNotBeIgnoredByDefault() {
+        // Given
+        EasyRandom easyRandom = new EasyRandom(parameters);
+
+        // When/Then
+        assertThatThrownBy(() -> easyRandom.nextObject(Rejecting.class))
+                .isInstanceOf(ObjectCreationException.class)
+                .hasRootCauseInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void exceptionsOfConstructorsShouldBeIgnoredWhenRandomizationErrorsAreIgnored() {
+        // Given
+        List<Throwable> ignoredErrors = new ArrayList<>();
+        parameters.ignoreRandomizationErrors(true).generationListener(new GenerationListener() {
+            @Override
+            public void errorIgnored(Class<?> type, Throwable error, RandomizerContext context) {
+                ignoredErrors.add(error);
+            }
+        });
+        EasyRandom easyRandom = new EasyRandom(parameters);
+
+        // When
+        Rejecting rejecting = easyRandom.nextObject(Rejecting.class);
+
+        // Then
+        assertThat(rejecting).isNull();
+        assertThat(ignoredErrors).singleElement().isInstanceOf(IllegalArgumentException.class);
+    }
+
+    public static class Measure {
+
+        private final String unit;
+        private final double value;
+        private final long roundedValue;
+
+        public Measure(String unit, double value) {
+            this.unit = Objects.requireNonNull(unit);
+            this.value = value;
+            this.roundedValue = Math.round(value);
+        }
+
+        public String getUnit() {
+            return unit;
+        }
+
+        public double getValue() {
+            return value;
+        }
+
+        public long getRoundedValue() {
+            return roundedValue;
+        }
+    }
+
+    public static class Interval {
+
+        private final String label;
+        private final int min;
+        private final int max;
+        private final long width;
+
+        public Interval(String label, int bound, int otherBound) {
+            this.label = Objects.requireNonNull(label);
+            this.min = Math.min(bound, otherBound);
+            this.max = Math.max(bound, otherBound);
+            this.width = (long) max - min;
+        }
+
+        public Interval(String label) {
+            this(label, 0, 0);
+        }
+
+        public String getLabel() {
+            return label;
+        }
+
+        public int getMin() {
+            return min;
+        }
+
+        public int getMax() {
+            return max;
+        }
+
+        public long getWidth() {
+            return width;
+        }
+    }
+
+    public static class Link {
+
+        private final String value;
+        private final Link next;
+
+        public Link(String value, Link next) {
+            this.value = value;
+            this.next = next;
+        }
+
+        public String getValue() {
+            return value;
+        }
+
+        public Link getNext() {
+            return next;
+        }
+    }
+
+    public static class Range {
+
+        private final String label;
+        private final int size;
+
+        public Range(String label, int size) {
+            this.label = Objects.requireNonNull(label);
+            this.size = size;
+        }
+
+        public Range(int size, String label) {
+            this(label, size);
+        }
+
+        public String getLabel() {
+            return label;
+        }
+
+        public int getSize() {
+            return size;
+        }
+    }
+
+    public static class Rejecting {
+
+        private final String value;
+
+        public Rejecting(String value) {
+            throw new IllegalArgumentException("Rejected value: " + value);
+        }
+
+        public String getValue() {
+            return value;
+        }
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
+
+import org.jeasy.random.EasyRandomExporter.Format;
+import org.jeasy.random.beans.Address;
+import org.jeasy.random.beans.Person;
+import org.jeasy.random.beans.Street;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class EasyRandomExporterTest {
+
+    private static final String ADDRESS_JSON = "{\"street\":{\"number\":7,\"type\":1,\"name\":\"a\\\"b\"},"
+            + "\"zipCode\":\"a\\\"b\",\"city\":\"a\\\"b\",\"country\":\"a\\\"b\"}";
+
+    private EasyRandom easyRandom;
+
+    @BeforeEach
+    void setUp() {
+        EasyRandomParameters parameters = new EasyRandomParameters()
+                .randomize(String.class, () -> "a\"b")
+                .randomize(FieldPredicates.named("number").and(FieldPredicates.inClass(Street.class)), () -> 7)
+                .randomize(FieldPredicates.named("type").and(FieldPredicates.inClass(Street.class)), () -> (byte) 1);
+        easyRandom = new EasyRandom(parameters);
+    }
+
+    @Test
+    void objectsShouldBeWrittenAsJsonLines() throws Exception {
+        // Given
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        EasyRandomExporter exporter = new EasyRandomExporter(easyRandom, 64);
+
+        // When
+        long bytesWritten = exporter.write(Address.class, 3, Channels.newChannel(outputStream), Format.JSON_LINES);
+
+        // Then
+        String expected = ADDRESS_JSON + "\n" + ADDRESS_JSON + "\n" + ADDRESS_JSON + "\n";
+        assertThat(outputStream.toString(UTF_8.name())).isEqualTo(expected);
+        assertThat(bytesWritten).isEqualTo(expected.getBytes(UTF_8).length);
+    }
+
+    @Test
+    void objectsShouldBeWrittenAsCsv() throws Exception {
+        // Given
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        EasyRandomExporter exporter = new EasyRandomExporter(easyRandom);
+
+        // When
+        exporter.write(Address.class, 2, Channels.newChannel(outputStream), Format.CSV);
+
+        // Then
+        String record = "\"{\"\"number\"\":7,\"\"type\"\":1,\"\"name\"\":\"\"a\\\"\"b\"\"}\",\"a\"\"b\",\"a\"\"b\",\"a\"\"b\"\r\n";
+        assertThat(outputStream.toString(UTF_8.name()))
+                .isEqualTo("\"street\",\"zipCode\",\"city\",\"country\"\r\n" + record + record);
+    }
+
+    @Test
+    void objectsOfSubTypesShouldBeWrittenAsCsvWithTheFieldsOfTheGivenType() throws Exception {
+        // Given
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        EasyRandomParameters parameters = new EasyRandomParameters().randomize(Shape.class, () -> new Square(4, 2));
+        EasyRandomExporter exporter = new EasyRandomExporter(new EasyRandom(parameters));
+
+        // When
+        exporter.write(Shape.class, 2, Channels.newChannel(outputStream), Format.CSV);
+
+        // Then
+        assertThat(outputStream.toString(UTF_8.name())).isEqualTo("\"sides\"\r\n4\r\n4\r\n");
+    }
+
+    @Test
+    void objectsWithCollectionsMapsAndArraysShouldBeWrittenOnOneLineEach() throws Exception {
+        // Given
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        EasyRandomExporter exporter = new EasyRandomExporter(new EasyRandom(), 64);
+
+        // When
+        exporter.write(Person.class, 10, Channels.newChannel(outputStream), Format.JSON_LINES);
+
+        // Then
+        String[] lines = outputStream.toString(UTF_8.name()).split("\n");
+        assertThat(lines).hasSize(10).allSatisfy(line -> assertThat(line).startsWith("{").endsWith("}").contains("\"nicknames\":["));
+    }
+
+    @Test
+    void bufferSizeShouldNotBeTooSmall() {
+        assertThatThrownBy(() -> new EasyRandomExporter(easyRandom, 8)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    static class Shape {
+
+        private final int sides;
+
+        Shape(int sides) {
+            this.sides = sides;
+        }
+    }
+
+    static class Square extends Shape {
+
+        private final int width;
+
+        Square(int sides, int width) {
+            super(sides);
+            this.width = width;
+        }
+    }
+}
@@ -26,6 +26,7 @@ package org.jeasy.random;
 import static java.sql.Timestamp.valueOf;
 import static java.time.LocalDateTime.of;
 import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.catchThrowable;
@@ -37,12 +38,14 @@ import static org.jeasy.random.FieldPredicates.named;
 import static org.jeasy.random.FieldPredicates.ofType;
 import static org.mockito.Mockito.*;
 
+import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.util.HashSet;
 import java.util.List;
 import java.util.stream.Stream;
 
 import org.jeasy.random.api.Randomizer;
+import org.jeasy.random.api.RandomizerRegistry;
 import org.jeasy.random.beans.AbstractBean;
 import org.jeasy.random.beans.Address;
 import org.jeasy.random.beans.BoundedBaseClass;
@@ -437,19 +440,37 @@ class EasyRandomTest {
     }
 
     @Test
-    void testComplexGenericTypeRandomization() { // not supported
+    void testComplexGenericTypeRandomization() { // type arguments of the type argument are not resolved
         // given
         class Base<T> {
             T t;
         }
         class Concrete extends Base<List<String>> {}
 
-        assertThatThrownBy(
-                // when
-                () -> easyRandom.nextObject(Concrete.class))
-                // then
-                .isInstanceOf(ObjectCreationException.class)
-                .hasMessage("Unable to create a random instance of type class org.jeasy.random.EasyRandomTest$7Concrete");
+        // when
+        Concrete concrete = easyRandom.nextObject(Concrete.class);
+
+        // then
+        assertThat(concrete.t).isInstanceOf(List.class);
+    }
+
+    @Test
+    void genericFieldsOfParameterizedTypesShouldBePopulatedWithTheirRawType() {
+        // given
+        class Base<T> {
+            T t;
+        }
+        class Tagged<V> {
+            String name;
+        }
+        class Concrete extends Base<Tagged<Integer>> {}
+
+        // when
+        Concrete concrete = easyRandom.nextObject(Concrete.class);
+
+        // then
+        assertThat(concrete.t).isInstanceOf(Tagged.class);
+        assertThat(((Tagged<?>) concrete.t).name).isNotNull();
     }
 
     @Test
@@ -482,6 +503,69 @@ class EasyRandomTest {
         assertThat(concrete.getX()).isInstanceOf(String.class);
     }
 
+    @Test
+    void genericFieldsShouldBeResolvedForEachTargetType() {
+        // given
+        class IntegerBase extends GenericBaseClass<Integer> {
+            IntegerBase(Integer x) {
+                super(x);
+            }
+        }
+        class StringBase extends GenericBaseClass<String> {
+            StringBase(String x) {
+                super(x);
+            }
+        }
+
+        // when
+        List<IntegerBase> integerBases = easyRandom.objects(IntegerBase.class, 3).collect(toList());
+        List<StringBase> stringBases = easyRandom.objects(StringBase.class, 3).collect(toList());
+
+        // then
+        assertThat(integerBases).extracting(GenericBaseClass::getX).hasOnlyElementsOfType(Integer.class);
+        assertThat(stringBases).extracting(GenericBaseClass::getX).hasOnlyElementsOfType(String.class);
+    }
+
+    @Test
+    void randomizersOfNonCacheableRegistriesShouldBeResolvedForEachObject() {
+        // given
+        RandomizerRegistry registry = new RandomizerRegistry() {
+            private int calls;
+
+            @Override
+            public void init(EasyRandomParameters parameters) {
+            }
+
+            @Override
+            public Randomizer<?> getRandomizer(Field field) {
+                if (!field.getName().equals("name") || field.getDeclaringClass() != Human.class) {
+                    return null;
+                }
+                String name = "name" + calls++;
+                return () -> name;
+            }
+
+            @Override
+            public Randomizer<?> getRandomizer(Class<?> type) {
+                return null;
+            }
+
+            @Override
+            public boolean isCacheable() {
+                return false;
+            }
+        };
+        EasyRandom easyRandom = new EasyRandom(new EasyRandomParameters().randomizerRegistry(registry));
+
+        // when
+        Person person = easyRandom.nextObject(Person.class);
+        Person otherPerson = easyRandom.nextObject(Person.class);
+
+        // then
+        assertThat(person.getName()).startsWith("name");
+        assertThat(otherPerson.getName()).startsWith("name").isNotEqualTo(person.getName());
+    }
+
     private void validatePerson(final Person person) {
         assertThat(person).isNotNull();
         assertThat(person.getEmail()).isNotEmpty();
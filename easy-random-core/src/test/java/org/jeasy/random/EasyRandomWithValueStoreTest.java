@@ -3,14 +3,21 @@ package org.jeasy.random;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
 
+import org.jeasy.random.api.ContextAwareRandomizer;
+import org.jeasy.random.api.RandomizerContext;
 import org.jeasy.random.beans.Person;
 import org.jeasy.random.tests.internal.immutables.AnEnum;
 import org.jeasy.random.tests.internal.immutables.BasicImmutable;
+import org.jeasy.random.tests.internal.immutables.BasicImmutableWithDerivedOptional;
 import org.jeasy.random.tests.internal.immutables.BasicImmutableWithLazyOptional;
 import org.jeasy.random.tests.internal.immutables.ImmutableWithCollection;
 import org.jeasy.random.tests.internal.immutables.ImmutableWithEnum;
@@ -95,6 +102,99 @@ public class EasyRandomWithValueStoreTest {
     assertThat(basicImmutableWithLazyOptional.getLazyOptional()).isPresent();
   }
 
+  @Test
+  public void itCreatesImmutableThroughItsBuilder() {
+    for (int i = 0; i < 20; i++) {
+      BasicImmutableWithDerivedOptional actual = easyRandom.nextObject(
+          BasicImmutableWithDerivedOptional.class
+      );
+      // derived attributes are only computed when the builder creates the instance
+      assertThat(actual.getDerivedOptional())
+          .isEqualTo(BasicImmutableWithDerivedOptional.builder().setPrimitiveInt(actual.getPrimitiveInt()).build().getDerivedOptional());
+    }
+  }
+
+  @Test
+  public void itOnlyPlansBuildersForImmutables() {
+    assertThat(BuilderPlan.of(BasicImmutable.class)).isNotNull();
+    assertThat(BuilderPlan.of(Person.class)).isNull();
+  }
+
+  @Test
+  public void itOnlyPlansGeneratedBuilders() {
+    assertThat(BuilderPlan.of(HandWrittenValue.class)).isNull();
+  }
+
+  @Test
+  public void itCreatesImmutableWithExcludedMandatoryAttributeFieldByField() {
+    EasyRandomParameters parameters = EasyRandomParametersFactory.buildHubSpotSpecific();
+    parameters.excludeField(FieldPredicates.named("string").and(FieldPredicates.inClass(BasicImmutable.class)));
+    EasyRandom easyRandomWithValueStore = new EasyRandom(parameters);
+
+    BasicImmutable actualBasicImmutable = easyRandomWithValueStore.nextObject(BasicImmutable.class);
+
+    assertThat(actualBasicImmutable).isNotNull();
+    assertThat(actualBasicImmutable.getString()).isNull();
+    assertThat(actualBasicImmutable.getInteger()).isPositive();
+  }
+
+  @Test
+  public void itReusesTheValuesGeneratedForTheBuilderWhenCreatingImmutableFieldByField() {
+    AtomicInteger calls = new AtomicInteger();
+    EasyRandomParameters parameters = EasyRandomParametersFactory.buildHubSpotSpecific();
+    parameters.excludeField(FieldPredicates.named("string").and(FieldPredicates.inClass(BasicImmutable.class)));
+    parameters.randomize(FieldPredicates.named("integer").and(FieldPredicates.inClass(BasicImmutable.class)),
+        calls::incrementAndGet);
+    EasyRandom easyRandomWithValueStore = new EasyRandom(parameters);
+
+    BasicImmutable actualBasicImmutable = easyRandomWithValueStore.nextObject(BasicImmutable.class);
+
+    assertThat(actualBasicImmutable.getString()).isNull();
+    assertThat(actualBasicImmutable.getInteger()).isEqualTo(1);
+    assertThat(calls.get()).isEqualTo(1);
+  }
+
+  @Test
+  public void itOnlyCreatesImmutableFieldByFieldWhenMandatoryAttributesAreMissing() {
+    BuilderPlan builderPlan = BuilderPlan.of(BasicImmutable.class);
+    Object[] values = new Object[builderPlan.getAttributes().size()];
+
+    assertThat(builderPlan.isMissingValue(values, new IllegalStateException())).isTrue();
+    assertThat(builderPlan.isMissingValue(values, new IllegalArgumentException())).isFalse();
+    Arrays.fill(values, "foo");
+    assertThat(builderPlan.isMissingValue(values, new IllegalStateException())).isFalse();
+  }
+
+  @Test
+  public void itCreatesImmutableFieldByFieldForContextAwareRandomizers() {
+    List<Object> currentObjects = new ArrayList<>();
+    List<Object> rootObjects = new ArrayList<>();
+    EasyRandomParameters parameters = EasyRandomParametersFactory.buildHubSpotSpecific();
+    parameters.randomize(FieldPredicates.named("string").and(FieldPredicates.inClass(BasicImmutable.class)),
+        new ContextAwareRandomizer<String>() {
+          private RandomizerContext context;
+
+          @Override
+          public void setRandomizerContext(RandomizerContext context) {
+            this.context = context;
+          }
+
+          @Override
+          public String getRandomValue() {
+            currentObjects.add(context.getCurrentObject());
+            rootObjects.add(context.getRootObject());
+            return "foo";
+          }
+        });
+    EasyRandom easyRandomWithValueStore = new EasyRandom(parameters);
+
+    BasicImmutable actualBasicImmutable = easyRandomWithValueStore.nextObject(BasicImmutable.class);
+
+    assertThat(actualBasicImmutable.getString()).isEqualTo("foo");
+    assertThat(currentObjects).containsExactly(actualBasicImmutable);
+    assertThat(rootObjects).containsExactly(actualBasicImmutable);
+  }
+
   @Test
   public void itCreatesImmutableWithEnum() {
     ImmutableWithEnum actualImmutableWithEnum = easyRandom.nextOrGetObject(
@@ -217,4 +317,21 @@ public class EasyRandomWithValueStoreTest {
     )
         .isEqualTo(predefinedIntegerFieldValue);
   }
+
+  public interface Value {
+  }
+
+  public static final class HandWrittenValue implements Value {
+
+    public static Builder builder() {
+      return new Builder();
+    }
+
+    public static final class Builder {
+
+      public HandWrittenValue build() {
+        return new HandWrittenValue();
+      }
+    }
+  }
 }
@@ -61,7 +61,81 @@ class ObjenesisObjectFactoryTest {
         assertThatThrownBy(() -> objenesisObjectFactory.createInstance(AbstractFoo.class, context)).isInstanceOf(InstantiationError.class);
     }
 
+    @Test
+    void classesShouldBeCreatedWithTheirNoArgConstructorWhenItIsAvailable() {
+        Foo foo = objenesisObjectFactory.createInstance(Foo.class, context);
+        Foo otherFoo = objenesisObjectFactory.createInstance(Foo.class, context);
+
+        assertThat(foo.name).isEqualTo("foo");
+        assertThat(otherFoo.name).isEqualTo("foo");
+    }
+
+    @Test
+    void classesShouldBeCreatedWithObjenesisWhenTheirNoArgConstructorFails() {
+        FailingFoo failingFoo = objenesisObjectFactory.createInstance(FailingFoo.class, context);
+        FailingFoo otherFailingFoo = objenesisObjectFactory.createInstance(FailingFoo.class, context);
+
+        assertThat(failingFoo).isNotNull();
+        assertThat(otherFailingFoo).isNotNull().isNotSameAs(failingFoo);
+    }
+
+    @Test
+    void classesShouldNotBeCreatedWithTheirNoArgConstructorAgainAfterItFailed() {
+        SometimesFailingFoo.calls = 0;
+
+        SometimesFailingFoo failingFoo = objenesisObjectFactory.createInstance(SometimesFailingFoo.class, context);
+        SometimesFailingFoo otherFoo = objenesisObjectFactory.createInstance(SometimesFailingFoo.class, context);
+
+        assertThat(failingFoo.name).isNull();
+        assertThat(otherFoo.name).isNull();
+        assertThat(SometimesFailingFoo.calls).isEqualTo(1);
+    }
+
+    @Test
+    void errorsOfNoArgConstructorsShouldNotBeCaught() {
+        assertThatThrownBy(() -> objenesisObjectFactory.createInstance(ErroneousFoo.class, context))
+                .isInstanceOf(ObjectCreationException.class)
+                .hasCauseInstanceOf(AssertionError.class);
+    }
+
     private abstract class AbstractFoo {
 
     }
+
+    static class Foo {
+
+        private final String name;
+
+        private Foo() {
+            name = "foo";
+        }
+    }
+
+    static class FailingFoo {
+
+        FailingFoo() {
+            throw new IllegalStateException();
+        }
+    }
+
+    static class SometimesFailingFoo {
+
+        private static int calls;
+
+        private final String name;
+
+        SometimesFailingFoo() {
+            if (calls++ == 0) {
+                throw new IllegalStateException();
+            }
+            name = "foo";
+        }
+    }
+
+    static class ErroneousFoo {
+
+        ErroneousFoo() {
+            throw new AssertionError();
+        }
+    }
 }
@@ -0,0 +1,104 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.jeasy.random.PopulationPlan.FieldPlan;
+import org.jeasy.random.PopulationPlan.PopulatorKind;
+import org.jeasy.random.beans.ArrayBean;
+import org.jeasy.random.beans.Person;
+
+class PopulationPlanTest {
+
+    private EasyRandom easyRandom;
+
+    @BeforeEach
+    void setUp() {
+        easyRandom = new EasyRandom();
+    }
+
+    @Test
+    void thePopulationPlanShouldBeBuiltOncePerType() {
+        // Given
+        RandomizationContext context = new RandomizationContext(Person.class, new EasyRandomParameters());
+
+        // When
+        PopulationPlan plan = easyRandom.getPopulationPlan(Person.class, context);
+
+        // Then
+        assertThat(easyRandom.getPopulationPlan(Person.class, context)).isSameAs(plan);
+    }
+
+    @Test
+    void thePopulationPlanShouldContainDeclaredAndInheritedFieldsButNotExcludedOnes() {
+        // Given
+        RandomizationContext context = new RandomizationContext(Person.class, new EasyRandomParameters());
+
+        // When
+        PopulationPlan plan = easyRandom.getPopulationPlan(Person.class, context);
+
+        // Then
+        List<String> fieldNames = plan.getFieldPlans().stream()
+                .map(fieldPlan -> fieldPlan.getField().getName())
+                .collect(Collectors.toList());
+        assertThat(plan.isExclusionResolved()).isTrue();
+        assertThat(fieldNames).contains("email", "address", "nicknames", "name", "id");
+        assertThat(fieldNames).doesNotContain("excluded", "SERIAL_VERSION_UID");
+    }
+
+    @Test
+    void theExclusionShouldNotBeResolvedUpfrontWithACustomExclusionPolicy() {
+        // Given
+        EasyRandomParameters parameters = new EasyRandomParameters().exclusionPolicy(new DefaultExclusionPolicy() { });
+        RandomizationContext context = new RandomizationContext(Person.class, parameters);
+
+        // When
+        PopulationPlan plan = new EasyRandom(parameters).getPopulationPlan(Person.class, context);
+
+        // Then
+        assertThat(plan.isExclusionResolved()).isFalse();
+    }
+
+    @Test
+    void theFieldPlanShouldResolveThePopulatorKindAndAccessor() throws Exception {
+        // Given
+        FieldPlan strings = new FieldPlan(ArrayBean.class.getDeclaredField("strings"));
+        FieldPlan nicknames = new FieldPlan(Person.class.getDeclaredField("nicknames"));
+        FieldPlan address = new FieldPlan(Person.class.getDeclaredField("address"));
+
+        // Then
+        assertThat(strings.getPopulatorKind()).isEqualTo(PopulatorKind.ARRAY);
+        assertThat(nicknames.getPopulatorKind()).isEqualTo(PopulatorKind.COLLECTION);
+        assertThat(address.getPopulatorKind()).isEqualTo(PopulatorKind.BEAN);
+        assertThat(address.getAccessor().hasSetter()).isTrue();
+        assertThat(address.isRandomizerResolved()).isFalse();
+    }
+}
@@ -163,6 +163,79 @@ public class RandomizationContextTest {
         assertThat(hasExceededRandomizationDepth).isFalse();
     }
 
+    @Test
+    void currentFieldShouldBeTheDottedPathOfStackedFields() throws NoSuchFieldException {
+        // Given
+        Field address = Person.class.getDeclaredField("address");
+        Field street = Address.class.getDeclaredField("street");
+        randomizationContext.pushStackItem(bean1, address);
+        randomizationContext.pushStackItem(bean2, street);
+
+        // When
+        String currentField = randomizationContext.getCurrentField();
+
+        // Then
+        assertThat(currentField).isEqualTo("address.street");
+        randomizationContext.popStackItem();
+        assertThat(randomizationContext.getCurrentField()).isEqualTo("address");
+        assertThat(randomizationContext.getCurrentObject()).isSameAs(bean1);
+    }
+
+    @Test
+    void objectsGeneratedForTheValuesOfABuiltRootShouldNotBeTheRootObject() {
+        // Given
+        randomizationContext.startBuilding(Person.class);
+        randomizationContext.setRandomizedObject(bean1);
+        randomizationContext.endBuilding();
+
+        // When
+        randomizationContext.setRandomizedObject(bean2);
+
+        // Then
+        assertThat(randomizationContext.getRootObject()).isSameAs(bean2);
+    }
+
+    @Test
+    void fieldPathsShouldBeBuiltOnceForAllObjects() throws NoSuchFieldException {
+        // Given
+        Field address = Person.class.getDeclaredField("address");
+        Field street = Address.class.getDeclaredField("street");
+        randomizationContext.pushStackItem(bean1, address);
+        randomizationContext.pushStackItem(bean2, street);
+        String currentField = randomizationContext.getCurrentField();
+        randomizationContext.release();
+
+        // When
+        randomizationContext.pushStackItem(bean2, address);
+        randomizationContext.pushStackItem(bean1, street);
+
+        // Then
+        assertThat(randomizationContext.getCurrentField()).isSameAs(currentField);
+    }
+
+    @Test
+    void whenContextIsReleased_thenItShouldBeReusableForAnotherRootObject() throws NoSuchFieldException {
+        // Given
+        when(parameters.getObjectPoolSize()).thenReturn(1);
+        Field address = Person.class.getDeclaredField("address");
+        randomizationContext.reset(1, Person.class);
+        randomizationContext.setRandomizedObject(bean1);
+        randomizationContext.addPopulatedBean(String.class, bean1);
+        randomizationContext.pushStackItem(bean1, address);
+
+        // When
+        randomizationContext.release();
+        randomizationContext.reset(2, Address.class);
+
+        // Then
+        assertThat(randomizationContext.isInUse()).isTrue();
+        assertThat(randomizationContext.getIndex()).isEqualTo(2);
+        assertThat(randomizationContext.getTargetType()).isEqualTo(Address.class);
+        assertThat(randomizationContext.getRootObject()).isNull();
+        assertThat(randomizationContext.getCurrentRandomizationDepth()).isZero();
+        assertThat(randomizationContext.hasAlreadyRandomizedType(String.class)).isFalse();
+    }
+
     @Test
     void testRandomizerContext() {
         // given
@@ -0,0 +1,65 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.jeasy.random.api.Randomizer;
+import org.jeasy.random.randomizers.number.IntegerRandomizer;
+import org.junit.jupiter.api.Test;
+
+class RandomizerForksTest {
+
+    @Test
+    void forksOfRandomizersInUseShouldBeKeptWhenOtherRandomizersAreForked() {
+        // Given
+        RandomizerForks randomizerForks = new RandomizerForks(new EasyRandomParameters(), "generator");
+        Randomizer<Integer> randomizer = new IntegerRandomizer();
+        Randomizer<Integer> fork = randomizerForks.getFork(randomizer);
+
+        for (int i = 0; i < 5000; i++) {
+            // When
+            randomizerForks.getFork(new IntegerRandomizer());
+
+            // Then
+            assertThat(randomizerForks.getFork(randomizer)).isSameAs(fork);
+        }
+    }
+
+    @Test
+    void threadsWithTheSameNameShouldDrawTheSameValues() {
+        // Given
+        EasyRandomParameters parameters = new EasyRandomParameters();
+        RandomizerForks randomizerForks = new RandomizerForks(parameters, "generator");
+        RandomizerForks otherRandomizerForks = new RandomizerForks(parameters, "generator");
+        RandomizerForks otherThreadRandomizerForks = new RandomizerForks(parameters, "other-generator");
+
+        // When
+        int bits = randomizerForks.nextBits(32);
+
+        // Then
+        assertThat(otherRandomizerForks.nextBits(32)).isEqualTo(bits);
+        assertThat(otherThreadRandomizerForks.nextBits(32)).isNotEqualTo(bits);
+    }
+}
@@ -23,11 +23,15 @@
  */
 package org.jeasy.random;
 
+import static java.util.Arrays.asList;
 import static java.util.Collections.singleton;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.lang.reflect.Field;
+import java.util.HashSet;
 
 import org.jeasy.random.api.RandomizerContext;
 import org.junit.jupiter.api.BeforeEach;
@@ -36,6 +40,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import org.jeasy.random.annotation.Priority;
 import org.jeasy.random.api.Randomizer;
 import org.jeasy.random.api.RandomizerRegistry;
 import org.jeasy.random.beans.Foo;
@@ -84,4 +89,89 @@ class RegistriesRandomizerProviderTest {
         // Then
         assertThat(actual).isEqualTo(randomizer);
     }
-}
\ No newline at end of file
+
+    @Test
+    void randomizersOfCacheableRegistriesShouldBeResolvedOnlyOnce() throws NoSuchFieldException {
+        // Given
+        Field field = Foo.class.getDeclaredField("bar");
+        when(randomizerRegistry.isCacheable()).thenReturn(true);
+        when(randomizerRegistry.getRandomizer(field)).thenReturn(randomizer);
+        when(randomizerRegistry.getRandomizer(String.class)).thenReturn(randomizer);
+        randomizerProvider = new RegistriesRandomizerProvider();
+        randomizerProvider.setRandomizerRegistries(singleton(randomizerRegistry));
+
+        // When
+        randomizerProvider.getRandomizerByField(field, context);
+        randomizerProvider.getRandomizerByField(field, context);
+        randomizerProvider.getRandomizerByType(String.class, context);
+        randomizerProvider.getRandomizerByType(String.class, context);
+
+        // Then
+        verify(randomizerRegistry, times(1)).getRandomizer(field);
+        verify(randomizerRegistry, times(1)).getRandomizer(String.class);
+    }
+
+    @Test
+    void randomizersOfNonCacheableRegistriesShouldBeResolvedOnEachCall() {
+        // Given
+        when(randomizerRegistry.getRandomizer(String.class)).thenReturn(null, randomizer);
+
+        // When
+        Randomizer<?> first = randomizerProvider.getRandomizerByType(String.class, context);
+        Randomizer<?> second = randomizerProvider.getRandomizerByType(String.class, context);
+
+        // Then
+        assertThat(first).isNull();
+        assertThat(second).isEqualTo(randomizer);
+        verify(randomizerRegistry, times(2)).getRandomizer(String.class);
+    }
+
+    @Test
+    void cachedRandomizersShouldBeOrderedByPriority() {
+        // Given
+        Randomizer<String> highPriorityRandomizer = new HighPriorityRandomizer();
+        when(randomizerRegistry.getRandomizer(String.class)).thenReturn(randomizer);
+        randomizerProvider = new RegistriesRandomizerProvider();
+        randomizerProvider.setRandomizerRegistries(new HashSet<>(asList(
+                randomizerRegistry, new FixedRandomizerRegistry(highPriorityRandomizer))));
+
+        // When
+        Randomizer<?> first = randomizerProvider.getRandomizerByType(String.class, context);
+        Randomizer<?> second = randomizerProvider.getRandomizerByType(String.class, context);
+
+        // Then
+        assertThat(first).isSameAs(highPriorityRandomizer);
+        assertThat(second).isSameAs(highPriorityRandomizer);
+    }
+
+    @Priority(1)
+    private static class HighPriorityRandomizer implements Randomizer<String> {
+        @Override
+        public String getRandomValue() {
+            return "foo";
+        }
+    }
+
+    private static class FixedRandomizerRegistry implements RandomizerRegistry {
+
+        private final Randomizer<?> randomizer;
+
+        FixedRandomizerRegistry(Randomizer<?> randomizer) {
+            this.randomizer = randomizer;
+        }
+
+        @Override
+        public void init(EasyRandomParameters parameters) {
+        }
+
+        @Override
+        public Randomizer<?> getRandomizer(Field field) {
+            return randomizer;
+        }
+
+        @Override
+        public Randomizer<?> getRandomizer(Class<?> type) {
+            return randomizer;
+        }
+    }
+}
@@ -25,6 +25,7 @@ package org.jeasy.random.context;
 
 import org.jeasy.random.EasyRandom;
 import org.jeasy.random.EasyRandomParameters;
+import org.jeasy.random.api.ContextualRandomizer;
 import org.junit.jupiter.api.Test;
 
 import static org.jeasy.random.FieldPredicates.*;
@@ -107,4 +108,29 @@ class ContextAwareRandomizationTests {
         }
 
     }
+
+    @Test
+    void testContextualRandomization() {
+        // given
+        String[] names = {"james", "daniel"};
+        ContextualRandomizer<String> lastNameRandomizer = context -> {
+            String firstName = ((Person) context.getCurrentObject()).getFirstName();
+            return firstName.equalsIgnoreCase("james") ? "bond" : "craig";
+        };
+        EasyRandomParameters parameters = new EasyRandomParameters()
+                .randomize(named("firstName").and(ofType(String.class)).and(inClass(Person.class)), new FirstNameRandomizer(names))
+                .randomize(named("lastName").and(ofType(String.class)).and(inClass(Person.class)), lastNameRandomizer)
+                .excludeField(named("nickname"));
+        EasyRandom easyRandom = new EasyRandom(parameters);
+
+        // when
+        Person person = easyRandom.nextObject(Person.class);
+
+        // then
+        if (person.getFirstName().equalsIgnoreCase("james")) {
+            assertThat(person.getLastName()).isEqualTo("bond");
+        } else {
+            assertThat(person.getLastName()).isEqualTo("craig");
+        }
+    }
 }
@@ -0,0 +1,140 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.parameters;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import org.jeasy.random.EasyRandom;
+import org.jeasy.random.EasyRandomParameters;
+import org.jeasy.random.api.GenerationListener;
+import org.jeasy.random.api.RandomizerContext;
+import org.jeasy.random.beans.Address;
+import org.jeasy.random.beans.Node;
+import org.jeasy.random.beans.Street;
+import org.junit.jupiter.api.Test;
+
+class GenerationListenerParameterTests {
+
+    @Test
+    void generatedObjectsAndPopulatedFieldsShouldBeReported() {
+        // Given
+        RecordingListener listener = new RecordingListener();
+        EasyRandom easyRandom = new EasyRandom(new EasyRandomParameters().generationListener(listener));
+
+        // When
+        easyRandom.nextObject(Address.class);
+
+        // Then
+        assertThat(listener.objects).containsExactly(Street.class, Address.class);
+        assertThat(listener.fieldPaths).contains("street", "street.name", "zipCode", "city", "country");
+        assertThat(listener.durations).allMatch(duration -> duration >= 0);
+        assertThat(listener.randomizerHits).isPositive();
+        assertThat(listener.randomizerMisses).isPositive();
+    }
+
+    @Test
+    void reusedPooledObjectsShouldBeReported() {
+        // Given
+        RecordingListener listener = new RecordingListener();
+        EasyRandomParameters parameters = new EasyRandomParameters()
+                .objectPoolSize(1)
+                .collectionSizeRange(0, 0)
+                .generationListener(listener);
+        EasyRandom easyRandom = new EasyRandom(parameters);
+
+        // When
+        easyRandom.nextObject(Node.class);
+
+        // Then
+        assertThat(listener.reusedObjects).isNotEmpty().containsOnly(Node.class);
+    }
+
+    @Test
+    void ignoredRandomizationErrorsShouldBeReported() {
+        // Given
+        RecordingListener listener = new RecordingListener();
+        EasyRandomParameters parameters = new EasyRandomParameters()
+                .ignoreRandomizationErrors(true)
+                .generationListener(listener);
+        EasyRandom easyRandom = new EasyRandom(parameters);
+
+        // When
+        easyRandom.nextObject(Foo.class);
+
+        // Then
+        assertThat(listener.errors).containsExactly(Callable.class);
+    }
+
+    static class RecordingListener implements GenerationListener {
+
+        private final List<Class<?>> objects = new ArrayList<>();
+        private final List<String> fieldPaths = new ArrayList<>();
+        private final List<Long> durations = new ArrayList<>();
+        private final List<Class<?>> reusedObjects = new ArrayList<>();
+        private final List<Class<?>> errors = new ArrayList<>();
+        private int randomizerHits;
+        private int randomizerMisses;
+
+        @Override
+        public void objectGenerated(Class<?> type, long durationNanos, RandomizerContext context) {
+            objects.add(type);
+            durations.add(durationNanos);
+        }
+
+        @Override
+        public void fieldPopulated(Field field, long durationNanos, RandomizerContext context) {
+            fieldPaths.add(context.getCurrentField());
+            durations.add(durationNanos);
+        }
+
+        @Override
+        public void randomizerLookedUp(Class<?> type, boolean found, RandomizerContext context) {
+            if (found) {
+                randomizerHits++;
+            } else {
+                randomizerMisses++;
+            }
+        }
+
+        @Override
+        public void pooledObjectReused(Class<?> type, RandomizerContext context) {
+            reusedObjects.add(type);
+        }
+
+        @Override
+        public void errorIgnored(Class<?> type, Throwable error, RandomizerContext context) {
+            errors.add(type);
+        }
+    }
+
+    static class Foo {
+        private String name;
+        private Callable<String> callable;
+    }
+}
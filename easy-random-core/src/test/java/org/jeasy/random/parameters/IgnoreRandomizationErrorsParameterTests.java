@@ -26,9 +26,13 @@ package org.jeasy.random.parameters;
 import org.jeasy.random.EasyRandom;
 import org.jeasy.random.EasyRandomParameters;
 import org.jeasy.random.ObjectCreationException;
+import org.jeasy.random.api.GenerationListener;
+import org.jeasy.random.api.RandomizerContext;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.Callable;
 
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -57,6 +61,38 @@ class IgnoreRandomizationErrorsParameterTests {
         assertThatThrownBy(() -> easyRandom.nextObject(Foo.class)).isInstanceOf(ObjectCreationException.class);
     }
 
+    @Test
+    void whenIgnoreRandomizationErrorsIsActivated_thenTypesThatCanNotBeInstantiatedShouldOnlyBeTriedOnce() {
+        List<Class<?>> ignoredErrors = new ArrayList<>();
+        List<Class<?>> nonInstantiableTypes = new ArrayList<>();
+        EasyRandomParameters parameters = new EasyRandomParameters()
+                .ignoreRandomizationErrors(true)
+                .generationListener(new GenerationListener() {
+                    @Override
+                    public void errorIgnored(Class<?> type, Throwable error, RandomizerContext context) {
+                        ignoredErrors.add(type);
+                    }
+
+                    @Override
+                    public void typeNotInstantiable(Class<?> type, Throwable error, RandomizerContext context) {
+                        nonInstantiableTypes.add(type);
+                    }
+                });
+        easyRandom = new EasyRandom(parameters);
+
+        List<Foo> foos = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            foos.add(easyRandom.nextObject(Foo.class));
+        }
+
+        Assertions.assertThat(foos).allSatisfy(foo -> {
+            Assertions.assertThat(foo.getName()).isNotNull();
+            Assertions.assertThat(foo.getCallable()).isNull();
+        });
+        Assertions.assertThat(nonInstantiableTypes).containsExactly(Callable.class);
+        Assertions.assertThat(ignoredErrors).containsExactly(Callable.class);
+    }
+
     static class Foo {
         private String name;
         private Callable<String> callable;
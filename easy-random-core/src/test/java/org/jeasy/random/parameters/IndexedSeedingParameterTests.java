@@ -0,0 +1,93 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.parameters;
+
+import org.jeasy.random.EasyRandom;
+import org.jeasy.random.EasyRandomParameters;
+import org.jeasy.random.beans.Person;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IndexedSeedingParameterTests {
+
+    @Test
+    void whenIndexedSeedingIsActivated_thenObjectsShouldNotDependOnPreviouslyGeneratedObjects() {
+        // given
+        EasyRandom easyRandom = new EasyRandom(new EasyRandomParameters().indexedSeeding(true));
+        EasyRandom otherEasyRandom = new EasyRandom(new EasyRandomParameters().indexedSeeding(true));
+        for (int i = 0; i < 5; i++) {
+            otherEasyRandom.nextObject(Person.class);
+        }
+
+        // when
+        Person person = easyRandom.nextOrGetObject(5, Person.class);
+        Person otherPerson = otherEasyRandom.nextObject(Person.class);
+
+        // then
+        assertThat(person).usingRecursiveComparison().isEqualTo(otherPerson);
+    }
+
+    @Test
+    void whenIndexedSeedingIsActivated_thenObjectsOfDifferentIndexesShouldBeDifferent() {
+        // given
+        EasyRandom easyRandom = new EasyRandom(new EasyRandomParameters().indexedSeeding(true));
+
+        // when
+        Person person = easyRandom.nextOrGetObject(0, Person.class);
+        Person otherPerson = easyRandom.nextOrGetObject(1, Person.class);
+
+        // then
+        assertThat(person.getName()).isNotEqualTo(otherPerson.getName());
+    }
+
+    @Test
+    void whenIndexedSeedingIsActivated_thenParallelStreamShouldBeReproducible() {
+        // given
+        EasyRandomParameters parameters = new EasyRandomParameters().indexedSeeding(true).threadSafe(true);
+
+        // when
+        List<Person> sequential = new EasyRandom(parameters).objects(Person.class, 100).collect(Collectors.toList());
+        List<Person> parallel = new EasyRandom(parameters).objects(Person.class, 100).parallel().collect(Collectors.toList());
+
+        // then
+        assertThat(parallel).usingRecursiveFieldByFieldElementComparator().containsExactlyElementsOf(sequential);
+    }
+
+    @Test
+    void whenIndexedSeedingIsDeactivated_thenObjectsShouldNotDependOnScopesOpenedByOtherInstances() {
+        // given
+        List<Person> expected = new EasyRandom().objects(Person.class, 10).collect(Collectors.toList());
+        new EasyRandom(new EasyRandomParameters().indexedSeeding(true)).nextObject(Person.class);
+
+        // when
+        List<Person> persons = new EasyRandom().objects(Person.class, 10).collect(Collectors.toList());
+
+        // then
+        assertThat(persons).usingRecursiveFieldByFieldElementComparator().containsExactlyElementsOf(expected);
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.parameters;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.jeasy.random.EasyRandom;
+import org.jeasy.random.EasyRandomParameters;
+import org.jeasy.random.api.RandomSource;
+import org.jeasy.random.api.RandomSourceFactory;
+import org.jeasy.random.beans.Gender;
+import org.jeasy.random.beans.Person;
+import org.jeasy.random.randomizers.number.IntegerRandomizer;
+import org.jeasy.random.randomizers.text.StringRandomizer;
+import org.jeasy.random.source.JdkRandomSource;
+import org.jeasy.random.source.SplitMix64RandomSource;
+import org.jeasy.random.source.Xoshiro256StarStarRandomSource;
+import org.junit.jupiter.api.Test;
+
+class RandomSourceFactoryParameterTests {
+
+    @Test
+    void generatedObjectsShouldBeTheSameForTheSameSeedAndRandomSource() {
+        // Given
+        EasyRandomParameters parameters = new EasyRandomParameters().randomSourceFactory(Xoshiro256StarStarRandomSource::new);
+        EasyRandom easyRandom1 = new EasyRandom(parameters);
+        EasyRandom easyRandom2 = new EasyRandom(parameters);
+
+        // When
+        Person person1 = easyRandom1.nextObject(Person.class);
+        Person person2 = easyRandom2.nextObject(Person.class);
+
+        // Then
+        assertThat(person1).usingRecursiveComparison().isEqualTo(person2);
+    }
+
+    @Test
+    void defaultRandomSourceShouldBeCompatibleWithJavaUtilRandom() {
+        // Given
+        EasyRandom easyRandom = new EasyRandom();
+        EasyRandom easyRandomWithJdkSource = new EasyRandom(new EasyRandomParameters().randomSourceFactory(JdkRandomSource::new));
+
+        // When
+        Person person = easyRandom.nextObject(Person.class);
+        Person personWithJdkSource = easyRandomWithJdkSource.nextObject(Person.class);
+
+        // Then
+        assertThat(person).usingRecursiveComparison().isEqualTo(personWithJdkSource);
+    }
+
+    @Test
+    void generatedObjectsShouldDependOnTheRandomSource() {
+        // Given
+        EasyRandom easyRandom = new EasyRandom();
+        EasyRandom easyRandomWithSplitMix64 = new EasyRandom(new EasyRandomParameters().randomSourceFactory(SplitMix64RandomSource::new));
+
+        // When
+        String string = easyRandom.nextObject(String.class);
+        String stringWithSplitMix64 = easyRandomWithSplitMix64.nextObject(String.class);
+
+        // Then
+        assertThat(string).isNotEqualTo(stringWithSplitMix64);
+    }
+
+    @Test
+    void builtInRandomizersShouldDrawFromTheRandomSource() {
+        // Given
+        AtomicInteger draws = new AtomicInteger();
+        EasyRandom easyRandom = new EasyRandom(new EasyRandomParameters().randomSourceFactory(countingFactory(draws)));
+
+        // When
+        int value = easyRandom.nextObject(Integer.class);
+
+        // Then
+        assertThat(draws.get()).isEqualTo(1);
+        assertThat(value).isEqualTo((int) (new SplitMix64RandomSource(123L).nextLong() >>> 32));
+    }
+
+    @Test
+    void lazilyCreatedRandomizersShouldDrawFromTheRandomSource() {
+        // Given
+        AtomicInteger draws = new AtomicInteger();
+        EasyRandom easyRandom = new EasyRandom(new EasyRandomParameters().randomSourceFactory(countingFactory(draws)));
+
+        // When
+        easyRandom.nextObject(Gender.class);
+
+        // Then
+        assertThat(draws.get()).isEqualTo(1);
+    }
+
+    @Test
+    void randomizersShouldDrawFromTheRandomSourceTheyAreCreatedWith() {
+        // Given
+        AtomicInteger draws = new AtomicInteger();
+        StringRandomizer randomizer = new StringRandomizer(StandardCharsets.US_ASCII, 5, 5, 123L, countingFactory(draws));
+
+        // When
+        randomizer.getRandomValue();
+
+        // Then
+        assertThat(draws.get()).isEqualTo(6);
+    }
+
+    @Test
+    void randomizersCreatedWithoutRandomSourceShouldDrawFromJavaUtilRandom() {
+        // Given
+        EasyRandom easyRandom = new EasyRandom(new EasyRandomParameters().randomSourceFactory(SplitMix64RandomSource::new));
+        easyRandom.nextObject(Person.class);
+
+        // When
+        int value = new IntegerRandomizer(123L).getRandomValue();
+
+        // Then
+        assertThat(value).isEqualTo(new Random(123L).nextInt());
+    }
+
+    @Test
+    void randomSourcesShouldBeSharedSafelyInThreadSafeMode() {
+        // Given
+        EasyRandomParameters parameters = new EasyRandomParameters()
+                .randomSourceFactory(Xoshiro256StarStarRandomSource::new)
+                .threadSafe(true);
+        EasyRandom easyRandom = new EasyRandom(parameters);
+
+        // When
+        List<Person> persons = easyRandom.objects(Person.class, 1000).parallel().collect(Collectors.toList());
+
+        // Then
+        assertThat(persons).hasSize(1000).doesNotContainNull();
+    }
+
+    private static RandomSourceFactory countingFactory(final AtomicInteger draws) {
+        return seed -> {
+            RandomSource source = new SplitMix64RandomSource(seed);
+            return () -> {
+                draws.incrementAndGet();
+                return source.nextLong();
+            };
+        };
+    }
+}
@@ -27,12 +27,20 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.BDDAssertions.then;
 
+import java.io.OutputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
 import java.util.Date;
+import java.util.List;
 
 import org.assertj.core.api.Assertions;
 import org.jeasy.random.EasyRandom;
 import org.jeasy.random.EasyRandomParameters;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import org.jeasy.random.ObjectCreationException;
 import org.jeasy.random.beans.Ape;
@@ -42,9 +50,12 @@ import org.jeasy.random.beans.ComparableBean;
 import org.jeasy.random.beans.ConcreteBar;
 import org.jeasy.random.beans.Foo;
 import org.jeasy.random.beans.Human;
+import org.jeasy.random.beans.Mammal;
 import org.jeasy.random.beans.Mamals;
 import org.jeasy.random.beans.Person;
 import org.jeasy.random.beans.SocialPerson;
+import org.jeasy.random.util.ReflectionUtils;
+import org.jeasy.random.util.SubTypeIndexFile;
 
 class ScanClasspathForConcreteTypesParameterTests {
 
@@ -120,6 +131,87 @@ class ScanClasspathForConcreteTypesParameterTests {
         then(randomValue.getTestEnum()).isNotNull();
     }
 
+    @Test
+    void whenScanPackagesAreConfigured_thenShouldFindAllConcreteSubTypesInThesePackages() {
+        // Given
+        EasyRandomParameters parameters = new EasyRandomParameters()
+                .scanClasspathForConcreteTypes(true)
+                .scanPackages("org.jeasy.random.beans");
+
+        // When
+        List<Class<?>> subTypes = ReflectionUtils.getPublicConcreteSubTypesOf(Mammal.class, parameters);
+
+        // Then
+        assertThat(subTypes).containsOnly(Human.class, Ape.class, Person.class, SocialPerson.class);
+    }
+
+    @Test
+    void whenScanPackagesAreConfigured_thenShouldNotPopulateAbstractTypesWithSubTypesFromOtherPackages() {
+        // Given
+        EasyRandomParameters parameters = new EasyRandomParameters()
+                .scanClasspathForConcreteTypes(true)
+                .scanPackages("org.jeasy.random.randomizers");
+        easyRandom = new EasyRandom(parameters);
+
+        // When/Then
+        assertThatThrownBy(() -> easyRandom.nextObject(Mamals.class)).isInstanceOf(ObjectCreationException.class);
+    }
+
+    @Test
+    void whenOnlySomeClasspathEntriesAreIndexed_thenShouldScanTheOtherEntries(@TempDir Path indexedEntry) throws Exception {
+        // Given
+        EasyRandomParameters parameters = new EasyRandomParameters()
+                .scanClasspathForConcreteTypes(true)
+                .scanPackages("org.jeasy.random.beans", "org.jeasy.random.parameters");
+
+        // When
+        List<Class<?>> subTypes = getPublicConcreteSubTypesOfMammal(indexedEntry, parameters);
+
+        // Then
+        assertThat(subTypes).containsOnly(Centaur.class, Human.class, Ape.class, Person.class, SocialPerson.class);
+    }
+
+    @Test
+    void whenSomeClasspathEntriesAreIndexedAndNoPackageIsConfigured_thenShouldOnlyUseTheIndexes(@TempDir Path indexedEntry) throws Exception {
+        // Given
+        EasyRandomParameters parameters = new EasyRandomParameters().scanClasspathForConcreteTypes(true);
+
+        // When
+        List<Class<?>> subTypes = getPublicConcreteSubTypesOfMammal(indexedEntry, parameters);
+
+        // Then
+        assertThat(subTypes).containsOnly(Centaur.class);
+    }
+
+    private List<Class<?>> getPublicConcreteSubTypesOfMammal(Path indexedEntry, EasyRandomParameters parameters) throws Exception {
+        Path indexFile = indexedEntry.resolve(SubTypeIndexFile.LOCATION);
+        Files.createDirectories(indexFile.getParent());
+        try (OutputStream outputStream = Files.newOutputStream(indexFile)) {
+            SubTypeIndexFile.write(Collections.singletonMap(Mammal.class.getName(),
+                    Collections.singletonList(Centaur.class.getName())), outputStream);
+        }
+        Thread thread = Thread.currentThread();
+        ClassLoader contextClassLoader = thread.getContextClassLoader();
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{indexedEntry.toUri().toURL()}, getClass().getClassLoader())) {
+            thread.setContextClassLoader(classLoader);
+            return ReflectionUtils.getPublicConcreteSubTypesOf(Mammal.class, parameters);
+        } finally {
+            thread.setContextClassLoader(contextClassLoader);
+        }
+    }
+
+    @Test
+    void whenScanSystemModulesIsDisabled_thenShouldNotFindJdkSubTypes() {
+        // Given
+        EasyRandomParameters parameters = new EasyRandomParameters().scanClasspathForConcreteTypes(true);
+
+        // When
+        List<Class<?>> subTypes = ReflectionUtils.getPublicConcreteSubTypesOf(Comparable.class, parameters);
+
+        // Then
+        assertThat(subTypes).contains(Person.class).doesNotContain(Date.class);
+    }
+
     // issue https://github.com/j-easy/easy-random/issues/353
 
     @Test
@@ -134,6 +226,22 @@ class ScanClasspathForConcreteTypesParameterTests {
         Assertions.assertThat(foobar.getToto()).isNotNull();
     }
 
+    // not public, so it can only be found through an index
+    static class Centaur implements Mammal {
+
+        private String name;
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public void setName(String name) {
+            this.name = name;
+        }
+    }
+
     public class Foobar {
 
         public abstract class Toto {}
@@ -0,0 +1,108 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.parameters;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import org.jeasy.random.EasyRandom;
+import org.jeasy.random.EasyRandomParameters;
+import org.jeasy.random.beans.Person;
+import org.junit.jupiter.api.Test;
+
+class ThreadConfinedParameterTests {
+
+    @Test
+    void whenThreadConfinedIsActivated_thenObjectsShouldBeGeneratedInParallel() {
+        // given
+        EasyRandom easyRandom = new EasyRandom(new EasyRandomParameters().threadSafe(true).threadConfined(true));
+
+        // when
+        List<Person> persons = easyRandom.objects(Person.class, 1000).parallel().collect(Collectors.toList());
+
+        // then
+        assertThat(persons).hasSize(1000).doesNotContainNull();
+    }
+
+    @Test
+    void whenThreadConfinedIsActivated_thenObjectsGeneratedByAThreadShouldBeReproducible() throws Exception {
+        // given
+        EasyRandomParameters parameters = new EasyRandomParameters().threadSafe(true).threadConfined(true);
+        EasyRandom easyRandom = new EasyRandom(parameters);
+        EasyRandom otherEasyRandom = new EasyRandom(parameters);
+
+        // when
+        List<Person> persons = generateOnNewThread(easyRandom, "generator");
+        List<Person> otherPersons = generateOnNewThread(otherEasyRandom, "generator");
+
+        // then
+        assertThat(persons).usingRecursiveFieldByFieldElementComparator().isEqualTo(otherPersons);
+    }
+
+    @Test
+    void whenThreadConfinedIsActivated_thenObjectsGeneratedByAThreadShouldNotDependOnOtherThreads() throws Exception {
+        // given
+        EasyRandomParameters parameters = new EasyRandomParameters().threadSafe(true).threadConfined(true);
+        EasyRandom easyRandom = new EasyRandom(parameters);
+        EasyRandom otherEasyRandom = new EasyRandom(parameters);
+
+        // when
+        List<Person> persons = generateOnNewThread(easyRandom, "generator-1");
+        generateOnNewThread(easyRandom, "generator-2");
+        generateOnNewThread(otherEasyRandom, "generator-2");
+        List<Person> otherPersons = generateOnNewThread(otherEasyRandom, "generator-1");
+
+        // then
+        assertThat(persons).usingRecursiveFieldByFieldElementComparator().isEqualTo(otherPersons);
+    }
+
+    @Test
+    void whenThreadConfinedIsActivated_thenEachThreadShouldGenerateItsOwnObjects() throws Exception {
+        // given
+        EasyRandom easyRandom = new EasyRandom(new EasyRandomParameters().threadSafe(true).threadConfined(true));
+
+        // when
+        List<Person> persons = generateOnNewThread(easyRandom, "generator-1");
+        List<Person> otherPersons = generateOnNewThread(easyRandom, "generator-2");
+
+        // then
+        assertThat(persons.get(0).getName()).isNotEqualTo(otherPersons.get(0).getName());
+    }
+
+    private static List<Person> generateOnNewThread(EasyRandom easyRandom, String threadName) throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, threadName));
+        try {
+            Future<List<Person>> persons = executor.submit(() ->
+                    easyRandom.objects(Person.class, 10).collect(Collectors.toList()));
+            return persons.get();
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
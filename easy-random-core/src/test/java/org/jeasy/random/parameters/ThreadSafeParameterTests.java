@@ -0,0 +1,209 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.parameters;
+
+import org.jeasy.random.EasyRandom;
+import org.jeasy.random.EasyRandomParameters;
+import org.jeasy.random.api.ContextAwareRandomizer;
+import org.jeasy.random.api.ContextualRandomizer;
+import org.jeasy.random.api.RandomizerContext;
+import org.jeasy.random.beans.Human;
+import org.jeasy.random.beans.Person;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.jeasy.random.FieldPredicates.inClass;
+import static org.jeasy.random.FieldPredicates.named;
+
+class ThreadSafeParameterTests {
+
+    @Test
+    void whenThreadSafeIsActivated_thenObjectsShouldBeGeneratedInParallel() {
+        // given
+        EasyRandom easyRandom = new EasyRandom(new EasyRandomParameters().threadSafe(true));
+
+        // when
+        List<Person> persons = easyRandom.objects(Person.class, 1000).parallel().collect(Collectors.toList());
+
+        // then
+        assertThat(persons).hasSize(1000).doesNotContainNull();
+    }
+
+    @Test
+    void objectsStreamShouldBeSizedAndSubSized() {
+        // given
+        EasyRandom easyRandom = new EasyRandom();
+
+        // when
+        Stream<Person> persons = easyRandom.objects(Person.class, 10);
+
+        // then
+        Spliterator<Person> spliterator = persons.spliterator();
+        assertThat(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED)).isTrue();
+        assertThat(spliterator.getExactSizeIfKnown()).isEqualTo(10);
+    }
+
+    @Test
+    void whenThreadSafeIsActivated_thenContextAwareRandomizersShouldSeeTheirOwnContext() {
+        // given
+        EasyRandomParameters parameters = new EasyRandomParameters()
+                .threadSafe(true)
+                .randomize(named("name").and(inClass(Human.class)), new RootObjectIdentityRandomizer());
+        EasyRandom easyRandom = new EasyRandom(parameters);
+
+        // when
+        List<Person> persons = easyRandom.objects(Person.class, 1000).parallel().collect(Collectors.toList());
+
+        // then
+        assertThat(persons).allSatisfy(person ->
+                assertThat(person.getName()).isEqualTo(String.valueOf(System.identityHashCode(person))));
+    }
+
+    @Test
+    void whenThreadSafeIsActivated_thenContextualRandomizersShouldSeeTheirOwnContext() {
+        // given
+        ContextualRandomizer<String> rootObjectIdentityRandomizer = context -> {
+            Thread.yield();
+            return String.valueOf(System.identityHashCode(context.getRootObject()));
+        };
+        EasyRandomParameters parameters = new EasyRandomParameters()
+                .threadSafe(true)
+                .randomize(named("name").and(inClass(Human.class)), rootObjectIdentityRandomizer);
+        EasyRandom easyRandom = new EasyRandom(parameters);
+
+        // when
+        List<Person> persons = easyRandom.objects(Person.class, 1000).parallel().collect(Collectors.toList());
+
+        // then
+        assertThat(persons).allSatisfy(person ->
+                assertThat(person.getName()).isEqualTo(String.valueOf(System.identityHashCode(person))));
+    }
+
+    @Test
+    void whenThreadSafeIsActivated_thenNestedContextAwareRandomizersShouldNotWaitForEachOther() throws Exception {
+        // given
+        NestingRandomizer fooRandomizer = new NestingRandomizer(Bar.class);
+        NestingRandomizer barRandomizer = new NestingRandomizer(Foo.class);
+        EasyRandomParameters parameters = new EasyRandomParameters()
+                .threadSafe(true)
+                .randomize(named("name").and(inClass(Foo.class)), fooRandomizer)
+                .randomize(named("name").and(inClass(Bar.class)), barRandomizer);
+        EasyRandom easyRandom = new EasyRandom(parameters);
+        fooRandomizer.easyRandom = easyRandom;
+        barRandomizer.easyRandom = easyRandom;
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        // when
+        List<Foo> foos;
+        List<Bar> bars;
+        try {
+            Future<List<Foo>> futureFoos = executor.submit(() -> easyRandom.objects(Foo.class, 1000).collect(Collectors.toList()));
+            Future<List<Bar>> futureBars = executor.submit(() -> easyRandom.objects(Bar.class, 1000).collect(Collectors.toList()));
+            foos = assertTimeoutPreemptively(Duration.ofSeconds(30), () -> futureFoos.get());
+            bars = assertTimeoutPreemptively(Duration.ofSeconds(30), () -> futureBars.get());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // then
+        assertThat(foos).extracting(Foo::getName).containsOnly(Bar.class.getSimpleName());
+        assertThat(bars).extracting(Bar::getName).containsOnly(Foo.class.getSimpleName());
+    }
+
+    public static class Foo {
+
+        private String name;
+
+        public String getName() {
+            return name;
+        }
+    }
+
+    public static class Bar {
+
+        private String name;
+
+        public String getName() {
+            return name;
+        }
+    }
+
+    // generates the name of an object with a nested object of another type, whose name is generated by another randomizer
+    private static class NestingRandomizer implements ContextAwareRandomizer<String> {
+
+        private static final ThreadLocal<Boolean> NESTED = ThreadLocal.withInitial(() -> false);
+
+        private final Class<?> nestedType;
+
+        private volatile EasyRandom easyRandom;
+
+        private NestingRandomizer(Class<?> nestedType) {
+            this.nestedType = nestedType;
+        }
+
+        @Override
+        public void setRandomizerContext(RandomizerContext context) {
+        }
+
+        @Override
+        public String getRandomValue() {
+            if (NESTED.get()) {
+                return "";
+            }
+            NESTED.set(true);
+            try {
+                Thread.yield();
+                return easyRandom.nextObject(nestedType).getClass().getSimpleName();
+            } finally {
+                NESTED.set(false);
+            }
+        }
+    }
+
+    private static class RootObjectIdentityRandomizer implements ContextAwareRandomizer<String> {
+
+        private RandomizerContext context;
+
+        @Override
+        public void setRandomizerContext(RandomizerContext context) {
+            this.context = context;
+        }
+
+        @Override
+        public String getRandomValue() {
+            Thread.yield();
+            return String.valueOf(System.identityHashCode(context.getRootObject()));
+        }
+    }
+}
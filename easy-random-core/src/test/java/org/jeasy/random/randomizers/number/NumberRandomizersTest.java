@@ -28,6 +28,7 @@ import static org.assertj.core.api.BDDAssertions.then;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
@@ -81,4 +82,20 @@ class NumberRandomizersTest extends AbstractRandomizerTest<Object> {
 
         then(actual).isEqualTo(expected);
     }
+
+    @Test
+    void filledBytesShouldBeTheValuesGeneratedForTheSameSeed() {
+        // given
+        ByteRandomizer randomizer = new ByteRandomizer(SEED);
+        ByteRandomizer otherRandomizer = new ByteRandomizer(SEED);
+        byte[] bytes = new byte[10];
+
+        // when
+        randomizer.fill(bytes);
+
+        // then
+        for (byte value : bytes) {
+            then(value).isEqualTo(otherRandomizer.getRandomValue());
+        }
+    }
 }
@@ -25,6 +25,8 @@ package org.jeasy.random.randomizers.text;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.nio.charset.StandardCharsets;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -55,6 +57,19 @@ class CharacterRandomizerTest extends AbstractRandomizerTest<Character> {
         assertThat(actual).isEqualTo(expected);
     }
 
+    @Test
+    void shouldGenerateLettersOfTheGivenCharset() {
+        // Given
+        randomizer = new CharacterRandomizer(StandardCharsets.UTF_8, SEED);
+
+        // When
+        char[] characters = new char[100];
+        ((CharacterRandomizer) randomizer).fill(characters);
+
+        // Then
+        assertThat(new String(characters)).matches("\\p{L}+").matches(".*[^\\p{ASCII}].*");
+    }
+
     @Test
     void shouldGenerateOnlyAlphabeticLetters() {
         assertThat(randomizer.getRandomValue()).isBetween('A', 'z');
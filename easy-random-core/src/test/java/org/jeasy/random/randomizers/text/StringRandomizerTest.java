@@ -25,6 +25,8 @@ package org.jeasy.random.randomizers.text;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.nio.charset.StandardCharsets;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -86,4 +88,27 @@ class StringRandomizerTest extends AbstractRandomizerTest<String> {
         assertThat(actual.length()).isBetween(minLength, maxLength);
     }
 
+    @Test
+    void shouldGenerateLatin1LettersForIsoLatin1Charset() {
+        // Given
+        randomizer = new StringRandomizer(StandardCharsets.ISO_8859_1, 100, 100, SEED);
+
+        // When
+        String actual = randomizer.getRandomValue();
+
+        // Then
+        assertThat(actual).hasSize(100).matches("[\\p{L}&&[\\x00-\\xFF]]+").matches(".*[^\\p{ASCII}].*");
+    }
+
+    @Test
+    void shouldGenerateLettersOutsideOfLatin1ForUtf8Charset() {
+        // Given
+        randomizer = new StringRandomizer(StandardCharsets.UTF_8, 100, 100, SEED);
+
+        // When
+        String actual = randomizer.getRandomValue();
+
+        // Then
+        assertThat(actual).hasSize(100).matches("\\p{L}+").matches(".*[^\\x00-\\xFF].*");
+    }
 }
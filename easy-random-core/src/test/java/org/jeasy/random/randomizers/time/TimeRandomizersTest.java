@@ -90,6 +90,19 @@ class TimeRandomizersTest extends AbstractRandomizerTest<Randomizer<?>> {
         then(randomNumber).isNotNull();
     }
 
+    @ParameterizedTest
+    @MethodSource("generateRandomizers")
+    void forksWithTheSameSeedShouldGenerateTheSameValues(Randomizer<?> randomizer) {
+        // when
+        Randomizer<?> fork = randomizer.fork(SEED);
+        Randomizer<?> otherFork = randomizer.fork(SEED);
+
+        then(fork).isNotSameAs(randomizer).isNotSameAs(otherFork);
+        for (int i = 0; i < 10; i++) {
+            then(fork.getRandomValue()).isEqualTo(otherFork.getRandomValue());
+        }
+    }
+
     static Object[][] generateSeededRandomizersAndTheirExpectedValues() {
         Calendar expectedCalendar = Calendar.getInstance();
         expectedCalendar.setTime(new Date(1718736844570L));
@@ -130,6 +143,34 @@ class TimeRandomizersTest extends AbstractRandomizerTest<Randomizer<?>> {
         then(actual).isEqualTo(expected);
     }
 
+    @ParameterizedTest
+    @MethodSource("generateSeededRandomizersAndTheirExpectedValues")
+    void forksShouldGenerateTheValuesOfRandomizersCreatedWithTheirSeed(Randomizer<?> randomizer, Object expected) {
+        // given
+        randomizer.getRandomValue();
+
+        // when
+        Object actual = randomizer.fork(SEED).getRandomValue();
+
+        then(actual).isEqualTo(expected);
+    }
+
+    @Test
+    void subclassesOfBuiltInRandomizersShouldBeTheirOwnFork() {
+        // given
+        Randomizer<Year> randomizer = new YearRandomizer(SEED) {
+            @Override
+            public Year getRandomValue() {
+                return Year.of(2000);
+            }
+        };
+
+        // when
+        Randomizer<Year> fork = randomizer.fork(SEED);
+
+        then(fork).isSameAs(randomizer);
+    }
+
     @Test
     void shouldAllowToCreateDurationRandomizerWithSuitableTemporalUnits() {
         assertThat(new DurationRandomizer(ChronoUnit.NANOS).getRandomValue()).isGreaterThanOrEqualTo(Duration.ZERO);
@@ -0,0 +1,52 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.source;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class SplitMix64RandomSourceTest {
+
+    @Test
+    void shouldGenerateTheReferenceSequence() {
+        // Given
+        SplitMix64RandomSource source = new SplitMix64RandomSource(0L);
+
+        // Then
+        assertThat(source.nextLong()).isEqualTo(0xe220a8397b1dcdafL);
+        assertThat(source.nextLong()).isEqualTo(0x6e789e6aa1b965f4L);
+    }
+
+    @Test
+    void shouldGenerateDoublesBetweenZeroAndOne() {
+        // Given
+        SplitMix64RandomSource source = new SplitMix64RandomSource(123L);
+
+        // Then
+        for (int i = 0; i < 1000; i++) {
+            assertThat(source.nextDouble()).isGreaterThanOrEqualTo(0).isLessThan(1);
+        }
+    }
+}
@@ -24,9 +24,15 @@
 package org.jeasy.random.util;
 
 import static org.jeasy.random.util.CharacterUtils.filterLetters;
+import static org.jeasy.random.util.CharacterUtils.getLettersOf;
+import static org.jeasy.random.util.CharacterUtils.getPrintableCharactersOf;
 import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.nio.CharBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
@@ -39,4 +45,19 @@ class CharacterUtilsTest {
 
         assertThat(characters).containsExactly('a', 'b');
     }
+
+    @Test
+    void lettersOfACharsetShouldBeReadOnly() {
+        CharBuffer letters = getLettersOf(StandardCharsets.UTF_8);
+
+        assertThatThrownBy(() -> letters.put(0, '1')).isInstanceOf(ReadOnlyBufferException.class);
+        assertThat(letters.toString()).contains("a", "é").doesNotContain("1", " ");
+    }
+
+    @Test
+    void printableCharactersShouldOnlyContainCharactersOfTheCharset() {
+        CharBuffer characters = getPrintableCharactersOf(StandardCharsets.US_ASCII);
+
+        assertThat(characters.toString()).contains("a", "1", " ").doesNotContain("é", "\n");
+    }
 }
\ No newline at end of file
@@ -0,0 +1,104 @@
+package org.jeasy.random.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Field;
+
+import org.jeasy.random.beans.Human;
+import org.jeasy.random.beans.Street;
+import org.junit.jupiter.api.Test;
+
+public class CompactFieldValueStoreTest {
+
+  @Test
+  void storedValuesShouldBeRetrievedByIndexAndField() throws NoSuchFieldException {
+    // Given
+    CompactFieldValueStore fieldValueStore = new CompactFieldValueStore();
+    Field name = Human.class.getDeclaredField("name");
+
+    // When
+    fieldValueStore.put(1, name, "foo");
+    fieldValueStore.put(2, name, "bar");
+    fieldValueStore.put(3, name, null);
+
+    // Then
+    assertThat(fieldValueStore.get(1, name)).hasValue("foo");
+    assertThat(fieldValueStore.get(2, name)).hasValue("bar");
+    assertThat(fieldValueStore.get(3, name)).isEmpty();
+    assertThat(fieldValueStore.size()).isEqualTo(2);
+  }
+
+  @Test
+  void fieldsWithTheSameNameAndTypeShouldShareTheirValues() throws NoSuchFieldException {
+    // Given
+    CompactFieldValueStore fieldValueStore = new CompactFieldValueStore();
+    Field humanName = Human.class.getDeclaredField("name");
+    Field streetName = Street.class.getDeclaredField("name");
+    Field streetNumber = Street.class.getDeclaredField("number");
+
+    // When
+    fieldValueStore.put(1, humanName, "foo");
+
+    // Then
+    assertThat(fieldValueStore.getValue(1, streetName)).isEqualTo("foo");
+    assertThat(fieldValueStore.getValue(1, streetNumber)).isNull();
+  }
+
+  @Test
+  void valuesShouldSurviveResizing() throws NoSuchFieldException {
+    // Given
+    CompactFieldValueStore fieldValueStore = new CompactFieldValueStore();
+    Field name = Human.class.getDeclaredField("name");
+
+    // When
+    for (int i = 0; i < 10_000; i++) {
+      fieldValueStore.put(i, name, "name" + i);
+    }
+
+    // Then
+    assertThat(fieldValueStore.size()).isEqualTo(10_000);
+    for (int i = 0; i < 10_000; i++) {
+      assertThat(fieldValueStore.getValue(i, name)).isEqualTo("name" + i);
+    }
+  }
+
+  @Test
+  void valuesOutsideOfTheWindowShouldBeEvicted() throws NoSuchFieldException {
+    // Given
+    CompactFieldValueStore fieldValueStore = new CompactFieldValueStore(3, 2);
+    Field name = Human.class.getDeclaredField("name");
+    Field number = Street.class.getDeclaredField("number");
+
+    // When
+    for (int i = 0; i < 10_000; i++) {
+      fieldValueStore.put(i, name, "name" + i);
+      fieldValueStore.put(i, number, i);
+    }
+    fieldValueStore.put(0, name, "late");
+
+    // Then
+    assertThat(fieldValueStore.size()).isEqualTo(6);
+    assertThat(fieldValueStore.getValue(9_996, name)).isNull();
+    assertThat(fieldValueStore.getValue(0, name)).isNull();
+    for (int i = 9_997; i < 10_000; i++) {
+      assertThat(fieldValueStore.getValue(i, name)).isEqualTo("name" + i);
+      assertThat(fieldValueStore.getValue(i, number)).isEqualTo(i);
+    }
+  }
+
+  @Test
+  void valuesOfSparseIndexesOutsideOfTheWindowShouldBeEvicted() throws NoSuchFieldException {
+    // Given
+    CompactFieldValueStore fieldValueStore = new CompactFieldValueStore(10, 1);
+    Field name = Human.class.getDeclaredField("name");
+    fieldValueStore.put(0, name, "first");
+    fieldValueStore.put(5, name, "second");
+
+    // When
+    fieldValueStore.put(Integer.MAX_VALUE, name, "last");
+
+    // Then
+    assertThat(fieldValueStore.size()).isEqualTo(1);
+    assertThat(fieldValueStore.getValue(Integer.MAX_VALUE, name)).isEqualTo("last");
+  }
+}
@@ -0,0 +1,160 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.Objects;
+
+import org.jeasy.random.beans.ChainedSetterBean;
+import org.jeasy.random.beans.Human;
+import org.junit.jupiter.api.Test;
+
+class FieldAccessorTest {
+
+    @Test
+    void setPropertyValueShouldUseTheSetter() throws Exception {
+        // given
+        ChainedSetterBean chainedSetterBean = spy(ChainedSetterBean.class);
+        FieldAccessor accessor = FieldAccessor.of(ChainedSetterBean.class.getDeclaredField("index"));
+
+        // when
+        accessor.setPropertyValue(chainedSetterBean, 100);
+
+        // then
+        verify(chainedSetterBean).setIndex(100);
+        assertThat(chainedSetterBean.getIndex()).isEqualTo(100);
+    }
+
+    @Test
+    void setFieldValueShouldBypassTheSetter() throws Exception {
+        // given
+        ChainedSetterBean chainedSetterBean = spy(ChainedSetterBean.class);
+        FieldAccessor accessor = FieldAccessor.of(ChainedSetterBean.class.getDeclaredField("name"));
+
+        // when
+        accessor.setFieldValue(chainedSetterBean, "myName");
+
+        // then
+        verifyNoInteractions(chainedSetterBean);
+        assertThat(accessor.getFieldValue(chainedSetterBean)).isEqualTo("myName");
+    }
+
+    @Test
+    void finalFieldsShouldBeWritable() throws Exception {
+        // given
+        Human human = new Human();
+        FieldAccessor accessor = FieldAccessor.of(Human.class.getDeclaredField("id"));
+
+        // when
+        accessor.setPropertyValue(human, 1L);
+
+        // then
+        assertThat(accessor.hasSetter()).isFalse();
+        assertThat(human.getId()).isEqualTo(1L);
+    }
+
+    @Test
+    void exceptionsThrownBySettersShouldBeWrapped() throws Exception {
+        // given
+        FieldAccessor accessor = FieldAccessor.of(FailingSetterBean.class.getDeclaredField("name"));
+
+        // then
+        assertThatThrownBy(() -> accessor.setPropertyValue(new FailingSetterBean(), "foo"))
+                .isInstanceOf(InvocationTargetException.class)
+                .hasCauseInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void valuesOfTheWrongTypeShouldBeRejected() throws Exception {
+        // given
+        FieldAccessor accessor = FieldAccessor.of(Human.class.getDeclaredField("name"));
+
+        // then
+        assertThatThrownBy(() -> accessor.setFieldValue(new Human(), 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void nullValuesOfPrimitiveFieldsShouldBeRejected() throws Exception {
+        // given
+        FieldAccessor accessor = FieldAccessor.of(PrimitiveSetterBean.class.getDeclaredField("age"));
+
+        // then
+        assertThatThrownBy(() -> accessor.setFieldValue(new PrimitiveSetterBean(), null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> accessor.setPropertyValue(new PrimitiveSetterBean(), null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void propertyValuesOfTheWrongTypeShouldBeRejected() throws Exception {
+        // given
+        FieldAccessor accessor = FieldAccessor.of(PrimitiveSetterBean.class.getDeclaredField("age"));
+
+        // then
+        assertThatThrownBy(() -> accessor.setPropertyValue(new PrimitiveSetterBean(), "foo"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void nullPointerExceptionsThrownBySettersShouldBeWrapped() throws Exception {
+        // given
+        FieldAccessor accessor = FieldAccessor.of(NullRejectingSetterBean.class.getDeclaredField("name"));
+
+        // then
+        assertThatThrownBy(() -> accessor.setPropertyValue(new NullRejectingSetterBean(), null))
+                .isInstanceOf(InvocationTargetException.class)
+                .hasCauseInstanceOf(NullPointerException.class);
+    }
+
+    public static class FailingSetterBean {
+        private String name;
+
+        public void setName(String name) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    public static class PrimitiveSetterBean {
+        private int age;
+
+        public void setAge(int age) {
+            this.age = age;
+        }
+    }
+
+    public static class NullRejectingSetterBean {
+        private String name;
+
+        public void setName(String name) {
+            this.name = Objects.requireNonNull(name);
+        }
+    }
+}
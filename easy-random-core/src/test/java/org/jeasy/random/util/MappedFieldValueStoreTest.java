@@ -0,0 +1,171 @@
+package org.jeasy.random.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Field;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+
+import org.jeasy.random.EasyRandom;
+import org.jeasy.random.EasyRandomParameters;
+import org.jeasy.random.beans.Human;
+import org.jeasy.random.beans.Person;
+import org.jeasy.random.beans.Street;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class MappedFieldValueStoreTest {
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void storedValuesShouldBeReadFromAnotherStoreMappingTheSameFile() throws Exception {
+    // Given
+    Path file = directory.resolve("values.store");
+    Field name = Human.class.getDeclaredField("name");
+    Field number = Street.class.getDeclaredField("number");
+    try (MappedFieldValueStore fieldValueStore = new MappedFieldValueStore(file, 1 << 16)) {
+      fieldValueStore.put(1, name, "foo");
+      fieldValueStore.put(1, number, 42);
+      fieldValueStore.put(2, name, "bar");
+    }
+
+    // When
+    try (MappedFieldValueStore fieldValueStore = new MappedFieldValueStore(file, 1 << 16)) {
+
+      // Then
+      assertThat(fieldValueStore.getValue(1, name)).isEqualTo("foo");
+      assertThat(fieldValueStore.getValue(1, number)).isEqualTo(42);
+      assertThat(fieldValueStore.get(2, name)).hasValue("bar");
+      assertThat(fieldValueStore.get(3, name)).isEmpty();
+      assertThat(fieldValueStore.getValue(1, Street.class.getDeclaredField("name"))).isEqualTo("foo");
+    }
+  }
+
+  @Test
+  void storesMappingTheSameFileShouldBeWrittenConcurrentlyInTheSameJvm() throws Exception {
+    // Given
+    Path file = directory.resolve("values.store");
+    Field name = Human.class.getDeclaredField("name");
+    try (MappedFieldValueStore fieldValueStore = new MappedFieldValueStore(file, 1 << 20);
+         MappedFieldValueStore otherFieldValueStore = new MappedFieldValueStore(file, 1 << 20)) {
+
+      // When
+      CompletableFuture<Void> writes = CompletableFuture.runAsync(() -> {
+        for (int i = 0; i < 1000; i += 2) {
+          fieldValueStore.put(i, name, "name" + i);
+        }
+      });
+      for (int i = 1; i < 1000; i += 2) {
+        otherFieldValueStore.put(i, name, "name" + i);
+      }
+      writes.get();
+
+      // Then
+      for (int i = 0; i < 1000; i++) {
+        assertThat(fieldValueStore.getValue(i, name)).isEqualTo("name" + i);
+        assertThat(otherFieldValueStore.getValue(i, name)).isEqualTo("name" + i);
+      }
+    }
+  }
+
+  @Test
+  void closedStoresShouldStillReadValuesButNotStoreThem() throws Exception {
+    // Given
+    Field name = Human.class.getDeclaredField("name");
+    MappedFieldValueStore fieldValueStore = new MappedFieldValueStore(directory.resolve("values.store"), 1 << 16);
+    fieldValueStore.put(1, name, "foo");
+
+    // When
+    fieldValueStore.close();
+
+    // Then
+    assertThat(fieldValueStore.getValue(1, name)).isEqualTo("foo");
+    assertThatThrownBy(() -> fieldValueStore.put(2, name, "bar")).isInstanceOf(UncheckedIOException.class);
+  }
+
+  @Test
+  void firstStoredValueShouldBeKept() throws Exception {
+    // Given
+    Field name = Human.class.getDeclaredField("name");
+    try (MappedFieldValueStore fieldValueStore = new MappedFieldValueStore(directory.resolve("values.store"), 1 << 16)) {
+
+      // When
+      fieldValueStore.put(1, name, "foo");
+      fieldValueStore.put(1, name, "bar");
+
+      // Then
+      assertThat(fieldValueStore.getValue(1, name)).isEqualTo("foo");
+    }
+  }
+
+  @Test
+  void valuesShouldNotBeStoredWhenTheStoreIsFull() throws Exception {
+    // Given
+    Field name = Human.class.getDeclaredField("name");
+    try (MappedFieldValueStore fieldValueStore = new MappedFieldValueStore(directory.resolve("values.store"), 1024, 16, new SerializableFieldValueSerializer())) {
+
+      // When
+      for (int i = 0; i < 100; i++) {
+        fieldValueStore.put(i, name, "name" + i);
+      }
+
+      // Then
+      assertThat(fieldValueStore.getValue(0, name)).isEqualTo("name0");
+      assertThat(fieldValueStore.getValue(99, name)).isNull();
+    }
+  }
+
+  @Test
+  void valuesThatCanNotBeSerializedShouldNotBeStored() throws Exception {
+    // Given
+    Field name = Human.class.getDeclaredField("name");
+    try (MappedFieldValueStore fieldValueStore = new MappedFieldValueStore(directory.resolve("values.store"), 1 << 16)) {
+
+      // When
+      fieldValueStore.put(1, name, new Object());
+
+      // Then
+      assertThat(fieldValueStore.getValue(1, name)).isNull();
+    }
+  }
+
+  @Test
+  void filesThatAreNotStoresShouldBeRejected() throws IOException {
+    // Given
+    Path file = Files.write(directory.resolve("values.store"), new byte[] {1, 2, 3});
+
+    // When / Then
+    assertThatThrownBy(() -> new MappedFieldValueStore(file, 1 << 16)).isInstanceOf(IOException.class);
+  }
+
+  @Test
+  void easyRandomInstancesSharingAStoreShouldGenerateTheSameFieldValues() throws Exception {
+    // Given
+    Path file = directory.resolve("values.store");
+    Person person;
+    try (MappedFieldValueStore fieldValueStore = new MappedFieldValueStore(file, 1 << 20)) {
+      EasyRandomParameters parameters = new EasyRandomParameters().seed(1).fieldValueStore(fieldValueStore);
+      parameters.setReuseFieldValues(true);
+      person = new EasyRandom(parameters).nextOrGetObject(0, Person.class);
+    }
+
+    // When
+    Person otherPerson;
+    try (MappedFieldValueStore fieldValueStore = new MappedFieldValueStore(file, 1 << 20)) {
+      EasyRandomParameters parameters = new EasyRandomParameters().seed(2).fieldValueStore(fieldValueStore);
+      parameters.setReuseFieldValues(true);
+      otherPerson = new EasyRandom(parameters).nextOrGetObject(0, Person.class);
+    }
+
+    // Then
+    assertThat(otherPerson.getName()).isEqualTo(person.getName());
+    assertThat(otherPerson.getEmail()).isEqualTo(person.getEmail());
+    assertThat(otherPerson.getAddress().getStreet().getNumber()).isEqualTo(person.getAddress().getStreet().getNumber());
+  }
+}
@@ -0,0 +1,335 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.processor;
+
+import static java.util.Locale.ENGLISH;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+
+import org.jeasy.random.annotation.Exclude;
+import org.jeasy.random.annotation.Randomizable;
+import org.jeasy.random.randomizers.GeneratedRandomizer;
+
+/**
+ * Annotation processor generating a {@link GeneratedRandomizer} for each class annotated with {@link Randomizable}.
+ *
+ * The generated randomizer creates instances with the no-arg constructor of the class, and reads and writes
+ * fields directly (or through their setter) when they are accessible from the package of the class.
+ * Static fields and fields annotated with {@link Exclude} are not populated.
+ */
+@SupportedAnnotationTypes("org.jeasy.random.annotation.Randomizable")
+public class RandomizableProcessor extends AbstractProcessor {
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnvironment) {
+        for (Element element : roundEnvironment.getElementsAnnotatedWith(Randomizable.class)) {
+            if (element.getKind() != ElementKind.CLASS) {
+                error(element, "@Randomizable can only be applied to classes");
+                continue;
+            }
+            TypeElement type = (TypeElement) element;
+            if (isSupported(type)) {
+                generate(type);
+            }
+        }
+        return true;
+    }
+
+    private boolean isSupported(TypeElement type) {
+        if (type.getModifiers().contains(Modifier.ABSTRACT)) {
+            error(type, "@Randomizable classes must not be abstract");
+            return false;
+        }
+        if (!type.getTypeParameters().isEmpty()) {
+            error(type, "@Randomizable classes must not be generic");
+            return false;
+        }
+        for (Element element = type; element instanceof TypeElement; element = element.getEnclosingElement()) {
+            TypeElement enclosing = (TypeElement) element;
+            if (enclosing.getModifiers().contains(Modifier.PRIVATE)
+                    || enclosing.getNestingKind() == NestingKind.LOCAL || enclosing.getNestingKind() == NestingKind.ANONYMOUS
+                    || (enclosing.getNestingKind() == NestingKind.MEMBER && !enclosing.getModifiers().contains(Modifier.STATIC))) {
+                error(type, "@Randomizable classes must be top level or static nested classes that are not private");
+                return false;
+            }
+        }
+        boolean hasNoArgConstructor = ElementFilter.constructorsIn(type.getEnclosedElements()).stream()
+                .anyMatch(constructor -> constructor.getParameters().isEmpty() && !constructor.getModifiers().contains(Modifier.PRIVATE));
+        if (!hasNoArgConstructor) {
+            error(type, "@Randomizable classes must have a non private no-arg constructor");
+            return false;
+        }
+        return true;
+    }
+
+    private void generate(TypeElement type) {
+        String packageName = getPackage(type).getQualifiedName().toString();
+        String binaryName = processingEnv.getElementUtils().getBinaryName(type).toString();
+        // nested types keep the $ of their binary name, which no other type of the package can have
+        String simpleName = (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1))
+                + GeneratedRandomizer.NAME_SUFFIX;
+        List<GeneratedField> fields = getFields(type, packageName);
+        String typeName = type.getQualifiedName().toString();
+
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        if (processingEnv.getElementUtils().getTypeElement("javax.annotation.processing.Generated") != null) {
+            source.append("@javax.annotation.processing.Generated(\"").append(getClass().getName()).append("\")\n");
+        }
+        source.append("@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n")
+                .append("public final class ").append(simpleName)
+                .append(" extends org.jeasy.random.randomizers.GeneratedRandomizer<").append(typeName).append("> {\n\n");
+
+        source.append("    public ").append(simpleName).append("() {\n")
+                .append("        super(").append(typeName).append(".class");
+        for (GeneratedField field : fields) {
+            source.append(",\n                field(").append(field.declaringClass).append(", \"").append(field.name).append("\")");
+        }
+        source.append(");\n    }\n\n");
+
+        source.append("    @Override\n")
+                .append("    public ").append(typeName).append(" newInstance() {\n")
+                .append("        return new ").append(typeName).append("();\n")
+                .append("    }\n");
+
+        List<String> getters = new ArrayList<>();
+        List<String> fieldSetters = new ArrayList<>();
+        List<String> propertySetters = new ArrayList<>();
+        for (int i = 0; i < fields.size(); i++) {
+            GeneratedField field = fields.get(i);
+            if (field.readable) {
+                getters.add(caseOf(i, "return target." + field.name + ";"));
+            }
+            String assignment = caseOf(i, nullCheck(typeName, field, field.primitive),
+                    "target." + field.name + " = (" + field.castType + ") value;", "return;");
+            if (field.writable) {
+                fieldSetters.add(assignment);
+            }
+            if (field.setter != null) {
+                propertySetters.add(caseOf(i, nullCheck(typeName, field, field.setterPrimitive),
+                        "target." + field.setter + "((" + field.setterCastType + ") value);", "return;"));
+            } else if (field.writable) {
+                propertySetters.add(assignment);
+            }
+        }
+        if (!getters.isEmpty()) {
+            source.append("\n    @Override\n")
+                    .append("    public Object getFieldValue(").append(typeName).append(" target, int index) throws IllegalAccessException {\n")
+                    .append("        switch (index) {\n");
+            getters.forEach(source::append);
+            source.append("            default:\n")
+                    .append("                return super.getFieldValue(target, index);\n")
+                    .append("        }\n")
+                    .append("    }\n");
+        }
+        if (!fieldSetters.isEmpty()) {
+            source.append("\n    @Override\n")
+                    .append("    public void setFieldValue(").append(typeName).append(" target, int index, Object value) throws IllegalAccessException {\n")
+                    .append("        switch (index) {\n");
+            fieldSetters.forEach(source::append);
+            source.append("            default:\n")
+                    .append("                super.setFieldValue(target, index, value);\n")
+                    .append("        }\n")
+                    .append("    }\n");
+        }
+        if (!propertySetters.isEmpty()) {
+            source.append("\n    @Override\n")
+                    .append("    public void setPropertyValue(").append(typeName).append(" target, int index, Object value)")
+                    .append(" throws IllegalAccessException, java.lang.reflect.InvocationTargetException {\n")
+                    .append("        switch (index) {\n");
+            propertySetters.forEach(source::append);
+            source.append("            default:\n")
+                    .append("                super.setPropertyValue(target, index, value);\n")
+                    .append("        }\n")
+                    .append("    }\n");
+        }
+        source.append("}\n");
+
+        String qualifiedName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+        try (Writer writer = processingEnv.getFiler().createSourceFile(qualifiedName, type).openWriter()) {
+            writer.write(source.toString());
+        } catch (IOException e) {
+            error(type, "Unable to write generated randomizer " + qualifiedName + ": " + e.getMessage());
+        }
+    }
+
+    private static String caseOf(int index, String... statements) {
+        StringBuilder source = new StringBuilder("            case ").append(index).append(":\n");
+        for (String statement : statements) {
+            if (!statement.isEmpty()) {
+                source.append("                ").append(statement).append('\n');
+            }
+        }
+        return source.toString();
+    }
+
+    // unboxing null would throw a NullPointerException, reflection rejects null values of primitive fields this way
+    private static String nullCheck(String typeName, GeneratedField field, boolean primitive) {
+        if (!primitive) {
+            return "";
+        }
+        return "if (value == null) {\n                    throw new IllegalArgumentException(\"Can not set primitive field "
+                + typeName + "." + field.name + " to null value\");\n                }";
+    }
+
+    /*
+     * Fields are listed in the same order as EasyRandom introspects them: declared fields first, then inherited ones.
+     */
+    private List<GeneratedField> getFields(TypeElement type, String packageName) {
+        DeclaredType declaredType = (DeclaredType) type.asType();
+        List<GeneratedField> fields = new ArrayList<>();
+        Set<String> names = new HashSet<>();
+        String superclasses = "";
+        TypeElement current = type;
+        while (current != null && !current.getQualifiedName().contentEquals("java.lang.Object")) {
+            boolean accessibleClass = isAccessible(current, packageName);
+            // classes that are not accessible from generated code are reached from the annotated class
+            String declaringClass = accessibleClass ? current.getQualifiedName() + ".class" : type.getQualifiedName() + ".class" + superclasses;
+            for (VariableElement field : ElementFilter.fieldsIn(current.getEnclosedElements())) {
+                Set<Modifier> modifiers = field.getModifiers();
+                if (modifiers.contains(Modifier.STATIC) || field.getAnnotation(Exclude.class) != null) {
+                    continue;
+                }
+                // fields hidden by a field of a subclass are accessed by reflection
+                boolean hidden = !names.add(field.getSimpleName().toString());
+                boolean accessible = !hidden && accessibleClass && isAccessible(field, packageName);
+                // the type of fields that are not accessible is not needed, as they are accessed by reflection
+                TypeMirror fieldType = accessible ? processingEnv.getTypeUtils().asMemberOf(declaredType, field) : field.asType();
+                ExecutableElement setter = hidden ? null : getSetter(current, field, packageName);
+                TypeMirror setterType = setter == null ? null
+                        : ((ExecutableType) processingEnv.getTypeUtils().asMemberOf(declaredType, setter)).getParameterTypes().get(0);
+                fields.add(new GeneratedField(declaringClass, field.getSimpleName().toString(), erasure(fieldType),
+                        fieldType.getKind().isPrimitive(), accessible, accessible && !modifiers.contains(Modifier.FINAL),
+                        setter == null ? null : setter.getSimpleName().toString(),
+                        setterType == null ? null : erasure(setterType), setterType != null && setterType.getKind().isPrimitive()));
+            }
+            superclasses += ".getSuperclass()";
+            current = getSuperclass(current);
+        }
+        return fields;
+    }
+
+    private ExecutableElement getSetter(TypeElement declaringType, VariableElement field, String packageName) {
+        String name = field.getSimpleName().toString();
+        String setterName = "set" + name.substring(0, 1).toUpperCase(ENGLISH) + name.substring(1);
+        TypeMirror fieldType = processingEnv.getTypeUtils().erasure(field.asType());
+        for (TypeElement current = declaringType; current != null; current = getSuperclass(current)) {
+            for (ExecutableElement method : ElementFilter.methodsIn(current.getEnclosedElements())) {
+                if (method.getSimpleName().contentEquals(setterName)
+                        && method.getModifiers().contains(Modifier.PUBLIC)
+                        && !method.getModifiers().contains(Modifier.STATIC)
+                        && method.getParameters().size() == 1
+                        && processingEnv.getTypeUtils().isSameType(fieldType, processingEnv.getTypeUtils().erasure(method.getParameters().get(0).asType()))) {
+                    return isAccessible(current, packageName) ? method : null;
+                }
+            }
+        }
+        return null;
+    }
+
+    private TypeElement getSuperclass(TypeElement type) {
+        TypeMirror superclass = type.getSuperclass();
+        if (superclass.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+        return (TypeElement) processingEnv.getTypeUtils().asElement(superclass);
+    }
+
+    private String erasure(TypeMirror type) {
+        return processingEnv.getTypeUtils().erasure(type).toString();
+    }
+
+    private boolean isAccessible(Element element, String packageName) {
+        Set<Modifier> modifiers = element.getModifiers();
+        if (modifiers.contains(Modifier.PRIVATE)) {
+            return false;
+        }
+        return modifiers.contains(Modifier.PUBLIC) || getPackage(element).getQualifiedName().contentEquals(packageName);
+    }
+
+    private PackageElement getPackage(Element element) {
+        return processingEnv.getElementUtils().getPackageOf(element);
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    private static class GeneratedField {
+
+        private final String declaringClass;
+        private final String name;
+        private final String castType;
+        private final boolean primitive;
+        private final boolean readable;
+        private final boolean writable;
+        private final String setter;
+        private final String setterCastType;
+        private final boolean setterPrimitive;
+
+        private GeneratedField(String declaringClass, String name, String castType, boolean primitive, boolean readable,
+                               boolean writable, String setter, String setterCastType, boolean setterPrimitive) {
+            this.declaringClass = declaringClass;
+            this.name = name;
+            this.castType = castType;
+            this.primitive = primitive;
+            this.readable = readable;
+            this.writable = writable;
+            this.setter = setter;
+            this.setterCastType = setterCastType;
+            this.setterPrimitive = setterPrimitive;
+        }
+    }
+}
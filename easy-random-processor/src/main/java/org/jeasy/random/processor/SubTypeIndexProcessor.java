@@ -0,0 +1,149 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.processor;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.NoSuchFileException;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+import org.jeasy.random.util.SubTypeIndexFile;
+
+/**
+ * Annotation processor writing a {@link SubTypeIndexFile} of the public concrete classes of the compiled sources,
+ * so that their subtypes can be found without scanning the classpath at runtime.
+ *
+ * The index of a previous (incremental) compilation is merged with the compiled classes.
+ */
+@SupportedAnnotationTypes("*")
+public class SubTypeIndexProcessor extends AbstractProcessor {
+
+    private final Set<TypeElement> types = new LinkedHashSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnvironment) {
+        for (TypeElement type : ElementFilter.typesIn(roundEnvironment.getRootElements())) {
+            collect(type);
+        }
+        if (roundEnvironment.processingOver() && !types.isEmpty()) {
+            write();
+        }
+        // other processors must see the annotations
+        return false;
+    }
+
+    private void collect(TypeElement type) {
+        if (type.getKind() == ElementKind.CLASS || type.getKind() == ElementKind.ENUM) {
+            types.add(type);
+        }
+        for (TypeElement member : ElementFilter.typesIn(type.getEnclosedElements())) {
+            collect(member);
+        }
+    }
+
+    private void write() {
+        Map<String, Set<String>> subTypeNames = readPreviousIndex();
+        for (TypeElement type : types) {
+            String name = getBinaryName(type);
+            // types compiled again replace their previous entries
+            subTypeNames.values().forEach(subTypes -> subTypes.remove(name));
+            if (type.getModifiers().contains(Modifier.PUBLIC) && !type.getModifiers().contains(Modifier.ABSTRACT)) {
+                for (String superType : getSuperTypes(type, new LinkedHashSet<>())) {
+                    subTypeNames.computeIfAbsent(superType, k -> new LinkedHashSet<>()).add(name);
+                }
+            }
+        }
+        // every class is a subtype of Object, it is not indexed
+        subTypeNames.remove(Object.class.getName());
+        subTypeNames.values().removeIf(Set::isEmpty);
+        try {
+            FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", SubTypeIndexFile.LOCATION);
+            try (OutputStream outputStream = file.openOutputStream()) {
+                SubTypeIndexFile.write(subTypeNames, outputStream);
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Unable to write " + SubTypeIndexFile.LOCATION + ": " + e.getMessage());
+        }
+    }
+
+    private Map<String, Set<String>> readPreviousIndex() {
+        Map<String, Set<String>> subTypeNames = new TreeMap<>();
+        try {
+            FileObject file = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", SubTypeIndexFile.LOCATION);
+            try (InputStream inputStream = file.openInputStream()) {
+                Map<String, List<String>> previousIndex = SubTypeIndexFile.read(inputStream);
+                previousIndex.forEach((superType, subTypes) -> subTypeNames.put(superType, new LinkedHashSet<>(subTypes)));
+            }
+        } catch (FileNotFoundException | NoSuchFileException e) {
+            // first compilation
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, "Ignoring previous " + SubTypeIndexFile.LOCATION + ": " + e.getMessage());
+        }
+        return subTypeNames;
+    }
+
+    private Set<String> getSuperTypes(TypeElement type, Set<String> superTypes) {
+        for (TypeMirror superType : processingEnv.getTypeUtils().directSupertypes(type.asType())) {
+            if (superType.getKind() != TypeKind.DECLARED) {
+                continue;
+            }
+            TypeElement superElement = (TypeElement) ((DeclaredType) superType).asElement();
+            String name = getBinaryName(superElement);
+            if (!name.equals(Object.class.getName()) && superTypes.add(name)) {
+                getSuperTypes(superElement, superTypes);
+            }
+        }
+        return superTypes;
+    }
+
+    private String getBinaryName(TypeElement type) {
+        return processingEnv.getElementUtils().getBinaryName(type).toString();
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.processor;
+
+import java.util.List;
+
+import org.jeasy.random.annotation.Exclude;
+import org.jeasy.random.annotation.Randomizable;
+import org.jeasy.random.annotation.Randomizer;
+
+@Randomizable
+public class Customer extends Party {
+
+    private String name;
+
+    @Exclude
+    boolean nameSetterInvoked;
+
+    // classes calling the constructor and the setter, to check that generated randomizers call them directly
+    @Exclude
+    final Class<?> creator = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE).getCallerClass();
+
+    @Exclude
+    Class<?> nameSetterCaller;
+
+    int age;
+
+    @Exclude
+    String password;
+
+    @Randomizer(CodeRandomizer.class)
+    String code;
+
+    List<String> tags;
+
+    Address address;
+
+    Customer referrer;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+        this.nameSetterInvoked = true;
+        this.nameSetterCaller = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE).getCallerClass();
+    }
+
+    @Randomizable
+    public static class Address {
+
+        String city;
+
+        String zipCode;
+    }
+
+    public static class CodeRandomizer implements org.jeasy.random.api.Randomizer<String> {
+
+        @Override
+        public String getRandomValue() {
+            return "CODE";
+        }
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.processor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.lang.reflect.Field;
+
+import org.jeasy.random.EasyRandom;
+import org.jeasy.random.EasyRandomParameters;
+import org.jeasy.random.randomizers.registry.GeneratedRandomizerRegistry;
+import org.junit.jupiter.api.Test;
+
+class RandomizableProcessorTest {
+
+    @Test
+    void randomizersShouldBeGeneratedForRandomizableTypes() {
+        // Given
+        GeneratedRandomizerRegistry registry = new GeneratedRandomizerRegistry();
+        registry.init(new EasyRandomParameters());
+
+        // When
+        Object customerRandomizer = registry.getRandomizer(Customer.class);
+        Object addressRandomizer = registry.getRandomizer(Customer.Address.class);
+        Object topLevelAddressRandomizer = registry.getRandomizer(Customer_Address.class);
+        Object partyRandomizer = registry.getRandomizer(Party.class);
+
+        // Then
+        assertThat(customerRandomizer).isInstanceOf(Customer_Randomizer.class);
+        assertThat(addressRandomizer).isInstanceOf(Customer$Address_Randomizer.class);
+        assertThat(topLevelAddressRandomizer).isInstanceOf(Customer_Address_Randomizer.class);
+        assertThat(partyRandomizer).isNull();
+    }
+
+    @Test
+    void generatedRandomizersShouldCreateInstancesAndInvokeSettersDirectly() {
+        // Given
+        EasyRandom easyRandom = new EasyRandom();
+
+        // When
+        Customer customer = easyRandom.nextObject(Customer.class);
+
+        // Then
+        assertThat(customer.creator).isEqualTo(Customer_Randomizer.class);
+        assertThat(customer.nameSetterCaller).isEqualTo(Customer_Randomizer.class);
+    }
+
+    @Test
+    void generatedAccessorsShouldRejectNullValuesOfPrimitiveFields() {
+        // Given
+        Customer_Randomizer randomizer = new Customer_Randomizer();
+        int age = randomizer.getFields().indexOf(field(Customer.class, "age"));
+        Customer customer = new Customer();
+
+        // When
+        Throwable fieldError = catchThrowable(() -> randomizer.setFieldValue(customer, age, null));
+        Throwable propertyError = catchThrowable(() -> randomizer.setPropertyValue(customer, age, null));
+
+        // Then
+        assertThat(fieldError).isInstanceOf(IllegalArgumentException.class);
+        assertThat(propertyError).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Field field(Class<?> type, String name) {
+        try {
+            return type.getDeclaredField(name);
+        } catch (NoSuchFieldException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Test
+    void generatedRandomizersShouldPopulateAllFields() {
+        // Given
+        EasyRandom easyRandom = new EasyRandom();
+
+        // When
+        Customer customer = easyRandom.nextObject(Customer.class);
+
+        // Then
+        assertThat(customer.getName()).isNotEmpty();
+        assertThat(customer.nameSetterInvoked).isTrue();
+        assertThat(customer.tags).isNotNull();
+        assertThat(customer.address).isNotNull();
+        assertThat(customer.address.city).isNotEmpty();
+        assertThat(customer.address.zipCode).isNotEmpty();
+        assertThat(customer.referrer).isNotNull();
+        assertThat(customer.getId()).isNotNull();
+        assertThat(customer.getEmail()).isNotEmpty();
+    }
+
+    @Test
+    void generatedRandomizersShouldHonorAnnotations() {
+        // Given
+        EasyRandom easyRandom = new EasyRandom();
+
+        // When
+        Customer customer = easyRandom.nextObject(Customer.class);
+
+        // Then
+        assertThat(customer.password).isNull();
+        assertThat(customer.code).isEqualTo("CODE");
+    }
+
+    @Test
+    void generatedRandomizersShouldHonorParameters() {
+        // Given
+        EasyRandomParameters parameters = new EasyRandomParameters()
+                .stringLengthRange(3, 3)
+                .bypassSetters(true)
+                .excludeField(field -> field.getName().equals("age"));
+        EasyRandom easyRandom = new EasyRandom(parameters);
+
+        // When
+        Customer customer = easyRandom.nextObject(Customer.class);
+
+        // Then
+        assertThat(customer.getName()).hasSize(3);
+        assertThat(customer.address.city).hasSize(3);
+        assertThat(customer.nameSetterInvoked).isFalse();
+        assertThat(customer.age).isZero();
+    }
+
+    @Test
+    void generatedRandomizersShouldGenerateTheSameObjectsForTheSameSeed() {
+        // Given
+        EasyRandomParameters parameters = new EasyRandomParameters().seed(123L);
+
+        // When
+        Customer customer = new EasyRandom(parameters).nextObject(Customer.class);
+        Customer other = new EasyRandom(parameters).nextObject(Customer.class);
+
+        // Then
+        assertThat(customer).usingRecursiveComparison().isEqualTo(other);
+    }
+
+    @Test
+    void generatedRandomizersCanBeUsedDirectly() {
+        // When
+        Customer customer = new Customer_Randomizer().getRandomValue();
+
+        // Then
+        assertThat(customer.getName()).isNotEmpty();
+        assertThat(customer.address).isNotNull();
+    }
+}
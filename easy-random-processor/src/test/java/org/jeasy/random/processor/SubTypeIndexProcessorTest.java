@@ -0,0 +1,87 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2020, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.processor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.OutputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.jeasy.random.EasyRandomParameters;
+import org.jeasy.random.api.Randomizer;
+import org.jeasy.random.util.ReflectionUtils;
+import org.jeasy.random.util.SubTypeIndexFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SubTypeIndexProcessorTest {
+
+    @Test
+    void indexShouldContainPublicConcreteSubTypesOfCompiledTypes() throws Exception {
+        // When
+        Map<String, List<String>> index = SubTypeIndexFile.load(getClass().getClassLoader());
+
+        // Then
+        assertThat(index).isNotNull();
+        assertThat(index.get(Party.class.getName())).containsExactly(Customer.class.getName());
+        assertThat(index.get(Randomizer.class.getName()))
+                .contains(Customer.CodeRandomizer.class.getName(), Customer_Randomizer.class.getName());
+        assertThat(index).doesNotContainKey(Object.class.getName());
+    }
+
+    @Test
+    void indexShouldBeUsedToFindConcreteSubTypes(@TempDir Path classpathEntry) throws Exception {
+        // Given
+        Path indexFile = classpathEntry.resolve(SubTypeIndexFile.LOCATION);
+        Files.createDirectories(indexFile.getParent());
+        try (OutputStream outputStream = Files.newOutputStream(indexFile)) {
+            // a subtype that can only be found through an index
+            SubTypeIndexFile.write(Collections.singletonMap(Party.class.getName(),
+                    Collections.singletonList(Prospect.class.getName())), outputStream);
+        }
+        EasyRandomParameters parameters = new EasyRandomParameters()
+                .scanClasspathForConcreteTypes(true)
+                .scanPackages("org.jeasy.random.processor");
+        Thread thread = Thread.currentThread();
+        ClassLoader contextClassLoader = thread.getContextClassLoader();
+
+        // When
+        List<Class<?>> subTypes;
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{classpathEntry.toUri().toURL()}, getClass().getClassLoader())) {
+            thread.setContextClassLoader(classLoader);
+            subTypes = ReflectionUtils.getPublicConcreteSubTypesOf(Party.class, parameters);
+        } finally {
+            thread.setContextClassLoader(contextClassLoader);
+        }
+
+        // Then
+        assertThat(subTypes).containsExactlyInAnyOrder(Customer.class, Prospect.class);
+    }
+}
@@ -63,4 +63,9 @@ public class CityRandomizer extends FakerBasedRandomizer<String> {
     public String getRandomValue() {
         return faker.address().city();
     }
+
+    @Override
+    public CityRandomizer fork(final long seed) {
+        return getClass() == CityRandomizer.class ? new CityRandomizer(seed, getLocale()) : this;
+    }
 }
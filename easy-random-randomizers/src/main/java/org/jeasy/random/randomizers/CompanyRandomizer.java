@@ -63,4 +63,9 @@ public class CompanyRandomizer extends FakerBasedRandomizer<String> {
     public String getRandomValue() {
         return faker.company().name();
     }
+
+    @Override
+    public CompanyRandomizer fork(final long seed) {
+        return getClass() == CompanyRandomizer.class ? new CompanyRandomizer(seed, getLocale()) : this;
+    }
 }
@@ -64,4 +64,8 @@ public class CountryRandomizer extends FakerBasedRandomizer<String> {
         return faker.address().country();
     }
 
+    @Override
+    public CountryRandomizer fork(final long seed) {
+        return getClass() == CountryRandomizer.class ? new CountryRandomizer(seed, getLocale()) : this;
+    }
 }
@@ -63,4 +63,9 @@ public class CreditCardNumberRandomizer extends FakerBasedRandomizer<String> {
     public String getRandomValue() {
         return faker.business().creditCardNumber();
     }
+
+    @Override
+    public CreditCardNumberRandomizer fork(final long seed) {
+        return getClass() == CreditCardNumberRandomizer.class ? new CreditCardNumberRandomizer(seed, getLocale()) : this;
+    }
 }
@@ -78,4 +78,8 @@ public class EmailRandomizer extends FakerBasedRandomizer<String> {
         return safe ? faker.internet().safeEmailAddress() : faker.internet().emailAddress();
     }
 
+    @Override
+    public EmailRandomizer fork(final long seed) {
+        return getClass() == EmailRandomizer.class ? new EmailRandomizer(seed, getLocale(), safe) : this;
+    }
 }
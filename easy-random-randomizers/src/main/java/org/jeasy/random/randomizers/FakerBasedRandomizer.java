@@ -38,8 +38,11 @@ public abstract class FakerBasedRandomizer<T> extends AbstractRandomizer<T> {
 
     protected final Faker faker;
 
+    private final Locale locale;
+
     protected FakerBasedRandomizer() {
         faker = new Faker(Locale.ENGLISH);
+        locale = Locale.ENGLISH;
     }
 
     protected FakerBasedRandomizer(final long seed) {
@@ -49,5 +52,15 @@ public abstract class FakerBasedRandomizer<T> extends AbstractRandomizer<T> {
     protected FakerBasedRandomizer(final long seed, final Locale locale) {
         super(seed);
         faker = new Faker(locale, random);
+        this.locale = locale;
+    }
+
+    /**
+     * Get the locale of the values generated by this randomizer.
+     *
+     * @return the locale of the generated values
+     */
+    protected Locale getLocale() {
+        return locale;
     }
 }
@@ -63,4 +63,9 @@ public class FirstNameRandomizer extends FakerBasedRandomizer<String> {
     public String getRandomValue() {
         return faker.name().firstName();
     }
+
+    @Override
+    public FirstNameRandomizer fork(final long seed) {
+        return getClass() == FirstNameRandomizer.class ? new FirstNameRandomizer(seed, getLocale()) : this;
+    }
 }
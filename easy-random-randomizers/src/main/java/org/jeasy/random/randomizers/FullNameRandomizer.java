@@ -63,4 +63,9 @@ public class FullNameRandomizer extends FakerBasedRandomizer<String> {
     public String getRandomValue() {
         return faker.name().fullName();
     }
+
+    @Override
+    public FullNameRandomizer fork(final long seed) {
+        return getClass() == FullNameRandomizer.class ? new FullNameRandomizer(seed, getLocale()) : this;
+    }
 }
@@ -60,4 +60,8 @@ public class GenericStringRandomizer extends FakerBasedRandomizer<String> {
         return faker.options().option(words);
     }
 
+    @Override
+    public GenericStringRandomizer fork(final long seed) {
+        return getClass() == GenericStringRandomizer.class ? new GenericStringRandomizer(words, seed) : this;
+    }
 }
@@ -67,4 +67,8 @@ public class Ipv4AddressRandomizer extends FakerBasedRandomizer<String> {
         return faker.internet().ipV4Address();
     }
 
+    @Override
+    public Ipv4AddressRandomizer fork(final long seed) {
+        return getClass() == Ipv4AddressRandomizer.class ? new Ipv4AddressRandomizer(seed, getLocale()) : this;
+    }
 }
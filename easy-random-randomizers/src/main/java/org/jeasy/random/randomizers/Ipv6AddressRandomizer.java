@@ -67,4 +67,8 @@ public class Ipv6AddressRandomizer extends FakerBasedRandomizer<String> {
         return faker.internet().ipV6Address();
     }
 
+    @Override
+    public Ipv6AddressRandomizer fork(final long seed) {
+        return getClass() == Ipv6AddressRandomizer.class ? new Ipv6AddressRandomizer(seed, getLocale()) : this;
+    }
 }
@@ -63,4 +63,9 @@ public class IsbnRandomizer extends FakerBasedRandomizer<String> {
     public String getRandomValue() {
         return faker.code().isbn13();
     }
+
+    @Override
+    public IsbnRandomizer fork(final long seed) {
+        return getClass() == IsbnRandomizer.class ? new IsbnRandomizer(seed, getLocale()) : this;
+    }
 }
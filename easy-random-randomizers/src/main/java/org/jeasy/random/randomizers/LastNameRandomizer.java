@@ -63,4 +63,9 @@ public class LastNameRandomizer extends FakerBasedRandomizer<String> {
     public String getRandomValue() {
         return faker.name().lastName();
     }
+
+    @Override
+    public LastNameRandomizer fork(final long seed) {
+        return getClass() == LastNameRandomizer.class ? new LastNameRandomizer(seed, getLocale()) : this;
+    }
 }
@@ -63,4 +63,9 @@ public class LatitudeRandomizer extends FakerBasedRandomizer<String> {
     public String getRandomValue() {
         return faker.address().latitude();
     }
+
+    @Override
+    public LatitudeRandomizer fork(final long seed) {
+        return getClass() == LatitudeRandomizer.class ? new LatitudeRandomizer(seed, getLocale()) : this;
+    }
 }
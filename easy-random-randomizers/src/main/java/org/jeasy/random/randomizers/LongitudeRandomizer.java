@@ -63,4 +63,9 @@ public class LongitudeRandomizer extends FakerBasedRandomizer<String> {
     public String getRandomValue() {
         return faker.address().longitude();
     }
+
+    @Override
+    public LongitudeRandomizer fork(final long seed) {
+        return getClass() == LongitudeRandomizer.class ? new LongitudeRandomizer(seed, getLocale()) : this;
+    }
 }
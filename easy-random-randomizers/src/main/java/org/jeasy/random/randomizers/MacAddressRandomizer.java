@@ -67,4 +67,8 @@ public class MacAddressRandomizer extends FakerBasedRandomizer<String> {
         return faker.internet().macAddress();
     }
 
+    @Override
+    public MacAddressRandomizer fork(final long seed) {
+        return getClass() == MacAddressRandomizer.class ? new MacAddressRandomizer(seed, getLocale()) : this;
+    }
 }
@@ -63,4 +63,9 @@ public class ParagraphRandomizer extends FakerBasedRandomizer<String> {
     public String getRandomValue() {
         return faker.lorem().paragraph();
     }
+
+    @Override
+    public ParagraphRandomizer fork(final long seed) {
+        return getClass() == ParagraphRandomizer.class ? new ParagraphRandomizer(seed, getLocale()) : this;
+    }
 }
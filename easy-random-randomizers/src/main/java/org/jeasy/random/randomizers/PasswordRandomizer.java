@@ -107,9 +107,21 @@ public class PasswordRandomizer extends FakerBasedRandomizer<String> {
 		this.includeSpecial = includeSpecial;
 	}
 
+	private PasswordRandomizer(final PasswordRandomizer randomizer, final long seed) {
+		super(seed, randomizer.getLocale());
+		this.min = randomizer.min;
+		this.max = randomizer.max;
+		this.includeUppercase = randomizer.includeUppercase;
+		this.includeSpecial = randomizer.includeSpecial;
+	}
+
 	@Override
 	public String getRandomValue() {
 		return faker.internet().password(min, max, includeUppercase, includeSpecial);
 	}
 
+	@Override
+	public PasswordRandomizer fork(final long seed) {
+		return getClass() == PasswordRandomizer.class ? new PasswordRandomizer(this, seed) : this;
+	}
 }
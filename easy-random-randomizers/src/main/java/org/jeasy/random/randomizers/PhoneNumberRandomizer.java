@@ -63,4 +63,9 @@ public class PhoneNumberRandomizer extends FakerBasedRandomizer<String> {
     public String getRandomValue() {
         return faker.phoneNumber().phoneNumber();
     }
+
+    @Override
+    public PhoneNumberRandomizer fork(final long seed) {
+        return getClass() == PhoneNumberRandomizer.class ? new PhoneNumberRandomizer(seed, getLocale()) : this;
+    }
 }
@@ -70,4 +70,9 @@ public class RegularExpressionRandomizer extends FakerBasedRandomizer<String> {
         }
         return regularExpressionWithoutBoundaryMatchers;
     }
+
+    @Override
+    public RegularExpressionRandomizer fork(final long seed) {
+        return getClass() == RegularExpressionRandomizer.class ? new RegularExpressionRandomizer(regularExpression, seed) : this;
+    }
 }
@@ -63,4 +63,9 @@ public class SentenceRandomizer extends FakerBasedRandomizer<String> {
     public String getRandomValue() {
         return faker.lorem().sentence();
     }
+
+    @Override
+    public SentenceRandomizer fork(final long seed) {
+        return getClass() == SentenceRandomizer.class ? new SentenceRandomizer(seed, getLocale()) : this;
+    }
 }
@@ -63,4 +63,9 @@ public class StateRandomizer extends FakerBasedRandomizer<String> {
     public String getRandomValue() {
         return faker.address().state();
     }
+
+    @Override
+    public StateRandomizer fork(final long seed) {
+        return getClass() == StateRandomizer.class ? new StateRandomizer(seed, getLocale()) : this;
+    }
 }
@@ -64,4 +64,8 @@ public class StreetRandomizer extends FakerBasedRandomizer<String> {
         return faker.address().streetName();
     }
 
+    @Override
+    public StreetRandomizer fork(final long seed) {
+        return getClass() == StreetRandomizer.class ? new StreetRandomizer(seed, getLocale()) : this;
+    }
 }
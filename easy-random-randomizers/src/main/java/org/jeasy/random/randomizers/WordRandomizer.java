@@ -63,4 +63,9 @@ public class WordRandomizer extends FakerBasedRandomizer<String> {
     public String getRandomValue() {
         return faker.lorem().word();
     }
+
+    @Override
+    public WordRandomizer fork(final long seed) {
+        return getClass() == WordRandomizer.class ? new WordRandomizer(seed, getLocale()) : this;
+    }
 }
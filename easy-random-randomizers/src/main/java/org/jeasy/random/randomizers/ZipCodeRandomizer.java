@@ -63,4 +63,9 @@ public class ZipCodeRandomizer extends FakerBasedRandomizer<String> {
     public String getRandomValue() {
         return faker.address().zipCode();
     }
+
+    @Override
+    public ZipCodeRandomizer fork(final long seed) {
+        return getClass() == ZipCodeRandomizer.class ? new ZipCodeRandomizer(seed, getLocale()) : this;
+    }
 }
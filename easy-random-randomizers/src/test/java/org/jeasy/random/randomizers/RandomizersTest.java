@@ -70,6 +70,19 @@ class RandomizersTest extends AbstractRandomizerTest<FakerBasedRandomizer<?>>{
         then(randomNumber).isNotNull();
     }
 
+    @ParameterizedTest
+    @MethodSource("generateRandomizers")
+    void forksWithTheSameSeedShouldGenerateTheSameValues(Randomizer<?> randomizer) {
+        // when
+        Randomizer<?> fork = randomizer.fork(SEED);
+        Randomizer<?> otherFork = randomizer.fork(SEED);
+
+        then(fork).isNotSameAs(randomizer).isNotSameAs(otherFork);
+        for (int i = 0; i < 10; i++) {
+            then(fork.getRandomValue()).isEqualTo(otherFork.getRandomValue());
+        }
+    }
+
     static Object[][] generateSeededRandomizersAndTheirExpectedValues() {
         return new Object[][] {
                 { new CityRandomizer(SEED), "Breannaberg" },
@@ -106,6 +119,18 @@ class RandomizersTest extends AbstractRandomizerTest<FakerBasedRandomizer<?>>{
         then(actual).isEqualTo(expected);
     }
 
+    @ParameterizedTest
+    @MethodSource("generateSeededRandomizersAndTheirExpectedValues")
+    void forksShouldGenerateTheValuesOfRandomizersCreatedWithTheirSeed(Randomizer<?> randomizer, Object expected) {
+        // given
+        randomizer.getRandomValue();
+
+        // when
+        Object actual = randomizer.fork(SEED).getRandomValue();
+
+        then(actual).isEqualTo(expected);
+    }
+
     static Object[][] generateSeededRandomizersWithLocaleAndTheirExpectedValues() {
         return new Object[][] {
                 { new CityRandomizer(SEED, LOCALE), "Versailles" },